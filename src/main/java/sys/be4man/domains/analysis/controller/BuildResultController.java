@@ -5,14 +5,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import sys.be4man.domains.analysis.dto.response.BuildResultResponseDto;
 import sys.be4man.domains.analysis.dto.response.DeploymentStageAndStatusResponseDto;
+import sys.be4man.domains.analysis.dto.response.SimilarFailureResponseDto;
 import sys.be4man.domains.analysis.service.BuildRunService;
+import sys.be4man.domains.analysis.service.StageAnalysisStreamService;
+import sys.be4man.domains.analysis.service.StageRunService;
 import sys.be4man.domains.deployment.service.DeploymentService;
 
 /**
@@ -27,6 +33,8 @@ public class BuildResultController {
 
     private final BuildRunService buildRunService;
     private final DeploymentService deploymentService;
+    private final StageRunService stageRunService;
+    private final StageAnalysisStreamService stageAnalysisStreamService;
 
     @GetMapping("/{deploymentId}")
     public ResponseEntity<List<BuildResultResponseDto>> getAllBuildResultsByDeploymentId(@PathVariable Long deploymentId){
@@ -44,4 +52,16 @@ public class BuildResultController {
         return ResponseEntity.ok(deploymentService.getBuildStageAndStatus(deploymentId));
     }
 
+    @GetMapping("/stage-runs/{stageRunId}/similar-failures")
+    public ResponseEntity<List<SimilarFailureResponseDto>> getSimilarFailures(@PathVariable Long stageRunId,
+            @RequestParam(defaultValue = "5") int limit){
+        return ResponseEntity.ok(stageRunService.getSimilarFailures(stageRunId, limit));
+    }
+
+    @GetMapping(value = "/stage-runs/{stageRunId}/analysis-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStageAnalysis(@PathVariable Long stageRunId,
+            @RequestParam(defaultValue = "false") boolean refresh){
+        return stageAnalysisStreamService.subscribe(stageRunId, refresh);
+    }
+
 }
@@ -0,0 +1,38 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import sys.be4man.domains.analysis.dto.response.FailureClassifierStatsResponseDto;
+import sys.be4man.domains.analysis.service.classifier.FailureClassifier;
+
+/**
+ * 로컬 실패 분류기 컨트롤러
+ */
+@RequiredArgsConstructor
+@Tag(name = "Failure Classifier", description = "로컬 실패 분류기 지표/재학습 API")
+@RequestMapping("/api/analysis/classifier")
+@RestController
+public class FailureClassifierController {
+
+    private final FailureClassifier failureClassifier;
+
+    @GetMapping("/stats")
+    public ResponseEntity<FailureClassifierStatsResponseDto> getStats() {
+        return ResponseEntity.ok(failureClassifier.getStats());
+    }
+
+    /**
+     * 재학습 요청 (HEAD 권한, 비동기). 결과는 /stats 의 trainingSamples 로 확인한다.
+     */
+    @PostMapping("/retrain")
+    public ResponseEntity<Void> retrain() {
+        failureClassifier.retrainAsync();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,15 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.dto.response;
+
+/**
+ * 로컬 실패 분류기 적중률 지표
+ * - hitRate: 전체 분류 요청 중 LLM 호출 없이 로컬에서 확정한 비율
+ */
+public record FailureClassifierStatsResponseDto(
+        long total,
+        long ruleHits,
+        long modelHits,
+        long llmFallbacks,
+        double hitRate,
+        int trainingSamples
+) {}
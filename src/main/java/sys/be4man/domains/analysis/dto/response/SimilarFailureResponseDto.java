@@ -0,0 +1,27 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.dto.response;
+
+import java.time.LocalDateTime;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+
+/**
+ * 유사한 과거 실패 한 건
+ * - similarity: MinHash 로 추정한 Jaccard 유사도 (0 ~ 1)
+ * - fixed*: 실패 이후 같은 프로젝트에서 처음 성공한 빌드 (없으면 null)
+ */
+public record SimilarFailureResponseDto(
+        Long stageRunId,
+        Long buildRunId,
+        Long deploymentId,
+        String projectName,
+        String stageName,
+        ProblemType problemType,
+        String problemSummary,
+        String problemSolution,
+        LocalDateTime failedAt,
+        double similarity,
+        Long fixedBuildRunId,
+        Long fixedDeploymentId,
+        String fixedDeploymentTitle,
+        LocalDateTime fixedAt
+) {}
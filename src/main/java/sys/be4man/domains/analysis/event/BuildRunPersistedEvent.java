@@ -0,0 +1,18 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Jenkins 빌드 결과(BuildRun/StageRun)와 실패 스테이지 분석이 저장되었음을 알리는 이벤트.
+ * 커밋 이후 처리가 필요한 리스너는 @TransactionalEventListener(AFTER_COMMIT)로 받는다.
+ */
+public record BuildRunPersistedEvent(
+        Long buildRunId,
+        Long deploymentId,
+        Long projectId,
+        Boolean isBuild,
+        Long duration,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt
+) {}
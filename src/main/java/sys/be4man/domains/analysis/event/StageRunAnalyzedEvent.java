@@ -0,0 +1,18 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.event;
+
+import java.time.LocalDateTime;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+
+/**
+ * 빌드 저장 이후 실패 스테이지가 (재)분석되어 문제 유형이 바뀌었음을 알리는 이벤트.
+ * 최초 수집 시의 분석 결과는 BuildRunPersistedEvent 에 포함되므로 이 이벤트를 발행하지 않는다.
+ */
+public record StageRunAnalyzedEvent(
+        Long stageRunId,
+        Long buildRunId,
+        Long projectId,
+        LocalDateTime buildStartedAt,
+        ProblemType previousType,
+        ProblemType problemType
+) {}
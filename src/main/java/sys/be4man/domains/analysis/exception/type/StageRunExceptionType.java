@@ -0,0 +1,27 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.exception.type;
+
+import lombok.RequiredArgsConstructor;
+import sys.be4man.global.exception.type.ExceptionType;
+
+/**
+ * 스테이지 실행(StageRun) 예외 타입
+ */
+@RequiredArgsConstructor
+public enum StageRunExceptionType implements ExceptionType {
+
+    STAGE_RUN_NOT_FOUND("실패한 스테이지 실행 기록을 찾을 수 없습니다.");
+
+    private final String message;
+
+    @Override
+    public String getName() {
+        return name();
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
+
@@ -1,6 +1,7 @@
 // 작성자 : 조윤상
 package sys.be4man.domains.analysis.model.entity;
 
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -9,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -47,8 +49,11 @@ public class BuildRun extends BaseEntity {
     @Column(name = "build_number", nullable = false)
     private long buildNumber;
 
-    @Column(name = "log", columnDefinition = "TEXT", nullable = false)
-    private String log;
+    // 로그 본문은 build_run_log 에 두고 필요할 때만 읽는다 (getLog 호출 시 지연 로딩)
+    // V6 전까지 이전 버전 인스턴스가 원본 log 컬럼에 쓴 본문은 V5_1 트리거가 build_run_log 로 옮긴다
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @JoinColumn(name = "log_id")
+    private BuildRunLog logEntry;
 
     @Column(name = "duration", nullable = false)
     private Long duration;
@@ -68,18 +73,29 @@ public class BuildRun extends BaseEntity {
         this.deployment = deployment;
         this.jenkinsJobName = jenkinsJobName;
         this.buildNumber = buildNumber;
-        this.log = log;
+        this.logEntry = new BuildRunLog(log);
         this.duration = duration;
         this.startedAt = startedAt;
         this.endedAt = endedAt;
         this.isBuild = isBuild;
     }
 
+    /**
+     * 로그 내용 조회 (build_run_log 지연 로딩)
+     */
+    public String getLog() {
+        return logEntry != null ? logEntry.getLog() : null;
+    }
+
     /**
      * 로그 내용 업데이트
      */
     public void updateLog(String log) {
-        this.log = log;
+        if (logEntry == null) {
+            this.logEntry = new BuildRunLog(log);
+        } else {
+            logEntry.updateLog(log);
+        }
     }
 
     /**
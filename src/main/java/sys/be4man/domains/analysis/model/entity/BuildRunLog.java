@@ -0,0 +1,40 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sys.be4man.global.model.entity.BaseEntity;
+
+/**
+ * 빌드 콘솔 로그 본문 엔티티
+ * BuildRun 목록/집계 조회 시 수 MB 로그가 함께 읽히지 않도록 별도 테이블로 분리하고,
+ * BuildRun 에서 지연 로딩(LAZY) 으로 참조한다.
+ */
+@Entity
+@Table(name = "build_run_log")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BuildRunLog extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "log", columnDefinition = "TEXT", nullable = false)
+    private String log;
+
+    BuildRunLog(String log) {
+        this.log = log;
+    }
+
+    void updateLog(String log) {
+        this.log = log;
+    }
+}
@@ -3,6 +3,7 @@ package sys.be4man.domains.analysis.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import sys.be4man.domains.analysis.model.type.AnalysisSource;
 import sys.be4man.domains.analysis.model.type.ProblemType;
 import sys.be4man.global.model.entity.BaseEntity;
 
@@ -28,8 +29,11 @@ public class StageRun extends BaseEntity {
     @Column(name = "order_index", nullable = false)
     private Long orderIndex;
 
-    @Column(name = "log", nullable = false, columnDefinition = "TEXT")
-    private String log;
+    // 로그 본문은 stage_run_log 에 두고 필요할 때만 읽는다 (getLog 호출 시 지연 로딩)
+    // V6 전까지 이전 버전 인스턴스가 원본 log 컬럼에 쓴 본문은 V5_1 트리거가 stage_run_log 로 옮긴다
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @JoinColumn(name = "log_id")
+    private StageRunLog logEntry;
 
     @Column(name = "problem_summary", columnDefinition = "TEXT")
     private String problemSummary;
@@ -41,6 +45,11 @@ public class StageRun extends BaseEntity {
     @Column(name = "problem_type")
     private ProblemType problemType;
 
+    /** 분석 결과 출처 (LLM / 규칙 / 로컬 모델) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "analysis_source", length = 20)
+    private AnalysisSource analysisSource;
+
 
     @Builder
     public StageRun(BuildRun buildRun, String stageName, Boolean isSuccess, Long orderIndex,
@@ -49,14 +58,23 @@ public class StageRun extends BaseEntity {
         this.stageName = stageName;
         this.isSuccess = isSuccess;
         this.orderIndex = orderIndex;
-        this.log = log;
+        this.logEntry = new StageRunLog(log);
         this.problemSummary = problemSummary;
         this.problemSolution = problemSolution;
     }
 
-    public void updateAnalysis(String problemSummary, String problemSolution, ProblemType problemType) {
+    /**
+     * 로그 내용 조회 (stage_run_log 지연 로딩)
+     */
+    public String getLog() {
+        return logEntry != null ? logEntry.getLog() : null;
+    }
+
+    public void updateAnalysis(String problemSummary, String problemSolution, ProblemType problemType,
+            AnalysisSource analysisSource) {
         this.problemSummary = problemSummary;
         this.problemSolution = problemSolution;
         this.problemType = problemType;
+        this.analysisSource = analysisSource;
     }
 }
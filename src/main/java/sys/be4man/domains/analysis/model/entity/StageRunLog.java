@@ -0,0 +1,36 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sys.be4man.global.model.entity.BaseEntity;
+
+/**
+ * 스테이지 로그 본문 엔티티
+ * StageRun 목록/분석 결과 조회 시 스테이지 로그가 함께 읽히지 않도록 별도 테이블로 분리하고,
+ * StageRun 에서 지연 로딩(LAZY) 으로 참조한다.
+ */
+@Entity
+@Table(name = "stage_run_log")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StageRunLog extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "log", columnDefinition = "TEXT", nullable = false)
+    private String log;
+
+    StageRunLog(String log) {
+        this.log = log;
+    }
+}
@@ -0,0 +1,12 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.model.type;
+
+/**
+ * 실패 스테이지 분석 결과(problemType)를 누가 붙였는지.
+ * 로컬 분류기는 LLM 이 붙인 결과로만 학습한다 (자기 분류 결과로 학습하면 오분류가 강화됨).
+ */
+public enum AnalysisSource {
+    LLM,
+    RULE,
+    MODEL
+}
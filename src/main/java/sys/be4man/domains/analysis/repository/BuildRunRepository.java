@@ -4,6 +4,8 @@ package sys.be4man.domains.analysis.repository;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sys.be4man.domains.analysis.model.entity.BuildRun;
 
 public interface BuildRunRepository extends JpaRepository<BuildRun, Long>, BuildRunRepositoryCustom {
@@ -12,5 +14,14 @@ public interface BuildRunRepository extends JpaRepository<BuildRun, Long>, Build
 
     Optional<BuildRun> findByDeploymentIdAndIsDeletedFalse(Long taskId);
 
+    /**
+     * 배포별 빌드 엔티티 조회. 시각/소요시간만 필요하면 findSpansByDeploymentIdIn 을 쓴다
+     */
     List<BuildRun> findByDeploymentIdIn(List<Long> deploymentIds);
+
+    /**
+     * 빌드 로그 본문만 조회 (작업 상세 읽기 모델은 문서에 로그를 넣지 않고 조회 시 붙인다)
+     */
+    @Query("select l.log from BuildRun b join b.logEntry l where b.id = :buildRunId")
+    Optional<String> findLogByBuildRunId(@Param("buildRunId") Long buildRunId);
 }
@@ -1,13 +1,27 @@
 // 작성자 : 조윤상
 package sys.be4man.domains.analysis.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import sys.be4man.domains.analysis.dto.response.BuildResultResponseDto;
+import sys.be4man.domains.analysis.repository.projection.BuildRunSpanRow;
+import sys.be4man.domains.analysis.repository.projection.NextSuccessBuildRow;
 
 public interface BuildRunRepositoryCustom {
     List<BuildResultResponseDto> findAllBuildResultsByDeploymentId(Long deploymentId);
 
     Optional<BuildResultResponseDto> findBuildResultByDeploymentId(Long deploymentId, Long buildRunId);
 
+    /**
+     * 실패 스테이지별로, 그 빌드가 끝난 뒤 같은 프로젝트에서 처음으로 성공한 빌드 (stageRunId → 빌드).
+     * 스테이지 수와 관계없이 쿼리 두 번으로 읽는다.
+     */
+    Map<Long, NextSuccessBuildRow> findNextSuccessfulBuilds(Collection<Long> stageRunIds);
+
+    /**
+     * 배포별 min(started_at), max(ended_at) 와 최종 빌드(final_build_run_id) 소요시간
+     */
+    List<BuildRunSpanRow> findSpansByDeploymentIdIn(List<Long> deploymentIds);
 }
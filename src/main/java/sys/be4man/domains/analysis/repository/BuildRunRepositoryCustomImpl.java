@@ -1,14 +1,26 @@
 // 작성자 : 조윤상
 package sys.be4man.domains.analysis.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import sys.be4man.domains.analysis.dto.response.BuildResultResponseDto;
 import sys.be4man.domains.analysis.model.entity.QBuildRun;
+import sys.be4man.domains.analysis.model.entity.QStageRun;
+import sys.be4man.domains.analysis.repository.projection.BuildRunSpanRow;
+import sys.be4man.domains.analysis.repository.projection.NextSuccessBuildRow;
 import sys.be4man.domains.deployment.model.entity.QDeployment;
 import sys.be4man.domains.pullrequest.model.entity.QPullRequest;
 
@@ -17,6 +29,7 @@ public class BuildRunRepositoryCustomImpl implements BuildRunRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
     QBuildRun buildRun = QBuildRun.buildRun;
+    QStageRun stageRun = QStageRun.stageRun;
     QDeployment deployment = QDeployment.deployment;
     QPullRequest pullRequest = QPullRequest.pullRequest;
 
@@ -86,4 +99,101 @@ public class BuildRunRepositoryCustomImpl implements BuildRunRepositoryCustom {
                 ).fetchOne());
 
     }
+
+    @Override
+    public Map<Long, NextSuccessBuildRow> findNextSuccessfulBuilds(Collection<Long> stageRunIds) {
+        if (stageRunIds.isEmpty()) {
+            return Map.of();
+        }
+        QBuildRun nextRun = new QBuildRun("nextRun");
+        QDeployment nextDeployment = new QDeployment("nextDeployment");
+
+        // 1) 스테이지별 (프로젝트, 실패 빌드 종료 뒤 첫 성공 빌드의 시작 시각)
+        NumberPath<Long> projectId = deployment.project.id;
+        var nextStartedAt = JPAExpressions.select(nextRun.startedAt.min())
+                .from(nextRun)
+                .join(nextRun.deployment, nextDeployment)
+                .where(
+                        nextDeployment.project.id.eq(projectId),
+                        nextRun.isBuild.isTrue(),
+                        nextRun.startedAt.after(buildRun.endedAt),
+                        nextDeployment.isDeleted.isFalse(),
+                        nextRun.isDeleted.isFalse()
+                );
+        List<Tuple> firsts = jpaQueryFactory.select(stageRun.id, projectId, nextStartedAt)
+                .from(stageRun)
+                .join(stageRun.buildRun, buildRun)
+                .join(buildRun.deployment, deployment)
+                .where(
+                        stageRun.id.in(stageRunIds),
+                        buildRun.endedAt.isNotNull()
+                )
+                .fetch();
+
+        Set<Long> projectIds = new HashSet<>();
+        Set<LocalDateTime> startedAts = new HashSet<>();
+        for (Tuple t : firsts) {
+            if (t.get(2, LocalDateTime.class) != null) {
+                projectIds.add(t.get(1, Long.class));
+                startedAts.add(t.get(2, LocalDateTime.class));
+            }
+        }
+        if (startedAts.isEmpty()) {
+            return Map.of();
+        }
+
+        // 2) 해당 (프로젝트, 시작 시각) 의 성공 빌드. 같은 시각이면 id 가 작은 빌드
+        Map<String, NextSuccessBuildRow> builds = new HashMap<>();
+        for (Tuple t : jpaQueryFactory.select(projectId, buildRun.startedAt, buildRun.id,
+                        deployment.id, deployment.title, buildRun.endedAt)
+                .from(buildRun)
+                .join(buildRun.deployment, deployment)
+                .where(
+                        projectId.in(projectIds),
+                        buildRun.startedAt.in(startedAts),
+                        buildRun.isBuild.isTrue(),
+                        deployment.isDeleted.isFalse(),
+                        buildRun.isDeleted.isFalse()
+                )
+                .orderBy(buildRun.id.asc())
+                .fetch()) {
+            builds.putIfAbsent(t.get(projectId) + "|" + t.get(buildRun.startedAt),
+                    new NextSuccessBuildRow(t.get(buildRun.id), t.get(deployment.id),
+                            t.get(deployment.title), t.get(buildRun.endedAt)));
+        }
+
+        Map<Long, NextSuccessBuildRow> result = new HashMap<>();
+        for (Tuple t : firsts) {
+            NextSuccessBuildRow build = builds.get(t.get(1, Long.class) + "|"
+                    + t.get(2, LocalDateTime.class));
+            if (build != null) {
+                result.put(t.get(stageRun.id), build);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<BuildRunSpanRow> findSpansByDeploymentIdIn(List<Long> deploymentIds) {
+        if (deploymentIds.isEmpty()) {
+            return List.of();
+        }
+        QBuildRun finalRun = new QBuildRun("finalRun");
+
+        return jpaQueryFactory.select(Projections.constructor(
+                                BuildRunSpanRow.class,
+                                deployment.id,
+                                buildRun.startedAt.min(),
+                                buildRun.endedAt.max(),
+                                JPAExpressions.select(finalRun.duration)
+                                        .from(finalRun)
+                                        .where(finalRun.id.eq(deployment.finalBuildRunId))
+                        )
+                )
+                .from(buildRun)
+                .join(buildRun.deployment, deployment)
+                .where(deployment.id.in(deploymentIds))
+                .groupBy(deployment.id, deployment.finalBuildRunId)
+                .fetch();
+    }
 }
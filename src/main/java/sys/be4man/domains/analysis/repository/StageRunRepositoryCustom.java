@@ -2,9 +2,26 @@
 package sys.be4man.domains.analysis.repository;
 
 import java.util.List;
+import java.util.Optional;
 import sys.be4man.domains.analysis.dto.response.StageRunResponseDto;
+import sys.be4man.domains.analysis.repository.projection.FailedStageRow;
+import sys.be4man.domains.analysis.repository.projection.StageFailureSample;
 
 public interface StageRunRepositoryCustom {
 
     List<StageRunResponseDto> findAllStageRunsByBuildRunId(Long buildRunId);
+
+    /**
+     * 분석이 끝난(problemType 이 채워진) 실패 스테이지를 최신순으로 limit 건 조회
+     */
+    List<StageFailureSample> findAnalyzedFailureSamples(int limit);
+
+    /**
+     * id 가 lastStageRunId 보다 큰 실패 스테이지를 id 오름차순으로 limit 건 조회 (키셋 페이지네이션)
+     */
+    List<FailedStageRow> findFailedStageRowsAfter(Long lastStageRunId, int limit);
+
+    List<FailedStageRow> findFailedStageRowsByBuildRunId(Long buildRunId);
+
+    Optional<FailedStageRow> findFailedStageRow(Long stageRunId);
 }
@@ -2,21 +2,31 @@
 package sys.be4man.domains.analysis.repository;
 
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import sys.be4man.domains.analysis.dto.response.StageRunResponseDto;
 import sys.be4man.domains.analysis.model.entity.QBuildRun;
 import sys.be4man.domains.analysis.model.entity.QStageRun;
+import sys.be4man.domains.analysis.model.entity.QStageRunLog;
+import sys.be4man.domains.analysis.model.type.AnalysisSource;
+import sys.be4man.domains.analysis.repository.projection.FailedStageRow;
+import sys.be4man.domains.analysis.repository.projection.StageFailureSample;
 import sys.be4man.domains.deployment.model.entity.QDeployment;
+import sys.be4man.domains.project.model.entity.QProject;
 
 @RequiredArgsConstructor
 public class StageRunRepositoryCustomImpl implements StageRunRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
     private final QStageRun stageRun = QStageRun.stageRun;
+    private final QStageRunLog stageRunLog = QStageRunLog.stageRunLog;
     private final QBuildRun buildRun = QBuildRun.buildRun;
     private final QDeployment deployment = QDeployment.deployment;
+    private final QProject project = QProject.project;
 
     @Override
     public List<StageRunResponseDto> findAllStageRunsByBuildRunId(Long buildRunId) {
@@ -28,15 +38,85 @@ public class StageRunRepositoryCustomImpl implements StageRunRepositoryCustom {
                                 stageRun.stageName.as("stageName"),
                                 stageRun.isSuccess.as("isSuccess"),
                                 stageRun.orderIndex.as("orderIndex"),
-                                stageRun.log.as("log"),
+                                stageRunLog.log.as("log"),
                                 stageRun.problemSummary.as("problemSummary"),
                                 stageRun.problemSolution.as("problemSolution")
                         )
                 ).from(stageRun)
                 .join(stageRun.buildRun, buildRun)
                 .join(buildRun.deployment, deployment)
+                .leftJoin(stageRun.logEntry, stageRunLog)
                 .where(buildRun.id.eq(buildRunId))
                 .fetch()
                 ;
     }
+
+    @Override
+    public List<StageFailureSample> findAnalyzedFailureSamples(int limit) {
+        return jpaQueryFactory.select(
+                        Projections.constructor(StageFailureSample.class,
+                                stageRunLog.log,
+                                stageRun.problemType
+                        )
+                ).from(stageRun)
+                .leftJoin(stageRun.logEntry, stageRunLog)
+                .where(
+                        stageRun.isSuccess.isFalse(),
+                        stageRun.problemType.isNotNull(),
+                        // 로컬 분류기가 붙인 결과는 제외 (자기 오분류 강화 방지)
+                        stageRun.analysisSource.eq(AnalysisSource.LLM),
+                        stageRun.isDeleted.isFalse()
+                )
+                .orderBy(stageRun.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<FailedStageRow> findFailedStageRowsAfter(Long lastStageRunId, int limit) {
+        return failedStageRowQuery(lastStageRunId == null ? null : stageRun.id.gt(lastStageRunId))
+                .orderBy(stageRun.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<FailedStageRow> findFailedStageRowsByBuildRunId(Long buildRunId) {
+        return failedStageRowQuery(buildRun.id.eq(buildRunId))
+                .orderBy(stageRun.orderIndex.asc())
+                .fetch();
+    }
+
+    @Override
+    public Optional<FailedStageRow> findFailedStageRow(Long stageRunId) {
+        return Optional.ofNullable(failedStageRowQuery(stageRun.id.eq(stageRunId)).fetchOne());
+    }
+
+    private JPAQuery<FailedStageRow> failedStageRowQuery(BooleanExpression condition) {
+        return jpaQueryFactory.select(
+                        Projections.constructor(FailedStageRow.class,
+                                stageRun.id,
+                                buildRun.id,
+                                deployment.id,
+                                project.id,
+                                project.name,
+                                stageRun.stageName,
+                                stageRunLog.log,
+                                stageRun.problemSummary,
+                                stageRun.problemSolution,
+                                stageRun.problemType,
+                                buildRun.endedAt
+                        )
+                ).from(stageRun)
+                .join(stageRun.buildRun, buildRun)
+                .join(buildRun.deployment, deployment)
+                .join(deployment.project, project)
+                .leftJoin(stageRun.logEntry, stageRunLog)
+                .where(
+                        condition,
+                        stageRun.isSuccess.isFalse(),
+                        stageRun.isDeleted.isFalse(),
+                        buildRun.isDeleted.isFalse()
+                );
+    }
 }
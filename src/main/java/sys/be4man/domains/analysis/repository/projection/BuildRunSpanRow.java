@@ -0,0 +1,15 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배포별 빌드 구간 집계 (첫 빌드 시작 ~ 마지막 빌드 종료, 마지막 빌드 소요시간)
+ * 복구현황처럼 시각만 필요한 조회에서 BuildRun 엔티티를 읽지 않기 위함
+ */
+public record BuildRunSpanRow(
+        Long deploymentId,
+        LocalDateTime firstStartedAt,
+        LocalDateTime lastEndedAt,
+        Long lastDuration
+) {}
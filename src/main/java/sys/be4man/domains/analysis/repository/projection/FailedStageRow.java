@@ -0,0 +1,22 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.repository.projection;
+
+import java.time.LocalDateTime;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+
+/**
+ * 유사 실패 인덱스 구축용 실패 스테이지 행
+ */
+public record FailedStageRow(
+        Long stageRunId,
+        Long buildRunId,
+        Long deploymentId,
+        Long projectId,
+        String projectName,
+        String stageName,
+        String log,
+        String problemSummary,
+        String problemSolution,
+        ProblemType problemType,
+        LocalDateTime failedAt
+) {}
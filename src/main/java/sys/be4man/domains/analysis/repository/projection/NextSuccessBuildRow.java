@@ -0,0 +1,14 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실패 이후 같은 프로젝트에서 처음 성공한 빌드 (어떻게 해결되었는지 보여주기 위함)
+ */
+public record NextSuccessBuildRow(
+        Long buildRunId,
+        Long deploymentId,
+        String deploymentTitle,
+        LocalDateTime endedAt
+) {}
@@ -0,0 +1,12 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.repository.projection;
+
+import sys.be4man.domains.analysis.model.type.ProblemType;
+
+/**
+ * 로컬 실패 분류기 학습용 샘플 (분석이 끝난 실패 스테이지의 로그와 유형)
+ */
+public record StageFailureSample(
+        String log,
+        ProblemType problemType
+) {}
@@ -4,6 +4,7 @@ package sys.be4man.domains.analysis.service;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import sys.be4man.domains.analysis.dto.response.BuildResultResponseDto;
 import sys.be4man.domains.analysis.dto.response.BuildRunConsoleLogResponseDto;
 import sys.be4man.domains.analysis.exception.type.BuildRunExceptionType;
@@ -17,6 +18,8 @@ public class BuildRunService {
 
     private final BuildRunRepository buildRunRepository;
 
+    // 로그 본문(build_run_log)은 지연 로딩이므로 같은 트랜잭션에서 읽는다
+    @Transactional(readOnly = true)
     public BuildRunConsoleLogResponseDto getConsoleLogByDeploymentIdAndBuildRunId(Long deploymentId, Long buildRunId) {
         BuildRun buildRun = buildRunRepository.findByDeploymentIdAndIdAndIsDeletedFalse(deploymentId, buildRunId)
                 .orElseThrow(
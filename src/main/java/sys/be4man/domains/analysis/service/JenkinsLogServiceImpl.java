@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import sys.be4man.domains.analysis.dto.response.JenkinsWebhooksResponseDto;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
 import sys.be4man.domains.analysis.model.entity.BuildRun;
 import sys.be4man.domains.analysis.model.entity.StageRun;
 import sys.be4man.domains.analysis.repository.BuildRunRepository;
@@ -48,6 +50,7 @@ public class   JenkinsLogServiceImpl implements LogService {
     private final StageRunRepository stageRunRepository;
     private final StageAnalysisService stageAnalysisService;
     private final WebhookService webhookService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${jenkins.url}")
     private String jenkinsUrl;
@@ -156,11 +159,6 @@ public class   JenkinsLogServiceImpl implements LogService {
                 BuildMeta meta = fetchBuildMeta(jobName, buildNumber);
                 if (meta != null && !meta.building) {
 
-                    Boolean isDeployed = DeploymentResult.fromJenkinsStatus(meta.result)
-                            .getIsDeployed();
-                    webhookService.setDeployResult(jenkinsData, isDeployed);
-
-
                     LocalDateTime start = java.time.Instant.ofEpochMilli(meta.timestamp)
                             .atZone(ZONE_SEOUL)
                             .toLocalDateTime();
@@ -168,6 +166,11 @@ public class   JenkinsLogServiceImpl implements LogService {
                     LocalDateTime end = start.plusNanos(
                             java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(meta.durationMs));
 
+                    // 결과 시각(DORA 등)은 이번 빌드 종료 시각 기준. BuildRun 저장 전이라 직접 넘긴다
+                    Boolean isDeployed = DeploymentResult.fromJenkinsStatus(meta.result)
+                            .getIsDeployed();
+                    webhookService.setDeployResult(jenkinsData, isDeployed, end);
+
                     startedAt = (startedAt == null) ? start : startedAt;
                     endedAt = (endedAt == null) ? end : endedAt;
                     log.info(
@@ -216,6 +219,7 @@ public class   JenkinsLogServiceImpl implements LogService {
                     .isBuild(deployment.getIsDeployed())
                     .build();
             buildRunRepository.save(buildRun);
+            deploymentRepository.updateFinalBuildIfLater(deploymentId, buildRun.getId(), endedAt);
 
             // 7) StageRun 저장
             var stageEntities = stages.stream()
@@ -233,6 +237,12 @@ public class   JenkinsLogServiceImpl implements LogService {
             var failedStages = stageEntities.stream().filter(sr -> !sr.getIsSuccess()).toList();
             stageAnalysisService.analyzeFailedStages(failedStages);
 
+            // 9) 커밋 이후 후속 처리(유사 실패 색인 등)를 위한 이벤트 발행
+            eventPublisher.publishEvent(new BuildRunPersistedEvent(
+                    buildRun.getId(), deploymentId, deployment.getProject().getId(),
+                    buildRun.getIsBuild(), buildRun.getDuration(),
+                    buildRun.getStartedAt(), buildRun.getEndedAt()));
+
             log.info(
                     "[Persist OK] BuildRun/StageRun 저장 완료. depId={}, job={}, build={}, startedAt={}, endedAt={}",
                     deploymentId, jobName, buildNumber, startedAt, endedAt);
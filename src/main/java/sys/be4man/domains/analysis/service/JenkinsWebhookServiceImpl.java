@@ -1,19 +1,25 @@
 // 작성자 : 조윤상
 package sys.be4man.domains.analysis.service;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sys.be4man.domains.analysis.dto.request.JenkinsBuildStartRequest;
 import sys.be4man.domains.analysis.dto.response.JenkinsWebhooksResponseDto;
 import sys.be4man.domains.analysis.model.entity.BuildRun;
 import sys.be4man.domains.analysis.repository.BuildSessionRegistry;
+import sys.be4man.domains.deployment.event.DeploymentResultChangedEvent;
+import sys.be4man.domains.deployment.event.DeploymentStatusChangedEvent;
 import sys.be4man.domains.deployment.model.type.DeploymentStage;
 import sys.be4man.domains.deployment.model.type.DeploymentStatus;
 import sys.be4man.domains.deployment.repository.DeploymentRepository;
 import sys.be4man.domains.deployment.exception.type.DeploymentExceptionType;
 import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.pullrequest.model.entity.PullRequest;
 import sys.be4man.global.exception.NotFoundException;
 
 @Slf4j
@@ -23,20 +29,44 @@ public class JenkinsWebhookServiceImpl implements WebhookService {
 
     private final DeploymentRepository deploymentRepository;
     private final BuildSessionRegistry buildSessionRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
-    public void setDeployResult(JenkinsWebhooksResponseDto jenkinsData, boolean isDeployed) {
+    public void setDeployResult(JenkinsWebhooksResponseDto jenkinsData, boolean isDeployed,
+            LocalDateTime endedAt) {
         Long deploymentId = jenkinsData.deploymentId();
         // deployment id로 배포 작업 조회
         Deployment deployment = deploymentRepository.findByIdAndIsDeletedFalse(deploymentId).orElseThrow(() -> new NotFoundException(
                 DeploymentExceptionType.DEPLOYMENT_NOT_FOUND)
         );
 
+        Boolean previous = deployment.getIsDeployed();
         deployment.updateIsDeployed(isDeployed);
         deployment.updateStage(DeploymentStage.DEPLOYMENT);
         deployment.updateStatus(DeploymentStatus.COMPLETED);
+        eventPublisher.publishEvent(new DeploymentStatusChangedEvent(
+                deploymentId, deployment.getStage(), deployment.getStatus()));
 
+        // 결과가 실제로 바뀐 경우에만 통계 롤업 등에 알림
+        if (!Objects.equals(previous, isDeployed)) {
+            PullRequest pr = deployment.getPullRequest();
+            // 결과 시각은 통계 재계산(DORA 등)의 최종 빌드 종료 시각(final_ended_at)과 같아야 한다.
+            // 이번 빌드는 아직 저장 전이므로 updateFinalBuildIfLater 와 같은 규칙으로 더 늦은 쪽을 쓴다
+            LocalDateTime resultAt = laterOf(deployment.getFinalEndedAt(), endedAt);
+            eventPublisher.publishEvent(new DeploymentResultChangedEvent(
+                    deploymentId, deployment.getProject().getId(), deployment.getCreatedAt(),
+                    previous, isDeployed, pr != null ? pr.getId() : null,
+                    pr != null ? pr.getCreatedAt() : null, resultAt));
+        }
+
+    }
+
+    private static LocalDateTime laterOf(LocalDateTime finalEndedAt, LocalDateTime endedAt) {
+        if (endedAt == null) {
+            return finalEndedAt != null ? finalEndedAt : LocalDateTime.now();
+        }
+        return finalEndedAt != null && finalEndedAt.isAfter(endedAt) ? finalEndedAt : endedAt;
     }
 
     @Override
@@ -1,16 +1,34 @@
 // 작성자 : 조윤상
 package sys.be4man.domains.analysis.service;
 
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.event.StageRunAnalyzedEvent;
+import sys.be4man.domains.analysis.exception.type.StageRunExceptionType;
+import sys.be4man.domains.analysis.model.entity.BuildRun;
 import sys.be4man.domains.analysis.model.entity.StageRun;
+import sys.be4man.domains.analysis.model.type.AnalysisSource;
 import sys.be4man.domains.analysis.model.type.ProblemType;
 import sys.be4man.domains.analysis.repository.StageRunRepository;
+import sys.be4man.domains.analysis.service.classifier.FailureClassifier;
 import sys.be4man.domains.analysis.service.llm.LlmClient;
 import sys.be4man.domains.analysis.service.llm.LlmClient.AnalysisResult;
+import sys.be4man.domains.analysis.service.llm.LlmClient.StageAnalysisResult;
+import sys.be4man.global.exception.NotFoundException;
 
 @Slf4j
 @Service
@@ -19,21 +37,197 @@ public class StageAnalysisService {
 
     private final StageRunRepository stageRunRepository;
     private final LlmClient llmClient;
+    private final FailureClassifier failureClassifier;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate writeTx;
+
+    /** 스트리밍 분석 대상 (트랜잭션 밖에서 LLM 호출에 쓰는 스냅샷) */
+    private record StreamTarget(String stageName, String log, LocalDateTime updatedAt) {}
 
     // 한 번에 LLM에 보낼 로그 바이트 상한(모델에 맞춰 조절)
-    private static final int MAX_PROMPT_BYTES = 50_000; // 대략 50KB
+    static final int MAX_PROMPT_BYTES = 50_000; // 대략 50KB
+
+    // 배치 모드에서 스테이지 하나가 차지할 수 있는 로그 최소 길이
+    private static final int MIN_STAGE_LOG_CHARS = 4_000;
+
+    // 스테이지마다 최소 길이를 보장하면서 전체 상한을 넘지 않는 최대 배치 크기 (50KB / 4KB = 12)
+    static final int MAX_BATCH_SIZE = MAX_PROMPT_BYTES / MIN_STAGE_LOG_CHARS;
+
+    // 배치/단건 모드 전환 (비교 측정용)
+    @Value("${gemini.analysis.batch-enabled:true}")
+    private boolean batchEnabled;
+
+    // 한 배치 프롬프트에 묶을 최대 스테이지 수
+    @Value("${gemini.analysis.batch-size:5}")
+    private int batchSize;
+
+    @PostConstruct
+    void init() {
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(transactionManager);
+        if (batchSize > MAX_BATCH_SIZE) {
+            log.warn("[StageAnalysis] gemini.analysis.batch-size={} 가 프롬프트 상한을 넘어 {} 로 제한합니다.",
+                    batchSize, MAX_BATCH_SIZE);
+        }
+    }
 
     // 필요 시 public으로 바꿔 컨트롤러/서비스에서 호출
     @Transactional
     public void analyzeFailedStages(List<StageRun> targets) {
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
 
+        // 로컬 분류기로 확정 가능한 스테이지는 LLM 호출 없이 바로 반영
+        List<StageRun> unresolved = classifyLocally(targets);
+        if (unresolved.isEmpty()) {
+            return;
+        }
+
+        // 실패 스테이지가 하나뿐이면 배치로 묶을 이유가 없음
+        if (!batchEnabled || unresolved.size() == 1) {
+            analyzeEach(unresolved);
+            return;
+        }
+
+        int size = Math.min(MAX_BATCH_SIZE, Math.max(1, batchSize));
+        for (int from = 0; from < unresolved.size(); from += size) {
+            List<StageRun> chunk = unresolved.subList(from, Math.min(from + size, unresolved.size()));
+            analyzeBatch(chunk);
+        }
+    }
+
+    /**
+     * 실패 스테이지 하나를 스트리밍으로 다시 분석한다. 생성 중인 텍스트는 onChunk 로 전달되고,
+     * 최종 결과는 기존 분석과 동일하게 StageRun.updateAnalysis 로 저장된다.
+     * - LLM 스트림(수십 초) 동안 DB 커넥션을 잡지 않도록 읽기 → 스트리밍 → 저장을 각각 나눈다.
+     * - 저장 시 행을 다시 읽어, 스트리밍 중 다른 분석이 먼저 저장됐으면(updatedAt 변경) 덮어쓰지 않는다.
+     */
+    public AnalysisResult analyzeStreaming(Long stageRunId, Consumer<String> onChunk) {
+        StreamTarget target = readOnlyTx.execute(status -> stageRunRepository.findById(stageRunId)
+                .filter(s -> !Boolean.TRUE.equals(s.getIsSuccess()))
+                .map(s -> new StreamTarget(s.getStageName(), s.getLog(), s.getUpdatedAt()))
+                .orElseThrow(() -> new NotFoundException(StageRunExceptionType.STAGE_RUN_NOT_FOUND)));
+
+        String prompt = buildPrompt(target.stageName(), truncateTail(target.log(), MAX_PROMPT_BYTES));
+        AnalysisResult result = llmClient.summarizeAndSuggestStream(prompt, onChunk);
+
+        Boolean saved = writeTx.execute(status ->
+                saveStreamingResult(stageRunId, target.updatedAt(), result));
+        if (Boolean.TRUE.equals(saved)) {
+            log.info("[StageAnalysis] stageRunId={} 스트리밍 분석 결과 저장 완료.", stageRunId);
+        }
+        return result;
+    }
+
+    private boolean saveStreamingResult(Long stageRunId, LocalDateTime loadedUpdatedAt,
+            AnalysisResult result) {
+        StageRun stage = stageRunRepository.findById(stageRunId).orElse(null);
+        if (stage == null) {
+            return false;
+        }
+        if (!Objects.equals(stage.getUpdatedAt(), loadedUpdatedAt)) {
+            log.info("[StageAnalysis] stageRunId={} 스트리밍 중 다른 분석 결과가 저장되어 반영하지 않습니다.",
+                    stageRunId);
+            return false;
+        }
+
+        ProblemType previousType = stage.getProblemType();
+        applyLlmResult(stage, result.summary(), result.solution(), result.type());
+
+        BuildRun buildRun = stage.getBuildRun();
+        eventPublisher.publishEvent(new StageRunAnalyzedEvent(stage.getId(), buildRun.getId(),
+                buildRun.getDeployment().getProject().getId(), buildRun.getStartedAt(),
+                previousType, stage.getProblemType()));
+        return true;
+    }
+
+    /**
+     * 규칙/통계 기반 로컬 분류를 먼저 시도하고, 확신하지 못한 스테이지만 반환한다.
+     */
+    private List<StageRun> classifyLocally(List<StageRun> targets) {
+        List<StageRun> unresolved = new ArrayList<>();
         for (StageRun stage : targets) {
             try {
-                String prompt = buildPrompt(stage.getStageName(), stage.getLog());
+                var classification = failureClassifier.classify(stage.getLog());
+                if (classification.isPresent()) {
+                    var c = classification.get();
+                    stage.updateAnalysis(c.summary(), c.solution(), c.type(), c.origin());
+                    log.info("[StageAnalysis] stageRunId={} 로컬 분류 완료. source={}, confidence={}",
+                            stage.getId(), c.source(), c.confidence());
+                    continue;
+                }
+            } catch (Exception e) {
+                log.warn("[StageAnalysis] stageRunId={} 로컬 분류 실패: {}", stage.getId(),
+                        e.getMessage(), e);
+            }
+            unresolved.add(stage);
+        }
+        return unresolved;
+    }
+
+    /**
+     * LLM 결과를 반영하고, 유형이 정확히 인식된 경우 로컬 분류기 학습에도 사용한다.
+     */
+    private void applyLlmResult(StageRun stage, String summary, String solution, String type) {
+        ProblemType problemType = ProblemType.fromStringType(type);
+        stage.updateAnalysis(summary, solution, problemType, AnalysisSource.LLM);
+
+        if (type != null && problemType.getType().equalsIgnoreCase(type.trim())) {
+            failureClassifier.learn(stage.getLog(), problemType);
+        }
+    }
+
+    /**
+     * 여러 실패 스테이지를 하나의 프롬프트로 묶어 분석한다.
+     * 응답이 깨졌거나 일부 스테이지 결과가 누락되면 해당 스테이지만 단건 호출로 폴백한다.
+     */
+    private void analyzeBatch(List<StageRun> chunk) {
+        List<StageRun> remaining = new ArrayList<>(chunk);
+
+        try {
+            String prompt = buildBatchPrompt(chunk);
+            List<StageAnalysisResult> results = llmClient.summarizeAndSuggestBatch(prompt);
+
+            Map<Long, StageRun> byOrderIndex = new HashMap<>();
+            for (StageRun stage : chunk) {
+                byOrderIndex.put(stage.getOrderIndex(), stage);
+            }
+
+            for (StageAnalysisResult result : results) {
+                if (result == null || result.orderIndex() == null) {
+                    continue;
+                }
+                StageRun stage = byOrderIndex.remove(result.orderIndex());
+                if (stage == null) {
+                    continue;
+                }
+                applyLlmResult(stage, result.summary(), result.solution(), result.type());
+                remaining.remove(stage);
+                log.info("[StageAnalysis] stageRunId={} 배치 분석 결과 반영 완료.", stage.getId());
+            }
+        } catch (Exception e) {
+            log.warn("[StageAnalysis] 배치 분석 실패, 스테이지별 분석으로 전환합니다. size={}, err={}",
+                    chunk.size(), e.getMessage(), e);
+        }
+
+        if (!remaining.isEmpty()) {
+            analyzeEach(remaining);
+        }
+    }
+
+    private void analyzeEach(List<StageRun> targets) {
+        for (StageRun stage : targets) {
+            try {
+                String prompt = buildPrompt(stage.getStageName(),
+                        truncateTail(stage.getLog(), MAX_PROMPT_BYTES));
                 AnalysisResult result = llmClient.summarizeAndSuggest(prompt);
 
-                stage.updateAnalysis(result.summary(), result.solution(),
-                        ProblemType.fromStringType(result.type()));
+                applyLlmResult(stage, result.summary(), result.solution(), result.type());
                 // @Transactional로 영속 상태라 flush 시점에 반영됨
                 log.info("[StageAnalysis] stageRunId={} 요약/해결책 업데이트 완료.", stage.getId());
             } catch (Exception e) {
@@ -44,6 +238,20 @@ public class StageAnalysisService {
         }
     }
 
+    /**
+     * 로그가 상한을 넘으면 뒷부분만 남긴다. 실패 원인은 대부분 로그 끝에 있다.
+     * 단건/스트리밍 프롬프트도 MAX_PROMPT_BYTES 로 자른다. (이전에는 로그 전체를 그대로 보냈음)
+     */
+    private static String truncateTail(String log, int maxChars) {
+        if (log == null) {
+            return "";
+        }
+        if (log.length() <= maxChars) {
+            return log;
+        }
+        return "...(truncated)\n" + log.substring(log.length() - maxChars);
+    }
+
     private String buildPrompt(String stageName, String log) {
 
         return """
@@ -59,13 +267,13 @@ public class StageAnalysisService {
                 4) Answer above questions only Korean and clearly split three answers.
                 5) Don't generate text except for answers like emphasis.
                 6) Do not use bolding (**...**) anywhere in the response, even for emphasis or headings.
-                            
+
                 Stage Name: %s
 
                 ---- Console Log  ----
                 %s
-                            
-                            
+
+
                 Please provide the response in the following JSON format only.
                 {
                     "summary": 'problem summary content',
@@ -75,4 +283,46 @@ public class StageAnalysisService {
                 """.formatted(stageName, log);
     }
 
-}
\ No newline at end of file
+    private String buildBatchPrompt(List<StageRun> stages) {
+        // 전체 상한을 스테이지 수로 나눠 각 스테이지 로그 예산을 정함
+        // (배치 크기를 MAX_BATCH_SIZE 로 묶어 두었으므로 예산은 MIN_STAGE_LOG_CHARS 이상이고 합은 상한 이하)
+        int perStageBudget = MAX_PROMPT_BYTES / stages.size();
+
+        StringBuilder sections = new StringBuilder();
+        for (StageRun stage : stages) {
+            sections.append("==== Stage (orderIndex=").append(stage.getOrderIndex())
+                    .append(") : ").append(stage.getStageName()).append(" ====\n")
+                    .append(truncateTail(stage.getLog(), perStageBudget))
+                    .append("\n\n");
+        }
+
+        return """
+                You are a senior DevOps engineer. Several stages of one Jenkins build failed.
+                For EACH stage below, read its console log and:
+                1) Point out the most likely root cause in  2 or 3 sentences.
+                2) Propose How to fix the root cause in 2 or 3 sentences.
+                3) Please classify the failure type into one of the following 5 types.
+                    Build and Packaging Failures,
+                    Automation test failed,
+                    Deployment and execution errors,
+                    Jenkins environment and configuration errors,
+                    Others
+                4) Answer above questions only Korean.
+                5) Don't generate text except for answers like emphasis.
+                6) Do not use bolding (**...**) anywhere in the response, even for emphasis or headings.
+
+                %s
+                Please provide the response as a JSON array only, one element per stage,
+                using the orderIndex given in each stage header.
+                [
+                    {
+                        "orderIndex": 1,
+                        "summary": "problem summary content",
+                        "solution": "problem solution content",
+                        "type": "problem type content"
+                    }
+                ]
+                """.formatted(sections);
+    }
+
+}
@@ -0,0 +1,100 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sys.be4man.domains.analysis.exception.type.StageRunExceptionType;
+import sys.be4man.domains.analysis.model.entity.StageRun;
+import sys.be4man.domains.analysis.repository.StageRunRepository;
+import sys.be4man.domains.analysis.service.llm.LlmClient.AnalysisResult;
+import sys.be4man.global.exception.NotFoundException;
+
+/**
+ * 실패 스테이지 LLM 분석 결과를 생성되는 대로 SSE 로 중계하는 서비스.
+ * 이벤트 순서: start → chunk(여러 번) → result (실패 시 error)
+ * - chunk 는 요약(summary) 텍스트 조각이라 그대로 이어 붙여 표시하면 되고, 전체 결과는 result 로 받는다.
+ * - 응답 파싱에 실패하면 error 만 보내고 기존 분석 결과는 바꾸지 않는다.
+ * 클라이언트가 중간에 연결을 끊어도 분석은 끝까지 진행되어 결과가 저장된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StageAnalysisStreamService {
+
+    private static final long STREAM_TIMEOUT_MS = 120_000L;
+
+    private final StageRunRepository stageRunRepository;
+    private final StageAnalysisService stageAnalysisService;
+
+    @Qualifier("analysisStreamExecutor")
+    private final Executor analysisStreamExecutor;
+
+    /**
+     * @param refresh true 면 이미 분석된 스테이지도 다시 분석
+     */
+    public SseEmitter subscribe(Long stageRunId, boolean refresh) {
+        StageRun stage = stageRunRepository.findById(stageRunId)
+                .filter(s -> !Boolean.TRUE.equals(s.getIsSuccess()))
+                .orElseThrow(() -> new NotFoundException(StageRunExceptionType.STAGE_RUN_NOT_FOUND));
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(e -> open.set(false));
+
+        // 이미 저장된 분석 결과가 있으면 LLM 호출 없이 바로 반환
+        if (!refresh && stage.getProblemSummary() != null) {
+            send(emitter, open, "result", new AnalysisResult(stage.getProblemSummary(),
+                    stage.getProblemSolution(),
+                    stage.getProblemType() != null ? stage.getProblemType().getType() : null));
+            emitter.complete();
+            return emitter;
+        }
+
+        // 첫 이벤트를 즉시 보내 패널이 대기 상태를 표시할 수 있게 함
+        send(emitter, open, "start", stageRunId);
+
+        try {
+            analysisStreamExecutor.execute(() -> {
+                try {
+                    AnalysisResult result = stageAnalysisService.analyzeStreaming(stageRunId,
+                            chunk -> send(emitter, open, "chunk", chunk));
+                    send(emitter, open, "result", result);
+                } catch (Exception e) {
+                    log.warn("[AnalysisStream] stageRunId={} 스트리밍 분석 실패: {}", stageRunId,
+                            e.getMessage(), e);
+                    send(emitter, open, "error", "분석 중 오류가 발생했습니다.");
+                } finally {
+                    if (open.get()) {
+                        emitter.complete();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            send(emitter, open, "error", "분석 요청이 많아 잠시 후 다시 시도해주세요.");
+            emitter.complete();
+        }
+
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, AtomicBoolean open, String name, Object data) {
+        if (!open.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 떠났어도 분석/저장은 계속 진행
+            open.set(false);
+        }
+    }
+}
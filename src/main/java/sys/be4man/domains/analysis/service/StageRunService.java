@@ -2,19 +2,74 @@
 package sys.be4man.domains.analysis.service;
 
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import sys.be4man.domains.analysis.dto.response.SimilarFailureResponseDto;
 import sys.be4man.domains.analysis.dto.response.StageRunResponseDto;
+import sys.be4man.domains.analysis.exception.type.StageRunExceptionType;
+import sys.be4man.domains.analysis.repository.BuildRunRepository;
 import sys.be4man.domains.analysis.repository.StageRunRepository;
+import sys.be4man.domains.analysis.repository.projection.NextSuccessBuildRow;
+import sys.be4man.domains.analysis.service.similarity.FailureSimilarityIndex;
+import sys.be4man.domains.analysis.service.similarity.FailureSimilarityIndex.Entry;
+import sys.be4man.domains.analysis.service.similarity.FailureSimilarityIndex.Match;
+import sys.be4man.global.exception.NotFoundException;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class StageRunService {
 
+    private static final int MAX_SIMILAR_LIMIT = 20;
+
     private final StageRunRepository stageRunRepository;
+    private final BuildRunRepository buildRunRepository;
+    private final FailureSimilarityIndex failureSimilarityIndex;
+
     public List<StageRunResponseDto> getAllStageRunsByBuildRunId(Long buildRunId) {
         return stageRunRepository.findAllStageRunsByBuildRunId(buildRunId);
     }
+
+    /**
+     * 실패 스테이지와 가장 유사한 과거 실패 목록 (전체 프로젝트 대상)
+     * - 색인된 스테이지면 DB 조회 없이 시그니처로 바로 검색
+     * - 결과마다 이후 처음 성공한 빌드를 붙여 어떻게 해결되었는지 보여준다
+     */
+    public List<SimilarFailureResponseDto> getSimilarFailures(Long stageRunId, int limit) {
+        Entry query = failureSimilarityIndex.get(stageRunId);
+        if (query == null) {
+            query = stageRunRepository.findFailedStageRow(stageRunId)
+                    .map(FailureSimilarityIndex::toQuery)
+                    .orElseThrow(() -> new NotFoundException(StageRunExceptionType.STAGE_RUN_NOT_FOUND));
+        }
+        if (query == null) {
+            return List.of();
+        }
+
+        int size = Math.max(1, Math.min(limit, MAX_SIMILAR_LIMIT));
+        List<Match> matches = failureSimilarityIndex.findSimilar(query, size);
+        // 결과마다 조회하지 않고 한 번에 읽는다
+        Map<Long, NextSuccessBuildRow> fixes = matches.isEmpty() ? Map.of()
+                : buildRunRepository.findNextSuccessfulBuilds(matches.stream()
+                        .map(match -> match.entry().stageRunId())
+                        .toList());
+        return matches.stream()
+                .map(match -> toResponse(match, fixes.get(match.entry().stageRunId())))
+                .toList();
+    }
+
+    private SimilarFailureResponseDto toResponse(Match match, NextSuccessBuildRow fix) {
+        Entry e = match.entry();
+
+        return new SimilarFailureResponseDto(
+                e.stageRunId(), e.buildRunId(), e.deploymentId(), e.projectName(), e.stageName(),
+                e.problemType(), e.problemSummary(), e.problemSolution(), e.failedAt(),
+                match.similarity(),
+                fix != null ? fix.buildRunId() : null,
+                fix != null ? fix.deploymentId() : null,
+                fix != null ? fix.deploymentTitle() : null,
+                fix != null ? fix.endedAt() : null);
+    }
 }
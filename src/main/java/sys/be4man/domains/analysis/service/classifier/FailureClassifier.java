@@ -0,0 +1,257 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.classifier;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import sys.be4man.domains.analysis.dto.response.FailureClassifierStatsResponseDto;
+import sys.be4man.domains.analysis.model.type.AnalysisSource;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.analysis.repository.StageRunRepository;
+import sys.be4man.domains.analysis.repository.projection.StageFailureSample;
+import sys.be4man.domains.analysis.service.classifier.FailureRuleTable.RuleMatch;
+import sys.be4man.domains.analysis.service.classifier.NaiveBayesFailureModel.Prediction;
+
+/**
+ * LLM 앞단에서 실패 스테이지를 즉시 분류하는 로컬 분류기.
+ * 1) 규칙 테이블(FailureRuleTable)에 매칭되면 바로 확정
+ * 2) 아니면 과거 분석 결과로 학습한 나이브 베이즈 모델의 신뢰도가 임계값 이상일 때 확정
+ * 3) 둘 다 아니면 empty 를 반환하여 호출 측이 LLM 을 사용하도록 한다.
+ * 모델 임계값은 재학습 때마다 보류 검증셋으로 보정한다. 검증셋이 작으면 설정값(confidence-threshold)을 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FailureClassifier {
+
+    private final StageRunRepository stageRunRepository;
+
+    // 학습 샘플 중 이 간격마다 한 건을 임계값 보정용 검증셋으로 뗀다 (20%)
+    private static final int HOLDOUT_EVERY = 5;
+
+    // 어떤 임계값도 목표 정밀도를 못 맞추면 모델 분류를 쓰지 않는다 (신뢰도는 1 을 넘지 않음)
+    static final double MODEL_DISABLED = Double.POSITIVE_INFINITY;
+
+    private static final String MODEL_SUMMARY_FORMAT = "과거 유사 실패 로그 기준 '%s' 유형으로 분류되었습니다.";
+
+    /** 모델과 보정된 임계값 (null 이면 설정값 사용). 재학습 시 함께 교체한다 */
+    private record TrainedModel(NaiveBayesFailureModel model, Double threshold) {}
+
+    private volatile TrainedModel trained = new TrainedModel(new NaiveBayesFailureModel(), null);
+
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong ruleHits = new AtomicLong();
+    private final AtomicLong modelHits = new AtomicLong();
+    private final AtomicLong llmFallbacks = new AtomicLong();
+    private final AtomicBoolean training = new AtomicBoolean();
+
+    @Value("${analysis.classifier.enabled:true}")
+    private boolean enabled;
+
+    // 모델 분류를 그대로 채택할 사후 확률 하한. 검증셋으로 보정하지 못했을 때만 사용
+    @Value("${analysis.classifier.confidence-threshold:0.9}")
+    private double confidenceThreshold;
+
+    // 보정 시 임계값 이상으로 채택한 모델 분류가 지켜야 할 검증셋 정밀도
+    @Value("${analysis.classifier.target-precision:0.95}")
+    private double targetPrecision;
+
+    // 검증셋 예측이 이 수보다 적으면 보정하지 않음
+    @Value("${analysis.classifier.min-calibration-samples:20}")
+    private int minCalibrationSamples;
+
+    // 학습 샘플이 이 수보다 적으면 모델 결과를 신뢰하지 않음
+    @Value("${analysis.classifier.min-training-samples:30}")
+    private int minTrainingSamples;
+
+    // 기동 시 학습에 사용할 최근 분석 결과 수
+    @Value("${analysis.classifier.training-limit:5000}")
+    private int trainingLimit;
+
+    /** 로컬 분류 결과 */
+    public record Classification(ProblemType type, String summary, String solution,
+                                 String source, double confidence) {
+
+        /** StageRun 에 저장할 분석 출처 (규칙 / 로컬 모델) */
+        public AnalysisSource origin() {
+            return source.startsWith("rule:") ? AnalysisSource.RULE : AnalysisSource.MODEL;
+        }
+    }
+
+    /**
+     * 기동 시 이미 유형이 붙은 StageRun 으로 모델을 학습한다. (요청 경로 밖에서 수행)
+     */
+    @Async("classifierTrainingExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void trainOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        retrain();
+    }
+
+    /**
+     * 관리자 요청으로 재학습한다. 요청 스레드를 잡지 않도록 비동기로 돌리고, 이미 학습 중이면 건너뛴다.
+     */
+    @Async("classifierTrainingExecutor")
+    public void retrainAsync() {
+        if (!enabled) {
+            return;
+        }
+        retrain();
+    }
+
+    /**
+     * DB 에 저장된 LLM 분석 결과로 모델을 새로 만든 뒤 교체한다.
+     * 규칙/모델이 스스로 붙인 결과는 학습에 쓰지 않는다.
+     */
+    public void retrain() {
+        if (!training.compareAndSet(false, true)) {
+            log.info("[FailureClassifier] 이미 학습 중이라 재학습 요청을 건너뜁니다.");
+            return;
+        }
+        try {
+            List<StageFailureSample> samples =
+                    stageRunRepository.findAnalyzedFailureSamples(trainingLimit);
+
+            Double threshold = calibrate(samples);
+            NaiveBayesFailureModel fresh = new NaiveBayesFailureModel();
+            for (StageFailureSample sample : samples) {
+                fresh.learn(sample.log(), sample.problemType());
+            }
+            this.trained = new TrainedModel(fresh, threshold);
+            log.info("[FailureClassifier] 학습 완료. samples={}, threshold={}", fresh.size(),
+                    threshold != null ? threshold : "설정값 " + confidenceThreshold);
+        } catch (Exception e) {
+            log.warn("[FailureClassifier] 학습 실패: {}", e.getMessage(), e);
+        } finally {
+            training.set(false);
+        }
+    }
+
+    /**
+     * 로컬에서 확신할 수 있으면 분류 결과를, 아니면 empty 를 반환한다.
+     */
+    public Optional<Classification> classify(String stageLog) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        total.incrementAndGet();
+
+        Optional<RuleMatch> ruleMatch = FailureRuleTable.match(stageLog);
+        if (ruleMatch.isPresent()) {
+            ruleHits.incrementAndGet();
+            FailureRuleTable.Rule rule = ruleMatch.get().rule();
+            return Optional.of(new Classification(rule.type(),
+                    withEvidence(rule.summary(), ruleMatch.get().matchedLine()),
+                    rule.solution(), "rule:" + rule.name(), 1.0));
+        }
+
+        TrainedModel current = trained;
+        if (current.model().size() >= minTrainingSamples) {
+            Prediction prediction = current.model().predict(stageLog);
+            double threshold = current.threshold() != null ? current.threshold() : confidenceThreshold;
+            if (prediction != null && prediction.confidence() >= threshold) {
+                modelHits.incrementAndGet();
+                return Optional.of(new Classification(prediction.type(),
+                        modelSummary(prediction.type()),
+                        "콘솔 로그의 오류 구간을 확인하고 같은 유형의 이전 해결 사례를 참고하세요.",
+                        "model", prediction.confidence()));
+            }
+        }
+
+        llmFallbacks.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * LLM 이 확정한 유형을 모델에 증분 반영한다.
+     */
+    public void learn(String stageLog, ProblemType type) {
+        if (!enabled) {
+            return;
+        }
+        trained.model().learn(stageLog, type);
+    }
+
+    /** 모델 분류 결과의 요약 문구 */
+    public static String modelSummary(ProblemType type) {
+        return MODEL_SUMMARY_FORMAT.formatted(type.getType());
+    }
+
+    /**
+     * 샘플의 1/HOLDOUT_EVERY 를 떼어 두고 나머지로 학습한 모델로 예측한 뒤,
+     * 신뢰도가 임계값 이상인 예측의 정밀도가 target-precision 이상이 되는 가장 낮은 임계값을 고른다.
+     * - 검증셋 예측이 min-calibration-samples 보다 적으면 null (설정값 사용)
+     * - 어떤 임계값도 정밀도를 맞추지 못하면 MODEL_DISABLED
+     */
+    Double calibrate(List<StageFailureSample> samples) {
+        NaiveBayesFailureModel probe = new NaiveBayesFailureModel();
+        List<StageFailureSample> holdout = new ArrayList<>();
+        for (int i = 0; i < samples.size(); i++) {
+            StageFailureSample sample = samples.get(i);
+            if (i % HOLDOUT_EVERY == HOLDOUT_EVERY - 1) {
+                holdout.add(sample);
+            } else {
+                probe.learn(sample.log(), sample.problemType());
+            }
+        }
+
+        List<Scored> scored = new ArrayList<>();
+        for (StageFailureSample sample : holdout) {
+            Prediction prediction = probe.predict(sample.log());
+            if (prediction != null) {
+                scored.add(new Scored(prediction.confidence(),
+                        prediction.type() == sample.problemType()));
+            }
+        }
+        if (scored.size() < Math.max(1, minCalibrationSamples)) {
+            return null;
+        }
+
+        // 신뢰도 내림차순으로 채택 범위를 넓혀 가며, 정밀도를 만족하는 가장 넓은 범위의 경계를 임계값으로
+        scored.sort(Comparator.comparingDouble(Scored::confidence).reversed());
+        double threshold = MODEL_DISABLED;
+        int correct = 0;
+        for (int k = 0; k < scored.size(); k++) {
+            if (scored.get(k).correct()) {
+                correct++;
+            }
+            boolean tie = k + 1 < scored.size()
+                    && scored.get(k + 1).confidence() == scored.get(k).confidence();
+            if (!tie && (double) correct / (k + 1) >= targetPrecision) {
+                threshold = scored.get(k).confidence();
+            }
+        }
+        return threshold;
+    }
+
+    private record Scored(double confidence, boolean correct) {}
+
+    public FailureClassifierStatsResponseDto getStats() {
+        long t = total.get();
+        long hits = ruleHits.get() + modelHits.get();
+        return new FailureClassifierStatsResponseDto(
+                t, ruleHits.get(), modelHits.get(), llmFallbacks.get(),
+                t == 0 ? 0.0 : (double) hits / t,
+                trained.model().size());
+    }
+
+    private static String withEvidence(String summary, String line) {
+        if (line == null || line.isBlank()) {
+            return summary;
+        }
+        String evidence = line.length() > 300 ? line.substring(0, 300) + "..." : line;
+        return summary + " (근거 로그: " + evidence + ")";
+    }
+}
@@ -0,0 +1,96 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.classifier;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+
+/**
+ * 누가 봐도 유형이 분명한 실패 로그를 정규식으로 즉시 분류하는 규칙 테이블.
+ * - 위에서부터 순서대로 검사하며 처음 매칭된 규칙을 사용한다.
+ * - 테스트 실패 로그에는 보통 "BUILD FAILED"도 함께 찍히므로 테스트 규칙을 빌드 규칙보다 먼저 둔다.
+ * - "0 tests failed", "Failures: 0" 처럼 성공 요약에도 나오는 문구는 실패 건수가 1 이상일 때만 매칭한다.
+ * - "access denied", "command not found" 는 앱 자체 배포 스크립트에서도 나오므로 규칙으로 확정하지 않고,
+ *   Jenkins 에이전트/파이프라인에서만 나오는 문구만 환경 오류로 본다.
+ */
+public final class FailureRuleTable {
+
+    private FailureRuleTable() {}
+
+    /** 규칙 한 건 */
+    public record Rule(String name, Pattern pattern, ProblemType type, String summary,
+                       String solution) {}
+
+    /** 규칙 매칭 결과 (matchedLine: 규칙에 걸린 로그 라인) */
+    public record RuleMatch(Rule rule, String matchedLine) {}
+
+    private static final String BUILD_SUMMARY = "소스 컴파일 또는 의존성 해석 단계에서 빌드가 실패했습니다.";
+    private static final String BUILD_SOLUTION =
+            "로그에 표시된 컴파일 오류 위치나 누락된 의존성을 수정하고 로컬에서 빌드가 통과하는지 확인하세요.";
+
+    private static final List<Rule> RULES = List.of(
+            new Rule("test-failed",
+                    Pattern.compile("(?i)(\\b[1-9]\\d* tests? failed|there were failing tests|"
+                            + "\\d+ tests? completed, [1-9]\\d* failed|AssertionFailedError|"
+                            + "Tests run:.*Failures: [1-9])"),
+                    ProblemType.AUTOMATION_TEST_FAILED,
+                    "자동화 테스트가 실패하여 빌드가 중단되었습니다.",
+                    "실패한 테스트 리포트를 확인하고 최근 변경된 코드 또는 테스트 기대값을 수정한 뒤 다시 빌드하세요."),
+            new Rule("compilation-error",
+                    Pattern.compile("(?i)(compilation failed|compilation failure|cannot find symbol|"
+                            + "error: compilation|error TS\\d+|Could not resolve dependencies|"
+                            + "Could not resolve all (files|dependencies))"),
+                    ProblemType.BUILD_AND_PACKAGING_FAILURES, BUILD_SUMMARY, BUILD_SOLUTION),
+            new Rule("jenkins-environment",
+                    Pattern.compile("(?i)(No such DSL method|Scripts not permitted to use|"
+                            + "Required context class hudson\\.\\S+ is missing|"
+                            + "permission denied while trying to connect to the Docker daemon socket|"
+                            + "AccessDeniedException: \\S*jenkins)"),
+                    ProblemType.JENKINS_ENVIRONMENT_AND_CONFIGURATION_ERRORS,
+                    "Jenkins 에이전트의 권한 또는 실행 환경 설정 문제로 스테이지가 실패했습니다.",
+                    "에이전트 계정의 파일/소켓 권한과 필요한 도구 설치 여부, 파이프라인 플러그인 설정을 확인하세요."),
+            new Rule("connection-refused",
+                    Pattern.compile("(?i)(ECONNREFUSED|connection refused|"
+                            + "Error response from daemon|port is already allocated|"
+                            + "ssh: connect to host|CrashLoopBackOff|ImagePullBackOff)"),
+                    ProblemType.DEPLOYMENT_AND_EXECUTION_ERRORS,
+                    "배포 대상 서버 또는 컨테이너 실행 단계에서 연결/실행 오류가 발생했습니다.",
+                    "대상 호스트와 포트가 기동 중인지, 컨테이너 이미지와 포트 충돌 여부를 확인한 뒤 재배포하세요."),
+            // Maven 빌드 실패 요약. 배포 goal 실패에도 찍히므로 연결 오류 규칙보다 뒤에 둔다.
+            new Rule("maven-build-failure",
+                    Pattern.compile("BUILD FAILURE"),
+                    ProblemType.BUILD_AND_PACKAGING_FAILURES, BUILD_SUMMARY, BUILD_SOLUTION)
+    );
+
+    public static List<Rule> rules() {
+        return RULES;
+    }
+
+    /**
+     * 로그에서 처음 매칭되는 규칙을 찾는다.
+     */
+    public static Optional<RuleMatch> match(String log) {
+        if (log == null || log.isBlank()) {
+            return Optional.empty();
+        }
+        for (Rule rule : RULES) {
+            Matcher m = rule.pattern().matcher(log);
+            if (m.find()) {
+                return Optional.of(new RuleMatch(rule, lineAt(log, m.start())));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** 매칭 위치가 포함된 한 줄을 잘라낸다 (요약에 근거로 붙이기 위함) */
+    private static String lineAt(String log, int index) {
+        int from = log.lastIndexOf('\n', index) + 1;
+        int to = log.indexOf('\n', index);
+        if (to < 0) {
+            to = log.length();
+        }
+        return log.substring(from, to).trim();
+    }
+}
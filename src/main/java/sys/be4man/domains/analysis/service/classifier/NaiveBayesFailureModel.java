@@ -0,0 +1,153 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.classifier;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+
+/**
+ * 실패 로그 → ProblemType 을 추정하는 경량 다항 나이브 베이즈 모델.
+ * - 토큰 빈도는 sublinear TF(1 + log tf)로 누적하고, 분류 시 질의 토큰에 IDF 가중치를 곱한다.
+ * - 로그 점수는 질의 토큰 가중치 합으로 나눠(토큰당 평균 로그 가능도) 정규화한다. 그대로 합하면 긴 로그일수록
+ *   유형 간 점수 차가 커져 사후 확률이 거의 항상 1 로 포화되고, 신뢰도 임계값이 아무것도 거르지 못한다.
+ * - 학습/분류 모두 메모리 안에서만 동작하며, 학습 데이터는 이미 유형이 붙은 StageRun 로그다.
+ * - 분류 도중 증분 학습(learn)이 들어올 수 있으므로 공개 메서드는 synchronized 로 보호한다.
+ */
+public class NaiveBayesFailureModel {
+
+    /** 한 문서에서 사용하는 최대 토큰 수 (실패 원인은 로그 끝에 몰려 있으므로 뒤쪽을 사용) */
+    private static final int MAX_TOKENS_PER_DOC = 3_000;
+
+    /** 숫자/해시/경로처럼 빌드마다 바뀌는 값을 치환하기 위한 패턴 */
+    private static final Pattern HEX = Pattern.compile("\\b[0-9a-f]{7,}\\b");
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final Pattern SPLIT = Pattern.compile("[^a-z_#]+");
+
+    /** 분류 결과 (confidence: 정규화한 점수의 사후 확률 최대값) */
+    public record Prediction(ProblemType type, double confidence) {}
+
+    private final Map<ProblemType, Map<String, Double>> tokenWeights = new EnumMap<>(ProblemType.class);
+    private final Map<ProblemType, Double> totalWeights = new EnumMap<>(ProblemType.class);
+    private final Map<ProblemType, Integer> docCounts = new EnumMap<>(ProblemType.class);
+    private final Map<String, Integer> docFrequency = new HashMap<>();
+    private int totalDocs;
+
+    /**
+     * 유형이 확정된 로그 한 건을 모델에 반영한다.
+     */
+    public synchronized void learn(String log, ProblemType type) {
+        if (type == null) {
+            return;
+        }
+        Map<String, Integer> tf = termFrequency(log);
+        if (tf.isEmpty()) {
+            return;
+        }
+
+        Map<String, Double> weights = tokenWeights.computeIfAbsent(type, t -> new HashMap<>());
+        double added = 0;
+        for (Map.Entry<String, Integer> e : tf.entrySet()) {
+            double w = 1 + Math.log(e.getValue());
+            weights.merge(e.getKey(), w, Double::sum);
+            docFrequency.merge(e.getKey(), 1, Integer::sum);
+            added += w;
+        }
+        totalWeights.merge(type, added, Double::sum);
+        docCounts.merge(type, 1, Integer::sum);
+        totalDocs++;
+    }
+
+    /**
+     * 로그의 유형과 신뢰도를 추정한다. 학습 데이터가 없거나 학습 때 본 토큰이 하나도 없으면 null.
+     */
+    public synchronized Prediction predict(String log) {
+        if (totalDocs == 0) {
+            return null;
+        }
+        Map<String, Integer> tf = termFrequency(log);
+        if (tf.isEmpty()) {
+            return null;
+        }
+
+        int vocabulary = Math.max(1, docFrequency.size());
+        Map<ProblemType, Double> scores = new EnumMap<>(ProblemType.class);
+
+        // 학습 때 본 토큰의 질의 가중치 합. 본 적 없는 토큰은 모든 클래스에 동일하게 기여하므로 생략
+        double queryWeightSum = 0;
+        for (Map.Entry<String, Integer> e : tf.entrySet()) {
+            Integer df = docFrequency.get(e.getKey());
+            if (df != null) {
+                queryWeightSum += (1 + Math.log(e.getValue())) * idf(df);
+            }
+        }
+        if (queryWeightSum == 0) {
+            return null;
+        }
+
+        for (ProblemType type : docCounts.keySet()) {
+            Map<String, Double> weights = tokenWeights.get(type);
+            double denominator = totalWeights.getOrDefault(type, 0.0) + vocabulary;
+            double score = Math.log((double) docCounts.get(type) / totalDocs);
+
+            for (Map.Entry<String, Integer> e : tf.entrySet()) {
+                Integer df = docFrequency.get(e.getKey());
+                if (df == null) {
+                    continue;
+                }
+                double queryWeight = (1 + Math.log(e.getValue())) * idf(df);
+                double likelihood = (weights.getOrDefault(e.getKey(), 0.0) + 1) / denominator;
+                score += queryWeight * Math.log(likelihood);
+            }
+            scores.put(type, score / queryWeightSum);
+        }
+
+        // log-sum-exp 로 사후 확률 정규화
+        double max = scores.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+        double sum = 0;
+        ProblemType best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (Map.Entry<ProblemType, Double> e : scores.entrySet()) {
+            sum += Math.exp(e.getValue() - max);
+            if (e.getValue() > bestScore) {
+                bestScore = e.getValue();
+                best = e.getKey();
+            }
+        }
+        return new Prediction(best, Math.exp(bestScore - max) / sum);
+    }
+
+    private double idf(int df) {
+        return Math.log((double) (totalDocs + 1) / (df + 1)) + 1;
+    }
+
+    public synchronized int size() {
+        return totalDocs;
+    }
+
+    /**
+     * 로그를 정규화한 뒤 토큰 빈도를 센다.
+     */
+    static Map<String, Integer> termFrequency(String log) {
+        Map<String, Integer> tf = new HashMap<>();
+        if (log == null || log.isBlank()) {
+            return tf;
+        }
+
+        String normalized = log.toLowerCase();
+        normalized = HEX.matcher(normalized).replaceAll(" #hex ");
+        normalized = NUMBER.matcher(normalized).replaceAll(" #num ");
+
+        String[] tokens = SPLIT.split(normalized);
+        int from = Math.max(0, tokens.length - MAX_TOKENS_PER_DOC);
+        for (int i = from; i < tokens.length; i++) {
+            String token = tokens[i];
+            if (token.length() < 2 || token.length() > 40) {
+                continue;
+            }
+            tf.merge(token, 1, Integer::sum);
+        }
+        return tf;
+    }
+}
@@ -1,51 +1,92 @@
 // 작성자 : 조윤상
 package sys.be4man.domains.analysis.service.llm;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.genai.types.GenerateContentResponse;
+import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import com.google.genai.Client;
-import sys.be4man.domains.analysis.service.llm.LlmClient;
+
+/**
+ * Gemini 응답(JSON) 형식을 파싱하는 LlmClient. 원문은 LlmTransport 에서 받는다.
+ * 녹화/재생 프로필에서도 이 클래스가 그대로 쓰이므로 재생 시에도 파싱 경로가 검증된다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class GeminiClient implements LlmClient {
 
-    @Value("${gemini.api.key}")
-    private String geminiApiKey;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final LlmTransport transport;
 
     @Override
     public AnalysisResult summarizeAndSuggest(String prompt) {
-        Client client = Client.builder().apiKey(geminiApiKey).build();
-
-        GenerateContentResponse response =
-                client.models.generateContent(
-                        "gemini-2.5-flash",
-                        prompt,
-                        null);
-
-        String jsonResponse = response.text();
-
-        ObjectMapper objectMapper = new ObjectMapper();
+        String jsonResponse = transport.generate(prompt);
 
         try {
             // JSON 문자열을 AnalysisResult 클래스의 인스턴스로 변환
             // 인코딩 문제(유니코드 이스케이프 등)는 Jackson이 자동으로 처리합니다.
-            AnalysisResult analysisResult = objectMapper.readValue(jsonResponse,
+            AnalysisResult analysisResult = objectMapper.readValue(stripCodeFence(jsonResponse),
                     AnalysisResult.class);
 
             // AnalysisResult 객체를 반환
             return analysisResult;
 
         } catch (Exception e) {
-            // JSON 파싱 실패 시 예외 처리
-            System.err.println("JSON 파싱 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
-            // 오류 발생 시 빈 객체 또는 적절한 오류 객체를 반환하도록 처리
-            return new AnalysisResult("JSON 파싱 실패", "로그를 확인하고 DTO와 JSON 응답 구조를 검토하세요.", "실패 타입 없음");
+            // 대체 객체를 저장하면 실제 분석처럼 보이고 기존 결과를 덮어쓰므로 예외로 알린다
+            throw new IllegalStateException("분석 응답 JSON 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * onChunk 로는 원문 JSON 조각이 아니라 summary 필드의 디코딩된 텍스트만 흘려보낸다.
+     * 파싱에 실패하면 예외를 던져 기존 분석 결과가 그대로 남게 한다.
+     */
+    @Override
+    public AnalysisResult summarizeAndSuggestStream(String prompt, Consumer<String> onChunk) {
+        String full = transport.generateStream(prompt, new SummaryChunkExtractor(onChunk));
+
+        try {
+            return objectMapper.readValue(stripCodeFence(full), AnalysisResult.class);
+        } catch (Exception e) {
+            log.warn("[Gemini] 스트리밍 응답 JSON 파싱 실패: {}", e.getMessage());
+            throw new IllegalStateException("스트리밍 분석 응답 JSON 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<StageAnalysisResult> summarizeAndSuggestBatch(String prompt) {
+        String jsonResponse = stripCodeFence(transport.generate(prompt));
+
+        try {
+            return objectMapper.readValue(jsonResponse,
+                    new TypeReference<List<StageAnalysisResult>>() {});
+        } catch (Exception e) {
+            // 단건 분석과 달리 대체 객체를 만들지 않고 호출 측 폴백에 맡긴다
+            throw new IllegalStateException("배치 분석 응답 JSON 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 모델이 ```json ... ``` 으로 감싸서 응답하는 경우 펜스를 제거한다.
+     */
+    static String stripCodeFence(String text) {
+        if (text == null) {
+            return "";
+        }
+        String s = text.trim();
+        if (s.startsWith("```")) {
+            int firstNewLine = s.indexOf('\n');
+            s = firstNewLine >= 0 ? s.substring(firstNewLine + 1) : "";
+            if (s.endsWith("```")) {
+                s = s.substring(0, s.length() - 3);
+            }
         }
+        return s.trim();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.llm;
+
+import com.google.genai.Client;
+import com.google.genai.ResponseStream;
+import com.google.genai.types.GenerateContentResponse;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실제 Gemini API 호출. 응답 원문만 돌려주고 파싱은 GeminiClient 에 맡긴다.
+ */
+@Profile("!llm-replay")
+@Component
+public class GeminiTransport implements LlmTransport {
+
+    private static final String MODEL = "gemini-2.5-flash";
+
+    @Value("${gemini.api.key}")
+    private String geminiApiKey;
+
+    @Override
+    public String generate(String prompt) {
+        Client client = Client.builder().apiKey(geminiApiKey).build();
+
+        GenerateContentResponse response =
+                client.models.generateContent(
+                        MODEL,
+                        prompt,
+                        null);
+
+        return response.text();
+    }
+
+    @Override
+    public String generateStream(String prompt, Consumer<String> onChunk) {
+        Client client = Client.builder().apiKey(geminiApiKey).build();
+        StringBuilder full = new StringBuilder();
+
+        try (ResponseStream<GenerateContentResponse> stream =
+                client.models.generateContentStream(MODEL, prompt, null)) {
+            for (GenerateContentResponse response : stream) {
+                String chunk = response.text();
+                if (chunk == null || chunk.isEmpty()) {
+                    continue;
+                }
+                full.append(chunk);
+                onChunk.accept(chunk);
+            }
+        }
+        return full.toString();
+    }
+}
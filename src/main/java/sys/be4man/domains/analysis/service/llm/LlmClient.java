@@ -1,7 +1,32 @@
 // 작성자 : 조윤상
 package sys.be4man.domains.analysis.service.llm;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface LlmClient {
     record AnalysisResult(String summary, String solution, String type) {}
+
+    /**
+     * 배치 분석 결과 한 건. orderIndex로 어떤 StageRun의 결과인지 식별한다.
+     */
+    record StageAnalysisResult(Long orderIndex, String summary, String solution, String type) {}
+
     AnalysisResult summarizeAndSuggest(String prompt);
-}
\ No newline at end of file
+
+    /**
+     * 여러 스테이지를 묶은 프롬프트를 한 번에 보내고 JSON 배열 응답을 파싱한다.
+     * 응답이 JSON 배열 형식이 아니면 예외를 던져 호출 측이 스테이지별 호출로 폴백할 수 있게 한다.
+     */
+    List<StageAnalysisResult> summarizeAndSuggestBatch(String prompt);
+
+    /**
+     * 생성되는 요약(summary) 텍스트 조각을 onChunk 로 흘려보내면서 분석하고, 끝나면 전체 응답을 파싱해 반환한다.
+     * 응답을 파싱할 수 없으면 예외를 던진다. 스트리밍을 지원하지 않는 구현체는 요약을 한 번에 전달한다.
+     */
+    default AnalysisResult summarizeAndSuggestStream(String prompt, Consumer<String> onChunk) {
+        AnalysisResult result = summarizeAndSuggest(prompt);
+        onChunk.accept(result.summary());
+        return result;
+    }
+}
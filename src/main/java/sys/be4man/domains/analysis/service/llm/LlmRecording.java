@@ -0,0 +1,25 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.llm;
+
+/**
+ * LLM 호출 한 건의 녹화본 (파일 하나 = 호출 하나)
+ * - kind: single(단건/스트리밍) / batch(배치)
+ * - key: kind + prompt 의 SHA-256, 재생 시 같은 프롬프트를 찾는 데 사용
+ * - response: 파싱 전 응답 원문 (재생 시 GeminiClient 파싱 경로를 그대로 타도록)
+ */
+public record LlmRecording(
+        String kind,
+        String key,
+        String prompt,
+        String response,
+        long latencyMs
+) {
+
+    public static final String KIND_SINGLE = "single";
+    public static final String KIND_BATCH = "batch";
+
+    /** StageAnalysisService 배치 프롬프트는 스테이지 헤더에 orderIndex 를 담는다 */
+    static String kindOf(String prompt) {
+        return prompt != null && prompt.contains("orderIndex=") ? KIND_BATCH : KIND_SINGLE;
+    }
+}
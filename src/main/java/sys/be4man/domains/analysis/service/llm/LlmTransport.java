@@ -0,0 +1,21 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.llm;
+
+import java.util.function.Consumer;
+
+/**
+ * LLM 과 프롬프트/원문 응답을 주고받는 전송 계층. 응답 파싱은 GeminiClient 가 맡는다.
+ * - GeminiTransport: 실제 Gemini 호출 (llm-replay 가 아닐 때)
+ * - RecordingLlmTransport: llm-record 프로필에서 Gemini 원문 응답을 파일로 녹화
+ * - ReplayLlmTransport: llm-replay 프로필에서 녹화된 원문 응답을 네트워크 없이 재생
+ * 녹화/재생 모두 원문을 다루므로 재생 중에도 실제 파싱 경로를 그대로 탄다.
+ */
+public interface LlmTransport {
+
+    String generate(String prompt);
+
+    /**
+     * 생성되는 텍스트 조각을 onChunk 로 흘려보내고, 끝나면 전체 응답 원문을 반환한다.
+     */
+    String generateStream(String prompt, Consumer<String> onChunk);
+}
@@ -0,0 +1,81 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실제 Gemini 호출을 감싸 프롬프트/응답 원문을 로컬 파일로 녹화하는 데코레이터.
+ * llm-record 프로필에서만 활성화되며, 녹화본은 ReplayLlmTransport(llm-replay 프로필)로 재생한다.
+ * 두 프로필을 함께 켜면 ReplayLlmTransport 가 기동 시 예외를 던진다.
+ */
+@Slf4j
+@Primary
+@Profile("llm-record & !llm-replay")
+@Component
+public class RecordingLlmTransport implements LlmTransport {
+
+    private final GeminiTransport delegate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path recordDir;
+
+    public RecordingLlmTransport(GeminiTransport delegate,
+            @Value("${analysis.llm.record-dir:./llm-recordings}") String recordDir) {
+        this.delegate = delegate;
+        this.recordDir = Path.of(recordDir);
+    }
+
+    @Override
+    public String generate(String prompt) {
+        long start = System.currentTimeMillis();
+        String response = delegate.generate(prompt);
+        write(prompt, response, System.currentTimeMillis() - start);
+        return response;
+    }
+
+    @Override
+    public String generateStream(String prompt, Consumer<String> onChunk) {
+        long start = System.currentTimeMillis();
+        String response = delegate.generateStream(prompt, onChunk);
+        // 재생 시에는 단건 호출과 같은 녹화본을 사용
+        write(prompt, response, System.currentTimeMillis() - start);
+        return response;
+    }
+
+    /**
+     * 녹화 실패가 분석 자체를 막지 않도록 예외는 로그만 남긴다.
+     */
+    private void write(String prompt, String response, long latencyMs) {
+        String kind = LlmRecording.kindOf(prompt);
+        String key = keyOf(kind, prompt);
+        try {
+            Files.createDirectories(recordDir);
+            Path file = recordDir.resolve(kind + "-" + key + ".json");
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(),
+                    new LlmRecording(kind, key, prompt, response, latencyMs));
+        } catch (Exception e) {
+            log.warn("[LLM Record] 녹화 파일 저장 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    static String keyOf(String kind, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((kind + "\n" + prompt).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.llm;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import sys.be4man.domains.analysis.service.llm.LlmClient.AnalysisResult;
+import sys.be4man.domains.analysis.service.llm.LlmClient.StageAnalysisResult;
+
+/**
+ * 네트워크 없이 분석 경로를 부하 테스트하기 위한 재생용 LlmTransport (llm-replay 프로필).
+ * - 같은 프롬프트의 녹화 원문이 있으면 그대로 돌려주고, 없으면 같은 종류의 녹화본 중 하나를 결정적으로 고른다.
+ * - 녹화본이 하나도 없으면 고정된 합성 응답(JSON)을 만든다.
+ * - 지연 시간 분포(fixed / uniform / lognormal / recorded)와 실패/응답 깨짐 비율을 설정할 수 있다.
+ * - 원문을 돌려주므로 응답 파싱은 운영과 같은 GeminiClient 가 맡는다.
+ */
+@Slf4j
+@Profile("llm-replay")
+@Component
+public class ReplayLlmTransport implements LlmTransport {
+
+    static final String SYNTHETIC_SUMMARY = "재생용 합성 요약입니다.";
+    static final String SYNTHETIC_SOLUTION = "재생용 합성 해결책입니다.";
+    static final String SYNTHETIC_TYPE = "Others";
+
+    // 스트리밍 재생 시 한 번에 흘려보내는 글자 수
+    private static final int STREAM_CHUNK_CHARS = 32;
+
+    /** StageAnalysisService 배치 프롬프트의 스테이지 헤더에서 orderIndex 를 읽어온다 */
+    private static final Pattern ORDER_INDEX = Pattern.compile("orderIndex=(\\d+)");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Map<String, LlmRecording> byKey = new HashMap<>();
+    private final List<LlmRecording> singles = new ArrayList<>();
+    private final List<LlmRecording> batches = new ArrayList<>();
+
+    @Value("${analysis.llm.record-dir:./llm-recordings}")
+    private String recordDir;
+
+    @Value("${analysis.llm.replay.latency.distribution:fixed}")
+    private String latencyDistribution;
+
+    @Value("${analysis.llm.replay.latency.mean-ms:0}")
+    private long meanLatencyMs;
+
+    @Value("${analysis.llm.replay.latency.max-ms:0}")
+    private long maxLatencyMs;
+
+    // lognormal 분포의 꼬리 두께
+    @Value("${analysis.llm.replay.latency.sigma:0.5}")
+    private double sigma;
+
+    // 호출 자체가 실패(예외)할 비율
+    @Value("${analysis.llm.replay.failure-rate:0.0}")
+    private double failureRate;
+
+    // 배치 응답이 잘린 JSON 으로 오는 비율 (GeminiClient 파싱 실패 → StageAnalysisService 폴백 경로 검증용)
+    @Value("${analysis.llm.replay.malformed-rate:0.0}")
+    private double malformedRate;
+
+    @Value("${analysis.llm.replay.seed:42}")
+    private long seed;
+
+    private Random random;
+
+    private final Environment environment;
+
+    public ReplayLlmTransport(Environment environment) {
+        this.environment = environment;
+    }
+
+    @PostConstruct
+    void load() {
+        // 녹화 데코레이터는 실제 Gemini 호출을 감싸므로 재생과 함께 켤 수 없다
+        if (environment.acceptsProfiles(Profiles.of("llm-record"))) {
+            throw new IllegalStateException(
+                    "llm-record 와 llm-replay 프로필은 함께 사용할 수 없습니다. 녹화 또는 재생 중 하나만 활성화하세요.");
+        }
+        this.random = new Random(seed);
+
+        Path dir = Path.of(recordDir);
+        if (!Files.isDirectory(dir)) {
+            log.warn("[LLM Replay] 녹화 디렉터리가 없어 합성 응답만 사용합니다. dir={}", dir);
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(f -> f.toString().endsWith(".json"))
+                    .sorted()
+                    .forEach(this::loadOne);
+        } catch (IOException e) {
+            log.warn("[LLM Replay] 녹화 디렉터리 읽기 실패: {}", e.getMessage(), e);
+        }
+        log.info("[LLM Replay] 녹화본 로드 완료. single={}, batch={}", singles.size(), batches.size());
+    }
+
+    private void loadOne(Path file) {
+        try {
+            LlmRecording recording = objectMapper.readValue(file.toFile(), LlmRecording.class);
+            byKey.put(recording.key(), recording);
+            if (LlmRecording.KIND_BATCH.equals(recording.kind())) {
+                batches.add(recording);
+            } else {
+                singles.add(recording);
+            }
+        } catch (IOException e) {
+            log.warn("[LLM Replay] 녹화본 파싱 실패: file={}, err={}", file, e.getMessage());
+        }
+    }
+
+    @Override
+    public String generate(String prompt) {
+        String kind = LlmRecording.kindOf(prompt);
+        LlmRecording recording = pick(kind, prompt);
+        simulate(recording);
+
+        String response = LlmRecording.KIND_BATCH.equals(kind)
+                ? batchResponse(prompt, recording)
+                : singleResponse(recording);
+
+        // 원문을 잘라 깨진 JSON 을 돌려주면 GeminiClient 파싱이 실패하고 StageAnalysisService 폴백을 탄다
+        if (LlmRecording.KIND_BATCH.equals(kind) && chance(malformedRate)) {
+            return response.substring(0, response.length() / 2);
+        }
+        return response;
+    }
+
+    @Override
+    public String generateStream(String prompt, Consumer<String> onChunk) {
+        String response = generate(prompt);
+        for (int i = 0; i < response.length(); i += STREAM_CHUNK_CHARS) {
+            onChunk.accept(response.substring(i, Math.min(response.length(), i + STREAM_CHUNK_CHARS)));
+        }
+        return response;
+    }
+
+    private String singleResponse(LlmRecording recording) {
+        if (recording != null && recording.response() != null) {
+            return recording.response();
+        }
+        return write(new AnalysisResult(SYNTHETIC_SUMMARY, SYNTHETIC_SOLUTION, SYNTHETIC_TYPE));
+    }
+
+    /**
+     * 같은 프롬프트의 녹화본이면 원문 그대로, 아니면 녹화된 배치 결과를 요청된 orderIndex 에 맞춰 다시 매핑한다.
+     */
+    private String batchResponse(String prompt, LlmRecording recording) {
+        if (recording != null && recording.response() != null
+                && recording.key().equals(RecordingLlmTransport.keyOf(LlmRecording.KIND_BATCH, prompt))) {
+            return recording.response();
+        }
+
+        List<StageAnalysisResult> templates = recording != null ? parseBatch(recording.response()) : List.of();
+
+        List<StageAnalysisResult> results = new ArrayList<>();
+        Matcher m = ORDER_INDEX.matcher(prompt);
+        for (int i = 0; m.find(); i++) {
+            StageAnalysisResult template = templates.isEmpty() ? null : templates.get(i % templates.size());
+            results.add(new StageAnalysisResult(Long.parseLong(m.group(1)),
+                    template != null ? template.summary() : SYNTHETIC_SUMMARY,
+                    template != null ? template.solution() : SYNTHETIC_SOLUTION,
+                    template != null ? template.type() : SYNTHETIC_TYPE));
+        }
+        return write(results);
+    }
+
+    /**
+     * 녹화 원문이 깨져 있으면(녹화 당시 모델이 형식을 어긴 경우) 템플릿 없이 합성 응답을 쓴다.
+     */
+    private List<StageAnalysisResult> parseBatch(String response) {
+        try {
+            List<StageAnalysisResult> parsed = objectMapper.readValue(
+                    GeminiClient.stripCodeFence(response),
+                    new TypeReference<List<StageAnalysisResult>>() {});
+            return parsed != null ? parsed.stream().filter(Objects::nonNull).toList() : List.of();
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 정확히 같은 프롬프트가 녹화돼 있으면 그것을, 아니면 프롬프트 해시로 결정적으로 하나를 고른다.
+     */
+    private LlmRecording pick(String kind, String prompt) {
+        LlmRecording exact = byKey.get(RecordingLlmTransport.keyOf(kind, prompt));
+        if (exact != null) {
+            return exact;
+        }
+        List<LlmRecording> pool = LlmRecording.KIND_BATCH.equals(kind) ? batches : singles;
+        if (pool.isEmpty()) {
+            return null;
+        }
+        return pool.get(Math.floorMod(prompt.hashCode(), pool.size()));
+    }
+
+    /**
+     * 설정된 분포대로 지연시키고, 실패 비율에 걸리면 예외를 던진다.
+     */
+    private void simulate(LlmRecording recording) {
+        long delay = nextLatency(recording);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (chance(failureRate)) {
+            throw new IllegalStateException("LLM 호출 실패: injected failure");
+        }
+    }
+
+    private long nextLatency(LlmRecording recording) {
+        long latency = switch (latencyDistribution.toLowerCase()) {
+            case "recorded" -> recording != null ? recording.latencyMs() : meanLatencyMs;
+            case "uniform" -> (long) (nextDouble() * 2 * meanLatencyMs);
+            case "lognormal" -> {
+                // 평균이 meanLatencyMs 가 되도록 mu 보정
+                double mu = Math.log(Math.max(1, meanLatencyMs)) - sigma * sigma / 2;
+                yield (long) Math.exp(mu + sigma * nextGaussian());
+            }
+            default -> meanLatencyMs;
+        };
+        return maxLatencyMs > 0 ? Math.min(latency, maxLatencyMs) : latency;
+    }
+
+    private boolean chance(double rate) {
+        return rate > 0 && nextDouble() < rate;
+    }
+
+    private synchronized double nextDouble() {
+        return random.nextDouble();
+    }
+
+    private synchronized double nextGaussian() {
+        return random.nextGaussian();
+    }
+}
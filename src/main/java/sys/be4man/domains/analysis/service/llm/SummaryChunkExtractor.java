@@ -0,0 +1,94 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.llm;
+
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 스트리밍 응답의 원문 JSON 조각에서 "summary" 필드 값만 골라 디코딩된 텍스트로 흘려보낸다.
+ * 원문 조각은 JSON 중간에서 끊기므로 그대로 보내면 클라이언트가 다시 이어 붙여 파싱해야 한다.
+ * - 키가 조각 경계에 걸쳐 있어도 찾도록 원문을 모아두고, 값 안의 이스케이프가 덜 도착했으면 다음 조각까지 기다린다.
+ * - 값의 닫는 따옴표 이후의 조각(solution/type)은 무시한다. 전체 결과는 파싱 후 result 이벤트로 전달된다.
+ * 스레드 안전하지 않으며 스트림 하나에 하나씩 만든다.
+ */
+class SummaryChunkExtractor implements Consumer<String> {
+
+    // 프롬프트 예시가 작은따옴표를 쓰므로 두 가지 모두 허용
+    private static final Pattern SUMMARY_START = Pattern.compile("\"summary\"\\s*:\\s*([\"'])");
+
+    private final Consumer<String> onText;
+    private final StringBuilder raw = new StringBuilder();
+
+    // 값이 시작된 원문 위치 (-1 이면 아직 키를 찾는 중)
+    private int cursor = -1;
+    private char quote;
+    private boolean done;
+
+    SummaryChunkExtractor(Consumer<String> onText) {
+        this.onText = onText;
+    }
+
+    @Override
+    public void accept(String chunk) {
+        if (done || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        raw.append(chunk);
+
+        if (cursor < 0) {
+            Matcher m = SUMMARY_START.matcher(raw);
+            if (!m.find()) {
+                return;
+            }
+            quote = m.group(1).charAt(0);
+            cursor = m.end();
+        }
+
+        StringBuilder text = new StringBuilder();
+        while (cursor < raw.length()) {
+            char c = raw.charAt(cursor);
+            if (c == quote) {
+                done = true;
+                break;
+            }
+            if (c != '\\') {
+                text.append(c);
+                cursor++;
+                continue;
+            }
+            // 이스케이프가 조각 경계에서 잘렸으면 다음 조각을 기다린다
+            if (cursor + 1 >= raw.length()) {
+                break;
+            }
+            char escaped = raw.charAt(cursor + 1);
+            if (escaped == 'u') {
+                if (cursor + 6 > raw.length()) {
+                    break;
+                }
+                String hex = raw.substring(cursor + 2, cursor + 6);
+                try {
+                    text.append((char) Integer.parseInt(hex, 16));
+                } catch (NumberFormatException e) {
+                    // 깨진 이스케이프는 원문 그대로 보여준다 (최종 파싱은 GeminiClient 가 판단)
+                    text.append("\\u").append(hex);
+                }
+                cursor += 6;
+                continue;
+            }
+            text.append(switch (escaped) {
+                case 'n' -> '\n';
+                case 't' -> '\t';
+                case 'r' -> '\r';
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                default -> escaped;
+            });
+            cursor += 2;
+        }
+
+        if (!text.isEmpty()) {
+            onText.accept(text.toString());
+        }
+    }
+}
@@ -0,0 +1,356 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.similarity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.analysis.event.StageRunAnalyzedEvent;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.analysis.repository.StageRunRepository;
+import sys.be4man.domains.analysis.repository.projection.FailedStageRow;
+
+/**
+ * 실패 스테이지 로그의 MinHash/LSH 인메모리 인덱스.
+ * - 기동 시 DB 의 실패 스테이지를 키셋 페이지 단위로 읽어 재구축한다.
+ * - 빌드 결과 저장이 커밋되면(BuildRunPersistedEvent) 해당 빌드의 실패 스테이지만 증분 추가한다.
+ * - 재분석이 커밋되면(StageRunAnalyzedEvent) 해당 스테이지 항목의 요약/해결책/유형을 갱신한다.
+ * - 재구축은 새 인덱스를 따로 만든 뒤 한 번에 교체하므로, 재구축 중에도 기존 인덱스로 검색된다.
+ * - 항목당 메모리는 고정 크기 시그니처(int[128]) + 길이 제한된 요약/해결책으로 제한되며,
+ *   전체 항목 수가 maxEntries 를 넘으면 가장 오래된 항목부터 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FailureSimilarityIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final int MAX_TEXT_CHARS = 500;
+
+    private final StageRunRepository stageRunRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 세 필드는 lock 으로 보호된다
+    private Shard current = new Shard();
+    // 재구축 중이면 증분 색인 항목을 새 인덱스에도 반영하기 위해 모아둔다
+    private List<Entry> pendingDuringRebuild;
+    private boolean rebuilding;
+
+    @Value("${analysis.similarity.max-entries:100000}")
+    private int maxEntries;
+
+    // 이 값보다 유사도가 낮은 후보는 결과에서 제외
+    @Value("${analysis.similarity.min-similarity:0.3}")
+    private double minSimilarity;
+
+    /** 인덱스 항목 (시그니처 + 화면 표시에 필요한 최소 메타데이터) */
+    public record Entry(Long stageRunId, Long buildRunId, Long deploymentId, Long projectId,
+                        String projectName, String stageName, String problemSummary,
+                        String problemSolution, ProblemType problemType, LocalDateTime failedAt,
+                        int[] signature) {}
+
+    /** 검색 결과 한 건 */
+    public record Match(Entry entry, double similarity) {}
+
+    @Async("webhookTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * DB 의 실패 스테이지 전체로 새 인덱스를 만든 뒤 기존 인덱스와 교체한다. 로그는 페이지 단위로만 메모리에 올린다.
+     * - 만드는 동안 검색/증분 색인은 기존 인덱스로 계속 처리되고, 그 사이 증분 색인된 항목은 교체 직전 새 인덱스에 다시 반영한다.
+     * - 재구축이 실패하면 기존 인덱스를 그대로 둔다.
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                log.info("[SimilarityIndex] 이미 재구축 중이라 요청을 건너뜁니다.");
+                return;
+            }
+            rebuilding = true;
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Shard next = new Shard();
+        Long lastId = null;
+        int indexed = 0;
+        try {
+            while (true) {
+                List<FailedStageRow> page =
+                        stageRunRepository.findFailedStageRowsAfter(lastId, REBUILD_PAGE_SIZE);
+                if (page.isEmpty()) {
+                    break;
+                }
+                for (FailedStageRow row : page) {
+                    Entry entry = toEntry(row);
+                    if (entry != null) {
+                        next.put(entry, maxEntries);
+                        indexed++;
+                    }
+                }
+                lastId = page.get(page.size() - 1).stageRunId();
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (Entry entry : pendingDuringRebuild) {
+                    next.put(entry, maxEntries);
+                }
+                current = next;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("[SimilarityIndex] 재구축 완료. indexed={}, elapsedMs={}", indexed,
+                    System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("[SimilarityIndex] 재구축 실패, 기존 인덱스를 유지합니다: {}", e.getMessage(), e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 빌드 결과와 분석 결과가 커밋된 뒤 해당 빌드의 실패 스테이지를 추가한다.
+     */
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBuildRunPersisted(BuildRunPersistedEvent event) {
+        try {
+            for (FailedStageRow row :
+                    stageRunRepository.findFailedStageRowsByBuildRunId(event.buildRunId())) {
+                add(row);
+            }
+        } catch (Exception e) {
+            log.warn("[SimilarityIndex] buildRunId={} 증분 색인 실패: {}", event.buildRunId(),
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 스트리밍 재분석 등으로 요약/해결책/유형이 바뀌면 색인 항목도 갱신한다.
+     * 색인에 없는 스테이지(시그니처 없음, 제거됨)는 건너뛴다.
+     */
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStageRunAnalyzed(StageRunAnalyzedEvent event) {
+        try {
+            stageRunRepository.findFailedStageRowsByBuildRunId(event.buildRunId()).stream()
+                    .filter(row -> row.stageRunId().equals(event.stageRunId()))
+                    .findFirst()
+                    .ifPresent(this::updateAnalysis);
+        } catch (Exception e) {
+            log.warn("[SimilarityIndex] stageRunId={} 분석 결과 갱신 실패: {}", event.stageRunId(),
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 실패 스테이지 한 건을 색인한다. 시그니처를 만들 수 없으면 false.
+     */
+    public boolean add(FailedStageRow row) {
+        Entry entry = toEntry(row);
+        if (entry == null) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            current.put(entry, maxEntries);
+            if (rebuilding) {
+                pendingDuringRebuild.add(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    /**
+     * 이미 색인된 항목의 요약/해결책/유형만 바꾼다. 시그니처와 색인 순서는 유지한다.
+     */
+    public boolean updateAnalysis(FailedStageRow row) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = current.entries.get(row.stageRunId());
+            if (previous == null) {
+                return false;
+            }
+            Entry updated = new Entry(previous.stageRunId(), previous.buildRunId(),
+                    previous.deploymentId(), previous.projectId(), previous.projectName(),
+                    previous.stageName(), cut(row.problemSummary()), cut(row.problemSolution()),
+                    row.problemType(), previous.failedAt(), previous.signature());
+            current.entries.put(updated.stageRunId(), updated);
+            if (rebuilding) {
+                pendingDuringRebuild.add(updated);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Entry get(Long stageRunId) {
+        lock.readLock().lock();
+        try {
+            return current.entries.get(stageRunId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준 실패보다 먼저 발생한 실패 중 가장 유사한 limit 건을 찾는다.
+     * 같은 빌드의 다른 스테이지는 제외한다.
+     */
+    public List<Match> findSimilar(Entry query, int limit) {
+        Set<Long> candidates = new HashSet<>();
+        List<Match> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Shard shard = current;
+            for (long key : MinHasher.bandKeys(query.signature())) {
+                List<Long> bucket = shard.buckets.get(key);
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+
+            for (Long id : candidates) {
+                Entry candidate = shard.entries.get(id);
+                if (candidate == null || id.equals(query.stageRunId())
+                        || candidate.buildRunId().equals(query.buildRunId())) {
+                    continue;
+                }
+                if (query.failedAt() != null && candidate.failedAt() != null
+                        && candidate.failedAt().isAfter(query.failedAt())) {
+                    continue;
+                }
+                double similarity = MinHasher.similarity(query.signature(), candidate.signature());
+                if (similarity >= minSimilarity) {
+                    matches.add(new Match(candidate, similarity));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed());
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    /**
+     * 색인에 없는 스테이지를 질의할 때 사용할 임시 항목을 만든다.
+     */
+    public static Entry toQuery(FailedStageRow row) {
+        int[] signature = MinHasher.signature(row.log());
+        if (signature == null) {
+            return null;
+        }
+        return new Entry(row.stageRunId(), row.buildRunId(), row.deploymentId(), row.projectId(),
+                row.projectName(), row.stageName(), null, null, row.problemType(), row.failedAt(),
+                signature);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Entry toEntry(FailedStageRow row) {
+        int[] signature = MinHasher.signature(row.log());
+        if (signature == null) {
+            return null;
+        }
+        return new Entry(row.stageRunId(), row.buildRunId(), row.deploymentId(),
+                row.projectId(), row.projectName(), row.stageName(),
+                cut(row.problemSummary()), cut(row.problemSolution()), row.problemType(),
+                row.failedAt(), signature);
+    }
+
+    /**
+     * 항목과 LSH 버킷 한 벌. 재구축은 새 Shard 를 만들어 통째로 교체한다.
+     * 공유 Shard(current)는 lock 안에서만 접근한다.
+     */
+    private static final class Shard {
+
+        private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>();
+        private final Map<Long, List<Long>> buckets = new HashMap<>();
+
+        private void put(Entry entry, int maxEntries) {
+            Entry previous = entries.remove(entry.stageRunId());
+            if (previous != null) {
+                unlinkBuckets(previous);
+            }
+            entries.put(entry.stageRunId(), entry);
+            for (long key : MinHasher.bandKeys(entry.signature())) {
+                buckets.computeIfAbsent(key, k -> new ArrayList<>(2)).add(entry.stageRunId());
+            }
+            evictIfNeeded(maxEntries);
+        }
+
+        private void evictIfNeeded(int maxEntries) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (entries.size() > maxEntries && it.hasNext()) {
+                Entry eldest = it.next();
+                it.remove();
+                unlinkBuckets(eldest);
+            }
+        }
+
+        private void unlinkBuckets(Entry entry) {
+            for (long key : MinHasher.bandKeys(entry.signature())) {
+                List<Long> bucket = buckets.get(key);
+                if (bucket == null) {
+                    continue;
+                }
+                bucket.remove(entry.stageRunId());
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private static String cut(String text) {
+        if (text == null || text.length() <= MAX_TEXT_CHARS) {
+            return text;
+        }
+        return text.substring(0, MAX_TEXT_CHARS) + "...";
+    }
+}
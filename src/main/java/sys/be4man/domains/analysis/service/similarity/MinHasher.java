@@ -0,0 +1,171 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 실패 로그 → MinHash 시그니처 변환기.
+ * - 로그에서 오류 주변 구간(failure window)만 잘라 숫자/해시/경로 등 가변 값을 치환한다.
+ * - 토큰 SHINGLE_SIZE-gram 을 64bit 해시로 만든 뒤, NUM_HASHES 개의 해시 함수로 최소값을 구한다.
+ * - 시그니처는 LSH 밴드(BANDS x ROWS)로 나누어 후보 검색에 사용한다.
+ */
+public final class MinHasher {
+
+    public static final int NUM_HASHES = 128;
+    public static final int BANDS = 32;
+    public static final int ROWS = NUM_HASHES / BANDS;
+
+    private static final int SHINGLE_SIZE = 4;
+    private static final int CONTEXT_LINES = 3;
+    private static final int MAX_WINDOW_LINES = 60;
+    private static final int MAX_WINDOW_CHARS = 8_000;
+
+    private static final Pattern ERROR_LINE = Pattern.compile(
+            "(?i)(error|exception|failed|failure|fatal|denied|refused|exit code)");
+    private static final Pattern TIMESTAMP = Pattern.compile(
+            "\\d{4}-\\d{2}-\\d{2}[t ]\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?z?");
+    private static final Pattern UUID = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+    private static final Pattern HEX = Pattern.compile("\\b[0-9a-f]{7,}\\b");
+    private static final Pattern PATH = Pattern.compile("(/[\\w.\\-]+){2,}");
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final Pattern SPLIT = Pattern.compile("[^a-z_#]+");
+
+    private static final long[] SEEDS = new long[NUM_HASHES];
+
+    static {
+        long x = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            x = mix(x + i);
+            SEEDS[i] = x;
+        }
+    }
+
+    private MinHasher() {}
+
+    /**
+     * 로그의 MinHash 시그니처. 토큰이 너무 적어 시그니처를 만들 수 없으면 null.
+     */
+    public static int[] signature(String log) {
+        long[] shingles = shingles(failureWindow(log));
+        if (shingles.length == 0) {
+            return null;
+        }
+
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int h = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 두 시그니처의 일치 비율 (= Jaccard 유사도 추정치)
+     */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / NUM_HASHES;
+    }
+
+    /**
+     * 밴드별 버킷 키. 밴드 번호를 섞어 서로 다른 밴드끼리 충돌하지 않게 한다.
+     */
+    public static long[] bandKeys(int[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long h = band * 0x100000001B3L;
+            for (int r = 0; r < ROWS; r++) {
+                h = mix(h ^ signature[band * ROWS + r]);
+            }
+            keys[band] = h;
+        }
+        return keys;
+    }
+
+    /**
+     * 오류 키워드가 있는 줄과 그 주변만 남긴다. 키워드가 없으면 마지막 줄들을 사용한다.
+     */
+    static String failureWindow(String log) {
+        if (log == null || log.isBlank()) {
+            return "";
+        }
+        String[] lines = log.split("\\R");
+        boolean[] keep = new boolean[lines.length];
+        int kept = 0;
+        for (int i = lines.length - 1; i >= 0 && kept < MAX_WINDOW_LINES; i--) {
+            if (ERROR_LINE.matcher(lines[i]).find()) {
+                for (int j = Math.max(0, i - CONTEXT_LINES);
+                        j <= Math.min(lines.length - 1, i + CONTEXT_LINES); j++) {
+                    if (!keep[j]) {
+                        keep[j] = true;
+                        kept++;
+                    }
+                }
+            }
+        }
+        if (kept == 0) {
+            for (int i = Math.max(0, lines.length - MAX_WINDOW_LINES); i < lines.length; i++) {
+                keep[i] = true;
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines.length && sb.length() < MAX_WINDOW_CHARS; i++) {
+            if (keep[i]) {
+                sb.append(lines[i]).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static long[] shingles(String window) {
+        String s = window.toLowerCase();
+        s = TIMESTAMP.matcher(s).replaceAll(" #ts ");
+        s = UUID.matcher(s).replaceAll(" #uuid ");
+        s = HEX.matcher(s).replaceAll(" #hex ");
+        s = PATH.matcher(s).replaceAll(" #path ");
+        s = NUMBER.matcher(s).replaceAll(" #num ");
+
+        List<String> tokens = new ArrayList<>();
+        for (String t : SPLIT.split(s)) {
+            if (t.length() >= 2) {
+                tokens.add(t);
+            }
+        }
+        if (tokens.isEmpty()) {
+            return new long[0];
+        }
+
+        int count = Math.max(1, tokens.size() - SHINGLE_SIZE + 1);
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            long h = 0xCBF29CE484222325L;
+            for (int j = i; j < Math.min(tokens.size(), i + SHINGLE_SIZE); j++) {
+                h = mix(h ^ tokens.get(j).hashCode());
+            }
+            result[i] = h;
+        }
+        return result;
+    }
+
+    /** splitmix64 finalizer */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,8 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.approval.event;
+
+/**
+ * 결재 문서(승인 라인 포함)가 생성/상신/승인/반려/취소/수정/삭제되었음을 알리는 이벤트
+ * deploymentId 는 배포와 연결되지 않은 문서면 null.
+ */
+public record ApprovalChangedEvent(Long approvalId, Long deploymentId) {}
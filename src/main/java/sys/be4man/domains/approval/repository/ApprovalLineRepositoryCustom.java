@@ -1,8 +1,11 @@
 // 작성자 : 이원석
 package sys.be4man.domains.approval.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import sys.be4man.domains.approval.model.entity.ApprovalLine;
+import sys.be4man.domains.approval.repository.projection.RejectionReasonRow;
 import sys.be4man.domains.deployment.model.entity.Deployment;
 
 public interface ApprovalLineRepositoryCustom {
@@ -65,5 +68,31 @@ public interface ApprovalLineRepositoryCustom {
      * @return 반려된 Deployment 목록
      */
     List<Deployment> findRejectedApprovalsByApproverId(Long accountId);
-}
 
+    /**
+     * 반려 사유 일괄 조회 (알림 목록의 deployment 별 반려 사유)
+     * - 주어진 deployment 들의 approval 중 반려된 approval_line (is_approved = false)
+     * - 최근 approval 순, 같은 approval 안에서는 라인 순서대로 정렬 (deployment 별 첫 행이 표시할 사유)
+     *
+     * @param deploymentIds Deployment ID 목록
+     * @return 반려 사유 행 목록
+     */
+    List<RejectionReasonRow> findRejectionReasonsByDeploymentIds(Collection<Long> deploymentIds);
+
+    /**
+     * Deployment 의 approval 에서 승인한(is_approved = true) 계정 ID 목록 (중복 제거)
+     *
+     * @param deploymentId Deployment ID
+     * @return 승인한 계정 ID 목록
+     */
+    List<Long> findApprovedAccountIdsByDeploymentId(Long deploymentId);
+
+    /**
+     * Deployment 관련 계정 ID 목록 (요청자 + approval 기안자 + 승인 라인 계정, 중복 제거)
+     * - 대시보드 실시간 변경분 수신자
+     *
+     * @param deploymentId Deployment ID
+     * @return 관련 계정 ID 목록
+     */
+    Set<Long> findParticipantAccountIdsByDeploymentId(Long deploymentId);
+}
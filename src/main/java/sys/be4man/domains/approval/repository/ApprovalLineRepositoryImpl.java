@@ -8,13 +8,19 @@ import static sys.be4man.domains.deployment.model.entity.QDeployment.deployment;
 import static sys.be4man.domains.project.model.entity.QProject.project;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import sys.be4man.domains.approval.model.entity.ApprovalLine;
 import sys.be4man.domains.approval.model.entity.QApprovalLine;
 import sys.be4man.domains.approval.model.type.ApprovalStatus;
+import sys.be4man.domains.approval.repository.projection.RejectionReasonRow;
 import sys.be4man.domains.deployment.model.entity.Deployment;
 import sys.be4man.domains.deployment.model.type.DeploymentStage;
 import sys.be4man.domains.deployment.model.type.DeploymentStatus;
@@ -152,5 +158,68 @@ public class ApprovalLineRepositoryImpl implements ApprovalLineRepositoryCustom
                 .distinct()
                 .fetch();
     }
-}
 
+    @Override
+    public List<RejectionReasonRow> findRejectionReasonsByDeploymentIds(
+            Collection<Long> deploymentIds) {
+        if (deploymentIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .select(Projections.constructor(RejectionReasonRow.class,
+                        approval.deployment.id,
+                        approval.id,
+                        approvalLine.comment
+                ))
+                .from(approvalLine)
+                .innerJoin(approvalLine.approval, approval)
+                .where(
+                        approval.deployment.id.in(deploymentIds)
+                                .and(approvalLine.isApproved.eq(false))
+                )
+                .orderBy(approval.id.desc(), approvalLine.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findApprovedAccountIdsByDeploymentId(Long deploymentId) {
+        return queryFactory
+                .select(approvalLine.account.id)
+                .from(approvalLine)
+                .innerJoin(approvalLine.approval, approval)
+                .where(
+                        approval.deployment.id.eq(deploymentId)
+                                .and(approvalLine.isApproved.eq(true))
+                                .and(approval.isDeleted.eq(false))
+                )
+                .distinct()
+                .fetch();
+    }
+
+    @Override
+    public Set<Long> findParticipantAccountIdsByDeploymentId(Long deploymentId) {
+        Set<Long> accountIds = new LinkedHashSet<>();
+        Long issuerId = queryFactory
+                .select(deployment.issuer.id)
+                .from(deployment)
+                .where(deployment.id.eq(deploymentId))
+                .fetchOne();
+        if (issuerId != null) {
+            accountIds.add(issuerId);
+        }
+        for (Tuple row : queryFactory
+                .select(approval.account.id, approvalLine.account.id)
+                .from(approvalLine)
+                .innerJoin(approvalLine.approval, approval)
+                .where(
+                        approval.deployment.id.eq(deploymentId)
+                                .and(approval.isDeleted.eq(false))
+                )
+                .fetch()) {
+            accountIds.add(row.get(approval.account.id));
+            accountIds.add(row.get(approvalLine.account.id));
+        }
+        accountIds.remove(null);
+        return accountIds;
+    }
+}
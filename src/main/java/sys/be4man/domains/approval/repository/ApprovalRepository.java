@@ -1,6 +1,7 @@
 // 작성자 : 허겸, 이원석
 package sys.be4man.domains.approval.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -52,8 +53,46 @@ public interface ApprovalRepository extends JpaRepository<Approval, Long>, Appro
 
     List<Approval> findByDeploymentIdAndTypeAndIsDeletedFalse(Long id, ApprovalType approvalType);
 
+    /**
+     * 여러 Deployment 의 해당 타입 결재 (생성 순)
+     */
+    List<Approval> findByDeploymentIdInAndTypeAndIsDeletedFalseOrderByCreatedAtAscIdAsc(
+            Collection<Long> deploymentIds, ApprovalType approvalType);
+
+    /**
+     * 여러 Deployment 의 결재를 결재 라인과 함께 조회 (작업 관리 목록 일괄 조회용)
+     */
+    @Query("""
+        select distinct a
+        from Approval a
+        left join fetch a.approvalLines
+        where a.deployment.id in :deploymentIds
+          and a.type in :types
+          and a.isDeleted = false
+        order by a.id asc
+        """)
+    List<Approval> findWithLinesByDeploymentIdsAndTypes(
+            @Param("deploymentIds") Collection<Long> deploymentIds,
+            @Param("types") Collection<ApprovalType> types
+    );
+
     /**
      * Deployment ID로 Approval 조회
      */
     List<Approval> findByDeploymentId(Long deploymentId);
+
+    /**
+     * 주어진 Deployment 중 해당 타입의 결재가 있는 Deployment ID (배포 프로세스 보정용)
+     */
+    @Query("""
+        select distinct a.deployment.id
+        from Approval a
+        where a.deployment.id in :deploymentIds
+          and a.type in :types
+          and a.isDeleted = false
+        """)
+    List<Long> findDeploymentIdsHavingTypes(
+            @Param("deploymentIds") Collection<Long> deploymentIds,
+            @Param("types") Collection<ApprovalType> types
+    );
 }
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import sys.be4man.domains.approval.model.entity.Approval;
 import sys.be4man.domains.approval.model.type.ApprovalType;
 import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.global.util.KeysetCursor;
 import sys.be4man.domains.taskmanagement.dto.TaskManagementSearchDto;
 
 public interface ApprovalRepositoryCustom {
@@ -51,4 +52,14 @@ public interface ApprovalRepositoryCustom {
      * @return 총 개수
      */
     long countRollbackDeployments();
-}
\ No newline at end of file
+
+    /**
+     * 복구현황 목록 keyset 조회 - ROLLBACK 타입 Approval 이 있는 Deployment - 정렬: deployment.createdAt DESC, id DESC
+     * - count 없이 cursor 위치부터 limit 건만 읽는다
+     *
+     * @param cursor 이전 페이지 마지막 행의 (createdAt, id). null 이면 첫 페이지
+     * @param limit  조회 건수 (다음 페이지 판단용 1건 포함)
+     * @return 복구현황 Deployment 목록
+     */
+    List<Deployment> findRollbackDeployments(KeysetCursor cursor, int limit);
+}
@@ -3,6 +3,7 @@ package sys.be4man.domains.approval.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +16,7 @@ import sys.be4man.domains.approval.model.type.ApprovalStatus;
 import sys.be4man.domains.approval.model.type.ApprovalType;
 import sys.be4man.domains.deployment.model.entity.Deployment;
 import sys.be4man.domains.taskmanagement.dto.TaskManagementSearchDto;
+import sys.be4man.global.util.KeysetCursor;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -195,6 +197,39 @@ public class ApprovalRepositoryImpl implements ApprovalRepositoryCustom {
                 .fetch();
     }
 
+    /**
+     * 복구현황 목록 keyset 조회
+     * - ROLLBACK approval 은 exists 로 걸러 조인 중복/distinct 없이 (created_at, id) 순서로 limit 건만 읽는다
+     */
+    @Override
+    public List<Deployment> findRollbackDeployments(KeysetCursor cursor, int limit) {
+        log.debug("복구현황 keyset 조회 - cursor: {}, limit: {}", cursor, limit);
+
+        BooleanBuilder builder = new BooleanBuilder()
+                .and(deployment.isDeleted.eq(false))
+                .and(JPAExpressions.selectOne()
+                        .from(approval)
+                        .where(
+                                approval.deployment.id.eq(deployment.id)
+                                        .and(approval.type.eq(ApprovalType.ROLLBACK))
+                                        .and(approval.isDeleted.eq(false))
+                        )
+                        .exists());
+        if (cursor != null) {
+            builder.and(deployment.createdAt.lt(cursor.at())
+                    .or(deployment.createdAt.eq(cursor.at()).and(deployment.id.lt(cursor.id()))));
+        }
+
+        return queryFactory
+                .selectFrom(deployment)
+                .innerJoin(deployment.project, project).fetchJoin()
+                .innerJoin(deployment.issuer, account).fetchJoin()
+                .where(builder)
+                .orderBy(deployment.createdAt.desc(), deployment.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     /**
      * 복구현황 목록 총 개수 조회
      */
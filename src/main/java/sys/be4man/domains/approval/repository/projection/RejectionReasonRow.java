@@ -0,0 +1,11 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.approval.repository.projection;
+
+/**
+ * 반려 알림용 반려 사유 행 (반려된 approval_line 의 comment)
+ */
+public record RejectionReasonRow(
+        Long deploymentId,
+        Long approvalId,
+        String comment
+) {}
@@ -13,6 +13,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sys.be4man.domains.account.model.entity.Account;
@@ -22,6 +23,7 @@ import sys.be4man.domains.approval.dto.request.ApprovalDecisionRequest;
 import sys.be4man.domains.approval.dto.request.ApprovalUpdateRequest;
 import sys.be4man.domains.approval.dto.response.ApprovalDetailResponse;
 import sys.be4man.domains.approval.dto.response.ApprovalSummaryResponse;
+import sys.be4man.domains.approval.event.ApprovalChangedEvent;
 import sys.be4man.domains.approval.model.entity.Approval;
 import sys.be4man.domains.approval.model.entity.ApprovalLine;
 import sys.be4man.domains.approval.model.type.ApprovalLineType;
@@ -30,10 +32,14 @@ import sys.be4man.domains.approval.repository.ApprovalLineRepository;
 import sys.be4man.domains.approval.repository.ApprovalRepository;
 import sys.be4man.domains.deployment.dto.request.DeploymentCreateRequest;
 import sys.be4man.domains.deployment.dto.response.DeploymentResponse;
+import sys.be4man.domains.deployment.event.DeploymentCanceledEvent;
+import sys.be4man.domains.deployment.event.DeploymentRejectedEvent;
+import sys.be4man.domains.deployment.event.DeploymentStatusChangedEvent;
 import sys.be4man.domains.deployment.model.entity.Deployment;
 import sys.be4man.domains.deployment.model.type.DeploymentStage;
 import sys.be4man.domains.deployment.model.type.DeploymentStatus;
 import sys.be4man.domains.deployment.repository.DeploymentRepository;
+import sys.be4man.domains.deployment.service.DeploymentProcessAssigner;
 import sys.be4man.domains.deployment.service.DeploymentScheduler;
 import sys.be4man.domains.deployment.service.DeploymentService;
 import sys.be4man.domains.project.model.entity.Project;
@@ -55,6 +61,8 @@ public class ApprovalServiceImpl implements ApprovalService {
     private final ProjectRepository projectRepository;
     private final RelatedProjectRepository relatedProjectRepository;
     private final DeploymentScheduler deploymentScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DeploymentProcessAssigner deploymentProcessAssigner;
 
     @Override
     @Transactional(readOnly = true)
@@ -78,6 +86,7 @@ public class ApprovalServiceImpl implements ApprovalService {
         Approval approval = createApprovalEntity(request, ApprovalStatus.DRAFT, false);
         approvalRepository.save(approval);
         createLines(request, approval);
+        publishChanged(approval);
         approval.updateNextApprover(resolveInitialNextApprover(approval));
         if (approval.getDeployment() != null) {
             parseScheduleFromContent(approval.getContent()).ifPresent(s -> approval.getDeployment().updateSchedule(s.start, s.end));
@@ -88,6 +97,7 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Override
     public void submit(Long approvalId) {
         Approval approval = getApprovalOrThrow(approvalId);
+        publishChanged(approval);
         if (approval.getDeployment() != null) {
             parseScheduleFromContent(approval.getContent()).ifPresent(s -> approval.getDeployment().updateSchedule(s.start, s.end));
         }
@@ -128,6 +138,7 @@ public class ApprovalServiceImpl implements ApprovalService {
         Approval approval = createApprovalEntity(request, ApprovalStatus.PENDING, false);
         approvalRepository.save(approval);
         createLines(request, approval);
+        publishChanged(approval);
         Account drafter = approval.getAccount();
         LocalDateTime createdAt = approval.getCreatedAt();
         approval.getApprovalLines().stream()
@@ -148,6 +159,7 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Override
     public void approve(Long approvalId, ApprovalDecisionRequest request) {
         Approval approval = getApprovalOrThrow(approvalId);
+        publishChanged(approval);
         ApprovalLine line = updateOrCreateLineComment(approval, request);
         line.approve();
         approvalLineRepository.save(line);
@@ -207,6 +219,7 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Override
     public void reject(Long approvalId, ApprovalDecisionRequest request) {
         Approval approval = getApprovalOrThrow(approvalId);
+        publishChanged(approval);
         ApprovalLine line = updateOrCreateLineComment(approval, request);
         line.reject();
         approvalLineRepository.save(line);
@@ -218,12 +231,14 @@ public class ApprovalServiceImpl implements ApprovalService {
         if (d != null) {
             d.updateStatus(DeploymentStatus.REJECTED);
             deploymentScheduler.cancelAll(d.getId());
+            eventPublisher.publishEvent(new DeploymentRejectedEvent(d.getId(), line.getComment()));
         }
     }
 
     @Override
     public void cancel(Long approvalId, ApprovalDecisionRequest request) {
         Approval approval = getApprovalOrThrow(approvalId);
+        publishChanged(approval);
         LocalDateTime now = LocalDateTime.now();
         approval.updateApprovedAt(now);
         approval.updateNextApprover(null);
@@ -233,12 +248,16 @@ public class ApprovalServiceImpl implements ApprovalService {
         if (d != null) {
             d.updateStatus(DeploymentStatus.CANCELED);
             deploymentScheduler.cancelAll(d.getId());
+            eventPublisher.publishEvent(new DeploymentCanceledEvent(d.getId(),
+                    request != null && request.getComment() != null
+                            ? request.getComment() : "결재가 취소되었습니다."));
         }
     }
 
     @Override
     public void delete(Long approvalId) {
         Approval approval = getApprovalOrThrow(approvalId);
+        publishChanged(approval);
         if (approval.getStatus() != ApprovalStatus.DRAFT) throw new IllegalStateException("임시저장 문서만 삭제할 수 있습니다.");
         approvalLineRepository.deleteByApprovalId(approvalId);
         approvalRepository.delete(approval);
@@ -247,6 +266,7 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Override
     public void update(Long approvalId, ApprovalUpdateRequest request) {
         Approval approval = getApprovalOrThrow(approvalId);
+        publishChanged(approval);
         if (approval.getStatus() == ApprovalStatus.APPROVED
                 || approval.getStatus() == ApprovalStatus.REJECTED
                 || approval.getStatus() == ApprovalStatus.CANCELED) {
@@ -282,6 +302,15 @@ public class ApprovalServiceImpl implements ApprovalService {
         }
     }
 
+    /**
+     * 커밋 후 대시보드 캐시 무효화/실시간 알림용 변경 이벤트 (롤백되면 전달되지 않음)
+     */
+    private void publishChanged(Approval approval) {
+        Deployment d = approval.getDeployment();
+        eventPublisher.publishEvent(new ApprovalChangedEvent(approval.getId(),
+                d != null ? d.getId() : null));
+    }
+
     private Approval getApprovalOrThrow(Long id) {
         return approvalRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("Approval not found. id=" + id));
     }
@@ -309,6 +338,7 @@ public class ApprovalServiceImpl implements ApprovalService {
 
             if (typeName != null && !"REPORT".equals(typeName)) {
                 deployment.updateStage(stageForDeployment);
+                deploymentProcessAssigner.onStageChanged(deployment);
             }
         } else {
             DeploymentCreateRequest req = DeploymentCreateRequest.builder()
@@ -640,6 +670,9 @@ public class ApprovalServiceImpl implements ApprovalService {
                     latest.updateStage(DeploymentStage.REPORT);
                     latest.updateStatus(DeploymentStatus.PENDING);
                     deploymentRepository.save(latest);
+                    // 결재 대상이 아닌 배포의 단계가 바뀌므로 따로 알린다 (상세 읽기 모델/대시보드 무효화)
+                    eventPublisher.publishEvent(new DeploymentStatusChangedEvent(
+                            latest.getId(), DeploymentStage.REPORT, DeploymentStatus.PENDING));
                     log.info("REPORT_SYNC done: prId={}, targetDepId={}", prId, latest.getId());
                 }, () -> {
                     log.info("REPORT_SYNC skipped: no COMPLETED deployment for prId={}", prId);
@@ -0,0 +1,7 @@
+// 작성자 : 이원석
+package sys.be4man.domains.ban.event;
+
+/**
+ * 작업 금지 기간이 등록/취소되었음을 알리는 이벤트
+ */
+public record BanChangedEvent(Long banId) {}
@@ -11,19 +11,25 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import sys.be4man.domains.auth.dto.AccountPrincipal;
+import sys.be4man.domains.dashboard.dto.response.BuildRegressionResponse;
+import sys.be4man.domains.dashboard.dto.response.DashboardSummaryResponse;
 import sys.be4man.domains.dashboard.dto.response.InProgressTaskResponse;
 import sys.be4man.domains.dashboard.dto.response.NotificationResponse;
 import sys.be4man.domains.dashboard.dto.response.PaginationResponse;
 import sys.be4man.domains.dashboard.dto.response.PendingApprovalResponse;
 import sys.be4man.domains.dashboard.dto.response.RecoveryResponse;
 import sys.be4man.domains.dashboard.service.DashboardService;
+import sys.be4man.domains.dashboard.service.DashboardStreamRelay;
+import sys.be4man.global.dto.response.CursorPageResponse;
 import sys.be4man.global.dto.response.ErrorResponse;
 
 /**
@@ -37,6 +43,37 @@ import sys.be4man.global.dto.response.ErrorResponse;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardStreamRelay dashboardStreamRelay;
+
+    /**
+     * 홈 화면 요약 조회
+     */
+    @Operation(summary = "홈 화면 요약 조회", description = "승인 대기, 진행중 업무, 알림, 복구현황 첫 페이지를 한 번에 조회합니다. 계정별로 캐시되며 결재/배포/빌드 변경 시 갱신됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = DashboardSummaryResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummaryResponse> getSummary(
+            @AuthenticationPrincipal AccountPrincipal principal
+    ) {
+        log.info("홈 화면 요약 조회 요청 - accountId: {}", principal.accountId());
+        return ResponseEntity.ok(dashboardService.getSummary(principal.accountId()));
+    }
+
+    /**
+     * 홈 화면 실시간 변경 구독 (SSE)
+     */
+    @Operation(summary = "홈 화면 실시간 변경 구독 (SSE)", description = "연결 후 결재/취소/반려/배포 상태/빌드 결과 변경을 delta 이벤트로 보냅니다. 클라이언트는 연결(재연결) 시 요약을 한 번 조회하고 이후 delta 로 목록을 갱신합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal AccountPrincipal principal) {
+        log.info("홈 화면 실시간 구독 요청 - accountId: {}", principal.accountId());
+        return dashboardStreamRelay.connect(principal.accountId());
+    }
 
     /**
      * 승인 대기 목록 조회
@@ -119,5 +156,47 @@ public class DashboardController {
         PaginationResponse<RecoveryResponse> response = dashboardService.getRecovery(page, pageSize);
         return ResponseEntity.ok(response);
     }
-}
 
+    /**
+     * 복구현황 목록 조회 (cursor)
+     */
+    @Operation(summary = "복구현황 목록 조회 (cursor)", description = "복구현황을 최신순으로 keyset 페이지 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다. 전체 건수는 withTotal=true 일 때만 포함됩니다. (size 최대 100)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 cursor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/recovery/feed")
+    public ResponseEntity<CursorPageResponse<RecoveryResponse>> getRecoveryFeed(
+            @AuthenticationPrincipal AccountPrincipal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        log.info("복구현황 cursor 조회 요청 - accountId: {}, size: {}", principal.accountId(), size);
+        return ResponseEntity.ok(dashboardService.getRecoveryFeed(cursor, size, withTotal));
+    }
+
+    /**
+     * 빌드 소요시간 회귀 알림 조회
+     */
+    @Operation(summary = "빌드 소요시간 회귀 알림 조회", description = "성공 빌드의 소요시간이 평소보다 지속적으로 늘어난 서비스 목록을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BuildRegressionResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/build-regressions")
+    public ResponseEntity<List<BuildRegressionResponse>> getBuildRegressions(
+            @AuthenticationPrincipal AccountPrincipal principal
+    ) {
+        log.info("빌드 소요시간 회귀 알림 조회 요청 - accountId: {}", principal.accountId());
+        return ResponseEntity.ok(dashboardService.getBuildRegressions());
+    }
+}
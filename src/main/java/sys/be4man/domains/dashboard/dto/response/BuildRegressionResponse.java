@@ -0,0 +1,24 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.dashboard.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 빌드 소요시간 회귀 알림 응답 DTO
+ *
+ * @param projectId       프로젝트 ID
+ * @param serviceName     서비스 이름 (project.name)
+ * @param baselineSeconds 평소 빌드 소요시간 (초)
+ * @param currentSeconds  최근 빌드 소요시간 (초)
+ * @param changeRate      증가율 (0.3 = 30% 느려짐)
+ * @param detectedAt      감지 시각 (감지된 빌드의 시작 시각)
+ */
+public record BuildRegressionResponse(
+        Long projectId,
+        String serviceName,
+        double baselineSeconds,
+        double currentSeconds,
+        double changeRate,
+        LocalDateTime detectedAt
+) {
+}
@@ -0,0 +1,39 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.dashboard.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 실시간 변경분 (/api/dashboard/stream 의 "delta" 이벤트 데이터)
+ * 클라이언트는 type 에 해당하는 목록만 갱신한다. 해당 없는 필드는 null.
+ *
+ * @param type         변경 종류
+ * @param approvalId   결재 ID (결재 변경)
+ * @param deploymentId 배포 작업 ID
+ * @param title        결재/배포 제목
+ * @param status       변경 후 결재 또는 배포 상태
+ * @param reason       취소/반려 사유
+ * @param serviceName  서비스(프로젝트) 이름
+ * @param occurredAt   변경 전송 시각
+ */
+public record DashboardDeltaResponse(
+        Type type,
+        Long approvalId,
+        Long deploymentId,
+        String title,
+        String status,
+        String reason,
+        String serviceName,
+        LocalDateTime occurredAt
+) {
+
+    public enum Type {
+        APPROVAL_PENDING,       // 내가 승인할 차례가 된 결재 (승인 대기 목록에 추가)
+        APPROVAL_DECIDED,       // 내가 참여한 결재의 승인/반려/취소/상신 (승인 대기, 진행중 업무 갱신)
+        DEPLOYMENT_CANCELED,    // 취소 알림 (작업 금지 기간 자동 취소 포함)
+        DEPLOYMENT_REJECTED,    // 반려 알림
+        BUILD_REGRESSION,       // 빌드 소요시간 회귀 감지/해제 알림 (status 가 알림 종류)
+        DEPLOYMENT_STATUS,      // 예약 시각 도래, 배포 결과 등으로 배포 단계/상태 변경
+        BUILD_FINISHED          // Jenkins 빌드 결과 저장 (복구현황 갱신)
+    }
+}
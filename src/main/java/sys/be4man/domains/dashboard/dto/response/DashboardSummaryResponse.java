@@ -0,0 +1,23 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.dashboard.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 홈 화면 요약 응답 DTO (승인 대기 + 진행중 업무 + 알림 + 복구현황 첫 페이지)
+ *
+ * @param pendingApprovals 승인 대기 목록
+ * @param inProgressTasks  진행중인 업무 목록
+ * @param notifications    알림 목록
+ * @param recovery         복구현황 첫 페이지
+ * @param errors           실패한 구간명 → 사유 (실패한 구간 값은 null, 비어 있지 않으면 캐시하지 않음)
+ */
+public record DashboardSummaryResponse(
+        List<PendingApprovalResponse> pendingApprovals,
+        List<InProgressTaskResponse> inProgressTasks,
+        List<NotificationResponse> notifications,
+        PaginationResponse<RecoveryResponse> recovery,
+        Map<String, String> errors
+) {
+}
@@ -2,11 +2,14 @@
 package sys.be4man.domains.dashboard.service;
 
 import java.util.List;
+import sys.be4man.domains.dashboard.dto.response.BuildRegressionResponse;
+import sys.be4man.domains.dashboard.dto.response.DashboardSummaryResponse;
 import sys.be4man.domains.dashboard.dto.response.InProgressTaskResponse;
 import sys.be4man.domains.dashboard.dto.response.NotificationResponse;
 import sys.be4man.domains.dashboard.dto.response.PaginationResponse;
 import sys.be4man.domains.dashboard.dto.response.PendingApprovalResponse;
 import sys.be4man.domains.dashboard.dto.response.RecoveryResponse;
+import sys.be4man.global.dto.response.CursorPageResponse;
 
 /**
  * 홈(Dashboard) 페이지 비즈니스 로직 인터페이스
@@ -45,5 +48,32 @@ public interface DashboardService {
      * @return 복구현황 목록과 페이지네이션 정보
      */
     PaginationResponse<RecoveryResponse> getRecovery(int page, int pageSize);
-}
 
+    /**
+     * 복구현황 목록 keyset 조회 (최신순)
+     * - 페이지 깊이와 무관하게 cursor 위치부터 size 건만 읽는다
+     *
+     * @param cursor    이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size      페이지 크기 (최대 100)
+     * @param withTotal 전체 건수 포함 여부 (true 일 때만 count 쿼리 실행)
+     * @return 복구현황 목록과 다음 cursor
+     */
+    CursorPageResponse<RecoveryResponse> getRecoveryFeed(String cursor, int size, boolean withTotal);
+
+    /**
+     * 빌드 소요시간 회귀 알림 조회
+     *
+     * @return 빌드가 지속적으로 느려지고 있는 서비스 목록 (증가율 큰 순)
+     */
+    List<BuildRegressionResponse> getBuildRegressions();
+
+    /**
+     * 홈 화면 요약 조회 (승인 대기 + 진행중 업무 + 알림 + 복구현황 첫 페이지)
+     * - 네 목록을 동시에 조회하고 관련 프로젝트 조회는 한 번만 수행
+     * - 계정별로 캐시되며 결재/배포/빌드 변경 시 무효화
+     *
+     * @param accountId 현재 사용자 Account ID
+     * @return 요약 응답 (실패한 목록은 null, errors 에 사유)
+     */
+    DashboardSummaryResponse getSummary(Long accountId);
+}
@@ -1,24 +1,37 @@
 // 작성자 : 이원석
 package sys.be4man.domains.dashboard.service;
 
+import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.Duration;
-import sys.be4man.domains.analysis.model.entity.BuildRun;
 import sys.be4man.domains.analysis.repository.BuildRunRepository;
+import sys.be4man.domains.analysis.repository.projection.BuildRunSpanRow;
 import sys.be4man.domains.approval.model.entity.Approval;
 import sys.be4man.domains.approval.model.entity.ApprovalLine;
 import sys.be4man.domains.approval.model.type.ApprovalType;
 import sys.be4man.domains.approval.repository.ApprovalLineRepository;
 import sys.be4man.domains.approval.repository.ApprovalRepository;
+import sys.be4man.domains.approval.repository.projection.RejectionReasonRow;
+import sys.be4man.domains.dashboard.dto.response.BuildRegressionResponse;
+import sys.be4man.domains.dashboard.dto.response.DashboardSummaryResponse;
 import sys.be4man.domains.dashboard.dto.response.DeploymentInfoResponse;
 import sys.be4man.domains.dashboard.dto.response.InProgressTaskResponse;
 import sys.be4man.domains.dashboard.dto.response.NotificationResponse;
@@ -31,6 +44,10 @@ import sys.be4man.domains.deployment.model.entity.Deployment;
 import sys.be4man.domains.project.model.entity.Project;
 import sys.be4man.domains.project.model.entity.RelatedProject;
 import sys.be4man.domains.project.repository.RelatedProjectRepository;
+import sys.be4man.domains.statistics.service.regression.BuildDurationRegressionDetector;
+import sys.be4man.global.dto.response.CursorPageResponse;
+import sys.be4man.global.util.KeysetCursor;
+import sys.be4man.global.util.ParallelSections;
 
 /**
  * 홈(Dashboard) 페이지 비즈니스 로직 구현체
@@ -44,12 +61,44 @@ public class DashboardServiceImpl implements DashboardService {
     private final ApprovalRepository approvalRepository;
     private final BuildRunRepository buildRunRepository;
     private final RelatedProjectRepository relatedProjectRepository;
+    private final BuildDurationRegressionDetector buildDurationRegressionDetector;
+    private final DashboardSummaryCache dashboardSummaryCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Qualifier("dashboardQueryExecutor")
+    private final Executor dashboardQueryExecutor;
+
+    // 요약 조회 시 복구현황은 홈 화면 기본 크기의 첫 페이지만 포함
+    private static final int SUMMARY_RECOVERY_PAGE_SIZE = 5;
+    static final int MAX_FEED_PAGE_SIZE = 100;
+
+    // 요약 조회 목록별 실행 제한 시간 (큐 대기 시간은 포함하지 않음)
+    @Value("${dashboard.summary.timeout-ms:3000}")
+    private long summaryTimeoutMs;
+
+    private ParallelSections sections;
+
+    @PostConstruct
+    void init() {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        readOnlyTx.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(summaryTimeoutMs)));
+        sections = new ParallelSections("[DashboardSummary]", dashboardQueryExecutor, readOnlyTx,
+                summaryTimeoutMs);
+    }
 
     @Override
     @Transactional(readOnly = true)
     public List<PendingApprovalResponse> getPendingApprovals(Long accountId) {
         log.info("승인 대기 목록 조회 - accountId: {}", accountId);
+        return pendingApprovals(accountId, this::buildProjectRelatedServicesMap);
+    }
 
+    /**
+     * 승인 대기 목록 조회 (관련 프로젝트 조회 방식 주입, 요약 조회에서는 미리 읽은 Map 공유)
+     */
+    List<PendingApprovalResponse> pendingApprovals(Long accountId,
+            Function<List<Long>, Map<Long, List<RelatedProject>>> relatedProjectsLookup) {
         List<ApprovalLine> approvalLines = approvalLineRepository.findPendingApprovalsByAccountId(accountId);
 
         if (approvalLines.isEmpty()) {
@@ -62,7 +111,7 @@ public class DashboardServiceImpl implements DashboardService {
                 .distinct()
                 .toList();
 
-        Map<Long, List<RelatedProject>> projectRelatedServicesMap = buildProjectRelatedServicesMap(projectIds);
+        Map<Long, List<RelatedProject>> projectRelatedServicesMap = relatedProjectsLookup.apply(projectIds);
 
         // 각 ApprovalLine에 대해 현재 승인 예정자 목록 조회 (is_approved = NULL인 approval_line의 account 이름들)
         Map<Long, List<String>> approvalCurrentApproversMap = buildApprovalCurrentApproversMap(
@@ -200,7 +249,14 @@ public class DashboardServiceImpl implements DashboardService {
     @Transactional(readOnly = true)
     public List<InProgressTaskResponse> getInProgressTasks(Long accountId) {
         log.info("진행중인 업무 목록 조회 - accountId: {}", accountId);
+        return inProgressTasks(accountId, this::buildProjectRelatedServicesMap);
+    }
 
+    /**
+     * 진행중인 업무 목록 조회 (관련 프로젝트 조회 방식 주입, 요약 조회에서는 미리 읽은 Map 공유)
+     */
+    List<InProgressTaskResponse> inProgressTasks(Long accountId,
+            Function<List<Long>, Map<Long, List<RelatedProject>>> relatedProjectsLookup) {
         List<Deployment> deployments = approvalLineRepository.findInProgressTasksByAccountId(accountId);
 
         if (deployments.isEmpty()) {
@@ -213,7 +269,7 @@ public class DashboardServiceImpl implements DashboardService {
                 .distinct()
                 .toList();
 
-        Map<Long, List<RelatedProject>> projectRelatedServicesMap = buildProjectRelatedServicesMap(projectIds);
+        Map<Long, List<RelatedProject>> projectRelatedServicesMap = relatedProjectsLookup.apply(projectIds);
 
         return deployments.stream()
                 .map(deployment -> {
@@ -350,47 +406,20 @@ public class DashboardServiceImpl implements DashboardService {
 
     /**
      * Deployment ID 목록에 대한 반려 사유 Map 생성
-     * (ApprovalLine에서 isApproved = false인 항목의 comment)
+     * (ApprovalLine에서 isApproved = false인 항목의 comment, 한 번의 쿼리로 조회)
      */
     private Map<Long, String> buildRejectionReasonMap(List<Long> deploymentIds) {
         if (deploymentIds.isEmpty()) {
             return Map.of();
         }
 
-        // Deployment ID로 Approval 조회
-        List<Approval> approvals = new ArrayList<>();
-        for (Long deploymentId : deploymentIds) {
-            approvals.addAll(approvalRepository.findByDeploymentId(deploymentId));
+        // deployment 별 첫 행(가장 최근 approval 의 첫 반려 라인)만 사용
+        Map<Long, String> rejectionReasonMap = new HashMap<>();
+        for (RejectionReasonRow row : approvalLineRepository.findRejectionReasonsByDeploymentIds(
+                deploymentIds)) {
+            rejectionReasonMap.putIfAbsent(row.deploymentId(),
+                    row.comment() != null ? row.comment() : "반려되었습니다.");
         }
-
-        if (approvals.isEmpty()) {
-            return Map.of();
-        }
-
-        // Approval ID 목록으로 ApprovalLine 조회 (fetch join)
-        List<Long> approvalIds = approvals.stream()
-                .map(Approval::getId)
-                .toList();
-
-        Map<Long, String> rejectionReasonMap = new java.util.HashMap<>();
-        for (Long approvalId : approvalIds) {
-            Optional<Approval> approvalWithLines = approvalRepository.findByIdWithLines(approvalId);
-            if (approvalWithLines.isPresent()) {
-                Approval approval = approvalWithLines.get();
-                // isApproved = false인 ApprovalLine의 comment 찾기
-                String reason = approval.getApprovalLines().stream()
-                        .filter(line -> Boolean.FALSE.equals(line.getIsApproved()))
-                        .map(ApprovalLine::getComment)
-                        .findFirst()
-                        .orElse("반려되었습니다.");
-                
-                // 해당 Approval의 Deployment ID에 매핑
-                if (approval.getDeployment() != null) {
-                    rejectionReasonMap.put(approval.getDeployment().getId(), reason);
-                }
-            }
-        }
-
         return rejectionReasonMap;
     }
 
@@ -406,53 +435,72 @@ public class DashboardServiceImpl implements DashboardService {
 
         // 복구현황 Deployment 목록 조회
         List<Deployment> deployments = approvalRepository.findRollbackDeployments(offset, pageSize);
+        List<RecoveryResponse> recoveryList = toRecoveryResponses(deployments);
+
+        return new PaginationResponse<>(
+                recoveryList,
+                new PaginationResponse.PaginationInfo(total, page, pageSize, totalPages)
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RecoveryResponse> getRecoveryFeed(String cursor, int size,
+            boolean withTotal) {
+        log.info("복구현황 keyset 조회 - cursor: {}, size: {}, withTotal: {}", cursor, size,
+                withTotal);
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단. 전체 건수는 요청한 경우에만 센다
+        List<Deployment> rows = approvalRepository.findRollbackDeployments(
+                KeysetCursor.decode(cursor), pageSize + 1);
+        Long total = withTotal ? approvalRepository.countRollbackDeployments() : null;
+
+        return CursorPageResponse.of(rows, pageSize,
+                d -> new KeysetCursor(d.getCreatedAt(), d.getId()),
+                this::toRecoveryResponses, total);
+    }
 
-        // N+1 쿼리 방지를 위한 배치 조회: BuildRun 조회
+    /**
+     * 복구현황 Deployment → 응답 변환. 빌드 구간은 페이지의 배포들만 한 번에 집계해서 조회 (BuildRun 엔티티/로그는 읽지 않음)
+     */
+    private List<RecoveryResponse> toRecoveryResponses(List<Deployment> deployments) {
         List<Long> deploymentIds = deployments.stream()
                 .map(Deployment::getId)
                 .toList();
 
-        Map<Long, List<BuildRun>> buildRunsMap = buildRunRepository.findByDeploymentIdIn(deploymentIds)
+        Map<Long, BuildRunSpanRow> buildRunSpanMap = buildRunRepository.findSpansByDeploymentIdIn(deploymentIds)
                 .stream()
-                .collect(Collectors.groupingBy(br -> br.getDeployment().getId()));
+                .collect(Collectors.toMap(BuildRunSpanRow::deploymentId, Function.identity()));
 
         // DTO 변환
-        List<RecoveryResponse> recoveryList = deployments.stream()
+        return deployments.stream()
                 .map(deployment -> {
                     String status = determineRecoveryStatus(deployment);
-                    List<BuildRun> buildRuns = buildRunsMap.getOrDefault(deployment.getId(), List.of());
+                    BuildRunSpanRow span = buildRunSpanMap.get(deployment.getId());
 
                     String duration = null;
                     Integer buildRunDuration = null;
                     LocalDateTime recoveredAt = null;
                     LocalDateTime updatedAt = deployment.getUpdatedAt();
 
-                    if ("COMPLETED".equals(status) && !buildRuns.isEmpty()) {
+                    if ("COMPLETED".equals(status) && span != null
+                            && span.firstStartedAt() != null && span.lastEndedAt() != null) {
                         // duration 계산: 첫 번째 buildRun.startedAt ~ 마지막 buildRun.endedAt
-                        BuildRun firstBuildRun = buildRuns.stream()
-                                .min((a, b) -> a.getStartedAt().compareTo(b.getStartedAt()))
-                                .orElse(null);
-
-                        BuildRun lastBuildRun = buildRuns.stream()
-                                .max((a, b) -> a.getEndedAt().compareTo(b.getEndedAt()))
-                                .orElse(null);
-
-                        if (firstBuildRun != null && lastBuildRun != null) {
-                            Duration durationBetween = Duration.between(
-                                    firstBuildRun.getStartedAt(),
-                                    lastBuildRun.getEndedAt()
-                            );
-                            long minutes = durationBetween.toMinutes();
-                            duration = minutes + "분";
-
-                            // buildRunDuration: 마지막 BuildRun의 duration (밀리초 -> 초 단위 변환)
-                            if (lastBuildRun.getDuration() != null) {
-                                buildRunDuration = (int) (lastBuildRun.getDuration() / 1000);
-                            }
-
-                            // recoveredAt: status가 COMPLETED일 때만 deployment.updatedAt 사용
-                            recoveredAt = deployment.getUpdatedAt();
+                        Duration durationBetween = Duration.between(
+                                span.firstStartedAt(),
+                                span.lastEndedAt()
+                        );
+                        long minutes = durationBetween.toMinutes();
+                        duration = minutes + "분";
+
+                        // buildRunDuration: 마지막 BuildRun의 duration (밀리초 -> 초 단위 변환)
+                        if (span.lastDuration() != null) {
+                            buildRunDuration = (int) (span.lastDuration() / 1000);
                         }
+
+                        // recoveredAt: status가 COMPLETED일 때만 deployment.updatedAt 사용
+                        recoveredAt = deployment.getUpdatedAt();
                     }
 
                     return new RecoveryResponse(
@@ -470,11 +518,6 @@ public class DashboardServiceImpl implements DashboardService {
                     );
                 })
                 .toList();
-
-        return new PaginationResponse<>(
-                recoveryList,
-                new PaginationResponse.PaginationInfo(total, page, pageSize, totalPages)
-        );
     }
 
     /**
@@ -493,5 +536,60 @@ public class DashboardServiceImpl implements DashboardService {
             return "PENDING";
         }
     }
-}
 
+    @Override
+    public List<BuildRegressionResponse> getBuildRegressions() {
+        return buildDurationRegressionDetector.getRegressions(null).stream()
+                .map(r -> new BuildRegressionResponse(
+                        r.projectId(),
+                        r.projectName(),
+                        r.baselineSeconds(),
+                        r.currentSeconds(),
+                        r.changeRate(),
+                        r.detectedAt()
+                ))
+                .toList();
+    }
+
+    @Override
+    public DashboardSummaryResponse getSummary(Long accountId) {
+        log.info("대시보드 요약 조회 - accountId: {}", accountId);
+        return dashboardSummaryCache.get(accountId, () -> loadSummary(accountId));
+    }
+
+    /**
+     * 네 목록을 전용 풀에서 동시에 조회한다.
+     * - 관련 프로젝트는 전체를 한 번 읽어 승인 대기/진행중 업무가 공유한다 (실패 시 목록별 개별 조회로 대체)
+     * - 목록마다 읽기 전용 트랜잭션 + 타임아웃을 걸고, 실패한 목록은 null 로 두고 errors 에 사유를 남긴다
+     */
+    private DashboardSummaryResponse loadSummary(Long accountId) {
+        Map<String, String> errors = new ConcurrentHashMap<>();
+
+        CompletableFuture<Map<Long, List<RelatedProject>>> related = sections.submit(
+                "relatedProjects", new ConcurrentHashMap<>(),
+                () -> relatedProjectRepository.findAllActive().stream()
+                        .collect(Collectors.groupingBy(rp -> rp.getProject().getId())));
+
+        CompletableFuture<List<PendingApprovalResponse>> pending = related.thenCompose(map ->
+                sections.submit("pendingApprovals", errors,
+                        () -> pendingApprovals(accountId, relatedProjectsLookup(map))));
+        CompletableFuture<List<InProgressTaskResponse>> inProgress = related.thenCompose(map ->
+                sections.submit("inProgressTasks", errors,
+                        () -> inProgressTasks(accountId, relatedProjectsLookup(map))));
+        CompletableFuture<List<NotificationResponse>> notifications = sections.submit(
+                "notifications", errors, () -> getNotifications(accountId));
+        CompletableFuture<PaginationResponse<RecoveryResponse>> recovery = sections.submit(
+                DashboardSummaryCache.RECOVERY_SECTION, errors,
+                () -> getRecovery(1, SUMMARY_RECOVERY_PAGE_SIZE));
+
+        CompletableFuture.allOf(pending, inProgress, notifications, recovery).join();
+
+        return new DashboardSummaryResponse(pending.join(), inProgress.join(),
+                notifications.join(), recovery.join(), Map.copyOf(errors));
+    }
+
+    private Function<List<Long>, Map<Long, List<RelatedProject>>> relatedProjectsLookup(
+            Map<Long, List<RelatedProject>> sharedMap) {
+        return sharedMap != null ? projectIds -> sharedMap : this::buildProjectRelatedServicesMap;
+    }
+}
@@ -0,0 +1,149 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.dashboard.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.approval.event.ApprovalChangedEvent;
+import sys.be4man.domains.approval.model.entity.Approval;
+import sys.be4man.domains.approval.model.type.ApprovalStatus;
+import sys.be4man.domains.approval.repository.ApprovalLineRepository;
+import sys.be4man.domains.approval.repository.ApprovalRepository;
+import sys.be4man.domains.dashboard.dto.response.DashboardDeltaResponse;
+import sys.be4man.domains.dashboard.dto.response.DashboardDeltaResponse.Type;
+import sys.be4man.domains.deployment.event.DeploymentStatusChangedEvent;
+import sys.be4man.domains.notification.event.NotificationsRecordedEvent;
+
+/**
+ * 결재/배포/빌드 변경을 커밋 후 관련 계정의 대시보드 SSE 연결로 보낸다 (이벤트 이름 "delta").
+ * 연결은 여러 인스턴스에 흩어져 있으므로 DashboardStreamRelay 로 발행하고, 각 인스턴스가 자기 연결에 보낸다.
+ * - 결재: 다음 승인자에게 APPROVAL_PENDING, 나머지 참여자(기안자, 승인 라인)에게 APPROVAL_DECIDED
+ * - 취소/반려/빌드 소요시간 회귀: 알림 기록(NotificationsRecordedEvent)의 수신자에게 그대로 전달 (작업 금지 기간 자동 취소 포함)
+ * - 배포 상태 변경, 빌드 결과 저장: 배포 참여자(요청자, 기안자, 승인 라인)에게 전달
+ * 클러스터 전체에 연결이 없으면 조회 없이 끝낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardStreamPublisher {
+
+    static final String EVENT_NAME = "delta";
+
+    private final DashboardStreamRelay relay;
+    private final ApprovalRepository approvalRepository;
+    private final ApprovalLineRepository approvalLineRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 커밋된 결재 상태와 수신자 (트랜잭션 밖에서 전송하기 위한 스냅샷) */
+    record ApprovalSnapshot(Long approvalId, Long deploymentId, String title, ApprovalStatus status,
+                            String service, Long nextApproverId, Set<Long> participants) {}
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onApprovalChanged(ApprovalChangedEvent event) {
+        if (!relay.hasConnections()) {
+            return;
+        }
+        try {
+            ApprovalSnapshot snapshot = transactionTemplate.execute(status ->
+                    approvalRepository.findById(event.approvalId())
+                            .filter(a -> !Boolean.TRUE.equals(a.getIsDeleted()))
+                            .filter(a -> a.getStatus() != ApprovalStatus.DRAFT)
+                            .map(DashboardStreamPublisher::snapshot)
+                            .orElse(null));
+            if (snapshot != null) {
+                pushApproval(snapshot);
+            }
+        } catch (Exception e) {
+            log.warn("[DashboardStream] approvalId={} 전송 실패: {}", event.approvalId(),
+                    e.getMessage());
+        }
+    }
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNotificationsRecorded(NotificationsRecordedEvent event) {
+        if (!relay.hasConnections()) {
+            return;
+        }
+        Type type = switch (event.kind()) {
+            case CANCELED -> Type.DEPLOYMENT_CANCELED;
+            case REJECTED -> Type.DEPLOYMENT_REJECTED;
+            case BUILD_REGRESSION, BUILD_REGRESSION_CLEARED -> Type.BUILD_REGRESSION;
+        };
+        relay.publish(event.accountIds(), new DashboardDeltaResponse(
+                type, null, event.deploymentId(), event.deploymentTitle(), event.kind().name(),
+                event.reason(), event.serviceName(), LocalDateTime.now()));
+    }
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeploymentStatusChanged(DeploymentStatusChangedEvent event) {
+        String status = event.stage() + "/" + event.status();
+        pushToParticipants(event.deploymentId(), Type.DEPLOYMENT_STATUS, status);
+    }
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBuildRunPersisted(BuildRunPersistedEvent event) {
+        String status = Boolean.TRUE.equals(event.isBuild()) ? "SUCCESS" : "FAILURE";
+        pushToParticipants(event.deploymentId(), Type.BUILD_FINISHED, status);
+    }
+
+    void pushApproval(ApprovalSnapshot s) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> others = new LinkedHashSet<>(s.participants());
+        if (s.status() == ApprovalStatus.PENDING && s.nextApproverId() != null) {
+            others.remove(s.nextApproverId());
+            relay.publish(List.of(s.nextApproverId()), new DashboardDeltaResponse(
+                    Type.APPROVAL_PENDING, s.approvalId(), s.deploymentId(), s.title(),
+                    s.status().name(), null, s.service(), now));
+        }
+        if (!others.isEmpty()) {
+            relay.publish(others, new DashboardDeltaResponse(
+                    Type.APPROVAL_DECIDED, s.approvalId(), s.deploymentId(), s.title(),
+                    s.status().name(), null, s.service(), now));
+        }
+    }
+
+    private void pushToParticipants(Long deploymentId, Type type, String status) {
+        if (deploymentId == null || !relay.hasConnections()) {
+            return;
+        }
+        try {
+            Set<Long> recipients = transactionTemplate.execute(tx ->
+                    approvalLineRepository.findParticipantAccountIdsByDeploymentId(deploymentId));
+            if (recipients != null && !recipients.isEmpty()) {
+                relay.publish(recipients, new DashboardDeltaResponse(
+                        type, null, deploymentId, null, status, null, null,
+                        LocalDateTime.now()));
+            }
+        } catch (Exception e) {
+            log.warn("[DashboardStream] deploymentId={} {} 전송 실패: {}", deploymentId, type,
+                    e.getMessage());
+        }
+    }
+
+    private static ApprovalSnapshot snapshot(Approval approval) {
+        Set<Long> participants = new LinkedHashSet<>();
+        participants.add(approval.getAccount().getId());
+        approval.getApprovalLines().forEach(line -> participants.add(line.getAccount().getId()));
+        return new ApprovalSnapshot(
+                approval.getId(),
+                approval.getDeployment() != null ? approval.getDeployment().getId() : null,
+                approval.getTitle(),
+                approval.getStatus(),
+                approval.getService(),
+                approval.getNextApprover() != null ? approval.getNextApprover().getId() : null,
+                participants);
+    }
+}
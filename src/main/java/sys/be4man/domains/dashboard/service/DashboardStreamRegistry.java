@@ -0,0 +1,116 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.dashboard.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 계정별 대시보드 SSE 연결 목록.
+ * - 한 계정이 여러 탭/기기로 접속할 수 있으므로 계정당 MAX_PER_ACCOUNT 개까지 유지하고, 넘으면 가장 오래된 연결을 닫는다.
+ * - 프록시/로드밸런서의 유휴 연결 종료를 막기 위해 주기적으로 주석(heartbeat)을 보내고, 전송 실패한 연결은 정리한다.
+ * - 연결은 인스턴스 메모리에 있다. 다른 인스턴스에서 커밋된 변경은 DashboardStreamRelay 가 Redis pub/sub 로 받아 여기로 보낸다.
+ *   클라이언트는 재연결 시 요약을 한 번 다시 조회한다.
+ */
+@Component
+public class DashboardStreamRegistry {
+
+    static final int MAX_PER_ACCOUNT = 5;
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final long timeoutMs;
+
+    public DashboardStreamRegistry(
+            @Value("${dashboard.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter connect(Long accountId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        // 목록 조회와 추가를 한 번에 해야 remove() 가 빈 목록을 지운 직후 추가되어 연결이 유실되지 않는다
+        List<SseEmitter> evicted = new ArrayList<>();
+        emitters.compute(accountId, (k, list) -> {
+            List<SseEmitter> target = list != null ? list : new CopyOnWriteArrayList<>();
+            target.add(emitter);
+            while (target.size() > MAX_PER_ACCOUNT) {
+                evicted.add(target.remove(0));
+            }
+            return target;
+        });
+        // complete() 는 remove() 를 부르므로 compute 밖에서 닫는다
+        evicted.forEach(SseEmitter::complete);
+
+        emitter.onCompletion(() -> remove(accountId, emitter));
+        emitter.onTimeout(() -> remove(accountId, emitter));
+        emitter.onError(e -> remove(accountId, emitter));
+
+        try {
+            emitter.send(SseEmitter.event().name("connected").data(accountId));
+        } catch (IOException e) {
+            emitter.complete();
+            remove(accountId, emitter);
+        }
+        return emitter;
+    }
+
+    public void remove(Long accountId, SseEmitter emitter) {
+        emitters.computeIfPresent(accountId, (k, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    public boolean hasConnections() {
+        return !emitters.isEmpty();
+    }
+
+    /**
+     * 연결된 계정에만 같은 이벤트를 보낸다.
+     */
+    public void send(Collection<Long> accountIds, String name, Object data) {
+        for (Long accountId : accountIds) {
+            List<SseEmitter> list = accountId != null ? emitters.get(accountId) : null;
+            if (list == null) {
+                continue;
+            }
+            for (SseEmitter emitter : list) {
+                try {
+                    emitter.send(SseEmitter.event().name(name).data(data));
+                } catch (IOException | IllegalStateException e) {
+                    emitter.complete();
+                    remove(accountId, emitter);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        emitters.forEach((accountId, list) -> {
+            for (SseEmitter emitter : list) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    emitter.complete();
+                    remove(accountId, emitter);
+                }
+            }
+        });
+    }
+
+    int connectionCount(Long accountId) {
+        List<SseEmitter> list = emitters.get(accountId);
+        return list != null ? list.size() : 0;
+    }
+}
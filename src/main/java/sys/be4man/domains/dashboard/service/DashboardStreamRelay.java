@@ -0,0 +1,115 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.dashboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sys.be4man.domains.dashboard.dto.response.DashboardDeltaResponse;
+
+/**
+ * 대시보드 변경분을 모든 인스턴스의 SSE 연결로 보낸다 (Redis pub/sub, 채널 dashboard:stream).
+ * - 연결은 인스턴스 메모리(DashboardStreamRegistry)에 있으므로, 변경을 커밋한 인스턴스는 수신자와 변경분을 채널에 발행하고
+ *   발행한 인스턴스를 포함한 각 인스턴스가 받아서 자기에게 붙은 연결에만 보낸다.
+ * - 어느 인스턴스든 연결이 있으면 dashboard:stream:active 키를 heartbeat 주기의 두 배 동안 살려 둔다.
+ *   키가 없으면 클러스터 전체에 연결이 없는 것이므로 수신자 조회 없이 끝낸다.
+ * - 발행에 실패하면 이 인스턴스의 연결에만 바로 보낸다. 다른 인스턴스의 클라이언트는 재연결 시 요약을 다시 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardStreamRelay implements MessageListener {
+
+    static final String CHANNEL = "dashboard:stream";
+    static final String ACTIVE_KEY = "dashboard:stream:active";
+
+    private final DashboardStreamRegistry registry;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${dashboard.stream.heartbeat-ms:25000}")
+    private long heartbeatMs;
+
+    /** 채널로 주고받는 변경분 (수신자 + 내용) */
+    record Envelope(List<Long> accountIds, DashboardDeltaResponse delta) {}
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public SseEmitter connect(Long accountId) {
+        SseEmitter emitter = registry.connect(accountId);
+        markActive();
+        return emitter;
+    }
+
+    /**
+     * 클러스터 어딘가에 연결이 있는지. Redis 를 읽지 못하면 있다고 본다
+     */
+    public boolean hasConnections() {
+        if (registry.hasConnections()) {
+            return true;
+        }
+        try {
+            return !Boolean.FALSE.equals(stringRedisTemplate.hasKey(ACTIVE_KEY));
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    public void publish(Collection<Long> accountIds, DashboardDeltaResponse delta) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL,
+                    objectMapper.writeValueAsString(new Envelope(List.copyOf(accountIds), delta)));
+        } catch (Exception e) {
+            log.warn("[DashboardStream] 발행 실패, 이 인스턴스 연결에만 보냅니다: {}", e.getMessage());
+            registry.send(accountIds, DashboardStreamPublisher.EVENT_NAME, delta);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!registry.hasConnections()) {
+            return;
+        }
+        try {
+            Envelope envelope = objectMapper.readValue(message.getBody(), Envelope.class);
+            registry.send(envelope.accountIds(), DashboardStreamPublisher.EVENT_NAME,
+                    envelope.delta());
+        } catch (Exception e) {
+            log.warn("[DashboardStream] 변경분 수신 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.stream.heartbeat-ms:25000}")
+    public void refreshActive() {
+        if (registry.hasConnections()) {
+            markActive();
+        }
+    }
+
+    private void markActive() {
+        try {
+            stringRedisTemplate.opsForValue().set(ACTIVE_KEY, "1", Duration.ofMillis(heartbeatMs * 2));
+        } catch (Exception e) {
+            log.debug("[DashboardStream] 연결 표시 실패: {}", e.getMessage());
+        }
+    }
+}
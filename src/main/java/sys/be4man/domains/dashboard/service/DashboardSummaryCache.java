@@ -0,0 +1,229 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.dashboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.approval.event.ApprovalChangedEvent;
+import sys.be4man.domains.approval.repository.ApprovalLineRepository;
+import sys.be4man.domains.approval.repository.ApprovalRepository;
+import sys.be4man.domains.dashboard.dto.response.DashboardSummaryResponse;
+import sys.be4man.domains.deployment.event.DeploymentCanceledEvent;
+import sys.be4man.domains.deployment.event.DeploymentRejectedEvent;
+import sys.be4man.domains.deployment.event.DeploymentResultChangedEvent;
+import sys.be4man.domains.deployment.event.DeploymentStatusChangedEvent;
+
+/**
+ * 계정별 대시보드 요약(/api/dashboard/summary) Redis 캐시.
+ * - 계정 목록(승인 대기/진행중 업무/알림)은 계정 키(dashboard:summary:{accountId})에, 모든 계정이 같은 복구현황은
+ *   공유 키(dashboard:summary:recovery)에 "세대|JSON" 으로 저장한다. 조회는 세대 카운터와 함께 MGET 한 번으로 끝낸다.
+ * - 세대는 계정별(dashboard:gen:{accountId})과 복구현황(dashboard:gen:recovery)으로 나눈다.
+ *   결재/배포/빌드 변경이 커밋되면 그 배포의 참여자(요청자, 기안자, 승인 라인) 세대만 올리고,
+ *   배포 상태/결과/빌드 변경은 복구현황 세대도 올린다. 빌드가 계속 들어와도 관련 없는 계정의 요약은 그대로 쓴다.
+ * - 참여자를 찾지 못하면(조회 실패, 배포 없는 결재) 전체 세대(dashboard:gen)를 올려 모든 요약을 버린다.
+ * - 계산은 시작 시점에 읽은 세대로 저장하므로, 계산 중 변경이 커밋되면 저장된 값은 다음 조회에서 자동으로 버려진다.
+ * - Redis 장애 시에는 캐시 없이 바로 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardSummaryCache {
+
+    static final String RECOVERY_SECTION = "recovery";
+
+    private static final String SUMMARY_PREFIX = "dashboard:summary:";
+    private static final String RECOVERY_KEY = SUMMARY_PREFIX + RECOVERY_SECTION;
+    private static final String GEN_KEY = "dashboard:gen";
+    private static final String ACCOUNT_GEN_PREFIX = "dashboard:gen:";
+    private static final String RECOVERY_GEN_KEY = ACCOUNT_GEN_PREFIX + RECOVERY_SECTION;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApprovalRepository approvalRepository;
+    private final ApprovalLineRepository approvalLineRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${dashboard.summary.cache.enabled:true}")
+    private boolean enabled;
+
+    // 이벤트로 잡히지 않는 변경(직접 DB 수정 등)에 대한 안전망
+    @Value("${dashboard.summary.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 커밋 이후 참여자 조회용. 끝난 트랜잭션에 합류하지 않도록 새로 연다
+    private TransactionTemplate readOnlyTx;
+
+    @PostConstruct
+    void init() {
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 캐시에서 요약을 찾고, 계정 목록이나 복구현황 중 하나라도 없거나 세대가 지났으면 loader 로 계산한다.
+     * 실패한 목록이 있는 부분은 저장하지 않는다.
+     */
+    public DashboardSummaryResponse get(Long accountId, Supplier<DashboardSummaryResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key = SUMMARY_PREFIX + accountId;
+        String accountGen;
+        String recoveryGen;
+        DashboardSummaryResponse account;
+        DashboardSummaryResponse recovery;
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(
+                    GEN_KEY, ACCOUNT_GEN_PREFIX + accountId, key, RECOVERY_GEN_KEY, RECOVERY_KEY));
+            String gen = valueAt(values, 0);
+            accountGen = gen + "." + valueAt(values, 1);
+            recoveryGen = gen + "." + valueAt(values, 3);
+            account = read(values, 2, accountGen);
+            recovery = read(values, 4, recoveryGen);
+            if (account != null && recovery != null) {
+                return new DashboardSummaryResponse(account.pendingApprovals(),
+                        account.inProgressTasks(), account.notifications(), recovery.recovery(),
+                        Map.of());
+            }
+        } catch (Exception e) {
+            log.debug("[DashboardSummaryCache] 캐시 조회 실패, 캐시 없이 계산합니다: {}", e.getMessage());
+            return loader.get();
+        }
+
+        DashboardSummaryResponse summary = loader.get();
+        Map<String, String> errors = summary.errors();
+        if (account == null && (errors.isEmpty()
+                || (errors.size() == 1 && errors.containsKey(RECOVERY_SECTION)))) {
+            store(key, accountGen, new DashboardSummaryResponse(summary.pendingApprovals(),
+                    summary.inProgressTasks(), summary.notifications(), null, Map.of()));
+        }
+        if (recovery == null && !errors.containsKey(RECOVERY_SECTION)) {
+            store(RECOVERY_KEY, recoveryGen, new DashboardSummaryResponse(null, null, null,
+                    summary.recovery(), Map.of()));
+        }
+        return summary;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApprovalChanged(ApprovalChangedEvent event) {
+        invalidate(() -> {
+            // 삭제된 결재의 승인 라인도 목록에서 빠져야 하므로 결재 자체의 참여자를 함께 본다
+            Set<Long> accountIds = new LinkedHashSet<>();
+            approvalRepository.findById(event.approvalId()).ifPresent(approval -> {
+                accountIds.add(approval.getAccount().getId());
+                approval.getApprovalLines()
+                        .forEach(line -> accountIds.add(line.getAccount().getId()));
+            });
+            if (event.deploymentId() != null) {
+                accountIds.addAll(participants(event.deploymentId()));
+            }
+            return accountIds;
+        }, false);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeploymentCanceled(DeploymentCanceledEvent event) {
+        invalidate(() -> participants(event.deploymentId()), false);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeploymentRejected(DeploymentRejectedEvent event) {
+        invalidate(() -> participants(event.deploymentId()), false);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeploymentStatusChanged(DeploymentStatusChangedEvent event) {
+        invalidate(() -> participants(event.deploymentId()), true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeploymentResultChanged(DeploymentResultChangedEvent event) {
+        invalidate(() -> participants(event.deploymentId()), true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBuildRunPersisted(BuildRunPersistedEvent event) {
+        invalidate(() -> participants(event.deploymentId()), true);
+    }
+
+    /**
+     * 모든 계정의 요약을 버린다
+     */
+    public void invalidateAll() {
+        increment(GEN_KEY);
+    }
+
+    private void invalidate(Supplier<Set<Long>> accountIds, boolean recovery) {
+        if (recovery) {
+            increment(RECOVERY_GEN_KEY);
+        }
+        Set<Long> targets;
+        try {
+            targets = readOnlyTx.execute(status -> accountIds.get());
+        } catch (Exception e) {
+            log.warn("[DashboardSummaryCache] 참여자 조회 실패, 전체 무효화합니다: {}", e.getMessage());
+            targets = null;
+        }
+        if (targets == null || targets.isEmpty()) {
+            invalidateAll();
+            return;
+        }
+        targets.forEach(accountId -> increment(ACCOUNT_GEN_PREFIX + accountId));
+    }
+
+    private Set<Long> participants(Long deploymentId) {
+        return deploymentId != null
+                ? approvalLineRepository.findParticipantAccountIdsByDeploymentId(deploymentId)
+                : Set.of();
+    }
+
+    private void increment(String genKey) {
+        try {
+            stringRedisTemplate.opsForValue().increment(genKey);
+        } catch (Exception e) {
+            log.warn("[DashboardSummaryCache] 무효화 실패 key={}: {}", genKey, e.getMessage());
+        }
+    }
+
+    private DashboardSummaryResponse read(List<String> values, int index, String gen)
+            throws Exception {
+        String cached = values != null ? values.get(index) : null;
+        if (cached == null || !cached.startsWith(gen + "|")) {
+            return null;
+        }
+        return objectMapper.readValue(cached.substring(gen.length() + 1),
+                DashboardSummaryResponse.class);
+    }
+
+    private void store(String key, String gen, DashboardSummaryResponse part) {
+        try {
+            stringRedisTemplate.opsForValue().set(key,
+                    gen + "|" + objectMapper.writeValueAsString(part),
+                    Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.debug("[DashboardSummaryCache] 저장 실패 key={}: {}", key, e.getMessage());
+        }
+    }
+
+    private static String valueAt(List<String> values, int index) {
+        return values != null && values.get(index) != null ? values.get(index) : "0";
+    }
+}
@@ -0,0 +1,7 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.deployment.event;
+
+/**
+ * 배포 작업이 취소되었음을 알리는 이벤트 (결재 취소, 작업 금지 기간 자동 취소)
+ */
+public record DeploymentCanceledEvent(Long deploymentId, String reason) {}
@@ -0,0 +1,7 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.deployment.event;
+
+/**
+ * 프로세스 시작 배포가 재배포/복구로 바뀌어 뒤따르던 배포가 새 프로세스(splitProcessId)로 옮겨졌음을 알리는 이벤트
+ */
+public record DeploymentProcessSplitEvent(Long deploymentId, Long splitProcessId) {}
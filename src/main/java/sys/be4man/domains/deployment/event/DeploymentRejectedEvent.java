@@ -0,0 +1,7 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.deployment.event;
+
+/**
+ * 배포 작업이 반려되었음을 알리는 이벤트 (reason 은 반려 라인의 comment)
+ */
+public record DeploymentRejectedEvent(Long deploymentId, String reason) {}
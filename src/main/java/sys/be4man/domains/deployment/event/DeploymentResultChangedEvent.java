@@ -0,0 +1,19 @@
+// 작성자 : 이원석
+package sys.be4man.domains.deployment.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배포 작업의 최종 결과(isDeployed)가 바뀌었음을 알리는 이벤트 (null → true/false, true ↔ false)
+ * pullRequestMergedAt 은 PR 병합 웹훅 수신 시각(pull_request.created_at), resultAt 은 결과 확정 시각.
+ */
+public record DeploymentResultChangedEvent(
+        Long deploymentId,
+        Long projectId,
+        LocalDateTime deploymentCreatedAt,
+        Boolean previousIsDeployed,
+        Boolean isDeployed,
+        Long pullRequestId,
+        LocalDateTime pullRequestMergedAt,
+        LocalDateTime resultAt
+) {}
@@ -0,0 +1,14 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.deployment.event;
+
+import sys.be4man.domains.deployment.model.type.DeploymentStage;
+import sys.be4man.domains.deployment.model.type.DeploymentStatus;
+
+/**
+ * 결재 외 경로(예약 시각 도래, Jenkins 결과 웹훅, 결과보고 동기화)로 배포 작업의 단계/상태가 바뀌었음을 알리는 이벤트
+ */
+public record DeploymentStatusChangedEvent(
+        Long deploymentId,
+        DeploymentStage stage,
+        DeploymentStatus status
+) {}
@@ -20,7 +20,11 @@ import sys.be4man.global.model.entity.BaseEntity;
  * 배포 작업 엔티티
  */
 @Entity
-@Table(name = "deployment")
+@Table(name = "deployment", indexes = {
+        @Index(name = "idx_deployment_final_ended_at", columnList = "final_ended_at"),
+        @Index(name = "idx_deployment_project_id_final_ended_at",
+                columnList = "project_id, final_ended_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Deployment extends BaseEntity {
@@ -70,6 +74,27 @@ public class Deployment extends BaseEntity {
     @Column(name = "version", columnDefinition = "TEXT")
     private String version;
 
+    /**
+     * 가장 늦게 끝난 빌드(최종 빌드) 비정규화 컬럼.
+     * 동시 수집 시 역전되지 않도록 DeploymentRepository.updateFinalBuildIfLater 로만 갱신한다.
+     */
+    @Column(name = "final_build_run_id", insertable = false, updatable = false)
+    private Long finalBuildRunId;
+
+    @Column(name = "final_ended_at", insertable = false, updatable = false)
+    private LocalDateTime finalEndedAt;
+
+    /**
+     * 배포 프로세스(계획서 → 배포 → 결과보고, 재배포/복구는 별도 프로세스) ID = 프로세스 시작 배포의 id.
+     * 생성 시 DeploymentProcessAssigner 가 채운다. 기존 데이터는 기동 시 보정.
+     */
+    @Column(name = "process_id")
+    private Long processId;
+
+    /** 같은 PR 에서 바로 앞선 배포 (프로세스 시작 계획서는 null) */
+    @Column(name = "parent_deployment_id")
+    private Long parentDeploymentId;
+
     @Builder
     public Deployment(
             Project project, Account issuer, PullRequest pullRequest,
@@ -102,6 +127,12 @@ public class Deployment extends BaseEntity {
         this.status = status;
     }
 
+    /** 배포 프로세스 지정 */
+    public void assignProcess(Long processId, Long parentDeploymentId) {
+        this.processId = processId;
+        this.parentDeploymentId = parentDeploymentId;
+    }
+
     /** 배포 작업 단계 업데이트 */
     public void updateStage(DeploymentStage stage) {
         this.stage = stage;
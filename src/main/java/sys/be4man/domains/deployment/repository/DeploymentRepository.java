@@ -2,9 +2,12 @@
 package sys.be4man.domains.deployment.repository;
 
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import sys.be4man.domains.deployment.model.entity.Deployment;
@@ -22,4 +25,70 @@ public interface DeploymentRepository extends JpaRepository<Deployment, Long>, D
             DeploymentStatus status
     );
 
-}
\ No newline at end of file
+    /**
+     * 더 늦게 끝난 빌드일 때만 최종 빌드를 교체한다 (조건부 단일 UPDATE 라 동시 수집에도 역전 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update {h-schema}deployment
+               set final_build_run_id = :buildRunId, final_ended_at = :endedAt
+             where id = :deploymentId
+               and (final_ended_at is null
+                    or final_ended_at < :endedAt
+                    or (final_ended_at = :endedAt and final_build_run_id < :buildRunId))
+            """, nativeQuery = true)
+    int updateFinalBuildIfLater(@Param("deploymentId") Long deploymentId,
+            @Param("buildRunId") Long buildRunId,
+            @Param("endedAt") LocalDateTime endedAt);
+
+    /**
+     * 최종 빌드가 비어 있는 배포 작업을 build_run 기준으로 채운다 (컬럼 도입 이전 데이터 보정)
+     */
+    @Modifying
+    @Query(value = """
+            update {h-schema}deployment d
+               set final_build_run_id = f.id, final_ended_at = f.ended_at
+              from (select distinct on (b.deployment_id) b.id, b.deployment_id, b.ended_at
+                      from {h-schema}build_run b
+                     where b.is_deleted = false and b.ended_at is not null
+                     order by b.deployment_id, b.ended_at desc, b.id desc) f
+             where d.id = f.deployment_id
+               and d.final_build_run_id is null
+            """, nativeQuery = true)
+    int backfillFinalBuild();
+
+    /**
+     * 같은 프로젝트/PR 에서 가장 최근 배포 (자기 자신 제외) - 새 배포의 프로세스 지정용
+     */
+    Optional<Deployment> findFirstByProject_IdAndPullRequest_IdAndIdNotAndIsDeletedFalseOrderByCreatedAtDescIdDesc(
+            Long projectId,
+            Long pullRequestId,
+            Long id
+    );
+
+    /**
+     * 같은 프로젝트/PR 의 배포 전체 (생성 순) - 프로세스 보정용
+     */
+    List<Deployment> findByProject_IdAndPullRequest_IdAndIsDeletedFalseOrderByCreatedAtAscIdAsc(
+            Long projectId,
+            Long pullRequestId
+    );
+
+    /**
+     * 같은 프로세스의 다른 배포 (생성 순) - 시작 배포가 재배포/복구로 바뀔 때 분리용
+     */
+    List<Deployment> findByProcessIdAndIdNotAndIsDeletedFalseOrderByCreatedAtAscIdAsc(
+            Long processId,
+            Long id
+    );
+
+    /**
+     * 프로세스가 지정되지 않은 배포가 있는 (project_id, pull_request_id) 목록
+     */
+    @Query(value = """
+            select distinct d.project_id, d.pull_request_id
+              from {h-schema}deployment d
+             where d.process_id is null and d.is_deleted = false
+            """, nativeQuery = true)
+    List<Object[]> findUnassignedProcessKeys();
+}
@@ -0,0 +1,36 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.deployment.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.deployment.repository.DeploymentRepository;
+
+/**
+ * 기동 시 final_build_run_id / final_ended_at 이 비어 있는 배포 작업을 채운다.
+ * 이후에는 빌드 수집(JenkinsLogServiceImpl) 시점에 갱신된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeploymentFinalBuildInitializer {
+
+    private final DeploymentRepository deploymentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async("webhookTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            Integer updated = transactionTemplate.execute(
+                    status -> deploymentRepository.backfillFinalBuild());
+            log.info("[FinalBuild] 최종 빌드 보정 완료. updated={}", updated);
+        } catch (Exception e) {
+            log.warn("[FinalBuild] 최종 빌드 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
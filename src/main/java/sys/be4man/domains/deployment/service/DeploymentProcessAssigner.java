@@ -0,0 +1,198 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.deployment.service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.approval.model.type.ApprovalType;
+import sys.be4man.domains.approval.repository.ApprovalRepository;
+import sys.be4man.domains.deployment.event.DeploymentProcessSplitEvent;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.deployment.model.type.DeploymentStage;
+import sys.be4man.domains.deployment.repository.DeploymentRepository;
+
+/**
+ * 배포 프로세스(process_id, parent_deployment_id) 지정.
+ * - 계획서(PLAN), 재배포(RETRY), 복구(ROLLBACK) 는 새 프로세스를 시작한다 (process_id = 자기 id).
+ * - 그 외(DEPLOYMENT, REPORT)는 같은 프로젝트/PR 에서 바로 앞선 배포의 프로세스에 붙는다.
+ * - parent_deployment_id 는 같은 PR 에서 바로 앞선 배포. 계획서는 프로세스 시작점이라 null.
+ * 단계는 배포 행에서 제자리 변경되므로(PLAN → DEPLOYMENT → REPORT), 기존 데이터 보정 시에는
+ * 계획서/재배포/복구 결재가 달린 배포도 프로세스 시작점으로 본다.
+ * 기동 시 보정은 비동기라 요청과 겹칠 수 있으므로, 새 배포의 앞선 배포가 아직 보정 전이면 그 프로젝트/PR 을 먼저 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeploymentProcessAssigner {
+
+    static final Set<DeploymentStage> HEAD_STAGES =
+            EnumSet.of(DeploymentStage.PLAN, DeploymentStage.RETRY, DeploymentStage.ROLLBACK);
+    private static final Set<ApprovalType> HEAD_APPROVAL_TYPES =
+            EnumSet.of(ApprovalType.PLAN, ApprovalType.RETRY, ApprovalType.ROLLBACK);
+
+    private final DeploymentRepository deploymentRepository;
+    private final ApprovalRepository approvalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 보정 대상 행 (생성 순) */
+    record ProcessRow(Long id, DeploymentStage stage, Long processId) {}
+
+    /** 보정 결과 */
+    record Assignment(Long id, Long processId, Long parentDeploymentId) {}
+
+    /**
+     * 방금 저장된 배포의 프로세스를 지정한다 (id, createdAt 이 채워진 뒤, 생성 트랜잭션 안에서 호출).
+     */
+    public void assign(Deployment deployment) {
+        Long projectId = deployment.getProject().getId();
+        Long pullRequestId = deployment.getPullRequest().getId();
+        Deployment previous = deploymentRepository
+                .findFirstByProject_IdAndPullRequest_IdAndIdNotAndIsDeletedFalseOrderByCreatedAtDescIdDesc(
+                        projectId, pullRequestId, deployment.getId())
+                .orElse(null);
+
+        if (previous != null && previous.getProcessId() == null) {
+            // 기동 시 보정 전이면 이 프로젝트/PR 을 먼저 보정한다 (새 배포도 같은 규칙으로 함께 지정됨)
+            backfillGroup(projectId, pullRequestId);
+            if (deployment.getProcessId() != null) {
+                return;
+            }
+        }
+        Long previousId = previous != null ? previous.getId() : null;
+
+        if (HEAD_STAGES.contains(deployment.getStage())) {
+            deployment.assignProcess(deployment.getId(),
+                    deployment.getStage() == DeploymentStage.PLAN ? null : previousId);
+        } else if (previous != null && previous.getProcessId() != null) {
+            deployment.assignProcess(previous.getProcessId(), previousId);
+        } else {
+            // 앞선 배포가 없으면 단독 프로세스
+            deployment.assignProcess(deployment.getId(), previousId);
+        }
+    }
+
+    /**
+     * 기존 배포의 단계가 재배포/복구로 바뀌면 독립 프로세스로 분리한다.
+     * 프로세스 시작 배포가 바뀐 경우에는 뒤따르던 배포(이전 배포/결과보고)를 첫 배포를 시작점으로 하는 프로세스로 옮겨,
+     * 재배포/복구 프로세스에 이전 프로세스의 배포가 섞이지 않게 한다.
+     */
+    public void onStageChanged(Deployment deployment) {
+        if (deployment.getStage() != DeploymentStage.RETRY
+                && deployment.getStage() != DeploymentStage.ROLLBACK) {
+            return;
+        }
+        Long previousProcessId = deployment.getProcessId();
+        deployment.assignProcess(deployment.getId(), deployment.getParentDeploymentId());
+        if (!deployment.getId().equals(previousProcessId)) {
+            return;
+        }
+
+        List<Deployment> followers = deploymentRepository
+                .findByProcessIdAndIdNotAndIsDeletedFalseOrderByCreatedAtAscIdAsc(
+                        previousProcessId, deployment.getId());
+        if (followers.isEmpty()) {
+            return;
+        }
+        Long followerProcessId = followers.get(0).getId();
+        followers.forEach(f -> f.assignProcess(followerProcessId, f.getParentDeploymentId()));
+        eventPublisher.publishEvent(new DeploymentProcessSplitEvent(deployment.getId(), followerProcessId));
+        log.info("[DeploymentProcess] 시작 배포가 {} 로 바뀌어 뒤따르던 배포를 분리. deploymentId={}, moved={}, processId={}",
+                deployment.getStage(), deployment.getId(), followers.size(), followerProcessId);
+    }
+
+    @Async("webhookTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        backfill();
+    }
+
+    /**
+     * process_id 가 비어 있는 배포를 프로젝트/PR 단위로 보정한다. 이미 지정된 행은 그대로 두고 뒤따르는 행의 기준으로만 쓴다.
+     */
+    public void backfill() {
+        long started = System.currentTimeMillis();
+        int groups = 0;
+        int assigned = 0;
+        try {
+            List<Object[]> keys = transactionTemplate.execute(
+                    status -> deploymentRepository.findUnassignedProcessKeys());
+            for (Object[] key : keys != null ? keys : List.<Object[]>of()) {
+                Long projectId = ((Number) key[0]).longValue();
+                Long pullRequestId = ((Number) key[1]).longValue();
+                Integer count = transactionTemplate.execute(
+                        status -> backfillGroup(projectId, pullRequestId));
+                assigned += count != null ? count : 0;
+                groups++;
+            }
+            if (groups > 0) {
+                log.info("[DeploymentProcess] 보정 완료. groups={}, assigned={}, elapsedMs={}", groups,
+                        assigned, System.currentTimeMillis() - started);
+            }
+        } catch (Exception e) {
+            log.warn("[DeploymentProcess] 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private int backfillGroup(Long projectId, Long pullRequestId) {
+        List<Deployment> deployments = deploymentRepository
+                .findByProject_IdAndPullRequest_IdAndIsDeletedFalseOrderByCreatedAtAscIdAsc(
+                        projectId, pullRequestId);
+        List<Long> ids = deployments.stream().map(Deployment::getId).toList();
+        Set<Long> headIds = new HashSet<>(
+                approvalRepository.findDeploymentIdsHavingTypes(ids, HEAD_APPROVAL_TYPES));
+
+        List<ProcessRow> rows = deployments.stream()
+                .map(d -> new ProcessRow(d.getId(), d.getStage(), d.getProcessId()))
+                .toList();
+        Map<Long, Deployment> byId = deployments.stream()
+                .collect(Collectors.toMap(Deployment::getId, Function.identity()));
+        List<Assignment> assignments = plan(rows, headIds);
+        for (Assignment a : assignments) {
+            byId.get(a.id()).assignProcess(a.processId(), a.parentDeploymentId());
+        }
+        return assignments.size();
+    }
+
+    /**
+     * 한 프로젝트/PR 의 배포(생성 순)를 훑어 프로세스가 비어 있는 행의 지정값을 계산한다.
+     *
+     * @param rows    생성 순 배포
+     * @param headIds 계획서/재배포/복구 결재가 달린 배포 ID (단계가 바뀐 시작점 판별용)
+     */
+    static List<Assignment> plan(List<ProcessRow> rows, Set<Long> headIds) {
+        List<Assignment> result = new ArrayList<>();
+        Long currentProcessId = null;
+        Long previousId = null;
+        for (ProcessRow row : rows) {
+            if (row.processId() != null) {
+                currentProcessId = row.processId();
+                previousId = row.id();
+                continue;
+            }
+            boolean head = HEAD_STAGES.contains(row.stage()) || headIds.contains(row.id());
+            boolean retryOrRollback = row.stage() == DeploymentStage.RETRY
+                    || row.stage() == DeploymentStage.ROLLBACK;
+            Long processId = head || currentProcessId == null ? row.id() : currentProcessId;
+            // 계획서로 시작한 프로세스(단계가 바뀐 경우 포함)는 부모 없음
+            Long parentId = head && !retryOrRollback ? null : previousId;
+            result.add(new Assignment(row.id(), processId, parentId));
+            currentProcessId = processId;
+            previousId = row.id();
+        }
+        return result;
+    }
+}
@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +20,7 @@ import sys.be4man.domains.account.repository.AccountRepository;
 import sys.be4man.domains.analysis.dto.response.DeploymentStageAndStatusResponseDto;
 import sys.be4man.domains.deployment.dto.request.DeploymentCreateRequest;
 import sys.be4man.domains.deployment.dto.response.DeploymentResponse;
+import sys.be4man.domains.deployment.event.DeploymentStatusChangedEvent;
 import sys.be4man.domains.deployment.model.entity.Deployment;
 import sys.be4man.domains.deployment.model.type.DeploymentStage;
 import sys.be4man.domains.deployment.model.type.DeploymentStatus;
@@ -39,6 +41,8 @@ public class DeploymentServiceImpl implements DeploymentService {
     private final ProjectRepository projectRepository;
     private final AccountRepository accountRepository;
     private final PullRequestRepository pullRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DeploymentProcessAssigner deploymentProcessAssigner;
 
     private static final DateTimeFormatter YMDHM = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
     private static final Pattern RANGE = Pattern.compile(
@@ -73,6 +77,7 @@ public class DeploymentServiceImpl implements DeploymentService {
                 .build();
 
         deploymentRepository.save(deployment);
+        deploymentProcessAssigner.assign(deployment);
 
         log.info(
                 "📝 Deployment created id={}, scheduledAt={}, scheduledToEndedAt={}, expectedMinutes={}",
@@ -178,6 +183,8 @@ public class DeploymentServiceImpl implements DeploymentService {
         if (d.getStage() != DeploymentStage.DEPLOYMENT) {
             d.updateStage(DeploymentStage.DEPLOYMENT);
             d.updateStatus(DeploymentStatus.IN_PROGRESS);
+            eventPublisher.publishEvent(new DeploymentStatusChangedEvent(
+                    d.getId(), d.getStage(), d.getStatus()));
         }
     }
 
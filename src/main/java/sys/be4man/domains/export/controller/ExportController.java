@@ -0,0 +1,79 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.export.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import sys.be4man.domains.export.model.type.ExportFormat;
+import sys.be4man.domains.export.model.type.ExportTarget;
+import sys.be4man.domains.export.service.ExportService;
+
+@Tag(name = "Export", description = "빌드/배포 이력 내보내기 API")
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @Operation(
+            summary = "빌드 이력 내보내기",
+            description = """
+            빌드 이력을 CSV 또는 NDJSON 으로 스트리밍합니다.<br>
+            기간(from, to)은 빌드 시작일 기준이며 to 는 해당 일자를 포함합니다.<br>
+            예) /api/export/builds?format=csv&projectId=42&from=2025-01-01&to=2025-06-30
+            """
+    )
+    @GetMapping("/builds")
+    public ResponseEntity<StreamingResponseBody> exportBuilds(
+            @RequestParam(required = false, defaultValue = "csv") String format,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to
+    ) {
+        return stream(ExportTarget.BUILDS, ExportFormat.from(format), projectId, from, to);
+    }
+
+    @Operation(
+            summary = "배포 이력 내보내기",
+            description = """
+            배포 작업 이력을 CSV 또는 NDJSON 으로 스트리밍합니다.<br>
+            기간(from, to)은 배포 작업 생성일 기준이며 to 는 해당 일자를 포함합니다.
+            """
+    )
+    @GetMapping("/deployments")
+    public ResponseEntity<StreamingResponseBody> exportDeployments(
+            @RequestParam(required = false, defaultValue = "csv") String format,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to
+    ) {
+        return stream(ExportTarget.DEPLOYMENTS, ExportFormat.from(format), projectId, from, to);
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(ExportTarget target, ExportFormat format,
+            Long projectId, LocalDate from, LocalDate to) {
+        StreamingResponseBody body = exportService.export(target, format, projectId, from, to);
+        String fileName = target.getFileName() + "-" + LocalDate.now() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,27 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.export.exception.type;
+
+import lombok.RequiredArgsConstructor;
+import sys.be4man.global.exception.type.ExceptionType;
+
+/**
+ * 내보내기(Export) 도메인 예외 타입
+ */
+@RequiredArgsConstructor
+public enum ExportExceptionType implements ExceptionType {
+
+    UNSUPPORTED_FORMAT("지원하지 않는 내보내기 형식입니다. (csv, ndjson)"),
+    INVALID_PERIOD("조회 시작일이 종료일보다 늦습니다.");
+
+    private final String message;
+
+    @Override
+    public String getName() {
+        return name();
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
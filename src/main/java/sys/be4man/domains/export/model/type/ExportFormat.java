@@ -0,0 +1,30 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.export.model.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import sys.be4man.domains.export.exception.type.ExportExceptionType;
+import sys.be4man.global.exception.BadRequestException;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new BadRequestException(ExportExceptionType.UNSUPPORTED_FORMAT);
+    }
+}
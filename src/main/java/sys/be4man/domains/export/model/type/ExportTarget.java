@@ -0,0 +1,54 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.export.model.type;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 내보내기 대상별 컬럼과 조회 SQL.
+ * - SQL 의 %s 자리에는 프로젝트/기간 조건이 들어간다.
+ * - PK 순으로 정렬해 커서가 인덱스 순서대로 읽도록 한다. (정렬용 메모리/임시 파일 없음)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportTarget {
+
+    BUILDS("builds",
+            List.of("buildRunId", "deploymentId", "projectId", "projectName", "jenkinsJobName",
+                    "buildNumber", "isBuild", "durationSeconds", "startedAt", "endedAt"),
+            "b.started_at", """
+            select b.id, b.deployment_id, d.project_id, p.name, b.jenkins_job_name,
+                   b.build_number, b.is_build, b.duration, b.started_at, b.ended_at
+              from {h-schema}build_run b
+              join {h-schema}deployment d on d.id = b.deployment_id
+              join {h-schema}project p on p.id = d.project_id
+             where b.is_deleted = false
+               and d.is_deleted = false
+               %s
+             order by b.id
+            """),
+
+    DEPLOYMENTS("deployments",
+            List.of("deploymentId", "projectId", "projectName", "title", "stage", "status",
+                    "isDeployed", "issuerName", "prNumber", "branch", "createdAt",
+                    "finalEndedAt"),
+            "d.created_at", """
+            select d.id, d.project_id, p.name, d.title, d.stage, d.status,
+                   d.is_deployed, a.name, pr.pr_number, pr.branch, d.created_at,
+                   d.final_ended_at
+              from {h-schema}deployment d
+              join {h-schema}project p on p.id = d.project_id
+              join {h-schema}account a on a.id = d.issuer_id
+              join {h-schema}pull_request pr on pr.id = d.pull_request_id
+             where d.is_deleted = false
+               %s
+             order by d.id
+            """);
+
+    private final String fileName;
+    private final List<String> columns;
+    // 기간 필터를 거는 컬럼
+    private final String periodColumn;
+    private final String sql;
+}
@@ -0,0 +1,61 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.export.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.stereotype.Repository;
+import sys.be4man.domains.export.model.type.ExportTarget;
+
+/**
+ * 내보내기용 전진 전용 커서 조회.
+ * 결과를 리스트로 만들지 않고 fetch size 단위로 한 행씩 consumer 에 넘긴다.
+ * PostgreSQL 드라이버는 트랜잭션 안(autocommit=false)에서만 커서를 쓰므로 호출자가 트랜잭션을 열어야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExportRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private final EntityManager entityManager;
+
+    /**
+     * @param fromInclusive null 이면 시작 제한 없음
+     * @param toExclusive   null 이면 종료 제한 없음
+     */
+    public void stream(ExportTarget target, Long projectId, LocalDateTime fromInclusive,
+            LocalDateTime toExclusive, Consumer<Object[]> consumer) {
+        StringBuilder filter = new StringBuilder();
+        if (projectId != null) {
+            filter.append("and d.project_id = :projectId ");
+        }
+        if (fromInclusive != null) {
+            filter.append("and ").append(target.getPeriodColumn()).append(" >= :from ");
+        }
+        if (toExclusive != null) {
+            filter.append("and ").append(target.getPeriodColumn()).append(" < :to ");
+        }
+
+        Query query = entityManager.createNativeQuery(target.getSql().formatted(filter))
+                .setHint(AvailableHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(AvailableHints.HINT_READ_ONLY, true);
+        if (projectId != null) {
+            query.setParameter("projectId", projectId);
+        }
+        if (fromInclusive != null) {
+            query.setParameter("from", fromInclusive);
+        }
+        if (toExclusive != null) {
+            query.setParameter("to", toExclusive);
+        }
+
+        try (Stream<?> rows = query.getResultStream()) {
+            rows.forEach(row -> consumer.accept((Object[]) row));
+        }
+    }
+}
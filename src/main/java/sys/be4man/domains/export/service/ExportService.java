@@ -0,0 +1,77 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.export.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import sys.be4man.domains.export.exception.type.ExportExceptionType;
+import sys.be4man.domains.export.model.type.ExportFormat;
+import sys.be4man.domains.export.model.type.ExportTarget;
+import sys.be4man.domains.export.repository.ExportRepository;
+import sys.be4man.domains.export.service.writer.ExportRowWriter;
+import sys.be4man.global.exception.BadRequestException;
+
+/**
+ * 빌드/배포 이력 대량 내보내기.
+ * - 응답 스레드에서 읽기 전용 트랜잭션을 열고, DB 커서에서 읽은 행을 바로 응답 스트림에 쓴다.
+ * - 힙에는 fetch size 만큼의 행과 출력 버퍼만 남아 건수와 무관하게 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTx;
+
+    @PostConstruct
+    void init() {
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    public StreamingResponseBody export(ExportTarget target, ExportFormat format, Long projectId,
+            LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException(ExportExceptionType.INVALID_PERIOD);
+        }
+        LocalDateTime fromInclusive = from != null ? from.atStartOfDay() : null;
+        LocalDateTime toExclusive = to != null ? to.plusDays(1).atStartOfDay() : null;
+
+        return out -> {
+            long started = System.currentTimeMillis();
+            long[] rows = {0};
+            try (ExportRowWriter writer =
+                    ExportRowWriter.open(format, out, target.getColumns(), objectMapper)) {
+                readOnlyTx.executeWithoutResult(status -> exportRepository.stream(
+                        target, projectId, fromInclusive, toExclusive, row -> {
+                            try {
+                                writer.writeRow(row);
+                                rows[0]++;
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        }));
+            } catch (UncheckedIOException e) {
+                // 클라이언트가 다운로드를 끊은 경우 등. 커서는 트랜잭션 롤백과 함께 닫힌다
+                log.info("[Export] {} 내보내기 중단. rows={}, err={}", target.getFileName(), rows[0],
+                        e.getCause().getMessage());
+                throw e.getCause();
+            }
+            log.info("[Export] {} 내보내기 완료. format={}, rows={}, elapsedMs={}",
+                    target.getFileName(), format, rows[0], System.currentTimeMillis() - started);
+        };
+    }
+}
@@ -0,0 +1,61 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.export.service.writer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV. 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 먼저 쓴다.
+ */
+public class CsvRowWriter implements ExportRowWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer writer;
+
+    public CsvRowWriter(OutputStream out, List<String> columns) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+        writer.write('\uFEFF');
+        writeRow(columns.toArray());
+    }
+
+    @Override
+    public void writeRow(Object[] row) throws IOException {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (row[i] != null) {
+                writer.write(escape(row[i]));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    static String escape(Object value) {
+        String text = ExportRowWriter.text(value);
+        // 스프레드시트에서 수식으로 실행되지 않도록 사용자 입력 문자열의 수식 시작 문자를 무력화
+        // (탭/CR 로 시작하면 엑셀이 앞 공백을 지운 뒤 수식으로 해석할 수 있어 함께 막는다)
+        if (value instanceof String && !text.isEmpty()
+                && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0
+                && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,41 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.export.service.writer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+import sys.be4man.domains.export.model.type.ExportFormat;
+
+/**
+ * 내보내기 한 행씩 출력하는 writer. 행을 모아두지 않고 버퍼가 차면 바로 응답으로 내보낸다.
+ * close 는 버퍼만 비우고 응답 스트림은 닫지 않는다.
+ */
+public interface ExportRowWriter extends Closeable {
+
+    void writeRow(Object[] row) throws IOException;
+
+    static ExportRowWriter open(ExportFormat format, OutputStream out, List<String> columns,
+            ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRowWriter(out, columns);
+            case NDJSON -> new NdjsonRowWriter(out, columns, objectMapper);
+        };
+    }
+
+    /**
+     * 네이티브 쿼리 결과의 날짜/시간 값을 ISO 문자열로 맞춘다.
+     */
+    static String text(Object value) {
+        if (value instanceof Timestamp ts) {
+            return ts.toLocalDateTime().toString();
+        }
+        if (value instanceof TemporalAccessor) {
+            return value.toString();
+        }
+        return String.valueOf(value);
+    }
+}
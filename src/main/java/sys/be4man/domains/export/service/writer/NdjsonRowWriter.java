@@ -0,0 +1,55 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.export.service.writer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 한 줄에 JSON 객체 하나 (application/x-ndjson). 키는 ExportTarget 의 컬럼명.
+ */
+public class NdjsonRowWriter implements ExportRowWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final List<String> columns;
+    private final JsonGenerator generator;
+
+    public NdjsonRowWriter(OutputStream out, List<String> columns, ObjectMapper objectMapper)
+            throws IOException {
+        this.columns = columns;
+        this.generator = objectMapper.getFactory()
+                .createGenerator(new BufferedOutputStream(out, BUFFER_SIZE))
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 루트 값 사이의 기본 구분자(공백) 대신 줄바꿈을 직접 쓴다
+        generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void writeRow(Object[] row) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < columns.size(); i++) {
+            Object value = i < row.length ? row[i] : null;
+            generator.writeFieldName(columns.get(i));
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Boolean b) {
+                generator.writeBoolean(b);
+            } else if (value instanceof Number n) {
+                generator.writeNumber(n.toString());
+            } else {
+                generator.writeString(ExportRowWriter.text(value));
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.flush();
+    }
+}
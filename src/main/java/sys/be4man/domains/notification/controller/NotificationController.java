@@ -0,0 +1,46 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.notification.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sys.be4man.domains.auth.dto.AccountPrincipal;
+import sys.be4man.domains.notification.dto.response.NotificationItemResponse;
+import sys.be4man.domains.notification.service.NotificationService;
+import sys.be4man.global.dto.response.CursorPageResponse;
+
+@Tag(name = "Notification", description = "알림 피드 API")
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @Operation(
+            summary = "알림 피드 조회",
+            description = """
+            배포 취소/반려, 빌드 소요시간 회귀/회복 알림을 최신순으로 조회합니다.<br>
+            다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다. (size 최대 100)<br>
+            전체 건수는 withTotal=true 일 때만 포함됩니다.
+            """
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<NotificationItemResponse>> getFeed(
+            @AuthenticationPrincipal AccountPrincipal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return ResponseEntity.ok(
+                notificationService.getFeed(principal.accountId(), cursor, size, withTotal));
+    }
+}
@@ -0,0 +1,21 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.notification.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 피드 항목
+ *
+ * @param id         알림 ID
+ * @param kind       알림 종류 (취소, 반려)
+ * @param occurredAt 취소/반려 시각 (알림 기록 시각)
+ */
+public record NotificationItemResponse(
+        Long id,
+        String kind,
+        String reason,
+        String serviceName,
+        Long deploymentId,
+        String deploymentTitle,
+        LocalDateTime occurredAt
+) {}
@@ -0,0 +1,18 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.notification.event;
+
+import java.util.List;
+import sys.be4man.domains.notification.model.type.NotificationKind;
+
+/**
+ * 배포 취소/반려, 빌드 소요시간 회귀 알림이 기록되었음을 알리는 이벤트 (배포 한 건, 수신자 여러 명)
+ * 실시간 전송 등 커밋 이후 처리는 @TransactionalEventListener(AFTER_COMMIT)로 받는다.
+ */
+public record NotificationsRecordedEvent(
+        Long deploymentId,
+        NotificationKind kind,
+        String reason,
+        String serviceName,
+        String deploymentTitle,
+        List<Long> accountIds
+) {}
@@ -0,0 +1,66 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.notification.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sys.be4man.domains.notification.model.type.NotificationKind;
+import sys.be4man.global.model.entity.BaseEntity;
+
+/**
+ * 알림 엔티티 (수신자별 한 행)
+ * - 배포 취소/반려, 빌드 소요시간 회귀 감지/해제 시점에 기록한다. 서비스명/제목은 기록 시점 값을 그대로 보관해 조회 시 조인하지 않는다.
+ * - 목록은 (account_id, id) 인덱스로 id 역순 keyset 조회한다.
+ */
+@Entity
+@Table(name = "notification", indexes = {
+        @Index(name = "idx_notification_account_id_id", columnList = "account_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Notification extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "deployment_id", nullable = false)
+    private Long deploymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false)
+    private NotificationKind kind;
+
+    @Column(name = "reason", columnDefinition = "TEXT")
+    private String reason;
+
+    @Column(name = "service_name")
+    private String serviceName;
+
+    @Column(name = "deployment_title")
+    private String deploymentTitle;
+
+    @Builder
+    public Notification(Long accountId, Long deploymentId, NotificationKind kind, String reason,
+            String serviceName, String deploymentTitle) {
+        this.accountId = accountId;
+        this.deploymentId = deploymentId;
+        this.kind = kind;
+        this.reason = reason;
+        this.serviceName = serviceName;
+        this.deploymentTitle = deploymentTitle;
+    }
+}
@@ -0,0 +1,17 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.notification.model.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum NotificationKind {
+
+    CANCELED("취소"),
+    REJECTED("반려"),
+    BUILD_REGRESSION("빌드 소요시간 회귀"),
+    BUILD_REGRESSION_CLEARED("빌드 소요시간 회복");
+
+    private final String label;
+}
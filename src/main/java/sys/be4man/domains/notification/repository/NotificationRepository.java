@@ -0,0 +1,26 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.notification.repository;
+
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import sys.be4man.domains.notification.model.entity.Notification;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    /**
+     * 첫 페이지 (최신순)
+     */
+    List<Notification> findByAccountIdAndIsDeletedFalseOrderByIdDesc(Long accountId, Limit limit);
+
+    /**
+     * cursor(이전 페이지 마지막 알림) 이후 페이지 (최신순)
+     */
+    List<Notification> findByAccountIdAndIdLessThanAndIsDeletedFalseOrderByIdDesc(Long accountId,
+            Long cursor, Limit limit);
+
+    /**
+     * 전체 건수 (withTotal 요청 시에만)
+     */
+    long countByAccountIdAndIsDeletedFalse(Long accountId);
+}
@@ -0,0 +1,103 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.notification.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import sys.be4man.domains.approval.repository.ApprovalLineRepository;
+import sys.be4man.domains.deployment.event.DeploymentCanceledEvent;
+import sys.be4man.domains.deployment.event.DeploymentRejectedEvent;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.deployment.repository.DeploymentRepository;
+import sys.be4man.domains.notification.event.NotificationsRecordedEvent;
+import sys.be4man.domains.notification.model.entity.Notification;
+import sys.be4man.domains.notification.model.type.NotificationKind;
+import sys.be4man.domains.notification.repository.NotificationRepository;
+import sys.be4man.domains.statistics.event.BuildDurationRegressionChangedEvent;
+
+/**
+ * 배포 취소/반려, 빌드 소요시간 회귀 감지/해제 이벤트를 알림 행으로 기록한다.
+ * - 취소/반려는 상태 변경과 같은 트랜잭션에서 기록하므로 롤백되면 알림도 남지 않는다.
+ * - 수신자 기준은 대시보드 알림과 같다. 취소: 승인한 승인자, 반려: 요청자 + 승인한 승인자.
+ * - 회귀는 빌드 커밋 이후 비동기로 오므로 자체 트랜잭션에서 기록한다. 수신자: 프로젝트 담당자 + 해당 빌드 배포 요청자.
+ * - 기록 후 NotificationsRecordedEvent 를 발행한다 (커밋 후 대시보드 실시간 전송).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRecorder {
+
+    private final NotificationRepository notificationRepository;
+    private final DeploymentRepository deploymentRepository;
+    private final ApprovalLineRepository approvalLineRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onDeploymentCanceled(DeploymentCanceledEvent event) {
+        deploymentRepository.findById(event.deploymentId()).ifPresent(deployment -> {
+            Set<Long> recipients = new LinkedHashSet<>(
+                    approvalLineRepository.findApprovedAccountIdsByDeploymentId(deployment.getId()));
+            record(deployment, NotificationKind.CANCELED, event.reason(), recipients);
+        });
+    }
+
+    @EventListener
+    public void onDeploymentRejected(DeploymentRejectedEvent event) {
+        deploymentRepository.findById(event.deploymentId()).ifPresent(deployment -> {
+            Set<Long> recipients = new LinkedHashSet<>();
+            recipients.add(deployment.getIssuer().getId());
+            recipients.addAll(
+                    approvalLineRepository.findApprovedAccountIdsByDeploymentId(deployment.getId()));
+            String reason = event.reason() != null ? event.reason() : "반려되었습니다.";
+            record(deployment, NotificationKind.REJECTED, reason, recipients);
+        });
+    }
+
+    @Transactional
+    @EventListener
+    public void onBuildDurationRegressionChanged(BuildDurationRegressionChangedEvent event) {
+        if (event.deploymentId() == null) {
+            return;
+        }
+        deploymentRepository.findById(event.deploymentId()).ifPresent(deployment -> {
+            Set<Long> recipients = new LinkedHashSet<>();
+            recipients.add(deployment.getProject().getManager().getId());
+            recipients.add(deployment.getIssuer().getId());
+            String reason = event.raised()
+                    ? "빌드 소요시간이 평소 %d초에서 %d초로 늘었습니다.".formatted(
+                            event.baselineSeconds(), event.currentSeconds())
+                    : "빌드 소요시간이 %d초로 안정되었습니다.".formatted(event.currentSeconds());
+            record(deployment, event.raised() ? NotificationKind.BUILD_REGRESSION
+                    : NotificationKind.BUILD_REGRESSION_CLEARED, reason, recipients);
+        });
+    }
+
+    private void record(Deployment deployment, NotificationKind kind, String reason,
+            Set<Long> recipients) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        String serviceName = deployment.getProject().getName();
+        List<Notification> notifications = recipients.stream()
+                .map(accountId -> Notification.builder()
+                        .accountId(accountId)
+                        .deploymentId(deployment.getId())
+                        .kind(kind)
+                        .reason(reason)
+                        .serviceName(serviceName)
+                        .deploymentTitle(deployment.getTitle())
+                        .build())
+                .toList();
+        notificationRepository.saveAll(notifications);
+        eventPublisher.publishEvent(new NotificationsRecordedEvent(deployment.getId(), kind,
+                reason, serviceName, deployment.getTitle(), List.copyOf(recipients)));
+        log.info("알림 기록 - deploymentId: {}, kind: {}, recipients: {}", deployment.getId(), kind,
+                recipients.size());
+    }
+}
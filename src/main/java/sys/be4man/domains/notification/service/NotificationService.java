@@ -0,0 +1,20 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.notification.service;
+
+import sys.be4man.domains.notification.dto.response.NotificationItemResponse;
+import sys.be4man.global.dto.response.CursorPageResponse;
+
+public interface NotificationService {
+
+    /**
+     * 알림 피드 조회 (최신순 keyset 페이지)
+     *
+     * @param accountId 수신자 Account ID
+     * @param cursor    이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size      페이지 크기
+     * @param withTotal 전체 건수 포함 여부 (true 일 때만 count 쿼리 실행)
+     * @return 알림 피드 페이지
+     */
+    CursorPageResponse<NotificationItemResponse> getFeed(Long accountId, String cursor, int size,
+            boolean withTotal);
+}
@@ -0,0 +1,55 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.notification.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sys.be4man.domains.notification.dto.response.NotificationItemResponse;
+import sys.be4man.domains.notification.model.entity.Notification;
+import sys.be4man.domains.notification.repository.NotificationRepository;
+import sys.be4man.global.dto.response.CursorPageResponse;
+import sys.be4man.global.util.KeysetCursor;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationServiceImpl implements NotificationService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationRepository notificationRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<NotificationItemResponse> getFeed(Long accountId, String cursor,
+            int size, boolean withTotal) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+        // 알림 id 는 기록 순서와 같으므로 cursor 의 (createdAt, id) 중 id 만 비교한다
+        Limit limit = Limit.of(pageSize + 1);
+        List<Notification> rows = position == null
+                ? notificationRepository.findByAccountIdAndIsDeletedFalseOrderByIdDesc(accountId, limit)
+                : notificationRepository.findByAccountIdAndIdLessThanAndIsDeletedFalseOrderByIdDesc(
+                        accountId, position.id(), limit);
+        Long total = withTotal
+                ? notificationRepository.countByAccountIdAndIsDeletedFalse(accountId) : null;
+
+        return CursorPageResponse.of(rows, pageSize,
+                n -> new KeysetCursor(n.getCreatedAt(), n.getId()),
+                page -> page.stream()
+                        .map(n -> new NotificationItemResponse(
+                                n.getId(),
+                                n.getKind().getLabel(),
+                                n.getReason(),
+                                n.getServiceName(),
+                                n.getDeploymentId(),
+                                n.getDeploymentTitle(),
+                                n.getCreatedAt()
+                        ))
+                        .toList(),
+                total);
+    }
+}
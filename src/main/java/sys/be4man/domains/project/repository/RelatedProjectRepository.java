@@ -26,6 +26,17 @@ public interface RelatedProjectRepository extends JpaRepository<RelatedProject,
             "AND p.isDeleted = false AND r.isDeleted = false")
     List<RelatedProject> findByProjectIdIn(@Param("projectIds") List<Long> projectIds);
 
+    /**
+     * 삭제되지 않은 전체 관련 프로젝트 조회 (대시보드 요약에서 한 번 읽어 여러 목록이 공유)
+     *
+     * @return RelatedProject 목록 (project, relatedProject fetch join)
+     */
+    @Query("SELECT rp FROM RelatedProject rp " +
+            "JOIN FETCH rp.project p " +
+            "JOIN FETCH rp.relatedProject r " +
+            "WHERE p.isDeleted = false AND r.isDeleted = false")
+    List<RelatedProject> findAllActive();
+
     void deleteByProject(Project project);
 
     boolean existsByProjectAndRelatedProject(Project project, Project relatedProject);
@@ -0,0 +1,81 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.report.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sys.be4man.domains.auth.dto.AccountPrincipal;
+import sys.be4man.domains.report.dto.request.ReportJobRequest;
+import sys.be4man.domains.report.dto.response.ReportJobResponse;
+import sys.be4man.domains.report.service.ReportJobService;
+
+@Tag(name = "Report", description = "통계 리포트 비동기 작업 API")
+@SecurityRequirement(name = "Bearer Authentication")
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ReportJobService reportJobService;
+
+    @Operation(
+            summary = "리포트 작업 접수",
+            description = """
+            통계 리포트를 백그라운드에서 생성합니다. 같은 명세의 결과가 캐시에 있으면 바로 COMPLETED 로 응답합니다.<br>
+            예) {"type": "SERIES", "projectId": null, "from": "2020-01-01", "to": "2025-06-30"}
+            """
+    )
+    @PostMapping
+    public ResponseEntity<ReportJobResponse> submit(
+            @AuthenticationPrincipal AccountPrincipal principal,
+            @RequestBody ReportJobRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(reportJobService.submit(principal.accountId(), request));
+    }
+
+    @Operation(summary = "리포트 작업 상태 조회")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ReportJobResponse> get(@PathVariable String jobId) {
+        return ResponseEntity.ok(reportJobService.get(jobId));
+    }
+
+    @Operation(summary = "리포트 작업 완료 구독 (SSE)", description = "작업이 끝나면 status 이벤트 한 번을 보내고 연결을 닫습니다.")
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable String jobId) {
+        return reportJobService.subscribe(jobId);
+    }
+
+    @Operation(summary = "리포트 결과 다운로드", description = "완료된 작업의 결과 JSON 을 내려받습니다.")
+    @GetMapping("/{jobId}/result")
+    public ResponseEntity<String> result(@PathVariable String jobId) {
+        String json = reportJobService.result(jobId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("report-" + jobId + ".json").build().toString())
+                .body(json);
+    }
+
+    @Operation(summary = "리포트 작업 취소", description = "같은 명세로 합쳐진 다른 요청자가 남아 있으면 내 요청만 빠지고 작업은 계속됩니다.")
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<ReportJobResponse> cancel(
+            @AuthenticationPrincipal AccountPrincipal principal,
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(reportJobService.cancel(principal.accountId(), jobId));
+    }
+}
@@ -0,0 +1,35 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.report.dto.request;
+
+import java.time.LocalDate;
+import sys.be4man.domains.report.model.type.ReportType;
+
+/**
+ * 리포트 작업 명세. 같은 명세는 같은 결과로 취급되어 캐시를 공유한다.
+ *
+ * @param type          리포트 종류
+ * @param projectId     프로젝트 ID (null 이면 전체)
+ * @param from          시작일 (SERIES, OVERVIEW)
+ * @param to            종료일 (SERIES, OVERVIEW)
+ * @param period        month | year (PERIOD, OVERVIEW, 기본 month)
+ * @param thresholdMins 임계 시간(분) (NEXT_SUCCESS, OVERVIEW, 기본 120)
+ */
+public record ReportJobRequest(
+        ReportType type,
+        Long projectId,
+        LocalDate from,
+        LocalDate to,
+        String period,
+        Long thresholdMins
+) {
+
+    /** 결과에 영향을 주는 값만 기본값을 채워 정규화한 명세 문자열 (캐시 키 재료) */
+    public String canonical() {
+        return "type=" + type
+                + ",p=" + (projectId != null ? projectId : "all")
+                + ",from=" + from
+                + ",to=" + to
+                + ",period=" + (period != null ? period : "month")
+                + ",th=" + (thresholdMins != null ? thresholdMins : 120L);
+    }
+}
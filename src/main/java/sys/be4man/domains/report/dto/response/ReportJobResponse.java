@@ -0,0 +1,32 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.report.dto.response;
+
+import java.time.LocalDateTime;
+import sys.be4man.domains.report.model.type.ReportJobStatus;
+import sys.be4man.domains.report.model.type.ReportType;
+
+/**
+ * 리포트 작업 상태 응답
+ *
+ * @param jobId      작업 ID
+ * @param type       리포트 종류
+ * @param status     QUEUED → RUNNING → COMPLETED | FAILED | CANCELED
+ * @param specHash   명세 해시 (같은 명세는 같은 값)
+ * @param cached     이전 결과를 재사용해 바로 완료된 작업인지
+ * @param createdAt  접수 시각
+ * @param startedAt  실행 시작 시각
+ * @param finishedAt 종료 시각
+ * @param error      실패 사유 (FAILED 일 때)
+ */
+public record ReportJobResponse(
+        String jobId,
+        ReportType type,
+        ReportJobStatus status,
+        String specHash,
+        boolean cached,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+}
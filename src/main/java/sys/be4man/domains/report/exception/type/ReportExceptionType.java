@@ -0,0 +1,31 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.report.exception.type;
+
+import lombok.RequiredArgsConstructor;
+import sys.be4man.global.exception.type.ExceptionType;
+
+/**
+ * 리포트 작업(Report) 도메인 예외 타입
+ */
+@RequiredArgsConstructor
+public enum ReportExceptionType implements ExceptionType {
+
+    REPORT_TYPE_REQUIRED("리포트 종류(type)는 필수입니다."),
+    INVALID_PERIOD("조회 시작일이 종료일보다 늦습니다."),
+    INVALID_PERIOD_UNIT("period 는 month 또는 year 만 가능합니다."),
+    JOB_NOT_FOUND("리포트 작업을 찾을 수 없습니다. (만료되었거나 존재하지 않는 작업)"),
+    JOB_NOT_COMPLETED("리포트 작업이 아직 완료되지 않았습니다."),
+    JOB_QUEUE_FULL("대기 중인 리포트 작업이 많습니다. 잠시 후 다시 시도해 주세요.");
+
+    private final String message;
+
+    @Override
+    public String getName() {
+        return name();
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,15 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.report.model.type;
+
+public enum ReportJobStatus {
+
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELED;
+    }
+}
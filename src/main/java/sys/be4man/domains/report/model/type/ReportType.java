@@ -0,0 +1,15 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.report.model.type;
+
+/**
+ * 비동기로 생성할 수 있는 통계 리포트 종류 (/api/statistics/* 의 각 차트와 같은 응답 형식)
+ */
+public enum ReportType {
+
+    OVERVIEW,       // 전체 차트 묶음 (StatisticsOverviewResponse)
+    SERIES,         // 실패 유형 시계열 (from, to)
+    DURATION,       // 월별 평균 소요시간
+    PERIOD,         // 월/연 단위 배포 건수 (period)
+    BAN_TYPE,       // 작업 금지 유형별 건수
+    NEXT_SUCCESS    // 실패 → 다음 성공까지 걸린 시간 (thresholdMins)
+}
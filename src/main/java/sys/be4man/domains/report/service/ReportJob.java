@@ -0,0 +1,132 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.report.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sys.be4man.domains.report.dto.request.ReportJobRequest;
+import sys.be4man.domains.report.dto.response.ReportJobResponse;
+import sys.be4man.domains.report.model.type.ReportJobStatus;
+
+/**
+ * 리포트 작업 한 건의 상태. 상태 전이는 ReportJobService 에서만 일어난다.
+ */
+@Getter
+class ReportJob {
+
+    private final String id;
+    private final ReportJobRequest spec;
+    private final String specHash;
+    private final boolean cached;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile ReportJobStatus status;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+    private volatile String resultJson;
+    private volatile Future<?> future;
+    // 같은 명세로 합쳐진 요청자 계정 ID. 남은 요청자가 모두 취소할 때만 실제로 취소한다 (this 로 동기화)
+    @Getter(AccessLevel.NONE)
+    private final Set<Long> requesters = new HashSet<>();
+
+    ReportJob(String id, Long requesterId, ReportJobRequest spec, String specHash,
+            String cachedResult) {
+        this.id = id;
+        this.requesters.add(requesterId);
+        this.spec = spec;
+        this.specHash = specHash;
+        this.cached = cachedResult != null;
+        if (cachedResult != null) {
+            this.status = ReportJobStatus.COMPLETED;
+            this.resultJson = cachedResult;
+            this.startedAt = createdAt;
+            this.finishedAt = createdAt;
+        } else {
+            this.status = ReportJobStatus.QUEUED;
+        }
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    /** 같은 명세 요청을 이 작업에 합친다. 이미 끝났으면 false (새 작업을 만들어야 함). 같은 요청자는 한 번만 센다 */
+    synchronized boolean retain(Long requesterId) {
+        if (status.isFinished()) {
+            return false;
+        }
+        requesters.add(requesterId);
+        return true;
+    }
+
+    /**
+     * 요청자 한 명의 취소. 그 요청자만 빠지므로 여러 번 호출해도 한 번과 같다.
+     * 남은 요청자가 없을 때만 CANCELED 로 전이하고 true
+     */
+    synchronized boolean release(Long requesterId) {
+        if (status.isFinished() || !requesters.remove(requesterId)) {
+            return false;
+        }
+        return requesters.isEmpty() && finish(ReportJobStatus.CANCELED, null, null);
+    }
+
+    /** QUEUED → RUNNING. 이미 취소됐으면 false */
+    synchronized boolean start() {
+        if (status != ReportJobStatus.QUEUED) {
+            return false;
+        }
+        status = ReportJobStatus.RUNNING;
+        startedAt = LocalDateTime.now();
+        return true;
+    }
+
+    /** 종료 상태로 전이. 이미 종료(취소 등)됐으면 false */
+    synchronized boolean finish(ReportJobStatus to, String resultJson, String error) {
+        if (status.isFinished()) {
+            return false;
+        }
+        this.status = to;
+        this.resultJson = resultJson;
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        return true;
+    }
+
+    ReportJobResponse toResponse() {
+        return new ReportJobResponse(id, spec.type(), status, specHash, cached, createdAt,
+                startedAt, finishedAt, error);
+    }
+
+    void subscribe(SseEmitter emitter) {
+        subscribers.add(emitter);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        // 구독 전에 이미 끝났으면 바로 알린다
+        if (status.isFinished()) {
+            notifySubscribers();
+        }
+    }
+
+    void notifySubscribers() {
+        ReportJobResponse body = toResponse();
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event().name("status").data(body));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                emitter.complete();
+            }
+            subscribers.remove(emitter);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.report.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sys.be4man.domains.report.dto.request.ReportJobRequest;
+import sys.be4man.domains.report.dto.response.ReportJobResponse;
+import sys.be4man.domains.report.exception.type.ReportExceptionType;
+import sys.be4man.domains.report.model.type.ReportJobStatus;
+import sys.be4man.domains.statistics.dto.response.StatisticsOverviewResponse;
+import sys.be4man.domains.statistics.service.StatisticsService;
+import sys.be4man.domains.statistics.service.cache.StatisticsResponseCache;
+import sys.be4man.global.exception.BadRequestException;
+import sys.be4man.global.exception.ConflictException;
+import sys.be4man.global.exception.NotFoundException;
+import sys.be4man.global.exception.TooManyRequestsException;
+
+/**
+ * 긴 기간/전체 서비스 통계를 요청 스레드 밖에서 만드는 리포트 작업.
+ * - 접수 시 명세 해시로 완료된 결과 캐시(StatisticsResponseCache, 데이터 변경 시 세대 증가로 무효화)를 먼저 본다.
+ *   있으면 바로 완료된 작업을 돌려주고, 같은 명세가 실행 중이면 그 작업을 그대로 돌려준다.
+ * - 실행은 전용 풀(reportTaskExecutor)에서 읽기 전용 트랜잭션 + 제한 시간으로 한다. 큐가 차면 429.
+ * - 같은 명세 요청은 요청자 계정별로 합치고, 취소는 합쳐진 요청자가 모두 취소할 때만 실제로 한다.
+ *   한 요청자의 반복 취소는 한 번으로 친다.
+ * - 취소는 대기 중이면 실행하지 않고, 실행 중이면 스레드를 인터럽트해 다음 구간부터 중단한다.
+ *   이미 DB 에서 실행 중인 쿼리는 트랜잭션 제한 시간으로 끊긴다.
+ * - 작업 상태는 인스턴스 메모리에 job-ttl 동안 보관한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportJobService {
+
+    private static final String CACHE_ENDPOINT = "report";
+
+    private final StatisticsService statisticsService;
+    private final StatisticsResponseCache statisticsResponseCache;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Qualifier("reportTaskExecutor")
+    private final ThreadPoolTaskExecutor reportTaskExecutor;
+
+    @Value("${report.timeout-seconds:600}")
+    private int timeoutSeconds;
+
+    @Value("${report.job-ttl-minutes:60}")
+    private long jobTtlMinutes;
+
+    private TransactionTemplate readOnlyTx;
+    private Cache<String, ReportJob> jobs;
+    // 실행 중(QUEUED/RUNNING)인 작업. 같은 명세 요청을 합친다
+    private final Map<String, ReportJob> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        readOnlyTx.setTimeout(timeoutSeconds);
+        jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(jobTtlMinutes))
+                .build();
+    }
+
+    public ReportJobResponse submit(Long accountId, ReportJobRequest spec) {
+        validate(spec);
+        String specHash = DigestUtils.md5DigestAsHex(
+                spec.canonical().getBytes(StandardCharsets.UTF_8));
+
+        String cachedResult = statisticsResponseCache.peekJson(CACHE_ENDPOINT, spec.projectId(),
+                cacheParams(specHash));
+        if (cachedResult != null) {
+            ReportJob job = new ReportJob(newId(), accountId, spec, specHash, cachedResult);
+            jobs.put(job.getId(), job);
+            return job.toResponse();
+        }
+
+        // 합치기와 취소가 엇갈리지 않도록 요청자 추가를 inFlight 갱신 안에서 한다
+        ReportJob[] created = {null};
+        ReportJob job = inFlight.compute(specHash, (h, running) -> {
+            if (running != null && running.retain(accountId)) {
+                return running;
+            }
+            created[0] = new ReportJob(newId(), accountId, spec, h, null);
+            return created[0];
+        });
+        if (created[0] == null) {
+            return job.toResponse();
+        }
+
+        jobs.put(job.getId(), job);
+        try {
+            job.attach(reportTaskExecutor.submit(() -> execute(job)));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(specHash, job);
+            jobs.invalidate(job.getId());
+            throw new TooManyRequestsException(ReportExceptionType.JOB_QUEUE_FULL);
+        }
+        log.info("[Report] 작업 접수. jobId={}, spec={}", job.getId(), spec.canonical());
+        return job.toResponse();
+    }
+
+    public ReportJobResponse get(String jobId) {
+        return find(jobId).toResponse();
+    }
+
+    /**
+     * 같은 명세로 합쳐진 요청이 여럿이면 호출한 요청자만 빼고, 남은 요청자가 없을 때 실행을 멈춘다.
+     * 이미 빠진 요청자나 요청하지 않은 계정의 취소는 상태를 바꾸지 않는다.
+     */
+    public ReportJobResponse cancel(Long accountId, String jobId) {
+        ReportJob job = find(jobId);
+        if (job.release(accountId)) {
+            if (job.getFuture() != null) {
+                job.getFuture().cancel(true);
+            }
+            inFlight.remove(job.getSpecHash(), job);
+            job.notifySubscribers();
+            log.info("[Report] 작업 취소. jobId={}", jobId);
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * 완료되면 status 이벤트 한 번을 보내고 닫히는 SSE 구독
+     */
+    public SseEmitter subscribe(String jobId) {
+        ReportJob job = find(jobId);
+        SseEmitter emitter = new SseEmitter((long) timeoutSeconds * 1000);
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    /** 완료된 결과 JSON */
+    public String result(String jobId) {
+        ReportJob job = find(jobId);
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new ConflictException(ReportExceptionType.JOB_NOT_COMPLETED);
+        }
+        return job.getResultJson();
+    }
+
+    private void execute(ReportJob job) {
+        if (!job.start()) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        try {
+            String json = readOnlyTx.execute(status -> serialize(build(job.getSpec())));
+            if (job.finish(ReportJobStatus.COMPLETED, json, null)) {
+                statisticsResponseCache.putJson(CACHE_ENDPOINT, job.getSpec().projectId(),
+                        cacheParams(job.getSpecHash()), json);
+                log.info("[Report] 작업 완료. jobId={}, elapsedMs={}", job.getId(),
+                        System.currentTimeMillis() - started);
+            }
+        } catch (CancellationException e) {
+            job.finish(ReportJobStatus.CANCELED, null, null);
+        } catch (Exception e) {
+            log.warn("[Report] 작업 실패. jobId={}, err={}", job.getId(), e.getMessage(), e);
+            job.finish(ReportJobStatus.FAILED, null, e.getClass().getSimpleName());
+        } finally {
+            inFlight.remove(job.getSpecHash(), job);
+            jobs.put(job.getId(), job);
+            job.notifySubscribers();
+        }
+    }
+
+    private Object build(ReportJobRequest spec) {
+        String service = spec.projectId() != null ? String.valueOf(spec.projectId()) : "all";
+        String period = spec.period() != null ? spec.period() : "month";
+        long thresholdMins = spec.thresholdMins() != null ? spec.thresholdMins() : 120L;
+
+        return switch (spec.type()) {
+            case SERIES -> statisticsService.getSeries(service, spec.from(), spec.to());
+            case DURATION -> statisticsService.getDeployDuration(service);
+            case PERIOD -> statisticsService.getPeriodStats(period, spec.projectId());
+            case BAN_TYPE -> statisticsService.getBanTypeStats(spec.projectId());
+            case NEXT_SUCCESS ->
+                    statisticsService.getTimeToNextSuccessPerProject(spec.projectId(), thresholdMins);
+            // 구간 사이마다 취소 여부를 확인하며 순서대로 실행
+            case OVERVIEW -> new StatisticsOverviewResponse(
+                    spec.projectId(),
+                    section(() -> statisticsService.getSeries(service, spec.from(), spec.to())),
+                    section(statisticsService::getDeploySuccessRate),
+                    section(() -> statisticsService.getDeployDuration(service)),
+                    section(() -> statisticsService.getPeriodStats(period, spec.projectId())),
+                    section(() -> statisticsService.getBanTypeStats(spec.projectId())),
+                    section(() -> statisticsService.getTimeToNextSuccessPerProject(
+                            spec.projectId(), thresholdMins)),
+                    Map.of());
+        };
+    }
+
+    private static <T> T section(Supplier<T> query) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException();
+        }
+        return query.get();
+    }
+
+    private void validate(ReportJobRequest spec) {
+        if (spec == null || spec.type() == null) {
+            throw new BadRequestException(ReportExceptionType.REPORT_TYPE_REQUIRED);
+        }
+        if (spec.from() != null && spec.to() != null && spec.from().isAfter(spec.to())) {
+            throw new BadRequestException(ReportExceptionType.INVALID_PERIOD);
+        }
+        if (spec.period() != null && !"month".equals(spec.period())
+                && !"year".equals(spec.period())) {
+            throw new BadRequestException(ReportExceptionType.INVALID_PERIOD_UNIT);
+        }
+    }
+
+    private ReportJob find(String jobId) {
+        ReportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new NotFoundException(ReportExceptionType.JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private String serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("리포트 결과 직렬화 실패", e);
+        }
+    }
+
+    // 기간을 생략한 명세는 현재월 기준으로 계산되므로 월이 바뀌면 다른 결과로 본다
+    private static String cacheParams(String specHash) {
+        return "h=" + specHash + ",now=" + YearMonth.now();
+    }
+
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
+}
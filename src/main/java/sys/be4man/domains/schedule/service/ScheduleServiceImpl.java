@@ -12,11 +12,13 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sys.be4man.domains.account.model.entity.Account;
 import sys.be4man.domains.account.model.type.Role;
 import sys.be4man.domains.account.service.AccountChecker;
+import sys.be4man.domains.ban.event.BanChangedEvent;
 import sys.be4man.domains.ban.model.entity.Ban;
 import sys.be4man.domains.ban.model.entity.ProjectBan;
 import sys.be4man.domains.ban.model.type.BanType;
@@ -25,6 +27,7 @@ import sys.be4man.domains.ban.model.type.RecurrenceWeekOfMonth;
 import sys.be4man.domains.ban.model.type.RecurrenceWeekday;
 import sys.be4man.domains.ban.repository.BanRepository;
 import sys.be4man.domains.ban.repository.ProjectBanRepository;
+import sys.be4man.domains.deployment.event.DeploymentCanceledEvent;
 import sys.be4man.domains.deployment.model.entity.Deployment;
 import sys.be4man.domains.deployment.model.type.DeploymentStage;
 import sys.be4man.domains.deployment.model.type.DeploymentStatus;
@@ -60,6 +63,7 @@ public class ScheduleServiceImpl implements ScheduleService {
     private final AccountChecker accountChecker;
     private final DeploymentRepository deploymentRepository;
     private final RelatedProjectRepository relatedProjectRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -121,6 +125,7 @@ public class ScheduleServiceImpl implements ScheduleService {
                         .build())
                 .toList();
         projectBanRepository.saveAll(projectBans);
+        eventPublisher.publishEvent(new BanChangedEvent(savedBan.getId()));
 
         cancelOverlappingDeploymentsForBan(savedBan, request.relatedProjectIds());
 
@@ -173,6 +178,10 @@ public class ScheduleServiceImpl implements ScheduleService {
         }
 
         deploymentRepository.saveAll(overlappingDeployments);
+        for (Deployment deployment : overlappingDeployments) {
+            eventPublisher.publishEvent(new DeploymentCanceledEvent(
+                    deployment.getId(), "작업 금지 기간에 해당되어 자동 취소되었습니다."));
+        }
     }
 
     /**
@@ -345,6 +354,7 @@ public class ScheduleServiceImpl implements ScheduleService {
 
         ban.softDelete();
         banRepository.save(ban);
+        eventPublisher.publishEvent(new BanChangedEvent(ban.getId()));
 
         log.info("작업 금지 기간 취소 완료 - banId: {}, accountId: {}", banId, accountId);
     }
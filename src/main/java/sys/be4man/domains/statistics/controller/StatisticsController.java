@@ -2,17 +2,35 @@
 package sys.be4man.domains.statistics.controller;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import sys.be4man.domains.analysis.model.type.ProblemType;
 import sys.be4man.domains.statistics.dto.response.BanTypeStatsResponse;
+import sys.be4man.domains.statistics.dto.response.BuildDurationRegressionResponse;
 import sys.be4man.domains.statistics.dto.response.DeployDurationResponse;
 import sys.be4man.domains.statistics.dto.response.DeploySuccessRateResponseDto;
+import sys.be4man.domains.statistics.dto.response.DoraMetricsResponse;
+import sys.be4man.domains.statistics.dto.response.DurationDistributionResponse;
+import sys.be4man.domains.statistics.dto.response.FactQueryResponse;
 import sys.be4man.domains.statistics.dto.response.FailureSeriesResponseDto;
 import sys.be4man.domains.statistics.dto.response.PeriodStatsResponse;
+import sys.be4man.domains.statistics.dto.response.StatisticsOverviewResponse;
 import sys.be4man.domains.statistics.dto.response.TimeToNextSuccessResponse;
+import sys.be4man.domains.statistics.service.DurationHistogramService;
+import sys.be4man.domains.statistics.service.StatisticsOverviewService;
+import sys.be4man.domains.statistics.service.StatisticsRollupService;
 import sys.be4man.domains.statistics.service.StatisticsService;
+import sys.be4man.domains.statistics.service.cache.StatisticsResponseCache;
+import sys.be4man.domains.statistics.service.cache.StatisticsResponseCache.Cached;
+import sys.be4man.domains.statistics.service.dora.DoraMetricsEngine;
+import sys.be4man.domains.statistics.service.facts.FactCriteria;
+import sys.be4man.domains.statistics.service.facts.StatisticsFactStore;
+import sys.be4man.domains.statistics.service.regression.BuildDurationRegressionDetector;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,6 +38,13 @@ import sys.be4man.domains.statistics.service.StatisticsService;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final StatisticsRollupService statisticsRollupService;
+    private final StatisticsResponseCache statisticsResponseCache;
+    private final StatisticsOverviewService statisticsOverviewService;
+    private final DurationHistogramService durationHistogramService;
+    private final StatisticsFactStore statisticsFactStore;
+    private final DoraMetricsEngine doraMetricsEngine;
+    private final BuildDurationRegressionDetector buildDurationRegressionDetector;
 
     /**
      * 예) /api/projects/42/deploy-failures/stats 예)
@@ -35,20 +60,41 @@ public class StatisticsController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
             LocalDate to
     ) {
-        return ResponseEntity.ok(statisticsService.getSeries(serviceId, from, to));
+        Long projectId = parseLongOrNull(serviceId);
+        return cached(statisticsResponseCache.get("series", projectId,
+                "s=" + serviceId + ",from=" + from + ",to=" + to + ",now=" + YearMonth.now(),
+                FailureSeriesResponseDto.class,
+                () -> statisticsService.getSeries(serviceId, from, to)));
     }
 
     @GetMapping("/deploy-success-rate")
     public ResponseEntity<DeploySuccessRateResponseDto> getDeploySuccessRate() {
-        DeploySuccessRateResponseDto body = statisticsService.getDeploySuccessRate();
-        return ResponseEntity.ok(body);
+        return cached(statisticsResponseCache.get("success-rate", null, "-",
+                DeploySuccessRateResponseDto.class, statisticsService::getDeploySuccessRate));
     }
 
     @GetMapping("/deploy-duration")
     public ResponseEntity<DeployDurationResponse> getDeployDuration(
             @RequestParam(value = "service", required = false, defaultValue = "all") String service
     ) {
-        return ResponseEntity.ok(statisticsService.getDeployDuration(service));
+        // 프로젝트명으로 조회하는 경우는 전체 범위로 취급 (어느 프로젝트가 바뀌어도 무효화)
+        return cached(statisticsResponseCache.get("duration", parseLongOrNull(service),
+                "s=" + service + ",now=" + YearMonth.now(), DeployDurationResponse.class,
+                () -> statisticsService.getDeployDuration(service)));
+    }
+
+    /**
+     * 빌드 소요시간 분포(초): 월별 p50/p75/p90/p95/p99/max 와 구간별 히스토그램
+     * 예) /api/statistics/deploy-duration/distribution?projectId=42&months=12
+     */
+    @GetMapping("/deploy-duration/distribution")
+    public ResponseEntity<DurationDistributionResponse> getDeployDurationDistribution(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(defaultValue = "12") int months
+    ) {
+        return cached(statisticsResponseCache.get("duration-dist", projectId,
+                "m=" + months + ",now=" + YearMonth.now(), DurationDistributionResponse.class,
+                () -> durationHistogramService.getDistribution(projectId, months)));
     }
 
     @GetMapping("/period")
@@ -56,15 +102,17 @@ public class StatisticsController {
             @RequestParam String period,
             @RequestParam(required = false) Long projectId
     ) {
-        PeriodStatsResponse body = statisticsService.getPeriodStats(period, projectId);
-        return ResponseEntity.ok(body);
+        return cached(statisticsResponseCache.get("period", projectId,
+                "p=" + period + ",now=" + YearMonth.now(), PeriodStatsResponse.class,
+                () -> statisticsService.getPeriodStats(period, projectId)));
     }
 
     @GetMapping("/ban-type")
     public ResponseEntity<BanTypeStatsResponse> getBanTypeStats(
             @RequestParam(required = false) Long projectId
     ) {
-        return ResponseEntity.ok(statisticsService.getBanTypeStats(projectId));
+        return cached(statisticsResponseCache.get("ban-type", projectId, "-",
+                BanTypeStatsResponse.class, () -> statisticsService.getBanTypeStats(projectId)));
     }
 
     @GetMapping("/follow-up/next-success")
@@ -77,4 +125,121 @@ public class StatisticsController {
         return ResponseEntity.ok(body);
     }
 
+    /**
+     * 통계 화면 전체 차트를 한 번에 조회. 각 차트 쿼리는 병렬로 실행되며,
+     * 시간 초과된 차트는 null + errors 로 내려간다.
+     * 예) /api/statistics/overview?projectId=42&from=2025-01-01&to=2025-11-30
+     */
+    @GetMapping("/overview")
+    public ResponseEntity<StatisticsOverviewResponse> overview(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to,
+            @RequestParam(defaultValue = "month") String period,
+            @RequestParam(defaultValue = "120") long thresholdMins
+    ) {
+        return ResponseEntity.ok(statisticsOverviewService.getOverview(projectId, from, to,
+                period, thresholdMins));
+    }
+
+    /**
+     * DORA 지표 (배포 빈도, 변경 리드 타임, 변경 실패율, 복구 시간) 최근 7/30/90일
+     * 예) /api/statistics/dora?projectId=42
+     */
+    @GetMapping("/dora")
+    public ResponseEntity<DoraMetricsResponse> getDoraMetrics(
+            @RequestParam(required = false) Long projectId
+    ) {
+        return ResponseEntity.ok(doraMetricsEngine.getMetrics(projectId));
+    }
+
+    /**
+     * DORA 지표 상태를 DB 의 배포 결과로 다시 계산 (소프트 삭제 반영 등 보정용, HEAD 권한)
+     */
+    @PostMapping("/dora/rebuild")
+    public ResponseEntity<Void> rebuildDoraMetrics() {
+        doraMetricsEngine.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 빌드 소요시간 회귀 감지 상태
+     * 예) /api/statistics/build-regressions            (회귀 중인 프로젝트만)
+     *     /api/statistics/build-regressions?projectId=42 (해당 프로젝트 상태)
+     */
+    @GetMapping("/build-regressions")
+    public ResponseEntity<List<BuildDurationRegressionResponse>> getBuildRegressions(
+            @RequestParam(required = false) Long projectId
+    ) {
+        return ResponseEntity.ok(buildDurationRegressionDetector.getRegressions(projectId));
+    }
+
+    /**
+     * 빌드 이력 전체를 다시 재생해 회귀 감지 상태를 교체 (HEAD 권한)
+     */
+    @PostMapping("/build-regressions/rebuild")
+    public ResponseEntity<Void> rebuildBuildRegressions() {
+        buildDurationRegressionDetector.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 인메모리 팩트 저장소 임의 집계 (차트 추가 시 새 쿼리 없이 조합만 바꿔 조회)
+     * 예) /api/statistics/facts?source=stage&groupBy=month,problemType&success=false&from=2025-01
+     */
+    @GetMapping("/facts")
+    public ResponseEntity<FactQueryResponse> queryFacts(
+            @RequestParam(defaultValue = "build") String source,
+            @RequestParam(required = false) List<String> groupBy,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(required = false) String stageName,
+            @RequestParam(required = false) ProblemType problemType,
+            @RequestParam(required = false) Boolean success
+    ) {
+        return ResponseEntity.ok(statisticsService.queryFacts(source, groupBy,
+                new FactCriteria(projectId, from, to, stageName, problemType, success)));
+    }
+
+    /**
+     * 팩트 저장소를 DB 기준으로 다시 적재 (소프트 삭제 반영 등 보정용, HEAD 권한)
+     */
+    @PostMapping("/facts/rebuild")
+    public ResponseEntity<Void> rebuildFacts() {
+        statisticsFactStore.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 일자별 롤업 테이블을 원본 데이터 기준으로 다시 계산 (소프트 삭제 반영 등 보정용, HEAD 권한, 비동기)
+     */
+    @PostMapping("/rollup/rebuild")
+    public ResponseEntity<Void> rebuildRollup() {
+        statisticsRollupService.rebuildAsync();
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * ETag 를 붙여 응답한다. If-None-Match 가 일치하면 Spring 이 304 로 바꿔 보낸다.
+     */
+    private static <T> ResponseEntity<T> cached(Cached<T> cached) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(cached.etag())
+                .body(cached.body());
+    }
+
+    private static Long parseLongOrNull(String s) {
+        try {
+            return s == null ? null : Long.parseLong(s.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
 }
@@ -0,0 +1,21 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 빌드 소요시간 회귀 감지 상태 (성공 빌드 기준).
+ */
+public record BuildDurationRegressionResponse(
+        Long projectId,
+        String projectName,
+        boolean regressing,             // 지속적인 느려짐 감지 중
+        long samples,                   // 반영된 성공 빌드 수
+        double baselineSeconds,         // 기준 소요시간 (EWMA, 기하평균)
+        double currentSeconds,          // 최근 소요시간 수준 (빠른 EWMA)
+        double changeRate,              // (current - baseline) / baseline
+        double cusum,                   // 누적 편차 (임계값 5 초과 시 감지)
+        LocalDateTime detectedAt,       // 감지된 빌드 시작 시각
+        Long detectedBuildRunId,
+        LocalDateTime lastBuildAt
+) {}
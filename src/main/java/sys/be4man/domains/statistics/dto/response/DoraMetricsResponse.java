@@ -0,0 +1,28 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DORA 4대 지표 (최근 7/30/90일 창). 표본이 없으면 해당 지표는 null.
+ */
+public record DoraMetricsResponse(
+        Long projectId,                 // null 이면 전체
+        boolean ready,                  // 기동 후 재계산이 끝나기 전이면 false
+        LocalDateTime openFailureSince, // 아직 복구되지 않은 배포 실패 시각
+        List<Window> windows
+) {
+
+    public record Window(
+            int days,
+            long deployments,               // 성공 배포 수
+            double deploymentsPerDay,       // 배포 빈도
+            Double leadTimeMinutes,         // PR 병합 → 첫 배포 성공 평균
+            long leadTimeSamples,
+            Double changeFailureRate,       // 실패 / (성공 + 실패)
+            long failedDeployments,
+            Double timeToRestoreMinutes,    // 배포 실패 → 다음 배포 성공 평균
+            long restoreSamples
+    ) {}
+}
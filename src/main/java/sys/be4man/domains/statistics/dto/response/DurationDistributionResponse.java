@@ -0,0 +1,32 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.dto.response;
+
+import java.util.List;
+
+/**
+ * 빌드 소요시간 분포 (단위: 초). total 은 조회 기간 전체를 병합한 분포.
+ */
+public record DurationDistributionResponse(
+        Long projectId,
+        List<MonthDistribution> months,
+        MonthDistribution total
+) {
+
+    public record MonthDistribution(
+            String month,           // "YYYY-MM" (total 은 null)
+            long count,
+            long p50,
+            long p75,
+            long p90,
+            long p95,
+            long p99,
+            long max,
+            List<Bucket> histogram
+    ) {}
+
+    public record Bucket(
+            long lowerSec,
+            Long upperSec,          // 마지막 구간은 null (상한 없음)
+            long count
+    ) {}
+}
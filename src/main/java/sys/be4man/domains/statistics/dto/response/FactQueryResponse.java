@@ -0,0 +1,29 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.dto.response;
+
+import java.util.List;
+
+/**
+ * 인메모리 팩트 저장소 집계 결과. 그룹핑하지 않은 차원은 null.
+ */
+public record FactQueryResponse(
+        String source,              // BUILD | STAGE
+        List<String> groupBy,
+        boolean ready,              // 기동 후 적재가 끝나기 전이면 false (rows 비어 있음)
+        int scannedRows,
+        long elapsedMicros,
+        List<Row> rows
+) {
+
+    public record Row(
+            Long projectId,
+            String projectName,
+            String month,           // "YYYY-MM"
+            String stageName,
+            String problemType,
+            Boolean success,
+            long count,
+            long successCount,
+            Double avgDurationSeconds   // BUILD 만
+    ) {}
+}
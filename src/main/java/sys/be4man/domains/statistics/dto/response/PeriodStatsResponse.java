@@ -6,7 +6,7 @@ import java.util.List;
 public record PeriodStatsResponse(
         String period,            // "month" | "year"
         Long projectId,           // null 가능
-        List<Item> items          // 월별 12개 or 연도별 N개
+        List<Item> items          // 최근 12개월(오래된 달부터) or 연도별 N개
 ) {
     public record Item(
             String label,         // "1".."12" (month) or "2023" (year)
@@ -0,0 +1,19 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.dto.response;
+
+import java.util.Map;
+
+/**
+ * 통계 화면 전체 차트를 한 번에 내려주는 응답.
+ * 시간 초과/실패한 구간은 null 이고, errors 에 구간명 → 사유가 담긴다.
+ */
+public record StatisticsOverviewResponse(
+        Long projectId,
+        FailureSeriesResponseDto series,
+        DeploySuccessRateResponseDto successRate,
+        DeployDurationResponse duration,
+        PeriodStatsResponse period,
+        BanTypeStatsResponse banType,
+        TimeToNextSuccessResponse nextSuccess,
+        Map<String, String> errors
+) {}
@@ -7,5 +7,8 @@ public record TimeToNextSuccessItem(
         long avgMins,
         long sampleCount,
         long withinMinutes,
-        long overMinutes
-) {}
\ No newline at end of file
+        long overMinutes,
+        long p50Mins,
+        long p90Mins,
+        long p99Mins
+) {}
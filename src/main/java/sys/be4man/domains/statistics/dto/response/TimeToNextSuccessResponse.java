@@ -5,5 +5,6 @@ import java.util.List;
 
 public record TimeToNextSuccessResponse(
         long thresholdMins,
-        List<TimeToNextSuccessItem> items
-) {}
\ No newline at end of file
+        List<TimeToNextSuccessItem> items,
+        TimeToNextSuccessItem all     // 전체 프로젝트 합산 (projectId/projectName = null)
+) {}
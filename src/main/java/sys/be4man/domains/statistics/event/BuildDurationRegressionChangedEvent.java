@@ -0,0 +1,15 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.event;
+
+/**
+ * 프로젝트 빌드 소요시간 회귀가 감지(raised = true)되거나 해제(raised = false)되었음을 알리는 이벤트.
+ * deploymentId/buildRunId 는 상태를 바꾼 빌드. 빌드 커밋 이후 비동기로 발행되므로 트랜잭션 밖에서 온다.
+ */
+public record BuildDurationRegressionChangedEvent(
+        Long projectId,
+        Long deploymentId,
+        Long buildRunId,
+        boolean raised,
+        long baselineSeconds,
+        long currentSeconds
+) {}
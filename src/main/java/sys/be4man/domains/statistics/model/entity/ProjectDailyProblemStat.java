@@ -0,0 +1,59 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+
+/**
+ * 프로젝트 x 일자 x 문제 유형별 실패 스테이지 수 롤업 (빌드 시작일 기준)
+ */
+@Entity
+@Table(name = "project_daily_problem_stat",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_project_daily_problem_stat_project_id_stat_date_problem_type",
+                columnNames = {"project_id", "stat_date", "problem_type"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProjectDailyProblemStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "problem_type", nullable = false)
+    private ProblemType problemType;
+
+    @Column(name = "failure_count", nullable = false)
+    private long failureCount;
+
+    @Builder
+    public ProjectDailyProblemStat(Long projectId, LocalDate statDate, ProblemType problemType,
+            long failureCount) {
+        this.projectId = projectId;
+        this.statDate = statDate;
+        this.problemType = problemType;
+        this.failureCount = failureCount;
+    }
+}
@@ -0,0 +1,66 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트 x 일자 통계 롤업
+ * - 배포 성공/실패: 배포 작업 생성일 기준 (결과가 바뀌면 같은 날짜 버킷에서 증감)
+ * - 빌드 수/소요시간 합: 빌드 시작일 기준
+ * 증분 반영은 ProjectDailyStatRepository 의 upsert 로만 수행한다.
+ */
+@Entity
+@Table(name = "project_daily_stat",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_project_daily_stat_project_id_stat_date",
+                columnNames = {"project_id", "stat_date"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProjectDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "deployment_success_count", nullable = false)
+    private long deploymentSuccessCount;
+
+    @Column(name = "deployment_failed_count", nullable = false)
+    private long deploymentFailedCount;
+
+    @Column(name = "build_count", nullable = false)
+    private long buildCount;
+
+    @Column(name = "build_duration_sum", nullable = false)
+    private long buildDurationSum;
+
+    @Builder
+    public ProjectDailyStat(Long projectId, LocalDate statDate, long deploymentSuccessCount,
+            long deploymentFailedCount, long buildCount, long buildDurationSum) {
+        this.projectId = projectId;
+        this.statDate = statDate;
+        this.deploymentSuccessCount = deploymentSuccessCount;
+        this.deploymentFailedCount = deploymentFailedCount;
+        this.buildCount = buildCount;
+        this.buildDurationSum = buildDurationSum;
+    }
+}
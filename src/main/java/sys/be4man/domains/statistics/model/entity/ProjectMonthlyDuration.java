@@ -0,0 +1,69 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sys.be4man.domains.statistics.service.sketch.QuantileSketch;
+
+/**
+ * 프로젝트 x 월 빌드 소요시간(초) 분포.
+ * sketch 는 QuantileSketch.toBytes() 로 직렬화한 값이며, 조회 시 월/프로젝트 단위로 병합해 분위수를 구한다.
+ */
+@Entity
+@Table(name = "project_monthly_duration",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_project_monthly_duration_project_id_month_start",
+                columnNames = {"project_id", "month_start"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProjectMonthlyDuration {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // 해당 월 1일
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount;
+
+    @Column(name = "max_seconds", nullable = false)
+    private long maxSeconds;
+
+    @Column(name = "sketch", nullable = false)
+    private byte[] sketch;
+
+    @Builder
+    public ProjectMonthlyDuration(Long projectId, LocalDate monthStart, QuantileSketch sketch) {
+        this.projectId = projectId;
+        this.monthStart = monthStart;
+        updateSketch(sketch);
+    }
+
+    public QuantileSketch toSketch() {
+        return QuantileSketch.fromBytes(sketch);
+    }
+
+    public void updateSketch(QuantileSketch sketch) {
+        this.sketch = sketch.toBytes();
+        this.sampleCount = sketch.count();
+        this.maxSeconds = Math.round(sketch.max());
+    }
+}
@@ -0,0 +1,42 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.stereotype.Repository;
+
+/**
+ * DORA 지표 재계산용 배포 결과 조회. 결과 시각 순 커서로 읽는다. (호출자가 트랜잭션을 열어야 함)
+ * 결과 시각은 실시간 이벤트와 같도록 최종 빌드 종료 시각, 없으면 마지막 수정 시각을 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DoraOutcomeRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    /** deployment_id, project_id, pull_request_id, pr_merged_at, is_deployed, result_at */
+    private static final String OUTCOME_SQL = """
+            select d.id, d.project_id, d.pull_request_id, pr.created_at, d.is_deployed,
+                   coalesce(d.final_ended_at, d.updated_at) as result_at
+              from {h-schema}deployment d
+              left join {h-schema}pull_request pr on pr.id = d.pull_request_id
+             where d.is_deleted = false
+               and d.is_deployed is not null
+             order by result_at, d.id
+            """;
+
+    private final EntityManager entityManager;
+
+    public void streamOutcomes(Consumer<Object[]> consumer) {
+        try (Stream<?> rows = entityManager.createNativeQuery(OUTCOME_SQL)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            rows.forEach(row -> consumer.accept((Object[]) row));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import java.time.LocalDate;
+
+public interface ProjectDailyProblemStatRepositoryCustom {
+
+    /**
+     * (project, date, problemType) 실패 수에 delta 를 원자적으로 더한다. 행이 없으면 생성.
+     */
+    int upsertIncrement(Long projectId, LocalDate statDate, String problemType, long delta);
+}
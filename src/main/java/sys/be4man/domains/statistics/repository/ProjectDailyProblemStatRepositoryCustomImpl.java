@@ -0,0 +1,44 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+
+public class ProjectDailyProblemStatRepositoryCustomImpl extends StatisticsUpsertSupport
+        implements ProjectDailyProblemStatRepositoryCustom {
+
+    private static final String POSTGRES_SQL = """
+            insert into {h-schema}project_daily_problem_stat
+                (project_id, stat_date, problem_type, failure_count)
+            values (:projectId, :statDate, :problemType, :delta)
+            on conflict (project_id, stat_date, problem_type) do update set
+                failure_count = project_daily_problem_stat.failure_count + excluded.failure_count
+            """;
+
+    private static final String MERGE_SQL = """
+            merge into {h-schema}project_daily_problem_stat t
+            using (values (:projectId, :statDate, :problemType, :delta))
+                as s (project_id, stat_date, problem_type, delta)
+            on t.project_id = s.project_id and t.stat_date = s.stat_date
+                and t.problem_type = s.problem_type
+            when matched then update set failure_count = t.failure_count + s.delta
+            when not matched then insert (project_id, stat_date, problem_type, failure_count)
+            values (s.project_id, s.stat_date, s.problem_type, s.delta)
+            """;
+
+    public ProjectDailyProblemStatRepositoryCustomImpl(EntityManager entityManager,
+            @Value("${spring.datasource.url}") String datasourceUrl) {
+        super(entityManager, datasourceUrl);
+    }
+
+    @Override
+    public int upsertIncrement(Long projectId, LocalDate statDate, String problemType, long delta) {
+        return upsert(POSTGRES_SQL, MERGE_SQL, Map.of(
+                "projectId", projectId,
+                "statDate", statDate,
+                "problemType", problemType,
+                "delta", delta));
+    }
+}
@@ -0,0 +1,9 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import sys.be4man.domains.statistics.model.entity.ProjectDailyStat;
+
+public interface ProjectDailyStatRepository extends JpaRepository<ProjectDailyStat, Long>,
+        ProjectDailyStatRepositoryCustom {
+}
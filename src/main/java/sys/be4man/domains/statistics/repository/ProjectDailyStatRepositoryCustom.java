@@ -0,0 +1,14 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import java.time.LocalDate;
+
+public interface ProjectDailyStatRepositoryCustom {
+
+    /**
+     * (project, date) 행에 증감값을 원자적으로 더한다. 행이 없으면 생성.
+     * 동시에 여러 웹훅이 같은 행을 갱신해도 유실이 없도록 read-modify-write 대신 upsert 사용.
+     */
+    int upsertIncrement(Long projectId, LocalDate statDate, long success, long failed,
+            long builds, long durationSum);
+}
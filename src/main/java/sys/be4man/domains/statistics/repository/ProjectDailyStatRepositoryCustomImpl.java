@@ -0,0 +1,56 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+
+public class ProjectDailyStatRepositoryCustomImpl extends StatisticsUpsertSupport
+        implements ProjectDailyStatRepositoryCustom {
+
+    private static final String POSTGRES_SQL = """
+            insert into {h-schema}project_daily_stat
+                (project_id, stat_date, deployment_success_count, deployment_failed_count,
+                 build_count, build_duration_sum)
+            values (:projectId, :statDate, :success, :failed, :builds, :durationSum)
+            on conflict (project_id, stat_date) do update set
+                deployment_success_count = project_daily_stat.deployment_success_count + excluded.deployment_success_count,
+                deployment_failed_count = project_daily_stat.deployment_failed_count + excluded.deployment_failed_count,
+                build_count = project_daily_stat.build_count + excluded.build_count,
+                build_duration_sum = project_daily_stat.build_duration_sum + excluded.build_duration_sum
+            """;
+
+    private static final String MERGE_SQL = """
+            merge into {h-schema}project_daily_stat t
+            using (values (:projectId, :statDate, :success, :failed, :builds, :durationSum))
+                as s (project_id, stat_date, success, failed, builds, duration_sum)
+            on t.project_id = s.project_id and t.stat_date = s.stat_date
+            when matched then update set
+                deployment_success_count = t.deployment_success_count + s.success,
+                deployment_failed_count = t.deployment_failed_count + s.failed,
+                build_count = t.build_count + s.builds,
+                build_duration_sum = t.build_duration_sum + s.duration_sum
+            when not matched then insert
+                (project_id, stat_date, deployment_success_count, deployment_failed_count,
+                 build_count, build_duration_sum)
+            values (s.project_id, s.stat_date, s.success, s.failed, s.builds, s.duration_sum)
+            """;
+
+    public ProjectDailyStatRepositoryCustomImpl(EntityManager entityManager,
+            @Value("${spring.datasource.url}") String datasourceUrl) {
+        super(entityManager, datasourceUrl);
+    }
+
+    @Override
+    public int upsertIncrement(Long projectId, LocalDate statDate, long success, long failed,
+            long builds, long durationSum) {
+        return upsert(POSTGRES_SQL, MERGE_SQL, Map.of(
+                "projectId", projectId,
+                "statDate", statDate,
+                "success", success,
+                "failed", failed,
+                "builds", builds,
+                "durationSum", durationSum));
+    }
+}
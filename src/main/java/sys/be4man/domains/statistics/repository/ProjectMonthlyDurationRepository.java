@@ -0,0 +1,43 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sys.be4man.domains.statistics.model.entity.ProjectMonthlyDuration;
+
+public interface ProjectMonthlyDurationRepository extends
+        JpaRepository<ProjectMonthlyDuration, Long>, ProjectMonthlyDurationRepositoryCustom {
+
+    /**
+     * 스케치 병합(read-modify-write) 동안 같은 행의 동시 갱신을 막는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select d from ProjectMonthlyDuration d
+             where d.projectId = :projectId and d.monthStart = :monthStart
+            """)
+    Optional<ProjectMonthlyDuration> findForUpdate(@Param("projectId") Long projectId,
+            @Param("monthStart") LocalDate monthStart);
+
+    List<ProjectMonthlyDuration> findAllByMonthStartBetween(LocalDate from, LocalDate to);
+
+    List<ProjectMonthlyDuration> findAllByProjectIdAndMonthStartBetween(Long projectId,
+            LocalDate from, LocalDate to);
+
+    @Query("select distinct d.projectId from ProjectMonthlyDuration d")
+    List<Long> findDistinctProjectIds();
+
+    /**
+     * 프로젝트 단위 재구축용 일괄 삭제
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ProjectMonthlyDuration d where d.projectId = :projectId")
+    int deleteAllByProjectIdInBatch(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,12 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import java.time.LocalDate;
+
+public interface ProjectMonthlyDurationRepositoryCustom {
+
+    /**
+     * (project, month) 행이 없으면 빈 스케치로 만든다. 동시 수집 시 중복 insert 로 트랜잭션이 깨지지 않도록 충돌은 무시.
+     */
+    int insertIfAbsent(Long projectId, LocalDate monthStart, byte[] emptySketch);
+}
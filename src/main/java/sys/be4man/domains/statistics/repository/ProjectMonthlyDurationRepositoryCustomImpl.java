@@ -0,0 +1,40 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+
+public class ProjectMonthlyDurationRepositoryCustomImpl extends StatisticsUpsertSupport
+        implements ProjectMonthlyDurationRepositoryCustom {
+
+    private static final String POSTGRES_SQL = """
+            insert into {h-schema}project_monthly_duration
+                (project_id, month_start, sample_count, max_seconds, sketch)
+            values (:projectId, :monthStart, 0, 0, :emptySketch)
+            on conflict (project_id, month_start) do nothing
+            """;
+
+    private static final String MERGE_SQL = """
+            merge into {h-schema}project_monthly_duration t
+            using (values (:projectId, :monthStart)) as s (project_id, month_start)
+            on t.project_id = s.project_id and t.month_start = s.month_start
+            when not matched then insert
+                (project_id, month_start, sample_count, max_seconds, sketch)
+            values (s.project_id, s.month_start, 0, 0, :emptySketch)
+            """;
+
+    public ProjectMonthlyDurationRepositoryCustomImpl(EntityManager entityManager,
+            @Value("${spring.datasource.url}") String datasourceUrl) {
+        super(entityManager, datasourceUrl);
+    }
+
+    @Override
+    public int insertIfAbsent(Long projectId, LocalDate monthStart, byte[] emptySketch) {
+        return upsert(POSTGRES_SQL, MERGE_SQL, Map.of(
+                "projectId", projectId,
+                "monthStart", monthStart,
+                "emptySketch", emptySketch));
+    }
+}
@@ -0,0 +1,80 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 인메모리 팩트 저장소(StatisticsFactStore) 적재용 조회.
+ * 전체 적재는 id 순 커서로 읽고, 수집 시에는 빌드 하나의 행만 읽는다.
+ * 커서를 쓰려면 호출자가 트랜잭션을 열어야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatisticsFactRepository {
+
+    private static final int FETCH_SIZE = 2_000;
+
+    /** id, project_id, project_name, started_at, is_build, duration */
+    private static final String BUILD_FACT_SQL = """
+            select b.id, d.project_id, p.name, b.started_at, b.is_build, b.duration
+              from {h-schema}build_run b
+              join {h-schema}deployment d on d.id = b.deployment_id
+              join {h-schema}project p on p.id = d.project_id
+             where b.is_deleted = false
+               and d.is_deleted = false
+               and b.started_at is not null
+               %s
+             order by b.id
+            """;
+
+    /** id, project_id, project_name, started_at, stage_name, problem_type, is_success */
+    private static final String STAGE_FACT_SQL = """
+            select s.id, d.project_id, p.name, b.started_at, s.stage_name, s.problem_type,
+                   s.is_success
+              from {h-schema}stage_run s
+              join {h-schema}build_run b on b.id = s.build_run_id
+              join {h-schema}deployment d on d.id = b.deployment_id
+              join {h-schema}project p on p.id = d.project_id
+             where s.is_deleted = false
+               and b.is_deleted = false
+               and d.is_deleted = false
+               and b.started_at is not null
+               %s
+             order by s.id
+            """;
+
+    private final EntityManager entityManager;
+
+    /**
+     * @param buildRunId null 이면 전체
+     */
+    public void streamBuildFacts(Long buildRunId, Consumer<Object[]> consumer) {
+        stream(BUILD_FACT_SQL, buildRunId, consumer);
+    }
+
+    /**
+     * @param buildRunId null 이면 전체
+     */
+    public void streamStageFacts(Long buildRunId, Consumer<Object[]> consumer) {
+        stream(STAGE_FACT_SQL, buildRunId, consumer);
+    }
+
+    private void stream(String sql, Long buildRunId, Consumer<Object[]> consumer) {
+        Query query = entityManager.createNativeQuery(
+                        sql.formatted(buildRunId != null ? "and b.id = :buildRunId" : ""))
+                .setHint(AvailableHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(AvailableHints.HINT_READ_ONLY, true);
+        if (buildRunId != null) {
+            query.setParameter("buildRunId", buildRunId);
+        }
+        try (Stream<?> rows = query.getResultStream()) {
+            rows.forEach(row -> consumer.accept((Object[]) row));
+        }
+    }
+}
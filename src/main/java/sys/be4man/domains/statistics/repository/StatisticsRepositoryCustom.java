@@ -7,10 +7,10 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import sys.be4man.domains.statistics.dto.response.TypeCountResponseDto;
-import sys.be4man.domains.statistics.repository.projection.CrossDeploymentRow;
-import sys.be4man.domains.statistics.repository.projection.IntraBuildRow;
 import sys.be4man.domains.statistics.repository.projection.MonthBucket;
+import sys.be4man.domains.statistics.repository.projection.NextSuccessSample;
 import sys.be4man.domains.statistics.repository.projection.ProjectLight;
 import sys.be4man.domains.statistics.repository.projection.ProjectSuccessCount;
 import sys.be4man.domains.statistics.repository.projection.TotalSuccessCount;
@@ -50,15 +50,24 @@ public interface StatisticsRepositoryCustom {
      */
     List<ProjectLight> findAllProjects();
 
-    List<MonthBucket> findMonthlyDeploymentFinalStats(Long projectId);
+    /**
+     * 최종 빌드 종료 시각(deployment.final_ended_at) 기준 [from, to) 연-월별 최종 판정 집계
+     */
+    List<MonthBucket> findMonthlyDeploymentFinalStats(Long projectId, LocalDateTime from,
+            LocalDateTime to);
+
     List<YearBucket> findYearlyDeploymentFinalStats(Long projectId);
 
     List<BanTypeRow> findBanTypeCounts(Long projectId);
 
     record BanTypeRow(String type, Long count) {}
 
-    List<IntraBuildRow> fetchIntraDeploymentBuildRuns(Long projectId);
-
-    List<CrossDeploymentRow> fetchCrossDeploymentEvents(Long projectId);
+    /**
+     * 실패 → 다음 성공까지 걸린 시간 표본을 DB 에서 계산해 커서로 한 건씩 넘긴다.
+     * - 같은 deployment 안의 재시도: 마지막 실패 빌드 → 그 이후 첫 성공 빌드
+     * - 같은 project+PR 의 다른 deployment 로 재시도: 마지막 실패 배포 → 그 이후 첫 성공 배포
+     * 다음 성공이 아직 없는 실패는 제외된다.
+     */
+    void streamNextSuccessSamples(Long projectId, Consumer<NextSuccessSample> consumer);
 
 }
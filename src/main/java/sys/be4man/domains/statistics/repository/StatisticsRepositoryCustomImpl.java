@@ -5,7 +5,6 @@ import static com.querydsl.core.types.ExpressionUtils.count;
 
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.SubQueryExpression;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.DateTemplate;
@@ -14,8 +13,9 @@ import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.StringExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
@@ -23,7 +23,10 @@ import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.stereotype.Repository;
 import sys.be4man.domains.analysis.model.entity.QBuildRun;
 import sys.be4man.domains.analysis.model.entity.QStageRun;
@@ -32,9 +35,8 @@ import sys.be4man.domains.ban.model.entity.QProjectBan;
 import sys.be4man.domains.deployment.model.entity.QDeployment;
 import sys.be4man.domains.project.model.entity.QProject;
 import sys.be4man.domains.statistics.dto.response.TypeCountResponseDto;
-import sys.be4man.domains.statistics.repository.projection.CrossDeploymentRow;
-import sys.be4man.domains.statistics.repository.projection.IntraBuildRow;
 import sys.be4man.domains.statistics.repository.projection.MonthBucket;
+import sys.be4man.domains.statistics.repository.projection.NextSuccessSample;
 import sys.be4man.domains.statistics.repository.projection.ProjectLight;
 import sys.be4man.domains.statistics.repository.projection.ProjectSuccessCount;
 import sys.be4man.domains.statistics.repository.projection.TotalSuccessCount;
@@ -45,10 +47,10 @@ import sys.be4man.domains.statistics.repository.projection.YearBucket;
 public class StatisticsRepositoryCustomImpl implements StatisticsRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
 
     private final QStageRun stageRun = QStageRun.stageRun;
     private final QBuildRun buildRun = QBuildRun.buildRun;
-    private static final QBuildRun buildRun2 = new QBuildRun("buildRun2");
     private final QDeployment deployment = QDeployment.deployment;
     private final QProject project = QProject.project;
 
@@ -250,43 +252,34 @@ public class StatisticsRepositoryCustomImpl implements StatisticsRepositoryCusto
     }
 
     @Override
-    public List<MonthBucket> findMonthlyDeploymentFinalStats(Long projectId) {
+    public List<MonthBucket> findMonthlyDeploymentFinalStats(Long projectId,
+            LocalDateTime from, LocalDateTime to) {
+        // 최종 빌드 종료 시각(deployment.final_ended_at)의 연-월 버킷
+        NumberExpression<Integer> yearExpr =
+                Expressions.numberTemplate(Integer.class, "EXTRACT(YEAR FROM {0})",
+                        deployment.finalEndedAt);
         NumberExpression<Integer> monthExpr =
                 Expressions.numberTemplate(Integer.class, "EXTRACT(MONTH FROM {0})",
-                        buildRun.endedAt);
-
-        NumberExpression<Long> successCase = new CaseBuilder()
-                .when(deployment.isDeployed.isTrue()).then(1L).otherwise(0L);
-
-        NumberExpression<Long> failedCase = new CaseBuilder()
-                .when(deployment.isDeployed.isFalse()).then(1L).otherwise(0L);
-
-        SubQueryExpression<LocalDateTime> maxEndedSub =
-                JPAExpressions.select(buildRun2.endedAt.max())
-                        .from(buildRun2)
-                        .where(buildRun2.deployment.id.eq(deployment.id));
-
-        BooleanExpression projectFilter =
-                (projectId == null) ? null : deployment.project.id.eq(projectId);
+                        deployment.finalEndedAt);
 
         return jpaQueryFactory
                 .select(Projections.constructor(
                         MonthBucket.class,
+                        yearExpr,                    // Integer
                         monthExpr,                   // Integer
-                        buildRun.id.count(),         // Long
-                        successCase.sum(),           // Long
-                        failedCase.sum()             // Long
+                        deployment.id.count(),       // Long
+                        finalSuccessCase().sum(),    // Long
+                        finalFailedCase().sum()      // Long
                 ))
                 .from(deployment)
-                .join(buildRun).on(buildRun.deployment.id.eq(deployment.id))
                 .where(
-                        buildRun.endedAt.eq(maxEndedSub),
+                        betweenOrNull(deployment.finalEndedAt, from, to),
+                        deployment.finalEndedAt.isNotNull(),
                         deployment.isDeleted.isFalse(),
-                        buildRun.isDeleted.isFalse(),
-                        projectFilter
+                        projectId != null ? deployment.project.id.eq(projectId) : null
                 )
-                .groupBy(monthExpr)
-                .orderBy(monthExpr.asc())
+                .groupBy(yearExpr, monthExpr)
+                .orderBy(yearExpr.asc(), monthExpr.asc())
                 .fetch();
     }
 
@@ -294,43 +287,37 @@ public class StatisticsRepositoryCustomImpl implements StatisticsRepositoryCusto
     public List<YearBucket> findYearlyDeploymentFinalStats(Long projectId) {
         NumberExpression<Integer> yearExpr =
                 Expressions.numberTemplate(Integer.class, "EXTRACT(YEAR FROM {0})",
-                        buildRun.endedAt);
-
-        NumberExpression<Long> successCase = new CaseBuilder()
-                .when(deployment.isDeployed.isTrue()).then(1L).otherwise(0L);
-
-        NumberExpression<Long> failedCase = new CaseBuilder()
-                .when(deployment.isDeployed.isFalse()).then(1L).otherwise(0L);
-
-        SubQueryExpression<LocalDateTime> maxEndedSub =
-                JPAExpressions.select(buildRun2.endedAt.max())
-                        .from(buildRun2)
-                        .where(buildRun2.deployment.id.eq(deployment.id));
-
-        BooleanExpression projectFilter =
-                (projectId == null) ? null : deployment.project.id.eq(projectId);
+                        deployment.finalEndedAt);
 
         return jpaQueryFactory
                 .select(Projections.constructor(
                         YearBucket.class,
                         yearExpr,                    // Integer
-                        buildRun.id.count(),         // Long
-                        successCase.sum(),           // Long
-                        failedCase.sum()             // Long
+                        deployment.id.count(),       // Long
+                        finalSuccessCase().sum(),    // Long
+                        finalFailedCase().sum()      // Long
                 ))
                 .from(deployment)
-                .join(buildRun).on(buildRun.deployment.id.eq(deployment.id))
                 .where(
-                        buildRun.endedAt.eq(maxEndedSub),
+                        deployment.finalEndedAt.isNotNull(),
                         deployment.isDeleted.isFalse(),
-                        buildRun.isDeleted.isFalse(),
-                        projectFilter
+                        projectId != null ? deployment.project.id.eq(projectId) : null
                 )
                 .groupBy(yearExpr)
                 .orderBy(yearExpr.asc())
                 .fetch();
     }
 
+    private NumberExpression<Long> finalSuccessCase() {
+        return new CaseBuilder()
+                .when(deployment.isDeployed.isTrue()).then(1L).otherwise(0L);
+    }
+
+    private NumberExpression<Long> finalFailedCase() {
+        return new CaseBuilder()
+                .when(deployment.isDeployed.isFalse()).then(1L).otherwise(0L);
+    }
+
     @Override
     public List<StatisticsRepositoryCustom.BanTypeRow> findBanTypeCounts(Long projectId) {
 
@@ -362,67 +349,85 @@ public class StatisticsRepositoryCustomImpl implements StatisticsRepositoryCusto
                 .fetch();
     }
 
-    @Override
-    public List<IntraBuildRow> fetchIntraDeploymentBuildRuns(Long projectId) {
-        // 조건
-        BooleanExpression filter = buildRun.isDeleted.isFalse()
-                .and(deployment.isDeleted.isFalse())
-                .and(project.isDeleted.isFalse())
-                .and(deployment.isDeployed.isTrue())        // 같은 deployment 안에서 "다음 성공"을 만들려면, 최종적으로 성공한 배포만 대상으로
-                .and(buildRun.startedAt.isNotNull());
-        if (projectId != null) {
-            filter = filter.and(project.id.eq(projectId));
-        }
-
-        return jpaQueryFactory
-                .select(Projections.constructor(
-                        IntraBuildRow.class,
-                        deployment.id,         // deploymentId
-                        project.id,         // projectId
-                        project.name,       // projectName
-                        buildRun.startedAt, // startedAt
-                        buildRun.isBuild    // isBuild (false=실패, true=성공)
-                ))
-                .from(buildRun)
-                .join(buildRun.deployment, deployment)
-                .join(deployment.project, project)
-                .where(filter)
-                .orderBy(deployment.id.asc(), buildRun.startedAt.asc())
-                .fetch();
-    }
+    /**
+     * 실패 → 다음 성공 표본 계산 SQL.
+     * 파티션별 "마지막 실패 시각"을 윈도 함수(max ... over)로 붙인 뒤, 그 이후 첫 성공 시각(min)과의 차이를 구한다.
+     * %s 자리에는 프로젝트 필터가 들어간다.
+     */
+    private static final String NEXT_SUCCESS_SQL = """
+            with intra as (
+                select d.project_id, b.deployment_id, b.started_at, b.is_build,
+                       max(case when b.is_build = false then b.started_at end)
+                           over (partition by b.deployment_id) as last_fail_at
+                  from {h-schema}build_run b
+                  join {h-schema}deployment d on d.id = b.deployment_id
+                 where b.is_deleted = false
+                   and d.is_deleted = false
+                   and d.is_deployed = true
+                   and b.started_at is not null
+                   and b.is_build is not null
+                   %1$s
+            ),
+            dep as (
+                select d.id, d.project_id, d.pull_request_id, d.is_deployed,
+                       min(b.started_at) as first_started_at
+                  from {h-schema}deployment d
+                  join {h-schema}build_run b on b.deployment_id = d.id
+                 where b.is_deleted = false
+                   and d.is_deleted = false
+                   and d.is_deployed is not null
+                   and b.started_at is not null
+                   %1$s
+                 group by d.id, d.project_id, d.pull_request_id, d.is_deployed
+            ),
+            cross_dep as (
+                select project_id, pull_request_id, is_deployed, first_started_at,
+                       max(case when is_deployed = false then first_started_at end)
+                           over (partition by project_id, pull_request_id) as last_fail_at
+                  from dep
+            ),
+            samples as (
+                select project_id, min(started_at) - last_fail_at as gap
+                  from intra
+                 where is_build = true and started_at > last_fail_at
+                 group by project_id, deployment_id, last_fail_at
+                union all
+                select project_id, min(first_started_at) - last_fail_at as gap
+                  from cross_dep
+                 where is_deployed = true and first_started_at > last_fail_at
+                 group by project_id, pull_request_id, last_fail_at
+            )
+            select s.project_id, p.name,
+                   cast(floor(extract(epoch from s.gap) / 60) as bigint) as minutes
+              from samples s
+              join {h-schema}project p on p.id = s.project_id
+             where p.is_deleted = false
+            """;
+
+    private static final int NEXT_SUCCESS_FETCH_SIZE = 500;
 
     @Override
-    public List<CrossDeploymentRow> fetchCrossDeploymentEvents(Long projectId) {
-        // 각 deployment별 대표 시작시각: min(build_run.started_at)
-        DateTimeExpression<LocalDateTime> minStart =
-                Expressions.dateTimeTemplate(LocalDateTime.class, "min({0})", buildRun.startedAt);
-
-        BooleanExpression base = buildRun.isDeleted.isFalse()
-                .and(deployment.isDeleted.isFalse())
-                .and(project.isDeleted.isFalse())
-                .and(deployment.isDeployed.isNotNull())
-                .and(buildRun.startedAt.isNotNull());
+    public void streamNextSuccessSamples(Long projectId, Consumer<NextSuccessSample> consumer) {
+        String sql = NEXT_SUCCESS_SQL.formatted(
+                projectId != null ? "and d.project_id = :projectId" : "");
 
+        Query query = entityManager.createNativeQuery(sql)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, NEXT_SUCCESS_FETCH_SIZE)
+                .setHint(AvailableHints.HINT_READ_ONLY, true);
         if (projectId != null) {
-            base = base.and(project.id.eq(projectId));
+            query.setParameter("projectId", projectId);
         }
 
-        return jpaQueryFactory
-                .select(Projections.constructor(
-                        CrossDeploymentRow.class,
-                        project.id,                 // projectId
-                        project.name,               // projectName
-                        deployment.pullRequest.id,     // pullRequestId
-                        minStart,             // 대표 startedAt (min)
-                        deployment.isDeployed          // 해당 deployment의 최종 결과 true/false
-                ))
-                .from(buildRun)
-                .join(buildRun.deployment, deployment)
-                .join(deployment.project, project)
-                .where(base)
-                .groupBy(project.id, project.name, deployment.pullRequest.id, deployment.isDeployed)
-                .orderBy(project.id.asc(), deployment.pullRequest.id.asc(), minStart.asc())
-                .fetch();
+        // 결과 전체를 리스트로 올리지 않고 fetch size 단위 커서로 읽는다
+        try (Stream<?> rows = query.getResultStream()) {
+            rows.forEach(row -> {
+                Object[] r = (Object[]) row;
+                consumer.accept(new NextSuccessSample(
+                        ((Number) r[0]).longValue(),
+                        (String) r[1],
+                        ((Number) r[2]).longValue()));
+            });
+        }
     }
 
 }
@@ -0,0 +1,79 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.statistics.dto.response.TypeCountResponseDto;
+import sys.be4man.domains.statistics.repository.StatisticsRepositoryCustom.MonthlyTypeCountRow;
+import sys.be4man.domains.statistics.repository.projection.ProjectSuccessCount;
+import sys.be4man.domains.statistics.repository.projection.TotalSuccessCount;
+
+/**
+ * 일자별 롤업 테이블(project_daily_stat, project_daily_problem_stat) 조회 및 재구축용 집계
+ */
+public interface StatisticsRollupRepository {
+
+    // ------------------------------------------------------------
+    // 롤업 조회 (StatisticsRepositoryCustom 원본 집계와 같은 형태로 반환)
+    // ------------------------------------------------------------
+
+    List<TypeCountResponseDto> sumProblemTypes(Long projectId, LocalDate from,
+            LocalDate toExclusive);
+
+    List<MonthlyTypeCountRow> monthlyProblemSeries(Long projectId, LocalDate from,
+            LocalDate toExclusive);
+
+    List<ProjectSuccessCount> sumProjectSuccessCounts();
+
+    TotalSuccessCount sumTotalSuccessCounts();
+
+    Map<YearMonth, Double> monthlyAvgDuration(Long projectId, String projectName,
+            LocalDate startInclusive, LocalDate endExclusive);
+
+    // ------------------------------------------------------------
+    // 원본 테이블 집계 (재구축 / 증분 반영용)
+    // ------------------------------------------------------------
+
+    List<DailyDeploymentRow> aggregateDailyDeploymentResults();
+
+    List<DailyBuildRow> aggregateDailyBuilds();
+
+    List<DailyProblemRow> aggregateDailyProblems();
+
+    List<ProblemTypeCountRow> countProblemTypesByBuildRunId(Long buildRunId);
+
+    /**
+     * 증분 반영 대상 여부: 재구축 집계와 같이 자신/상위(빌드, 배포)가 소프트 삭제되지 않았을 때만 true.
+     */
+    boolean isActiveBuildRun(Long buildRunId);
+
+    boolean isActiveDeployment(Long deploymentId);
+
+    boolean isActiveStageRun(Long stageRunId);
+
+    /**
+     * 소요시간 분포 재구축 대상: 소요시간이 있는 삭제되지 않은 빌드가 하나라도 있는 프로젝트
+     */
+    List<Long> findBuildDurationProjectIds();
+
+    /**
+     * 소요시간 분포 재구축용: 프로젝트의 삭제되지 않은 빌드 (프로젝트, 시작 시각, 소요시간)을 커서로 읽는다.
+     */
+    void streamBuildDurations(Long projectId, Consumer<BuildDurationRow> consumer);
+
+    record DailyDeploymentRow(Long projectId, LocalDate statDate, Long success, Long failed) {}
+
+    record DailyBuildRow(Long projectId, LocalDate statDate, Long builds, Long durationSum) {}
+
+    record DailyProblemRow(Long projectId, LocalDate statDate, ProblemType problemType,
+                           Long count) {}
+
+    record ProblemTypeCountRow(ProblemType problemType, Long count) {}
+
+    record BuildDurationRow(Long projectId, LocalDateTime startedAt, Long duration) {}
+}
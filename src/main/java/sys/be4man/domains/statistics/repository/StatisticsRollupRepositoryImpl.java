@@ -0,0 +1,362 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import static com.querydsl.core.types.ExpressionUtils.count;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.DatePath;
+import com.querydsl.core.types.dsl.DateTemplate;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringTemplate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.stereotype.Repository;
+import sys.be4man.domains.analysis.model.entity.QBuildRun;
+import sys.be4man.domains.analysis.model.entity.QStageRun;
+import sys.be4man.domains.deployment.model.entity.QDeployment;
+import sys.be4man.domains.project.model.entity.QProject;
+import sys.be4man.domains.statistics.dto.response.TypeCountResponseDto;
+import sys.be4man.domains.statistics.model.entity.QProjectDailyProblemStat;
+import sys.be4man.domains.statistics.model.entity.QProjectDailyStat;
+import sys.be4man.domains.statistics.repository.StatisticsRepositoryCustom.MonthlyTypeCountRow;
+import sys.be4man.domains.statistics.repository.projection.ProjectSuccessCount;
+import sys.be4man.domains.statistics.repository.projection.TotalSuccessCount;
+
+@RequiredArgsConstructor
+@Repository
+public class StatisticsRollupRepositoryImpl implements StatisticsRollupRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final QProjectDailyStat dailyStat = QProjectDailyStat.projectDailyStat;
+    private final QProjectDailyProblemStat problemStat =
+            QProjectDailyProblemStat.projectDailyProblemStat;
+    private final QStageRun stageRun = QStageRun.stageRun;
+    private final QBuildRun buildRun = QBuildRun.buildRun;
+    private final QDeployment deployment = QDeployment.deployment;
+    private final QProject project = QProject.project;
+
+    // ------------------------------------------------------------
+    // 롤업 조회
+    // ------------------------------------------------------------
+
+    @Override
+    public List<TypeCountResponseDto> sumProblemTypes(Long projectId, LocalDate from,
+            LocalDate toExclusive) {
+        NumberExpression<Long> total = problemStat.failureCount.sum();
+
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        TypeCountResponseDto.class,
+                        problemStat.problemType.stringValue(),
+                        total
+                ))
+                .from(problemStat)
+                .where(
+                        projectId != null ? problemStat.projectId.eq(projectId) : null,
+                        dateRange(problemStat.statDate, from, toExclusive)
+                )
+                .groupBy(problemStat.problemType)
+                .having(total.gt(0L))
+                .fetch();
+    }
+
+    @Override
+    public List<MonthlyTypeCountRow> monthlyProblemSeries(Long projectId, LocalDate from,
+            LocalDate toExclusive) {
+        // month label: "YYYY-MM" (정렬 키로도 사용 가능)
+        StringTemplate monthLabel = Expressions.stringTemplate(
+                "to_char({0}, 'YYYY-MM')", problemStat.statDate);
+        NumberExpression<Long> total = problemStat.failureCount.sum();
+
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        MonthlyTypeCountRow.class,
+                        problemStat.problemType.stringValue(),
+                        monthLabel,
+                        total
+                ))
+                .from(problemStat)
+                .where(
+                        projectId != null ? problemStat.projectId.eq(projectId) : null,
+                        dateRange(problemStat.statDate, from, toExclusive)
+                )
+                .groupBy(problemStat.problemType, monthLabel)
+                .orderBy(monthLabel.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<ProjectSuccessCount> sumProjectSuccessCounts() {
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        ProjectSuccessCount.class,
+                        project.id,
+                        project.name,
+                        dailyStat.deploymentSuccessCount.sum().coalesce(0L),
+                        dailyStat.deploymentFailedCount.sum().coalesce(0L)
+                ))
+                .from(project)
+                .leftJoin(dailyStat).on(dailyStat.projectId.eq(project.id))
+                .where(project.isDeleted.isFalse())
+                .groupBy(project.id, project.name)
+                .fetch();
+    }
+
+    @Override
+    public TotalSuccessCount sumTotalSuccessCounts() {
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        TotalSuccessCount.class,
+                        dailyStat.deploymentSuccessCount.sum().coalesce(0L),
+                        dailyStat.deploymentFailedCount.sum().coalesce(0L)
+                ))
+                .from(dailyStat)
+                .join(project).on(dailyStat.projectId.eq(project.id))
+                .where(project.isDeleted.isFalse())
+                .fetchOne();
+    }
+
+    @Override
+    public Map<YearMonth, Double> monthlyAvgDuration(Long projectId, String projectName,
+            LocalDate startInclusive, LocalDate endExclusive) {
+        StringTemplate monthLabel = Expressions.stringTemplate(
+                "to_char({0}, 'YYYY-MM')", dailyStat.statDate);
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(monthLabel, dailyStat.buildDurationSum.sum(), dailyStat.buildCount.sum())
+                .from(dailyStat)
+                .join(project).on(dailyStat.projectId.eq(project.id)
+                        .and(project.isDeleted.isFalse()))
+                .where(
+                        dateRange(dailyStat.statDate, startInclusive, endExclusive),
+                        projectId != null ? project.id.eq(projectId) : null,
+                        projectName != null ? project.name.eq(projectName) : null
+                )
+                .groupBy(monthLabel)
+                .fetch();
+
+        // 평균 = 소요시간 합 / 빌드 수 (원본 avg(duration) 과 동일한 값)
+        Map<YearMonth, Double> map = new HashMap<>();
+        for (Tuple t : rows) {
+            String month = t.get(0, String.class);
+            Long durationSum = t.get(1, Long.class);
+            Long builds = t.get(2, Long.class);
+            if (month != null && durationSum != null && builds != null && builds > 0) {
+                map.put(YearMonth.parse(month), durationSum.doubleValue() / builds);
+            }
+        }
+        return map;
+    }
+
+    private BooleanExpression dateRange(DatePath<LocalDate> path, LocalDate from,
+            LocalDate toExclusive) {
+        BooleanExpression ge = (from == null) ? null : path.goe(from);
+        BooleanExpression lt = (toExclusive == null) ? null : path.lt(toExclusive);
+        if (ge == null) return lt;
+        if (lt == null) return ge;
+        return ge.and(lt);
+    }
+
+    // ------------------------------------------------------------
+    // 원본 테이블 집계
+    // ------------------------------------------------------------
+
+    @Override
+    public List<DailyDeploymentRow> aggregateDailyDeploymentResults() {
+        DateTemplate<LocalDate> day = Expressions.dateTemplate(
+                LocalDate.class, "cast({0} as LocalDate)", deployment.createdAt);
+
+        NumberExpression<Long> successSum = new CaseBuilder()
+                .when(deployment.isDeployed.isTrue()).then(1L)
+                .otherwise(0L)
+                .sum();
+
+        NumberExpression<Long> failedSum = new CaseBuilder()
+                .when(deployment.isDeployed.isFalse()).then(1L)
+                .otherwise(0L)
+                .sum();
+
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        DailyDeploymentRow.class,
+                        deployment.project.id,
+                        day,
+                        successSum,
+                        failedSum
+                ))
+                .from(deployment)
+                .where(
+                        deployment.isDeployed.isNotNull(),
+                        deployment.isDeleted.isFalse()
+                )
+                .groupBy(deployment.project.id, day)
+                .fetch();
+    }
+
+    @Override
+    public List<DailyBuildRow> aggregateDailyBuilds() {
+        DateTemplate<LocalDate> day = Expressions.dateTemplate(
+                LocalDate.class, "cast({0} as LocalDate)", buildRun.startedAt);
+
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        DailyBuildRow.class,
+                        deployment.project.id,
+                        day,
+                        count(buildRun.id),
+                        buildRun.duration.coalesce(0L).sum()
+                ))
+                .from(buildRun)
+                .join(buildRun.deployment, deployment)
+                .where(
+                        buildRun.startedAt.isNotNull(),
+                        buildRun.isDeleted.isFalse(),
+                        deployment.isDeleted.isFalse()
+                )
+                .groupBy(deployment.project.id, day)
+                .fetch();
+    }
+
+    @Override
+    public List<DailyProblemRow> aggregateDailyProblems() {
+        DateTemplate<LocalDate> day = Expressions.dateTemplate(
+                LocalDate.class, "cast({0} as LocalDate)", buildRun.startedAt);
+
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        DailyProblemRow.class,
+                        deployment.project.id,
+                        day,
+                        stageRun.problemType,
+                        count(stageRun.id)
+                ))
+                .from(stageRun)
+                .join(stageRun.buildRun, buildRun)
+                .join(buildRun.deployment, deployment)
+                .where(
+                        stageRun.isSuccess.isFalse(),
+                        stageRun.problemType.isNotNull(),
+                        buildRun.startedAt.isNotNull(),
+                        stageRun.isDeleted.isFalse(),
+                        buildRun.isDeleted.isFalse(),
+                        deployment.isDeleted.isFalse()
+                )
+                .groupBy(deployment.project.id, day, stageRun.problemType)
+                .fetch();
+    }
+
+    @Override
+    public List<ProblemTypeCountRow> countProblemTypesByBuildRunId(Long buildRunId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        ProblemTypeCountRow.class,
+                        stageRun.problemType,
+                        count(stageRun.id)
+                ))
+                .from(stageRun)
+                .where(
+                        stageRun.buildRun.id.eq(buildRunId),
+                        stageRun.isSuccess.isFalse(),
+                        stageRun.problemType.isNotNull(),
+                        stageRun.isDeleted.isFalse()
+                )
+                .groupBy(stageRun.problemType)
+                .fetch();
+    }
+
+    @Override
+    public boolean isActiveBuildRun(Long buildRunId) {
+        return jpaQueryFactory
+                .selectOne()
+                .from(buildRun)
+                .join(buildRun.deployment, deployment)
+                .where(
+                        buildRun.id.eq(buildRunId),
+                        buildRun.isDeleted.isFalse(),
+                        deployment.isDeleted.isFalse()
+                )
+                .fetchFirst() != null;
+    }
+
+    @Override
+    public boolean isActiveDeployment(Long deploymentId) {
+        return jpaQueryFactory
+                .selectOne()
+                .from(deployment)
+                .where(
+                        deployment.id.eq(deploymentId),
+                        deployment.isDeleted.isFalse()
+                )
+                .fetchFirst() != null;
+    }
+
+    @Override
+    public boolean isActiveStageRun(Long stageRunId) {
+        return jpaQueryFactory
+                .selectOne()
+                .from(stageRun)
+                .join(stageRun.buildRun, buildRun)
+                .join(buildRun.deployment, deployment)
+                .where(
+                        stageRun.id.eq(stageRunId),
+                        stageRun.isDeleted.isFalse(),
+                        buildRun.isDeleted.isFalse(),
+                        deployment.isDeleted.isFalse()
+                )
+                .fetchFirst() != null;
+    }
+
+    @Override
+    public List<Long> findBuildDurationProjectIds() {
+        return jpaQueryFactory
+                .select(deployment.project.id)
+                .distinct()
+                .from(buildRun)
+                .join(buildRun.deployment, deployment)
+                .where(
+                        buildRun.startedAt.isNotNull(),
+                        buildRun.duration.isNotNull(),
+                        buildRun.isDeleted.isFalse(),
+                        deployment.isDeleted.isFalse()
+                )
+                .fetch();
+    }
+
+    @Override
+    public void streamBuildDurations(Long projectId, Consumer<BuildDurationRow> consumer) {
+        try (Stream<BuildDurationRow> rows = jpaQueryFactory
+                .select(Projections.constructor(
+                        BuildDurationRow.class,
+                        deployment.project.id,
+                        buildRun.startedAt,
+                        buildRun.duration
+                ))
+                .from(buildRun)
+                .join(buildRun.deployment, deployment)
+                .where(
+                        deployment.project.id.eq(projectId),
+                        buildRun.startedAt.isNotNull(),
+                        buildRun.duration.isNotNull(),
+                        buildRun.isDeleted.isFalse(),
+                        deployment.isDeleted.isFalse()
+                )
+                .setHint(AvailableHints.HINT_FETCH_SIZE, 500)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .stream()) {
+            rows.forEach(consumer);
+        }
+    }
+}
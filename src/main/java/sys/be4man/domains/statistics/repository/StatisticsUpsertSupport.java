@@ -0,0 +1,32 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.Map;
+import org.springframework.boot.jdbc.DatabaseDriver;
+
+/**
+ * 통계 롤업 upsert 의 DB 별 SQL 선택.
+ * - PostgreSQL: insert ... on conflict do update. 동시 insert 도 충돌 없이 한 행으로 합쳐진다.
+ * - 그 외(H2 테스트/로컬): 표준 merge into ... using. on conflict 를 지원하지 않아서 쓰며,
+ *   같은 키를 동시에 처음 넣으면 유니크 제약 위반이 날 수 있다 (단일 인스턴스 로컬 실행에서는 드묾).
+ */
+abstract class StatisticsUpsertSupport {
+
+    private final EntityManager entityManager;
+    private final boolean postgres;
+
+    protected StatisticsUpsertSupport(EntityManager entityManager, String datasourceUrl) {
+        this.entityManager = entityManager;
+        this.postgres = datasourceUrl != null
+                && DatabaseDriver.fromJdbcUrl(datasourceUrl) == DatabaseDriver.POSTGRESQL;
+    }
+
+    protected int upsert(String postgresSql, String mergeSql, Map<String, Object> params) {
+        entityManager.flush();
+        Query query = entityManager.createNativeQuery(postgres ? postgresSql : mergeSql);
+        params.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+}
@@ -1,12 +0,0 @@
-// 작성자 : 조윤상
-package sys.be4man.domains.statistics.repository.projection;
-
-import java.time.LocalDateTime;
-
-public record IntraBuildRow(
-        Long deploymentId,
-        Long projectId,
-        String projectName,
-        LocalDateTime startedAt,
-        Boolean isBuild
-) {}
\ No newline at end of file
@@ -2,6 +2,7 @@
 package sys.be4man.domains.statistics.repository.projection;
 
 public record MonthBucket(
+        Integer year,
         Integer month,
         Long deployments,
         Long success,
@@ -0,0 +1,11 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.repository.projection;
+
+/**
+ * 실패 → 다음 성공까지 걸린 시간 표본 한 건 (분)
+ */
+public record NextSuccessSample(
+        Long projectId,
+        String projectName,
+        long minutes
+) {}
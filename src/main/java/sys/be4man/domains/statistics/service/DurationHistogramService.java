@@ -0,0 +1,200 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.statistics.dto.response.DurationDistributionResponse;
+import sys.be4man.domains.statistics.dto.response.DurationDistributionResponse.Bucket;
+import sys.be4man.domains.statistics.dto.response.DurationDistributionResponse.MonthDistribution;
+import sys.be4man.domains.statistics.model.entity.ProjectMonthlyDuration;
+import sys.be4man.domains.statistics.repository.ProjectMonthlyDurationRepository;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository;
+import sys.be4man.domains.statistics.service.sketch.QuantileSketch;
+
+/**
+ * 프로젝트 x 월 빌드 소요시간 분포 유지 및 조회.
+ * - 빌드 저장이 커밋된 뒤(BuildRunPersistedEvent, AFTER_COMMIT) 자체의 짧은 트랜잭션으로 해당 월 스케치에 소요시간을 더한다.
+ *   반영 전에 실패한 건은 빠지므로 rebuild() 로 보정한다 (StatisticsRollupService 와 같은 방식).
+ * - 전체 재구축(rebuild)과 증분 반영은 StatisticsRebuildLock 으로 직렬화한다.
+ *   재구축은 프로젝트 단위 트랜잭션으로 나눠, 배타 잠금을 프로젝트 하나를 다시 채우는 동안만 잡는다.
+ * - 조회 시 월/프로젝트 스케치를 병합해 p50~p99, 최댓값, 구간별 히스토그램을 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DurationHistogramService {
+
+    // 히스토그램 구간 하한(초): 0, 1분, 2분, 5분, 10분, 15분, 30분, 1시간, 2시간~
+    private static final double[] BOUNDARIES_SEC = {0, 60, 120, 300, 600, 900, 1800, 3600, 7200};
+
+    private static final byte[] EMPTY_SKETCH = new QuantileSketch().toBytes();
+
+    private final ProjectMonthlyDurationRepository monthlyDurationRepository;
+    private final StatisticsRollupRepository rollupRepository;
+    private final StatisticsRebuildLock rebuildLock;
+    private final PlatformTransactionManager transactionManager;
+
+    // 증분 반영/프로젝트 단위 재구축용 트랜잭션. 호출한 쪽 트랜잭션에 합류하지 않도록 항상 새로 연다
+    private TransactionTemplate requiresNewTx;
+
+    @PostConstruct
+    void init() {
+        requiresNewTx = new TransactionTemplate(transactionManager);
+        requiresNewTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBuildRunPersisted(BuildRunPersistedEvent event) {
+        if (event.projectId() == null || event.startedAt() == null || event.duration() == null) {
+            return;
+        }
+        LocalDate monthStart = YearMonth.from(event.startedAt()).atDay(1);
+
+        try {
+            // 재구축과 같이 소프트 삭제된 빌드/배포는 반영하지 않는다
+            if (!rollupRepository.isActiveBuildRun(event.buildRunId())) {
+                return;
+            }
+            requiresNewTx.executeWithoutResult(status -> {
+                // 재구축 중이면 끝날 때까지 기다렸다가 새로 만든 행에 더한다
+                rebuildLock.lockShared();
+                // 행을 먼저 보장한 뒤 잠그고 병합 (동시 수집에도 유실 없음)
+                monthlyDurationRepository.insertIfAbsent(event.projectId(), monthStart,
+                        EMPTY_SKETCH);
+                monthlyDurationRepository.findForUpdate(event.projectId(), monthStart)
+                        .ifPresent(row -> {
+                            QuantileSketch sketch = row.toSketch();
+                            sketch.add(event.duration());
+                            row.updateSketch(sketch);
+                        });
+            });
+        } catch (Exception e) {
+            // 원본은 이미 커밋됐으므로 발행한 쪽으로 번지지 않게 로그만 남긴다 (rebuild 로 보정)
+            log.warn("[DurationHistogram] buildRunId={} 증분 반영 실패, 재구축으로 보정이 필요합니다: {}",
+                    event.buildRunId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 최근 months 개월(현재월 포함) 소요시간 분포. projectId 가 null 이면 전체 프로젝트 병합.
+     */
+    @Transactional(readOnly = true)
+    public DurationDistributionResponse getDistribution(Long projectId, int months) {
+        int span = Math.max(1, Math.min(months, 60));
+        YearMonth endYm = YearMonth.now();
+        YearMonth startYm = endYm.minusMonths(span - 1L);
+
+        List<ProjectMonthlyDuration> rows = projectId != null
+                ? monthlyDurationRepository.findAllByProjectIdAndMonthStartBetween(projectId,
+                        startYm.atDay(1), endYm.atDay(1))
+                : monthlyDurationRepository.findAllByMonthStartBetween(startYm.atDay(1),
+                        endYm.atDay(1));
+
+        Map<YearMonth, QuantileSketch> byMonth = new HashMap<>();
+        QuantileSketch total = new QuantileSketch();
+        for (ProjectMonthlyDuration row : rows) {
+            QuantileSketch sketch = row.toSketch();
+            byMonth.computeIfAbsent(YearMonth.from(row.getMonthStart()), k -> new QuantileSketch())
+                    .merge(sketch);
+            total.merge(sketch);
+        }
+
+        List<MonthDistribution> result = new ArrayList<>(span);
+        for (int i = 0; i < span; i++) {
+            YearMonth ym = startYm.plusMonths(i);
+            result.add(toDistribution(ym.toString(),
+                    byMonth.getOrDefault(ym, new QuantileSketch())));
+        }
+        return new DurationDistributionResponse(projectId, result, toDistribution(null, total));
+    }
+
+    private static MonthDistribution toDistribution(String month, QuantileSketch sketch) {
+        long[] counts = sketch.histogram(BOUNDARIES_SEC);
+        List<Bucket> histogram = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            Long upper = i + 1 < BOUNDARIES_SEC.length ? (long) BOUNDARIES_SEC[i + 1] : null;
+            histogram.add(new Bucket((long) BOUNDARIES_SEC[i], upper, counts[i]));
+        }
+        return new MonthDistribution(month, sketch.count(),
+                Math.round(sketch.quantile(0.5)),
+                Math.round(sketch.quantile(0.75)),
+                Math.round(sketch.quantile(0.9)),
+                Math.round(sketch.quantile(0.95)),
+                Math.round(sketch.quantile(0.99)),
+                Math.round(sketch.max()),
+                histogram);
+    }
+
+    @Async("webhookTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (monthlyDurationRepository.count() == 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("[DurationHistogram] 초기 재구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * build_run 전체로 분포를 다시 만든다. 프로젝트마다 새 트랜잭션에서 배타 잠금을 잡고 지운 뒤 다시 채우므로,
+     * 증분 반영은 전체가 아니라 프로젝트 하나를 채우는 동안만 기다린다.
+     * 빌드 행은 커서로 읽고, 메모리에는 해당 프로젝트의 월별 스케치만 유지한다.
+     * 각 단계가 자체 트랜잭션으로 커밋되므로 재구축 잠금을 이미 잡은 트랜잭션 안에서 호출하면 안 된다.
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        // 빌드가 모두 삭제된 프로젝트의 기존 행도 지우도록 양쪽 프로젝트를 합친다
+        Set<Long> projectIds = new TreeSet<>(rollupRepository.findBuildDurationProjectIds());
+        projectIds.addAll(monthlyDurationRepository.findDistinctProjectIds());
+
+        int rows = 0;
+        for (Long projectId : projectIds) {
+            rows += requiresNewTx.execute(status -> rebuildProject(projectId));
+        }
+
+        log.info("[DurationHistogram] 재구축 완료. projects={}, rows={}, elapsedMs={}",
+                projectIds.size(), rows, System.currentTimeMillis() - started);
+    }
+
+    private int rebuildProject(Long projectId) {
+        rebuildLock.lockExclusive();
+        monthlyDurationRepository.deleteAllByProjectIdInBatch(projectId);
+
+        TreeMap<YearMonth, QuantileSketch> months = new TreeMap<>();
+        rollupRepository.streamBuildDurations(projectId, row -> months
+                .computeIfAbsent(YearMonth.from(row.startedAt()), k -> new QuantileSketch())
+                .add(row.duration()));
+
+        List<ProjectMonthlyDuration> entities = new ArrayList<>(months.size());
+        months.forEach((ym, sketch) -> entities.add(ProjectMonthlyDuration.builder()
+                .projectId(projectId)
+                .monthStart(ym.atDay(1))
+                .sketch(sketch)
+                .build()));
+        monthlyDurationRepository.saveAll(entities);
+        return entities.size();
+    }
+}
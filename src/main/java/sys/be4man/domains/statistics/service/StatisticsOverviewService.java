@@ -0,0 +1,104 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.statistics.dto.response.BanTypeStatsResponse;
+import sys.be4man.domains.statistics.dto.response.DeployDurationResponse;
+import sys.be4man.domains.statistics.dto.response.DeploySuccessRateResponseDto;
+import sys.be4man.domains.statistics.dto.response.FailureSeriesResponseDto;
+import sys.be4man.domains.statistics.dto.response.PeriodStatsResponse;
+import sys.be4man.domains.statistics.dto.response.StatisticsOverviewResponse;
+import sys.be4man.domains.statistics.service.cache.StatisticsResponseCache;
+import sys.be4man.global.util.ParallelSections;
+
+/**
+ * 통계 화면의 6개 차트를 전용 풀에서 동시에 조회한다.
+ * - 응답 시간은 구간 합이 아니라 가장 느린 구간 하나에 수렴한다.
+ * - 구간마다 읽기 전용 트랜잭션 + 타임아웃을 걸어, 느린 쿼리는 DB 에서도 취소되고 나머지 결과만 응답한다.
+ * - 구간 결과는 단건 차트 API 와 같은 통계 응답 캐시를 거친다 (다음 이동 성공 차트는 단건 API 와 같이 캐시하지 않음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsOverviewService {
+
+    private final StatisticsService statisticsService;
+    private final StatisticsResponseCache statisticsResponseCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Qualifier("statisticsQueryExecutor")
+    private final Executor statisticsQueryExecutor;
+
+    // 구간별 실행 제한 시간 (큐 대기 시간은 포함하지 않음)
+    @Value("${statistics.overview.timeout-ms:3000}")
+    private long timeoutMs;
+
+    private ParallelSections sections;
+
+    @PostConstruct
+    void init() {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        readOnlyTx.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs)));
+        sections = new ParallelSections("[StatisticsOverview]", statisticsQueryExecutor, readOnlyTx,
+                timeoutMs);
+    }
+
+    public StatisticsOverviewResponse getOverview(Long projectId, LocalDate from, LocalDate to,
+            String period, long thresholdMins) {
+        String service = projectId != null ? String.valueOf(projectId) : "all";
+        Map<String, String> errors = new ConcurrentHashMap<>();
+
+        // 단건 API(StatisticsController)와 같은 캐시 키를 써서 캐시를 공유한다
+        String now = ",now=" + YearMonth.now();
+        var series = sections.submit("series", errors,
+                () -> cached("series", projectId, "s=" + service + ",from=" + from + ",to=" + to + now,
+                        FailureSeriesResponseDto.class,
+                        () -> statisticsService.getSeries(service, from, to)));
+        var successRate = sections.submit("successRate", errors,
+                () -> cached("success-rate", null, "-", DeploySuccessRateResponseDto.class,
+                        statisticsService::getDeploySuccessRate));
+        var duration = sections.submit("duration", errors,
+                () -> cached("duration", projectId, "s=" + service + now,
+                        DeployDurationResponse.class,
+                        () -> statisticsService.getDeployDuration(service)));
+        var periodStats = sections.submit("period", errors,
+                () -> cached("period", projectId, "p=" + period + now, PeriodStatsResponse.class,
+                        () -> statisticsService.getPeriodStats(period, projectId)));
+        var banType = sections.submit("banType", errors,
+                () -> cached("ban-type", projectId, "-", BanTypeStatsResponse.class,
+                        () -> statisticsService.getBanTypeStats(projectId)));
+        var nextSuccess = sections.submit("nextSuccess", errors,
+                () -> statisticsService.getTimeToNextSuccessPerProject(projectId, thresholdMins));
+
+        CompletableFuture.allOf(series, successRate, duration, periodStats, banType, nextSuccess)
+                .join();
+
+        return new StatisticsOverviewResponse(projectId, series.join(), successRate.join(),
+                duration.join(), periodStats.join(), banType.join(), nextSuccess.join(),
+                Map.copyOf(errors));
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 계산해 캐시에 넣는다. 실패한 구간은 캐시되지 않는다.
+     */
+    private <T> T cached(String endpoint, Long projectId, String params, Class<T> type,
+            Supplier<T> loader) {
+        return statisticsResponseCache.get(endpoint, projectId, params, type, loader).body();
+    }
+}
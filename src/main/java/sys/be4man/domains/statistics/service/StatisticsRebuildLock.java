@@ -0,0 +1,84 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service;
+
+import jakarta.persistence.EntityManager;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 통계 롤업/소요시간 분포의 증분 반영과 전체 재구축을 직렬화하는 트랜잭션 범위 잠금.
+ * - 증분 리스너는 공유 잠금, 재구축은 배타 잠금을 잡는다. 증분끼리는 서로 막지 않는다.
+ * - 재구축이 지운 뒤 다시 채우는 사이에 증분 upsert 가 끼어들면 원본을 읽은 시점에 따라 중복/유실되므로,
+ *   재구축이 커밋될 때까지 증분은 기다렸다가 새로 채운 행에 더한다.
+ * - PostgreSQL 은 트랜잭션 advisory lock(여러 인스턴스 공통), 그 외(H2 등)는 JVM 잠금을 쓴다.
+ *   두 경우 모두 트랜잭션이 끝날 때 풀리며, 같은 트랜잭션 안에서 다시 잡아도 된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatisticsRebuildLock {
+
+    // advisory lock 키: "STATROLL"
+    private static final long LOCK_KEY = 0x5354_4154_524F_4C4CL;
+
+    private final EntityManager entityManager;
+    private final ReentrantReadWriteLock localLock = new ReentrantReadWriteLock();
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    /**
+     * 증분 반영 전에 호출. 진행 중인 재구축이 있으면 커밋될 때까지 기다린다.
+     */
+    public void lockShared() {
+        if (isPostgres()) {
+            acquireAdvisory("select 1 from pg_advisory_xact_lock_shared(:key)");
+        } else {
+            acquireLocal(localLock.readLock());
+        }
+    }
+
+    /**
+     * 재구축 전에 호출. 진행 중인 증분 트랜잭션이 모두 끝날 때까지 기다린다.
+     */
+    public void lockExclusive() {
+        if (isPostgres()) {
+            acquireAdvisory("select 1 from pg_advisory_xact_lock(:key)");
+        } else {
+            acquireLocal(localLock.writeLock());
+        }
+    }
+
+    private void acquireAdvisory(String sql) {
+        requireTransaction();
+        entityManager.createNativeQuery(sql)
+                .setParameter("key", LOCK_KEY)
+                .getSingleResult();
+    }
+
+    private void acquireLocal(Lock lock) {
+        requireTransaction();
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private static void requireTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("통계 재구축 잠금은 트랜잭션 안에서만 잡을 수 있습니다.");
+        }
+    }
+
+    private boolean isPostgres() {
+        return url != null && DatabaseDriver.fromJdbcUrl(url) == DatabaseDriver.POSTGRESQL;
+    }
+}
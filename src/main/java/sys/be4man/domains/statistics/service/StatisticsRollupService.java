@@ -0,0 +1,276 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.analysis.event.StageRunAnalyzedEvent;
+import sys.be4man.domains.deployment.event.DeploymentResultChangedEvent;
+import sys.be4man.domains.statistics.model.entity.ProjectDailyProblemStat;
+import sys.be4man.domains.statistics.model.entity.ProjectDailyStat;
+import sys.be4man.domains.statistics.repository.ProjectDailyProblemStatRepository;
+import sys.be4man.domains.statistics.repository.ProjectDailyStatRepository;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository.DailyBuildRow;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository.DailyDeploymentRow;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository.DailyProblemRow;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository.ProblemTypeCountRow;
+import sys.be4man.domains.statistics.service.cache.StatisticsResponseCache;
+
+/**
+ * 일자별 통계 롤업 유지.
+ * - 이벤트 리스너는 원본 트랜잭션이 커밋된 뒤(AFTER_COMMIT) 자체의 짧은 트랜잭션(REQUIRES_NEW)으로 upsert 한다.
+ *   수집 트랜잭션이 롤업 잠금/행 잠금을 잡고 오래 머물지 않게 하기 위함이며,
+ *   대신 원본 커밋 후 롤업 반영 전에 실패하면 그 건은 빠지므로 rebuild() 로 보정한다.
+ * - 증분도 재구축 집계와 같이 소프트 삭제된 배포/빌드/스테이지는 반영하지 않는다.
+ * - 소프트 삭제처럼 이벤트가 없는 변경은 rebuild() 로 원본 기준 재계산해 보정한다.
+ * - 증분(공유)과 재구축(배타)은 StatisticsRebuildLock 으로 직렬화해, 재구축 중 upsert 가 유실되지 않게 한다.
+ *   공유 잠금은 upsert 트랜잭션에서만 잡는다. 원본 커밋 직후 ~ 공유 잠금 사이에 재구축이 끝나면 그 건이
+ *   두 번 반영될 수 있으나, 같은 스레드에서 커밋 직후 이어지는 짧은 구간이라 감수한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsRollupService {
+
+    private final ProjectDailyStatRepository dailyStatRepository;
+    private final ProjectDailyProblemStatRepository problemStatRepository;
+    private final StatisticsRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StatisticsResponseCache statisticsResponseCache;
+    private final DurationHistogramService durationHistogramService;
+    private final StatisticsRebuildLock rebuildLock;
+    private final PlatformTransactionManager transactionManager;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // 증분 upsert 용 트랜잭션. 커밋이 끝난 원본 트랜잭션에 합류하지 않도록 항상 새로 연다
+    private TransactionTemplate incrementTx;
+
+    @PostConstruct
+    void init() {
+        incrementTx = new TransactionTemplate(transactionManager);
+        incrementTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 빌드 결과 저장 시: 빌드 수/소요시간과 실패 스테이지 유형별 수를 빌드 시작일 버킷에 더한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBuildRunPersisted(BuildRunPersistedEvent event) {
+        if (event.projectId() == null || event.startedAt() == null) {
+            return;
+        }
+        applyIncrement("buildRunId=" + event.buildRunId(), () -> {
+            if (!rollupRepository.isActiveBuildRun(event.buildRunId())) {
+                return;
+            }
+            LocalDate statDate = event.startedAt().toLocalDate();
+            long duration = event.duration() != null ? event.duration() : 0L;
+            List<ProblemTypeCountRow> problems =
+                    rollupRepository.countProblemTypesByBuildRunId(event.buildRunId());
+
+            incrementTx.executeWithoutResult(status -> {
+                rebuildLock.lockShared();
+                dailyStatRepository.upsertIncrement(event.projectId(), statDate, 0L, 0L, 1L,
+                        duration);
+                for (ProblemTypeCountRow row : problems) {
+                    problemStatRepository.upsertIncrement(event.projectId(), statDate,
+                            row.problemType().name(), row.count());
+                }
+            });
+        });
+    }
+
+    /**
+     * 배포 결과 변경 시: 이전 결과는 빼고 새 결과는 더한다 (배포 작업 생성일 버킷).
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeploymentResultChanged(DeploymentResultChangedEvent event) {
+        if (event.projectId() == null || event.deploymentCreatedAt() == null) {
+            return;
+        }
+        long success = delta(event.previousIsDeployed(), event.isDeployed(), Boolean.TRUE);
+        long failed = delta(event.previousIsDeployed(), event.isDeployed(), Boolean.FALSE);
+        if (success == 0 && failed == 0) {
+            return;
+        }
+        applyIncrement("deploymentId=" + event.deploymentId(), () -> {
+            if (!rollupRepository.isActiveDeployment(event.deploymentId())) {
+                return;
+            }
+            incrementTx.executeWithoutResult(status -> {
+                rebuildLock.lockShared();
+                dailyStatRepository.upsertIncrement(event.projectId(),
+                        event.deploymentCreatedAt().toLocalDate(), success, failed, 0L, 0L);
+            });
+        });
+    }
+
+    /**
+     * 스테이지 재분석으로 문제 유형이 바뀌면 이전 유형 -1, 새 유형 +1.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStageRunAnalyzed(StageRunAnalyzedEvent event) {
+        if (event.projectId() == null || event.buildStartedAt() == null
+                || event.previousType() == event.problemType()) {
+            return;
+        }
+        applyIncrement("stageRunId=" + event.stageRunId(), () -> {
+            if (!rollupRepository.isActiveStageRun(event.stageRunId())) {
+                return;
+            }
+            LocalDate statDate = event.buildStartedAt().toLocalDate();
+            incrementTx.executeWithoutResult(status -> {
+                rebuildLock.lockShared();
+                if (event.previousType() != null) {
+                    problemStatRepository.upsertIncrement(event.projectId(), statDate,
+                            event.previousType().name(), -1L);
+                }
+                if (event.problemType() != null) {
+                    problemStatRepository.upsertIncrement(event.projectId(), statDate,
+                            event.problemType().name(), 1L);
+                }
+            });
+        });
+    }
+
+    /**
+     * 원본은 이미 커밋됐으므로 롤업 반영 실패가 발행한 쪽으로 번지지 않게 로그만 남긴다 (rebuild 로 보정).
+     */
+    private void applyIncrement(String target, Runnable increment) {
+        try {
+            increment.run();
+        } catch (Exception e) {
+            log.warn("[StatisticsRollup] {} 증분 반영 실패, 재구축으로 보정이 필요합니다: {}", target,
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 롤업 테이블이 비어 있으면 (최초 배포 등) 원본 데이터로 채운다.
+     */
+    @Async("webhookTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            // 소요시간 분포는 DurationHistogramService 가 따로 확인한다
+            if (dailyStatRepository.count() == 0 && problemStatRepository.count() == 0) {
+                transactionTemplate.executeWithoutResult(status -> rebuildRollups());
+                statisticsResponseCache.invalidateAll();
+            }
+        } catch (Exception e) {
+            log.warn("[StatisticsRollup] 초기 재구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 관리자 요청으로 재구축한다. 요청 스레드를 잡지 않도록 비동기로 돌린다.
+     */
+    @Async("webhookTaskExecutor")
+    public void rebuildAsync() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("[StatisticsRollup] 재구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 롤업/소요시간 분포 전체를 원본 테이블 기준으로 다시 계산하고, 커밋 후 통계 응답 캐시를 비운다.
+     * 이미 재구축 중이면 건너뛴다.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("[StatisticsRollup] 이미 재구축 중이라 요청을 건너뜁니다.");
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> rebuildRollups());
+            // 소요시간 분포는 프로젝트 단위 트랜잭션으로 나눠 재구축하므로 롤업 트랜잭션(배타 잠금) 밖에서 호출
+            durationHistogramService.rebuild();
+            statisticsResponseCache.invalidateAll();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void rebuildRollups() {
+        // 커밋될 때까지 증분 반영을 막는다
+        rebuildLock.lockExclusive();
+        long started = System.currentTimeMillis();
+
+        problemStatRepository.deleteAllInBatch();
+        dailyStatRepository.deleteAllInBatch();
+
+        Map<DayKey, long[]> daily = new LinkedHashMap<>();
+        for (DailyDeploymentRow row : rollupRepository.aggregateDailyDeploymentResults()) {
+            long[] acc = daily.computeIfAbsent(new DayKey(row.projectId(), row.statDate()),
+                    k -> new long[4]);
+            acc[0] += nz(row.success());
+            acc[1] += nz(row.failed());
+        }
+        for (DailyBuildRow row : rollupRepository.aggregateDailyBuilds()) {
+            long[] acc = daily.computeIfAbsent(new DayKey(row.projectId(), row.statDate()),
+                    k -> new long[4]);
+            acc[2] += nz(row.builds());
+            acc[3] += nz(row.durationSum());
+        }
+
+        List<ProjectDailyStat> stats = new ArrayList<>(daily.size());
+        daily.forEach((key, acc) -> {
+            stats.add(ProjectDailyStat.builder()
+                    .projectId(key.projectId())
+                    .statDate(key.statDate())
+                    .deploymentSuccessCount(acc[0])
+                    .deploymentFailedCount(acc[1])
+                    .buildCount(acc[2])
+                    .buildDurationSum(acc[3])
+                    .build());
+        });
+        dailyStatRepository.saveAll(stats);
+
+        List<ProjectDailyProblemStat> problems = rollupRepository.aggregateDailyProblems()
+                .stream()
+                .map(row -> ProjectDailyProblemStat.builder()
+                        .projectId(row.projectId())
+                        .statDate(row.statDate())
+                        .problemType(row.problemType())
+                        .failureCount(nz(row.count()))
+                        .build())
+                .toList();
+        problemStatRepository.saveAll(problems);
+
+        log.info("[StatisticsRollup] 재구축 완료. daily={}, problem={}, elapsedMs={}",
+                stats.size(), problems.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 이전/현재 결과에서 target 결과 건수의 증감 (-1, 0, +1)
+     */
+    private static long delta(Boolean previous, Boolean current, Boolean target) {
+        return (target.equals(current) ? 1L : 0L) - (target.equals(previous) ? 1L : 0L);
+    }
+
+    /** (project, date) 버킷 키. 누적 배열은 [성공, 실패, 빌드 수, 소요시간 합] */
+    private record DayKey(Long projectId, LocalDate statDate) {}
+
+    private static long nz(Long v) {
+        return v == null ? 0L : v;
+    }
+}
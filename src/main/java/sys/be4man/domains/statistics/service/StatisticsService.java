@@ -1,7 +1,6 @@
 // 작성자 : 조윤상
 package sys.be4man.domains.statistics.service;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
@@ -15,6 +14,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sys.be4man.domains.analysis.model.type.ProblemType;
@@ -23,6 +23,7 @@ import sys.be4man.domains.statistics.dto.response.DeployDurationResponse;
 import sys.be4man.domains.statistics.dto.response.DeploySuccessRateResponseDto;
 import sys.be4man.domains.statistics.dto.response.DeploySuccessRateResponseDto.Count;
 import sys.be4man.domains.statistics.dto.response.DeploySuccessRateResponseDto.ServiceRate;
+import sys.be4man.domains.statistics.dto.response.FactQueryResponse;
 import sys.be4man.domains.statistics.dto.response.FailureSeriesResponseDto;
 import sys.be4man.domains.statistics.dto.response.FailureSeriesResponseDto.Summary;
 import sys.be4man.domains.statistics.dto.response.MonthDurationDto;
@@ -33,18 +34,29 @@ import sys.be4man.domains.statistics.dto.response.TimeToNextSuccessItem;
 import sys.be4man.domains.statistics.dto.response.TimeToNextSuccessResponse;
 import sys.be4man.domains.statistics.dto.response.TypeCountResponseDto;
 import sys.be4man.domains.statistics.repository.StatisticsRepositoryCustom;
-import sys.be4man.domains.statistics.repository.projection.CrossDeploymentRow;
-import sys.be4man.domains.statistics.repository.projection.IntraBuildRow;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository;
 import sys.be4man.domains.statistics.repository.projection.MonthBucket;
 import sys.be4man.domains.statistics.repository.projection.ProjectSuccessCount;
 import sys.be4man.domains.statistics.repository.projection.TotalSuccessCount;
 import sys.be4man.domains.statistics.repository.projection.YearBucket;
+import sys.be4man.domains.statistics.service.facts.FactCriteria;
+import sys.be4man.domains.statistics.service.facts.FactDimension;
+import sys.be4man.domains.statistics.service.facts.FactSource;
+import sys.be4man.domains.statistics.service.facts.StatisticsFactStore;
+import sys.be4man.domains.statistics.service.sketch.QuantileSketch;
+import sys.be4man.global.exception.BadRequestException;
 
 @Service
 @RequiredArgsConstructor
 public class StatisticsService {
 
     private final StatisticsRepositoryCustom statisticsRepository;
+    private final StatisticsRollupRepository rollupRepository;
+    private final StatisticsFactStore factStore;
+
+    // true 면 실패 유형/성공률/소요시간을 일자별 롤업 테이블에서 조회 (false 면 원본 테이블 집계)
+    @Value("${statistics.rollup.enabled:true}")
+    private boolean rollupEnabled;
 
     public FailureSeriesResponseDto getSeries(String serviceId, LocalDate from, LocalDate to) {
         // serviceId 파싱
@@ -60,8 +72,10 @@ public class StatisticsService {
         LocalDateTime toTs = (to == null) ? null : to.plusDays(1).atStartOfDay();
 
         // 1) summary: 유형별 총합
-        List<TypeCountResponseDto> typeCountsRows =
-                statisticsRepository.countByProblemTypeForProject(projectId, fromTs, toTs);
+        List<TypeCountResponseDto> typeCountsRows = rollupEnabled
+                ? rollupRepository.sumProblemTypes(projectId, from,
+                        to == null ? null : to.plusDays(1))
+                : statisticsRepository.countByProblemTypeForProject(projectId, fromTs, toTs);
 
         Map<String, Long> typeCounts = new LinkedHashMap<>();
         long total = 0L;
@@ -77,7 +91,10 @@ public class StatisticsService {
         }
 
         // 2) series: (유형, month) → count
-        var rawRows = statisticsRepository.monthlySeriesAllTypes(projectId, fromTs, toTs);
+        var rawRows = rollupEnabled
+                ? rollupRepository.monthlyProblemSeries(projectId, from,
+                        to == null ? null : to.plusDays(1))
+                : statisticsRepository.monthlySeriesAllTypes(projectId, fromTs, toTs);
 
         // 2-1) 라벨(YYYY-MM) 만들기
         List<String> labels = buildMonthLabels(from, to);
@@ -164,10 +181,14 @@ public class StatisticsService {
 
     public DeploySuccessRateResponseDto getDeploySuccessRate() {
         // 프로젝트별 성공/실패 건수 조회
-        List<ProjectSuccessCount> perProject = statisticsRepository.findProjectSuccessCounts();
+        List<ProjectSuccessCount> perProject = rollupEnabled
+                ? rollupRepository.sumProjectSuccessCounts()
+                : statisticsRepository.findProjectSuccessCounts();
 
         // 전체 합계(모든 프로젝트) 조회
-        TotalSuccessCount total = statisticsRepository.findTotalSuccessCounts();
+        TotalSuccessCount total = rollupEnabled
+                ? rollupRepository.sumTotalSuccessCounts()
+                : statisticsRepository.findTotalSuccessCounts();
 
         // DTO로 변환
         List<ServiceRate> services = perProject.stream()
@@ -201,8 +222,11 @@ public class StatisticsService {
                 (projectId == null && !"all".equalsIgnoreCase(service)) ? service : null;
 
         // 월별 평균(초)을 조회 → 서비스에서 "월 시퀄 채우기 + 분으로 변환"
-        Map<YearMonth, Double> avgSecByMonth = statisticsRepository
-                .findMonthlyAvgDuration(projectId, projectName, startInclusive, endExclusive);
+        Map<YearMonth, Double> avgSecByMonth = rollupEnabled
+                ? rollupRepository.monthlyAvgDuration(projectId, projectName, startInclusive,
+                        endExclusive)
+                : statisticsRepository.findMonthlyAvgDuration(projectId, projectName,
+                        startInclusive, endExclusive);
 
         List<MonthDurationDto> months = densifyAndConvertToMinutes(startYm, 12, avgSecByMonth);
 
@@ -273,20 +297,26 @@ public class StatisticsService {
     }
 
     private PeriodStatsResponse buildMonthResponse(Long projectId) {
-        List<MonthBucket> raw = statisticsRepository.findMonthlyDeploymentFinalStats(projectId);
+        // 최근 12개월(현재월 포함)을 연-월 단위로 집계 (서로 다른 해의 같은 월을 합치지 않음)
+        YearMonth endYm = YearMonth.now();
+        YearMonth startYm = endYm.minusMonths(11);
 
-        // 1~12월 전체 채우기(없으면 0)
-        Map<Integer, MonthBucket> map = raw.stream()
-                .collect(Collectors.toMap(MonthBucket::month, m -> m));
+        List<MonthBucket> raw = statisticsRepository.findMonthlyDeploymentFinalStats(projectId,
+                startYm.atDay(1).atStartOfDay(), endYm.plusMonths(1).atDay(1).atStartOfDay());
 
-        List<PeriodStatsResponse.Item> items = IntStream.rangeClosed(1, 12)
-                .mapToObj(m -> {
-                    MonthBucket b = map.get(m);
+        Map<YearMonth, MonthBucket> map = raw.stream()
+                .collect(Collectors.toMap(m -> YearMonth.of(m.year(), m.month()), m -> m));
+
+        // 12개월 전체 채우기(없으면 0), 오래된 달부터. 라벨은 기존과 같이 월 번호("1".."12")
+        List<PeriodStatsResponse.Item> items = IntStream.range(0, 12)
+                .mapToObj(i -> {
+                    YearMonth ym = startYm.plusMonths(i);
+                    MonthBucket b = map.get(ym);
                     long deployments = b != null ? b.deployments() : 0L;
                     long success = b != null ? b.success() : 0L;
                     long failed = b != null ? b.failed() : 0L;
                     return new PeriodStatsResponse.Item(
-                            String.valueOf(m), deployments, success, failed
+                            String.valueOf(ym.getMonthValue()), deployments, success, failed
                     );
                 })
                 .toList();
@@ -323,169 +353,122 @@ public class StatisticsService {
     }
 
     /**
-     * 배포 실패 → 다음 배포 성공까지 걸린 시간(분)을 프로젝트별로 집계 - 케이스 A: 같은 deployment에서 재시도 (build_run 내에서 마지막 실패 →
-     * 다음 성공) - 케이스 B: 다른 deployment로 재시도 (같은 project+PR 안에서 실패 deployment → 다음 성공 deployment) -
-     * "실패만 있고 다음 성공이 아직 없는 경우"는 무시
+     * 배포 실패 → 다음 배포 성공까지 걸린 시간(분)을 프로젝트별로 집계
+     * - 케이스 A: 같은 deployment에서 재시도 (build_run 내에서 마지막 실패 → 다음 성공)
+     * - 케이스 B: 다른 deployment로 재시도 (같은 project+PR 안에서 실패 deployment → 다음 성공 deployment)
+     * - "실패만 있고 다음 성공이 아직 없는 경우"는 무시
+     * 표본은 DB 에서 계산되어 커서로 흘러오며, 프로젝트별 누적값과 분위수 스케치만 메모리에 유지한다.
      */
     @Transactional(readOnly = true)
     public TimeToNextSuccessResponse getTimeToNextSuccessPerProject(Long projectId,
             long thresholdMins) {
 
-        // ── 1) 원시 이벤트 조회
-        List<IntraBuildRow> intraRows = statisticsRepository.fetchIntraDeploymentBuildRuns(
-                projectId);
-        List<CrossDeploymentRow> crossRows = statisticsRepository.fetchCrossDeploymentEvents(
-                projectId);
-
-        // ── 2) 케이스 A: 같은 deployment 안에서 "마지막 실패 → 다음 성공"
-        Map<Long, ProjectAgg> agg = new LinkedHashMap<>();
-        Map<Long, List<IntraBuildRow>> byDeployment = intraRows.stream()
-                .collect(Collectors.groupingBy(IntraBuildRow::deploymentId, LinkedHashMap::new,
-                        Collectors.toList()));
-
-        for (List<IntraBuildRow> logs : byDeployment.values()) {
-            // 정렬 보장(쿼리에서 already ASC), 그래도 혹시 모를 null 방어
-            logs = logs.stream()
-                    .filter(r -> r.startedAt() != null && r.isBuild() != null)
-                    .sorted(Comparator.comparing(IntraBuildRow::startedAt))
-                    .toList();
-            if (logs.isEmpty()) {
-                continue;
-            }
-
-            // "가장 최근 실패" 인덱스 찾기
-            int lastFail = -1;
-            for (int i = logs.size() - 1; i >= 0; i--) {
-                if (Boolean.FALSE.equals(logs.get(i).isBuild())) {
-                    lastFail = i;
-                    break;
-                }
-            }
-            if (lastFail < 0) {
-                continue; // 실패 없음 → 스킵
-            }
-
-            // 그 다음 성공 찾기
-            LocalDateTime failAt = logs.get(lastFail).startedAt();
-            LocalDateTime nextSuccessAt = null;
-            for (int j = lastFail + 1; j < logs.size(); j++) {
-                if (Boolean.TRUE.equals(logs.get(j).isBuild())) {
-                    nextSuccessAt = logs.get(j).startedAt();
-                    break;
-                }
-            }
-            if (nextSuccessAt == null) {
-                continue; // 다음 성공 없음 → 스킵
-            }
-
-            long minutes = Duration.between(failAt, nextSuccessAt).toMinutes();
-            if (minutes < 0) {
-                continue; // 역전 방어
-            }
-
-            Long pid = logs.get(0).projectId();
-            String pname = logs.get(0).projectName();
-            agg.compute(pid, (k, a) -> {
-                if (a == null) {
-                    a = new ProjectAgg(pname);
-                }
-                a.samples.add(minutes);
-                return a;
-            });
+        Map<Long, ProjectAgg> agg = new HashMap<>();
+        statisticsRepository.streamNextSuccessSamples(projectId, sample ->
+                agg.computeIfAbsent(sample.projectId(),
+                                k -> new ProjectAgg(sample.projectName(), thresholdMins))
+                        .add(sample.minutes()));
+
+        // 프로젝트별 스케치를 병합해 전체 분위수 계산
+        ProjectAgg all = new ProjectAgg(null, thresholdMins);
+        List<TimeToNextSuccessItem> items = new ArrayList<>(agg.size());
+        for (Map.Entry<Long, ProjectAgg> en : agg.entrySet()) {
+            all.merge(en.getValue());
+            items.add(en.getValue().toItem(en.getKey()));
         }
+        items.sort(Comparator.comparing(TimeToNextSuccessItem::projectId));
 
-        // ── 3) 케이스 B: 다른 deployment로 재시도 (같은 project+PR 안에서)
-        record PRKey(Long projectId, Long pullRequestId, String projectName) {
-
-        }
-        Map<PRKey, List<CrossDeploymentRow>> byPR = crossRows.stream()
-                .collect(Collectors.groupingBy(
-                        r -> new PRKey(r.projectId(), r.pullRequestId(), r.projectName()),
-                        LinkedHashMap::new,
-                        Collectors.toList()
-                ));
-
-        for (Map.Entry<PRKey, List<CrossDeploymentRow>> e : byPR.entrySet()) {
-            List<CrossDeploymentRow> seq = e.getValue().stream()
-                    .filter(r -> r.startedAt() != null && r.isDeployed() != null)
-                    .sorted(Comparator.comparing(CrossDeploymentRow::startedAt))
-                    .toList();
-            if (seq.isEmpty()) {
-                continue;
-            }
-
-            // "가장 최근 실패" 찾기
-            int lastFail = -1;
-            for (int i = seq.size() - 1; i >= 0; i--) {
-                if (Boolean.FALSE.equals(seq.get(i).isDeployed())) {
-                    lastFail = i;
-                    break;
-                }
-            }
-            if (lastFail < 0) {
-                continue;
-            }
+        return new TimeToNextSuccessResponse(thresholdMins, items, all.toItem(null));
+    }
 
-            // 그 다음 성공 찾기
-            LocalDateTime failAt = seq.get(lastFail).startedAt();
-            LocalDateTime nextSuccessAt = null;
-            for (int j = lastFail + 1; j < seq.size(); j++) {
-                if (Boolean.TRUE.equals(seq.get(j).isDeployed())) {
-                    nextSuccessAt = seq.get(j).startedAt();
-                    break;
-                }
-            }
-            if (nextSuccessAt == null) {
-                continue; // 다음 성공 없음 → 스킵
+    /**
+     * 인메모리 팩트 저장소에서 임의의 차원 조합으로 집계한다. (DB 조회 없음)
+     * 예) source=stage, groupBy=month,problemType, success=false → 월별 실패 유형 건수
+     */
+    public FactQueryResponse queryFacts(String source, List<String> groupBy,
+            FactCriteria criteria) {
+        FactSource factSource = parseEnum(FactSource.class, source);
+        List<FactDimension> dimensions = new ArrayList<>();
+        for (String name : groupBy == null ? List.<String>of() : groupBy) {
+            FactDimension dimension = parseEnum(FactDimension.class,
+                    name.replaceAll("([a-z])([A-Z])", "$1_$2"));
+            if (!factSource.supports(dimension)) {
+                throw new BadRequestException();
             }
-
-            long minutes = Duration.between(failAt, nextSuccessAt).toMinutes();
-            if (minutes < 0) {
-                continue;
+            if (!dimensions.contains(dimension)) {
+                dimensions.add(dimension);
             }
-
-            Long pid = e.getKey().projectId();
-            String pname = e.getKey().projectName();
-            agg.compute(pid, (k, a) -> {
-                if (a == null) {
-                    a = new ProjectAgg(pname);
-                }
-                a.samples.add(minutes);
-                return a;
-            });
         }
 
-        // ── 4) 프로젝트별 집계 → 응답 아이템
-        List<TimeToNextSuccessItem> items = agg.entrySet().stream()
-                .map(en -> {
-                    Long pid = en.getKey();
-                    ProjectAgg a = en.getValue();
-                    long cnt = a.samples.size();
-                    long sum = a.samples.stream().mapToLong(Long::longValue).sum();
-                    long avg = cnt == 0 ? 0 : Math.round((double) sum / cnt);
-
-                    long within = 0, over = 0;
-                    for (long m : a.samples) {
-                        long w = Math.min(m, thresholdMins);
-                        within += w;
-                        over += Math.max(0, m - thresholdMins);
-                    }
-                    return new TimeToNextSuccessItem(pid, a.projectName, avg, cnt, within, over);
-                })
-                .sorted(Comparator.comparing(TimeToNextSuccessItem::projectId))
+        long started = System.nanoTime();
+        StatisticsFactStore.Result result = factStore.query(factSource, criteria, dimensions);
+        long elapsedMicros = (System.nanoTime() - started) / 1_000;
+
+        List<FactQueryResponse.Row> rows = result.groups().stream()
+                .map(g -> new FactQueryResponse.Row(
+                        g.projectId(),
+                        g.projectName(),
+                        g.month() != null ? g.month().toString() : null,
+                        g.stageName(),
+                        g.problemType() != null ? g.problemType().name() : null,
+                        g.success(),
+                        g.count(),
+                        g.successCount(),
+                        factSource == FactSource.BUILD && g.count() > 0
+                                ? (double) g.durationSumSeconds() / g.count() : null))
                 .toList();
 
-        return new TimeToNextSuccessResponse(thresholdMins, items);
+        return new FactQueryResponse(factSource.name(),
+                dimensions.stream().map(Enum::name).toList(), result.ready(),
+                result.scannedRows(), elapsedMicros, rows);
     }
 
-    // 내부 누적용
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException();
+        }
+    }
+
+    // 내부 누적용 (표본 목록 대신 합계 + 분위수 스케치)
     private static final class ProjectAgg {
 
         final String projectName;
-        final List<Long> samples = new ArrayList<>();
-
-        ProjectAgg(String projectName) {
+        final long thresholdMins;
+        final QuantileSketch sketch = new QuantileSketch();
+        long count;
+        long sum;
+        long within;
+        long over;
+
+        ProjectAgg(String projectName, long thresholdMins) {
             this.projectName = projectName;
+            this.thresholdMins = thresholdMins;
+        }
+
+        void add(long minutes) {
+            count++;
+            sum += minutes;
+            within += Math.min(minutes, thresholdMins);
+            over += Math.max(0, minutes - thresholdMins);
+            sketch.add(minutes);
+        }
+
+        void merge(ProjectAgg other) {
+            count += other.count;
+            sum += other.sum;
+            within += other.within;
+            over += other.over;
+            sketch.merge(other.sketch);
+        }
+
+        TimeToNextSuccessItem toItem(Long projectId) {
+            long avg = count == 0 ? 0 : Math.round((double) sum / count);
+            return new TimeToNextSuccessItem(projectId, projectName, avg, count, within, over,
+                    Math.round(sketch.quantile(0.5)),
+                    Math.round(sketch.quantile(0.9)),
+                    Math.round(sketch.quantile(0.99)));
         }
     }
 }
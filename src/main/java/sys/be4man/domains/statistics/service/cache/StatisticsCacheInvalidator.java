@@ -0,0 +1,62 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.analysis.event.StageRunAnalyzedEvent;
+import sys.be4man.domains.ban.event.BanChangedEvent;
+import sys.be4man.domains.ban.model.entity.ProjectBan;
+import sys.be4man.domains.ban.repository.ProjectBanRepository;
+import sys.be4man.domains.deployment.event.DeploymentResultChangedEvent;
+import sys.be4man.domains.project.model.entity.Project;
+
+/**
+ * 통계에 영향을 주는 변경이 커밋된 뒤 해당 프로젝트의 통계 응답 캐시를 무효화한다.
+ * 커밋 전에 무효화하면 다른 요청이 이전 데이터로 캐시를 다시 채울 수 있으므로 AFTER_COMMIT 에서만 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsCacheInvalidator {
+
+    private final StatisticsResponseCache statisticsResponseCache;
+    private final ProjectBanRepository projectBanRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBuildRunPersisted(BuildRunPersistedEvent event) {
+        statisticsResponseCache.invalidateProject(event.projectId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStageRunAnalyzed(StageRunAnalyzedEvent event) {
+        statisticsResponseCache.invalidateProject(event.projectId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeploymentResultChanged(DeploymentResultChangedEvent event) {
+        statisticsResponseCache.invalidateProject(event.projectId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBanChanged(BanChangedEvent event) {
+        try {
+            var projectBans = projectBanRepository.findAllByBan_IdAndIsDeletedFalse(event.banId());
+            if (projectBans.isEmpty()) {
+                statisticsResponseCache.invalidateProject(null);
+                return;
+            }
+            projectBans.stream()
+                    .map(ProjectBan::getProject)
+                    .map(Project::getId)
+                    .distinct()
+                    .forEach(statisticsResponseCache::invalidateProject);
+        } catch (Exception e) {
+            log.warn("[StatisticsCache] banId={} 무효화 실패: {}", event.banId(), e.getMessage());
+            statisticsResponseCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 통계 API 응답 2단 캐시 (L1: 인스턴스 로컬 Caffeine, L2: Redis).
+ * - 키 = 엔드포인트 + 범위(프로젝트 or 전체) + 파라미터 + 세대(generation) 번호
+ * - 세대 번호는 Redis 카운터(stats:gen:{projectId}, stats:gen:all, stats:gen:epoch)로 관리한다.
+ *   프로젝트 데이터가 바뀌면 해당 프로젝트와 all 세대만 올려, 다른 프로젝트 캐시는 그대로 유지된다.
+ *   이전 세대 키는 더 이상 조회되지 않고 TTL 로 만료된다 (인스턴스 간 별도 무효화 메시지 불필요).
+ * - 요청마다 Redis 를 읽지 않도록 세대 번호는 로컬에 짧게(generation.ttl-ms) 캐시한다.
+ *   이 인스턴스의 무효화는 즉시 반영되고, 다른 인스턴스의 무효화는 최대 ttl-ms 늦게 반영된다.
+ * - ETag 는 직렬화된 JSON 의 MD5 이므로 L1/L2/인스턴스와 관계없이 같은 응답이면 같은 값이다.
+ * - Redis 장애 시에는 캐시 없이 바로 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsResponseCache {
+
+    private static final String RESPONSE_PREFIX = "stats:resp:";
+    private static final String GEN_PREFIX = "stats:gen:";
+    private static final String GEN_ALL = GEN_PREFIX + "all";
+    private static final String GEN_EPOCH = GEN_PREFIX + "epoch";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${statistics.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${statistics.cache.local.max-size:1000}")
+    private long localMaxSize;
+
+    @Value("${statistics.cache.local.ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${statistics.cache.redis.ttl-seconds:3600}")
+    private long redisTtlSeconds;
+
+    @Value("${statistics.cache.generation.ttl-ms:1000}")
+    private long generationTtlMs;
+
+    private Cache<String, Cached<?>> local;
+
+    // 세대 카운터 키 → 값. 다른 인스턴스의 무효화를 늦어도 generationTtlMs 안에 보도록 짧게 유지
+    private Cache<String, String> generations;
+
+    /** 캐시된 응답 본문과 ETag */
+    public record Cached<T>(T body, String etag) {}
+
+    @PostConstruct
+    void init() {
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMillis(generationTtlMs))
+                .build();
+    }
+
+    /**
+     * 캐시에서 응답을 찾고, 없으면 loader 로 계산해 L1/L2 에 저장한다.
+     *
+     * @param endpoint  엔드포인트 식별자 (예: "series")
+     * @param projectId 특정 프로젝트 범위면 projectId, 전체 범위면 null
+     * @param params    그 외 응답을 결정하는 파라미터 (기간 등)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Cached<T> get(String endpoint, Long projectId, String params, Class<T> type,
+            Supplier<T> loader) {
+        if (!enabled) {
+            return compute(loader);
+        }
+
+        String key;
+        try {
+            key = key(endpoint, projectId, params);
+        } catch (Exception e) {
+            log.debug("[StatisticsCache] 세대 번호 조회 실패, 캐시 없이 계산합니다: {}", e.getMessage());
+            return compute(loader);
+        }
+
+        Cached<?> hit = local.getIfPresent(key);
+        if (hit != null) {
+            return (Cached<T>) hit;
+        }
+
+        Cached<T> cached = readRedis(key, type);
+        if (cached == null) {
+            cached = compute(loader);
+            writeRedis(key, cached);
+        }
+        local.put(key, cached);
+        return cached;
+    }
+
+    /**
+     * 계산 없이 캐시만 조회해 직렬화된 JSON 을 돌려준다. 없거나 Redis 장애면 null.
+     * 비동기 리포트 작업처럼 계산을 호출 스레드에서 하지 않는 경우에 쓴다.
+     */
+    public String peekJson(String endpoint, Long projectId, String params) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            String key = key(endpoint, projectId, params);
+            Cached<?> hit = local.getIfPresent(key);
+            if (hit != null) {
+                return (String) hit.body();
+            }
+            String json = stringRedisTemplate.opsForValue().get(key);
+            if (json != null) {
+                local.put(key, new Cached<>(json, etagOf(json)));
+            }
+            return json;
+        } catch (Exception e) {
+            log.debug("[StatisticsCache] 캐시 조회 실패 endpoint={}: {}", endpoint, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 직렬화된 JSON 을 L1/L2 에 저장한다. 키 세대는 저장 시점 기준이므로 이후 데이터가 바뀌면 조회되지 않는다.
+     */
+    public void putJson(String endpoint, Long projectId, String params, String json) {
+        if (!enabled) {
+            return;
+        }
+        String key;
+        try {
+            key = key(endpoint, projectId, params);
+        } catch (Exception e) {
+            log.debug("[StatisticsCache] 세대 번호 조회 실패, 저장하지 않습니다: {}", e.getMessage());
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(key, json, Duration.ofSeconds(redisTtlSeconds));
+        } catch (Exception e) {
+            log.debug("[StatisticsCache] Redis 저장 실패 key={}: {}", key, e.getMessage());
+        }
+        local.put(key, new Cached<>(json, etagOf(json)));
+    }
+
+    /**
+     * 프로젝트 데이터 변경: 해당 프로젝트 범위와 전체 범위 캐시를 무효화한다.
+     */
+    public void invalidateProject(Long projectId) {
+        try {
+            if (projectId != null) {
+                bump(GEN_PREFIX + projectId);
+            }
+            bump(GEN_ALL);
+        } catch (Exception e) {
+            log.warn("[StatisticsCache] projectId={} 무효화 실패: {}", projectId, e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 무효화 (롤업 재구축 등)
+     */
+    public void invalidateAll() {
+        try {
+            bump(GEN_EPOCH);
+        } catch (Exception e) {
+            log.warn("[StatisticsCache] 전체 무효화 실패: {}", e.getMessage());
+            generations.invalidateAll();
+        }
+        local.invalidateAll();
+    }
+
+    /**
+     * Redis 세대 카운터를 올리고, 이 인스턴스의 로컬 세대 값도 바로 바꾼다.
+     */
+    private void bump(String genKey) {
+        Long next = stringRedisTemplate.opsForValue().increment(genKey);
+        if (next != null) {
+            generations.put(genKey, String.valueOf(next));
+        } else {
+            generations.invalidate(genKey);
+        }
+    }
+
+    private String key(String endpoint, Long projectId, String params) {
+        String scope = projectId != null ? String.valueOf(projectId) : "all";
+        String scopeKey = GEN_PREFIX + scope;
+        Map<String, String> gens = generations.getAll(List.of(GEN_EPOCH, scopeKey),
+                this::loadGenerations);
+        return RESPONSE_PREFIX + endpoint + ":" + scope + ":" + params + ":"
+                + gens.get(GEN_EPOCH) + "." + gens.get(scopeKey);
+    }
+
+    /**
+     * 로컬에 없는 세대 번호를 한 번의 multiGet 으로 읽는다. 아직 올린 적 없는 카운터는 "0".
+     */
+    private Map<String, String> loadGenerations(Set<? extends String> genKeys) {
+        List<String> keys = List.copyOf(genKeys);
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        Map<String, String> loaded = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values != null && i < values.size() ? values.get(i) : null;
+            loaded.put(keys.get(i), value != null ? value : "0");
+        }
+        return loaded;
+    }
+
+    private <T> Cached<T> compute(Supplier<T> loader) {
+        T body = loader.get();
+        return new Cached<>(body, etagOf(serialize(body)));
+    }
+
+    private <T> Cached<T> readRedis(String key, Class<T> type) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            if (json == null) {
+                return null;
+            }
+            return new Cached<>(objectMapper.readValue(json, type), etagOf(json));
+        } catch (Exception e) {
+            log.debug("[StatisticsCache] Redis 조회 실패 key={}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, Cached<?> cached) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, serialize(cached.body()),
+                    Duration.ofSeconds(redisTtlSeconds));
+        } catch (Exception e) {
+            log.debug("[StatisticsCache] Redis 저장 실패 key={}: {}", key, e.getMessage());
+        }
+    }
+
+    private String serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("통계 응답 직렬화 실패", e);
+        }
+    }
+
+    private static String etagOf(String json) {
+        return "\"" + DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
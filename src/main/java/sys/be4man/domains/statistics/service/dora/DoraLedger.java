@@ -0,0 +1,152 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.dora;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DORA 4대 지표의 증분 상태.
+ * - 배포 결과가 하나 들어올 때마다 프로젝트/전체의 일자 버킷과 창(7/30/90일) 누적값을 갱신한다.
+ * - 리드 타임: PR 병합 → 그 PR 의 첫 배포 성공
+ * - 복구 시간: 프로젝트의 배포 실패(이후 RETRY/ROLLBACK 진행) → 같은 프로젝트의 다음 배포 성공
+ * - 같은 배포의 결과가 뒤집히면 이전 기여분을 빼고 다시 반영한다.
+ * 스레드 안전하지 않으므로 DoraMetricsEngine 이 동기화한다.
+ */
+final class DoraLedger {
+
+    /** 전체 프로젝트 합산 키 */
+    static final long ALL = 0L;
+
+    // 결과 뒤집힘 보정용 기여 기록 정리 주기
+    private static final int PRUNE_INTERVAL = 1_024;
+
+    /** 배포 결과 한 건 */
+    record Outcome(Long deploymentId, Long projectId, Long pullRequestId,
+                   LocalDateTime pullRequestMergedAt, Boolean isDeployed,
+                   LocalDateTime resultAt) {}
+
+    /** 배포 결과가 지표에 더한 값 (뒤집힘 시 되돌리기용) */
+    private record Contribution(Long projectId, long day, boolean success, Long pullRequestId,
+                                Long leadMinutes, Long restoreMinutes,
+                                LocalDateTime restoredFailureAt, LocalDateTime openedFailureAt) {}
+
+    private final Map<Long, DoraWindows> windows = new HashMap<>();
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    // 첫 성공 배포로 리드 타임이 이미 집계된 PR
+    private final Set<Long> deliveredPullRequests = new HashSet<>();
+    // 프로젝트별 복구되지 않은 첫 실패 시각
+    private final Map<Long, LocalDateTime> openFailures = new HashMap<>();
+    private int applied;
+
+    void apply(Outcome o) {
+        if (o.deploymentId() == null || o.projectId() == null || o.resultAt() == null) {
+            return;
+        }
+        revert(contributions.remove(o.deploymentId()));
+        if (o.isDeployed() == null) {
+            return;
+        }
+
+        long day = o.resultAt().toLocalDate().toEpochDay();
+        Long leadMinutes = null;
+        Long restoreMinutes = null;
+        LocalDateTime restoredFailureAt = null;
+        LocalDateTime openedFailureAt = null;
+
+        if (o.isDeployed()) {
+            add(o.projectId(), day, DoraWindows.SUCCESS, 1);
+            if (o.pullRequestId() != null && o.pullRequestMergedAt() != null
+                    && deliveredPullRequests.add(o.pullRequestId())) {
+                leadMinutes = minutesBetween(o.pullRequestMergedAt(), o.resultAt());
+                add(o.projectId(), day, DoraWindows.LEAD_SUM, leadMinutes);
+                add(o.projectId(), day, DoraWindows.LEAD_COUNT, 1);
+            }
+            restoredFailureAt = openFailures.remove(o.projectId());
+            if (restoredFailureAt != null) {
+                restoreMinutes = minutesBetween(restoredFailureAt, o.resultAt());
+                add(o.projectId(), day, DoraWindows.RESTORE_SUM, restoreMinutes);
+                add(o.projectId(), day, DoraWindows.RESTORE_COUNT, 1);
+            }
+        } else {
+            add(o.projectId(), day, DoraWindows.FAILURE, 1);
+            if (openFailures.putIfAbsent(o.projectId(), o.resultAt()) == null) {
+                openedFailureAt = o.resultAt();
+            }
+        }
+
+        contributions.put(o.deploymentId(), new Contribution(o.projectId(), day, o.isDeployed(),
+                o.pullRequestId(), leadMinutes, restoreMinutes, restoredFailureAt,
+                openedFailureAt));
+        if (++applied % PRUNE_INTERVAL == 0) {
+            prune(day);
+        }
+    }
+
+    /**
+     * projectId(null 이면 전체)의 창별 누적값. today 기준으로 만료된 날을 먼저 뺀다.
+     */
+    DoraWindows.Snapshot[] snapshot(Long projectId, LocalDate today) {
+        DoraWindows w = windows.get(projectId != null ? projectId : ALL);
+        if (w == null) {
+            return new DoraWindows().snapshot(today.toEpochDay());
+        }
+        return w.snapshot(today.toEpochDay());
+    }
+
+    LocalDateTime openFailureSince(Long projectId) {
+        if (projectId != null) {
+            return openFailures.get(projectId);
+        }
+        return openFailures.values().stream().min(LocalDateTime::compareTo).orElse(null);
+    }
+
+    private void revert(Contribution c) {
+        if (c == null) {
+            return;
+        }
+        add(c.projectId(), c.day(), c.success() ? DoraWindows.SUCCESS : DoraWindows.FAILURE, -1);
+        if (c.leadMinutes() != null) {
+            add(c.projectId(), c.day(), DoraWindows.LEAD_SUM, -c.leadMinutes());
+            add(c.projectId(), c.day(), DoraWindows.LEAD_COUNT, -1);
+            deliveredPullRequests.remove(c.pullRequestId());
+        }
+        if (c.restoreMinutes() != null) {
+            add(c.projectId(), c.day(), DoraWindows.RESTORE_SUM, -c.restoreMinutes());
+            add(c.projectId(), c.day(), DoraWindows.RESTORE_COUNT, -1);
+            // 이 성공이 닫았던 장애를 다시 연다
+            openFailures.putIfAbsent(c.projectId(), c.restoredFailureAt());
+        }
+        if (c.openedFailureAt() != null
+                && c.openedFailureAt().equals(openFailures.get(c.projectId()))) {
+            openFailures.remove(c.projectId());
+        }
+    }
+
+    private void add(Long projectId, long day, int metric, long delta) {
+        windows.computeIfAbsent(projectId, k -> new DoraWindows()).add(day, metric, delta);
+        windows.computeIfAbsent(ALL, k -> new DoraWindows()).add(day, metric, delta);
+    }
+
+    /**
+     * 가장 긴 창보다 오래된 기여 기록은 되돌릴 버킷이 없으므로 버린다.
+     */
+    private void prune(long today) {
+        long oldest = today - DoraWindows.HORIZON_DAYS;
+        Iterator<Contribution> it = contributions.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().day() <= oldest) {
+                it.remove();
+            }
+        }
+    }
+
+    private static long minutesBetween(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0L, Duration.between(from, to).toMinutes());
+    }
+}
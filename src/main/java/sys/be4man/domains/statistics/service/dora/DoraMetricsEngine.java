@@ -0,0 +1,132 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.dora;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.deployment.event.DeploymentResultChangedEvent;
+import sys.be4man.domains.statistics.dto.response.DoraMetricsResponse;
+import sys.be4man.domains.statistics.repository.DoraOutcomeRepository;
+import sys.be4man.domains.statistics.service.dora.DoraLedger.Outcome;
+import sys.be4man.domains.statistics.service.dora.DoraWindows.Snapshot;
+
+/**
+ * DORA 지표(배포 빈도, 변경 리드 타임, 변경 실패율, 복구 시간) 증분 계산기.
+ * - 기동 시 DB 의 배포 결과를 결과 시각 순으로 한 번 재생해 상태를 만든다.
+ * - 이후 배포 결과 변경이 커밋될 때마다(DeploymentResultChangedEvent) 해당 건만 반영한다.
+ * - 조회는 미리 누적된 창별 값을 읽기만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DoraMetricsEngine {
+
+    private final DoraOutcomeRepository outcomeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private DoraLedger ledger = new DoraLedger();
+    private boolean ready;
+    private boolean rebuilding;
+    // 재계산 중 들어온 결과. 재계산이 끝나면 새 상태에 다시 반영한다
+    private final List<Outcome> pending = new ArrayList<>();
+
+    @Async("webhookTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 배포 결과 전체를 다시 재생해 상태를 교체한다. 재계산 중에도 기존 상태로 조회된다.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            if (rebuilding) {
+                return;
+            }
+            rebuilding = true;
+        }
+        long started = System.currentTimeMillis();
+        DoraLedger rebuilt = new DoraLedger();
+        long[] outcomes = {0};
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    outcomeRepository.streamOutcomes(r -> {
+                        rebuilt.apply(new Outcome(
+                                toLong(r[0]), toLong(r[1]), toLong(r[2]), toDateTime(r[3]),
+                                (Boolean) r[4], toDateTime(r[5])));
+                        outcomes[0]++;
+                    }));
+            synchronized (this) {
+                pending.forEach(rebuilt::apply);
+                ledger = rebuilt;
+                ready = true;
+            }
+            log.info("[DORA] 재계산 완료. outcomes={}, elapsedMs={}", outcomes[0],
+                    System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("[DORA] 재계산 실패: {}", e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                pending.clear();
+                rebuilding = false;
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onDeploymentResultChanged(DeploymentResultChangedEvent event) {
+        Outcome outcome = new Outcome(event.deploymentId(), event.projectId(),
+                event.pullRequestId(), event.pullRequestMergedAt(), event.isDeployed(),
+                event.resultAt());
+        ledger.apply(outcome);
+        if (rebuilding) {
+            pending.add(outcome);
+        }
+    }
+
+    /**
+     * @param projectId null 이면 전체 프로젝트
+     */
+    public synchronized DoraMetricsResponse getMetrics(Long projectId) {
+        List<DoraMetricsResponse.Window> windows = new ArrayList<>();
+        for (Snapshot s : ledger.snapshot(projectId, LocalDate.now())) {
+            long results = s.successes() + s.failures();
+            windows.add(new DoraMetricsResponse.Window(
+                    s.days(),
+                    s.successes(),
+                    (double) s.successes() / s.days(),
+                    s.leadCount() > 0 ? (double) s.leadMinutesSum() / s.leadCount() : null,
+                    s.leadCount(),
+                    results > 0 ? (double) s.failures() / results : null,
+                    s.failures(),
+                    s.restoreCount() > 0
+                            ? (double) s.restoreMinutesSum() / s.restoreCount() : null,
+                    s.restoreCount()));
+        }
+        return new DoraMetricsResponse(projectId, ready, ledger.openFailureSince(projectId),
+                windows);
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private static LocalDateTime toDateTime(Object value) {
+        if (value instanceof Timestamp ts) {
+            return ts.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
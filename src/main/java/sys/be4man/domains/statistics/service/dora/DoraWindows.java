@@ -0,0 +1,86 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.dora;
+
+import java.util.Arrays;
+
+/**
+ * 한 프로젝트의 일자 버킷 링(최근 HORIZON_DAYS 일)과 창별 누적값.
+ * - 결과가 들어오면 해당 일자 버킷과 그 날을 포함하는 창의 누적값에 함께 더한다.
+ * - 날짜가 넘어가면 창에서 빠지는 날의 버킷만 빼므로, 조회는 창 길이와 무관하게 누적값을 그대로 읽는다.
+ */
+final class DoraWindows {
+
+    static final int[] WINDOW_DAYS = {7, 30, 90};
+    static final int HORIZON_DAYS = 90;
+
+    static final int SUCCESS = 0;
+    static final int FAILURE = 1;
+    static final int LEAD_SUM = 2;
+    static final int LEAD_COUNT = 3;
+    static final int RESTORE_SUM = 4;
+    static final int RESTORE_COUNT = 5;
+    private static final int METRICS = 6;
+
+    /** 창 하나의 누적값 */
+    record Snapshot(int days, long successes, long failures, long leadMinutesSum,
+                    long leadCount, long restoreMinutesSum, long restoreCount) {}
+
+    private final long[][] buckets = new long[HORIZON_DAYS][METRICS];
+    private final long[][] totals = new long[WINDOW_DAYS.length][METRICS];
+    // 링의 가장 최근 날짜 (epoch day)
+    private long currentDay = Long.MIN_VALUE;
+
+    void add(long day, int metric, long delta) {
+        advanceTo(day);
+        if (day <= currentDay - HORIZON_DAYS) {
+            return;     // 보관 범위보다 오래된 결과
+        }
+        buckets[slot(day)][metric] += delta;
+        for (int w = 0; w < WINDOW_DAYS.length; w++) {
+            if (day > currentDay - WINDOW_DAYS[w]) {
+                totals[w][metric] += delta;
+            }
+        }
+    }
+
+    Snapshot[] snapshot(long today) {
+        advanceTo(today);
+        Snapshot[] result = new Snapshot[WINDOW_DAYS.length];
+        for (int w = 0; w < WINDOW_DAYS.length; w++) {
+            long[] t = totals[w];
+            result[w] = new Snapshot(WINDOW_DAYS[w], t[SUCCESS], t[FAILURE], t[LEAD_SUM],
+                    t[LEAD_COUNT], t[RESTORE_SUM], t[RESTORE_COUNT]);
+        }
+        return result;
+    }
+
+    /**
+     * 링을 day 까지 전진시킨다. 하루 넘어갈 때마다 각 창에서 빠지는 날의 버킷을 빼고 새 날 버킷을 비운다.
+     */
+    private void advanceTo(long day) {
+        if (currentDay == Long.MIN_VALUE || day - currentDay >= HORIZON_DAYS) {
+            for (long[] bucket : buckets) {
+                Arrays.fill(bucket, 0L);
+            }
+            for (long[] total : totals) {
+                Arrays.fill(total, 0L);
+            }
+            currentDay = day;
+            return;
+        }
+        while (currentDay < day) {
+            currentDay++;
+            for (int w = 0; w < WINDOW_DAYS.length; w++) {
+                long[] expired = buckets[slot(currentDay - WINDOW_DAYS[w])];
+                for (int m = 0; m < METRICS; m++) {
+                    totals[w][m] -= expired[m];
+                }
+            }
+            Arrays.fill(buckets[slot(currentDay)], 0L);
+        }
+    }
+
+    private static int slot(long day) {
+        return (int) Math.floorMod(day, (long) HORIZON_DAYS);
+    }
+}
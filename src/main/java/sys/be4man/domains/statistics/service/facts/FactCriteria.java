@@ -0,0 +1,22 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.facts;
+
+import java.time.YearMonth;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+
+/**
+ * 팩트 조회 필터. null 인 항목은 조건 없음.
+ */
+public record FactCriteria(
+        Long projectId,
+        YearMonth from,
+        YearMonth to,
+        String stageName,
+        ProblemType problemType,
+        Boolean success
+) {
+
+    public static FactCriteria none() {
+        return new FactCriteria(null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,58 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.facts;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차원 값(문자열) ↔ 정수 코드 사전. 코드 0 은 null(값 없음)로 예약한다.
+ * 코드는 그룹 키에 16bit 로 들어가므로 MAX_CODE 를 넘는 값은 모두 OVERFLOW 로 묶인다.
+ * 동기화는 StatisticsFactStore 의 잠금에 맡긴다.
+ */
+final class FactDictionary {
+
+    static final int NULL_CODE = 0;
+    static final int MAX_CODE = 0xFFFE;
+    static final int OVERFLOW_CODE = 0xFFFF;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    FactDictionary() {
+        values.add(null);
+    }
+
+    int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        if (values.size() > MAX_CODE) {
+            return OVERFLOW_CODE;
+        }
+        int next = values.size();
+        codes.put(value, next);
+        values.add(value);
+        return next;
+    }
+
+    /**
+     * 조회 조건용. 사전에 없는 값이면 -1 (일치하는 행이 없음)
+     */
+    int find(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        return code != null ? code : -1;
+    }
+
+    String decode(int code) {
+        return code > 0 && code < values.size() ? values.get(code) : null;
+    }
+}
@@ -0,0 +1,30 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.facts;
+
+/**
+ * 그룹핑 가능한 차원. 각 차원 코드는 하나의 long 그룹 키 안의 고정 비트 구간에 들어간다.
+ */
+public enum FactDimension {
+
+    PROJECT(0, 16),
+    MONTH(16, 16),
+    STAGE(32, 16),
+    PROBLEM_TYPE(48, 8),
+    SUCCESS(56, 2);
+
+    final int shift;
+    final long mask;
+
+    FactDimension(int shift, int bits) {
+        this.shift = shift;
+        this.mask = (1L << bits) - 1;
+    }
+
+    long pack(int code) {
+        return ((long) code & mask) << shift;
+    }
+
+    int unpack(long key) {
+        return (int) ((key >>> shift) & mask);
+    }
+}
@@ -0,0 +1,20 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.facts;
+
+import java.time.YearMonth;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+
+/**
+ * 그룹 하나의 집계 결과. 그룹핑하지 않은 차원은 null.
+ */
+public record FactGroup(
+        Long projectId,
+        String projectName,
+        YearMonth month,
+        String stageName,
+        ProblemType problemType,
+        Boolean success,
+        long count,
+        long successCount,
+        long durationSumSeconds
+) {}
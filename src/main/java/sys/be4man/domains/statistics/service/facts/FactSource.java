@@ -0,0 +1,26 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.facts;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 팩트 테이블 종류.
+ * - BUILD : 빌드 1건 = 1행 (성공 여부, 소요시간)
+ * - STAGE : 스테이지 1건 = 1행 (스테이지명, 실패 유형, 성공 여부)
+ */
+public enum FactSource {
+
+    BUILD(EnumSet.of(FactDimension.PROJECT, FactDimension.MONTH, FactDimension.SUCCESS)),
+    STAGE(EnumSet.allOf(FactDimension.class));
+
+    private final Set<FactDimension> dimensions;
+
+    FactSource(Set<FactDimension> dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    public boolean supports(FactDimension dimension) {
+        return dimensions.contains(dimension);
+    }
+}
@@ -0,0 +1,225 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.facts;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 컬럼 단위 원시 배열 팩트 테이블.
+ * - 차원은 사전 코드(int), 월은 year*12+month-1, 성공 여부는 0(null)/1(실패)/2(성공) 로 저장한다.
+ * - 행은 뒤에만 추가되며, 실패 유형만 분석 결과 반영을 위해 갱신할 수 있다.
+ * - 동기화는 StatisticsFactStore 의 잠금에 맡긴다.
+ */
+final class FactTable {
+
+    static final byte SUCCESS_NULL = 0;
+    static final byte SUCCESS_FALSE = 1;
+    static final byte SUCCESS_TRUE = 2;
+
+    /** 조건 없음 */
+    static final int ANY = -1;
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] projects = new int[INITIAL_CAPACITY];
+    private int[] months = new int[INITIAL_CAPACITY];
+    private int[] stages = new int[INITIAL_CAPACITY];
+    private int[] problemTypes = new int[INITIAL_CAPACITY];
+    private byte[] successes = new byte[INITIAL_CAPACITY];
+    private long[] durations = new long[INITIAL_CAPACITY];
+
+    private int size;
+    // id 가 오름차순으로만 추가됐는지 (커밋 순서가 뒤바뀌면 false → 선형 탐색)
+    private boolean sorted = true;
+
+    /** 인코딩된 필터. 각 항목이 ANY 면 조건 없음 */
+    record Filter(int project, int monthFrom, int monthTo, int stage, int problemType,
+                  int success) {}
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(long id) {
+        return indexOf(id) >= 0;
+    }
+
+    void append(long id, int project, int month, int stage, int problemType, byte success,
+            long duration) {
+        if (size == ids.length) {
+            grow();
+        }
+        if (size > 0 && id <= ids[size - 1]) {
+            sorted = false;
+        }
+        ids[size] = id;
+        projects[size] = project;
+        months[size] = month;
+        stages[size] = stage;
+        problemTypes[size] = problemType;
+        successes[size] = success;
+        durations[size] = duration;
+        size++;
+    }
+
+    boolean updateProblemType(long id, int problemType) {
+        int row = indexOf(id);
+        if (row < 0) {
+            return false;
+        }
+        problemTypes[row] = problemType;
+        return true;
+    }
+
+    /**
+     * 필터에 맞는 행을 groupBy 차원으로 묶어 건수/성공 건수/소요시간 합을 구한다.
+     */
+    GroupAccumulator aggregate(Filter f, List<FactDimension> groupBy) {
+        FactDimension[] dims = groupBy.toArray(new FactDimension[0]);
+        GroupAccumulator acc = new GroupAccumulator();
+
+        for (int i = 0; i < size; i++) {
+            if ((f.project() != ANY && projects[i] != f.project())
+                    || (f.monthFrom() != ANY && months[i] < f.monthFrom())
+                    || (f.monthTo() != ANY && months[i] > f.monthTo())
+                    || (f.stage() != ANY && stages[i] != f.stage())
+                    || (f.problemType() != ANY && problemTypes[i] != f.problemType())
+                    || (f.success() != ANY && successes[i] != f.success())) {
+                continue;
+            }
+
+            long key = 0L;
+            for (FactDimension d : dims) {
+                key |= d.pack(code(d, i));
+            }
+            acc.add(key, successes[i] == SUCCESS_TRUE, durations[i]);
+        }
+        return acc;
+    }
+
+    private int code(FactDimension dimension, int row) {
+        return switch (dimension) {
+            case PROJECT -> projects[row];
+            case MONTH -> months[row];
+            case STAGE -> stages[row];
+            case PROBLEM_TYPE -> problemTypes[row];
+            case SUCCESS -> successes[row];
+        };
+    }
+
+    private int indexOf(long id) {
+        if (sorted) {
+            int idx = Arrays.binarySearch(ids, 0, size, id);
+            return idx >= 0 ? idx : -1;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void grow() {
+        int capacity = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        projects = Arrays.copyOf(projects, capacity);
+        months = Arrays.copyOf(months, capacity);
+        stages = Arrays.copyOf(stages, capacity);
+        problemTypes = Arrays.copyOf(problemTypes, capacity);
+        successes = Arrays.copyOf(successes, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+    }
+
+    /**
+     * long 그룹 키 → (건수, 성공 건수, 소요시간 합) 오픈 어드레싱 해시.
+     * 행마다 박싱/객체 생성 없이 누적한다.
+     */
+    static final class GroupAccumulator {
+
+        private long[] keys = new long[16];
+        private long[] counts = new long[16];
+        private long[] successCounts = new long[16];
+        private long[] durationSums = new long[16];
+        private boolean[] used = new boolean[16];
+        private int groups;
+
+        void add(long key, boolean success, long duration) {
+            int slot = slot(key);
+            if (!used[slot]) {
+                used[slot] = true;
+                keys[slot] = key;
+                if (++groups * 2 > keys.length) {
+                    rehash();
+                    slot = slot(key);
+                }
+            }
+            counts[slot]++;
+            if (success) {
+                successCounts[slot]++;
+            }
+            durationSums[slot] += duration;
+        }
+
+        int groups() {
+            return groups;
+        }
+
+        /** 그룹별로 (key, count, successCount, durationSum) 을 넘긴다 */
+        void forEach(GroupConsumer consumer) {
+            for (int i = 0; i < keys.length; i++) {
+                if (used[i]) {
+                    consumer.accept(keys[i], counts[i], successCounts[i], durationSums[i]);
+                }
+            }
+        }
+
+        private int slot(long key) {
+            int mask = keys.length - 1;
+            int slot = (int) (mix(key) & mask);
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            long[] oldCounts = counts;
+            long[] oldSuccess = successCounts;
+            long[] oldDurations = durationSums;
+            boolean[] oldUsed = used;
+
+            int capacity = oldKeys.length * 2;
+            keys = new long[capacity];
+            counts = new long[capacity];
+            successCounts = new long[capacity];
+            durationSums = new long[capacity];
+            used = new boolean[capacity];
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    int slot = slot(oldKeys[i]);
+                    used[slot] = true;
+                    keys[slot] = oldKeys[i];
+                    counts[slot] = oldCounts[i];
+                    successCounts[slot] = oldSuccess[i];
+                    durationSums[slot] = oldDurations[i];
+                }
+            }
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+            z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+            return z ^ (z >>> 33);
+        }
+    }
+
+    @FunctionalInterface
+    interface GroupConsumer {
+
+        void accept(long key, long count, long successCount, long durationSum);
+    }
+}
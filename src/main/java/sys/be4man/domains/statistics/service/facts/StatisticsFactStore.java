@@ -0,0 +1,317 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.facts;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.analysis.event.StageRunAnalyzedEvent;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.statistics.repository.StatisticsFactRepository;
+import sys.be4man.domains.statistics.service.facts.FactTable.GroupAccumulator;
+
+/**
+ * 빌드/스테이지 팩트의 인메모리 컬럼 저장소.
+ * - 기동 시 DB 커서로 전체를 적재하고, 빌드 저장이 커밋되면(BuildRunPersistedEvent) 해당 빌드 행만 추가한다.
+ * - 스트리밍 재분석(StageRunAnalyzedEvent)이 커밋되면 스테이지의 실패 유형을 갱신한다.
+ * - 조회는 Postgres 를 거치지 않고 원시 배열을 한 번 훑어 그룹별로 집계한다.
+ * - 배포/빌드 소프트 삭제는 반영하지 않으므로 필요하면 rebuild 로 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsFactStore {
+
+    private final StatisticsFactRepository factRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // 재적재 중 들어온 변경. 적재가 끝나면 새 스냅샷에 다시 반영한다 (id 기준 중복 제거)
+    private final List<Consumer<Facts>> pending = new ArrayList<>();
+
+    private Facts facts = new Facts();
+    private volatile boolean ready;
+
+    @Value("${statistics.facts.enabled:true}")
+    private boolean enabled;
+
+    /** 조회 결과 (적재 전이면 ready=false, 빈 결과) */
+    public record Result(boolean ready, int scannedRows, List<FactGroup> groups) {}
+
+    @Async("webhookTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * DB 의 빌드/스테이지 팩트를 새 스냅샷으로 적재한 뒤 교체한다. 적재 중에도 기존 스냅샷으로 조회된다.
+     */
+    public void rebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        try {
+            Facts loaded = new Facts();
+            transactionTemplate.executeWithoutResult(status -> {
+                factRepository.streamBuildFacts(null, loaded::appendBuild);
+                factRepository.streamStageFacts(null, loaded::appendStage);
+            });
+
+            lock.writeLock().lock();
+            try {
+                pending.forEach(change -> change.accept(loaded));
+                pending.clear();
+                facts = loaded;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("[FactStore] 적재 완료. builds={}, stages={}, elapsedMs={}",
+                    loaded.builds.size(), loaded.stages.size(),
+                    System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("[FactStore] 적재 실패: {}", e.getMessage(), e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pending.clear();
+                rebuilding.set(false);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBuildRunPersisted(BuildRunPersistedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Object[]> buildRows = new ArrayList<>(1);
+            List<Object[]> stageRows = new ArrayList<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                factRepository.streamBuildFacts(event.buildRunId(), buildRows::add);
+                factRepository.streamStageFacts(event.buildRunId(), stageRows::add);
+            });
+            apply(f -> {
+                buildRows.forEach(f::appendBuild);
+                stageRows.forEach(f::appendStage);
+            });
+        } catch (Exception e) {
+            log.warn("[FactStore] buildRunId={} 팩트 추가 실패: {}", event.buildRunId(),
+                    e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStageRunAnalyzed(StageRunAnalyzedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        int code = problemTypeCode(event.problemType());
+        apply(f -> f.stages.updateProblemType(event.stageRunId(), code));
+    }
+
+    /**
+     * source 팩트 중 criteria 에 맞는 행을 groupBy 차원으로 집계한다.
+     * groupBy 가 비어 있으면 전체 합계 한 건을 돌려준다.
+     */
+    public Result query(FactSource source, FactCriteria criteria, List<FactDimension> groupBy) {
+        lock.readLock().lock();
+        try {
+            FactTable table = source == FactSource.BUILD ? facts.builds : facts.stages;
+            if (!ready) {
+                return new Result(false, 0, List.of());
+            }
+
+            FactTable.Filter filter = facts.encode(criteria);
+            if (filter == null) {
+                return new Result(true, table.size(), List.of());
+            }
+
+            GroupAccumulator acc = table.aggregate(filter, groupBy);
+            List<FactGroup> groups = new ArrayList<>(acc.groups());
+            acc.forEach((key, count, successCount, durationSum) ->
+                    groups.add(facts.decode(key, groupBy, count, successCount, durationSum)));
+            groups.sort(GROUP_ORDER);
+            return new Result(true, table.size(), groups);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void apply(Consumer<Facts> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(facts);
+            if (rebuilding.get()) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static final Comparator<FactGroup> GROUP_ORDER = Comparator
+            .comparing(FactGroup::month, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(FactGroup::projectId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(FactGroup::stageName, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(FactGroup::problemType, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(FactGroup::success, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    static int monthCode(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    static int problemTypeCode(ProblemType type) {
+        return type == null ? FactDictionary.NULL_CODE : type.ordinal() + 1;
+    }
+
+    /**
+     * 한 시점의 사전 + 팩트 테이블 묶음. 재적재 시 통째로 교체된다.
+     */
+    static final class Facts {
+
+        final FactDictionary projects = new FactDictionary();
+        final FactDictionary stageNames = new FactDictionary();
+        final Map<Integer, String> projectNames = new HashMap<>();
+        final FactTable builds = new FactTable();
+        final FactTable stages = new FactTable();
+
+        /** [id, project_id, project_name, started_at, is_build, duration] */
+        void appendBuild(Object[] r) {
+            long id = ((Number) r[0]).longValue();
+            if (builds.contains(id)) {
+                return;
+            }
+            builds.append(id, project(r), month(r[3]), FactDictionary.NULL_CODE,
+                    FactDictionary.NULL_CODE, success((Boolean) r[4]),
+                    r[5] != null ? ((Number) r[5]).longValue() : 0L);
+        }
+
+        /** [id, project_id, project_name, started_at, stage_name, problem_type, is_success] */
+        void appendStage(Object[] r) {
+            long id = ((Number) r[0]).longValue();
+            if (stages.contains(id)) {
+                return;
+            }
+            stages.append(id, project(r), month(r[3]), stageNames.encode((String) r[4]),
+                    problemTypeCode(parseProblemType((String) r[5])), success((Boolean) r[6]),
+                    0L);
+        }
+
+        /**
+         * 조건 값을 사전 코드로 바꾼다. 사전에 없는 값이 있으면 일치하는 행이 없으므로 null.
+         */
+        FactTable.Filter encode(FactCriteria c) {
+            int project = FactTable.ANY;
+            if (c.projectId() != null) {
+                project = projects.find(String.valueOf(c.projectId()));
+                if (project < 0) {
+                    return null;
+                }
+            }
+            int stage = FactTable.ANY;
+            if (c.stageName() != null) {
+                stage = stageNames.find(c.stageName());
+                if (stage < 0) {
+                    return null;
+                }
+            }
+            return new FactTable.Filter(
+                    project,
+                    c.from() != null ? monthCode(c.from()) : FactTable.ANY,
+                    c.to() != null ? monthCode(c.to()) : FactTable.ANY,
+                    stage,
+                    c.problemType() != null ? problemTypeCode(c.problemType()) : FactTable.ANY,
+                    c.success() != null ? success(c.success()) : FactTable.ANY);
+        }
+
+        FactGroup decode(long key, List<FactDimension> groupBy, long count, long successCount,
+                long durationSum) {
+            Long projectId = null;
+            String projectName = null;
+            YearMonth month = null;
+            String stageName = null;
+            ProblemType problemType = null;
+            Boolean success = null;
+
+            for (FactDimension d : groupBy) {
+                int code = d.unpack(key);
+                switch (d) {
+                    case PROJECT -> {
+                        String value = projects.decode(code);
+                        projectId = value != null ? Long.valueOf(value) : null;
+                        projectName = projectNames.get(code);
+                    }
+                    case MONTH -> month = YearMonth.of(code / 12, code % 12 + 1);
+                    case STAGE -> stageName = stageNames.decode(code);
+                    case PROBLEM_TYPE -> problemType =
+                            code == FactDictionary.NULL_CODE ? null : ProblemType.values()[code - 1];
+                    case SUCCESS -> success = code == FactTable.SUCCESS_NULL ? null
+                            : code == FactTable.SUCCESS_TRUE;
+                }
+            }
+            return new FactGroup(projectId, projectName, month, stageName, problemType, success,
+                    count, successCount, durationSum);
+        }
+
+        private int project(Object[] r) {
+            int code = projects.encode(String.valueOf(((Number) r[1]).longValue()));
+            projectNames.put(code, (String) r[2]);
+            return code;
+        }
+
+        private static int month(Object value) {
+            LocalDateTime t = value instanceof Timestamp ts ? ts.toLocalDateTime()
+                    : (LocalDateTime) value;
+            return monthCode(YearMonth.from(t));
+        }
+
+        private static byte success(Boolean value) {
+            if (value == null) {
+                return FactTable.SUCCESS_NULL;
+            }
+            return value ? FactTable.SUCCESS_TRUE : FactTable.SUCCESS_FALSE;
+        }
+
+        private static ProblemType parseProblemType(String name) {
+            if (name == null) {
+                return null;
+            }
+            try {
+                return ProblemType.valueOf(name);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.regression;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.statistics.dto.response.BuildDurationRegressionResponse;
+import sys.be4man.domains.statistics.event.BuildDurationRegressionChangedEvent;
+import sys.be4man.domains.statistics.repository.StatisticsFactRepository;
+import sys.be4man.domains.statistics.service.regression.DurationChangeDetector.Status;
+import sys.be4man.domains.statistics.service.regression.DurationChangeDetector.Transition;
+
+/**
+ * 프로젝트별 빌드 소요시간 회귀(지속적인 느려짐) 감지기.
+ * - 성공한 빌드(is_build = true)의 소요시간만 본다. 실패 빌드는 중간에 끝나 소요시간이 짧게 찍히기 때문.
+ * - 기동 시 빌드 팩트를 id 순으로 한 번 재생해 계열별 상태를 만들고, 이후 빌드 저장이 커밋될 때마다 한 건씩 갱신한다.
+ * - 조회는 계열별 상태를 그대로 읽는다.
+ * - 증분 반영 중 회귀가 감지/해제되면 BuildDurationRegressionChangedEvent 를 발행한다 (알림 기록 → 대시보드 실시간 전송).
+ *   재적재는 과거 이력 재생이라 발행하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BuildDurationRegressionDetector {
+
+    private final StatisticsFactRepository factRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private Map<Long, DurationChangeDetector> detectors = new HashMap<>();
+    private final Map<Long, String> projectNames = new HashMap<>();
+    private boolean ready;
+    private boolean rebuilding;
+    // 재적재 중 들어온 빌드 행. 적재가 끝나면 새 상태에 다시 반영한다 (buildRunId 기준 중복 무시)
+    private final List<Object[]> pending = new ArrayList<>();
+
+    @Async("webhookTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 빌드 이력 전체를 다시 재생해 상태를 교체한다. 재적재 중에도 기존 상태로 조회된다.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            if (rebuilding) {
+                return;
+            }
+            rebuilding = true;
+        }
+        long started = System.currentTimeMillis();
+        Map<Long, DurationChangeDetector> rebuilt = new HashMap<>();
+        long[] builds = {0};
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    factRepository.streamBuildFacts(null, r -> {
+                        apply(rebuilt, r);
+                        builds[0]++;
+                    }));
+            synchronized (this) {
+                pending.forEach(r -> apply(rebuilt, r));
+                detectors = rebuilt;
+                ready = true;
+            }
+            log.info("[DurationRegression] 재적재 완료. builds={}, projects={}, regressing={}, elapsedMs={}",
+                    builds[0], rebuilt.size(),
+                    rebuilt.values().stream().filter(DurationChangeDetector::isRegressing).count(),
+                    System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("[DurationRegression] 재적재 실패: {}", e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                pending.clear();
+                rebuilding = false;
+            }
+        }
+    }
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBuildRunPersisted(BuildRunPersistedEvent event) {
+        if (!Boolean.TRUE.equals(event.isBuild())) {
+            return;
+        }
+        try {
+            List<Object[]> rows = new ArrayList<>(1);
+            transactionTemplate.executeWithoutResult(status ->
+                    factRepository.streamBuildFacts(event.buildRunId(), rows::add));
+            List<BuildDurationRegressionChangedEvent> changes = new ArrayList<>(1);
+            synchronized (this) {
+                for (Object[] r : rows) {
+                    Transition transition = apply(detectors, r);
+                    if (transition != Transition.NONE) {
+                        Status s = detectors.get(toLong(r[1])).status();
+                        changes.add(new BuildDurationRegressionChangedEvent(toLong(r[1]),
+                                event.deploymentId(), toLong(r[0]),
+                                transition == Transition.RAISED,
+                                Math.round(s.baselineSeconds()), Math.round(s.currentSeconds())));
+                    }
+                    if (rebuilding) {
+                        pending.add(r);
+                    }
+                }
+            }
+            // 알림 기록은 잠금 밖에서
+            for (BuildDurationRegressionChangedEvent change : changes) {
+                log.warn("[DurationRegression] 빌드 소요시간 회귀 {}. projectId={}, buildRunId={}, "
+                                + "baselineSec={}, currentSec={}", change.raised() ? "감지" : "해제",
+                        change.projectId(), change.buildRunId(), change.baselineSeconds(),
+                        change.currentSeconds());
+                eventPublisher.publishEvent(change);
+            }
+        } catch (Exception e) {
+            log.warn("[DurationRegression] buildRunId={} 반영 실패: {}", event.buildRunId(),
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * projectId 가 있으면 해당 프로젝트 상태(회귀 여부와 무관), 없으면 회귀 중인 프로젝트만 변화율 큰 순으로 돌려준다.
+     */
+    public synchronized List<BuildDurationRegressionResponse> getRegressions(Long projectId) {
+        List<BuildDurationRegressionResponse> result = new ArrayList<>();
+        if (projectId != null) {
+            DurationChangeDetector detector = detectors.get(projectId);
+            if (detector != null) {
+                result.add(toResponse(projectId, detector.status()));
+            }
+            return result;
+        }
+        detectors.forEach((id, detector) -> {
+            if (detector.isRegressing()) {
+                result.add(toResponse(id, detector.status()));
+            }
+        });
+        result.sort(Comparator.comparingDouble(BuildDurationRegressionResponse::changeRate)
+                .reversed());
+        return result;
+    }
+
+    public synchronized boolean isReady() {
+        return ready;
+    }
+
+    /** [id, project_id, project_name, started_at, is_build, duration] */
+    private Transition apply(Map<Long, DurationChangeDetector> target, Object[] r) {
+        if (!Boolean.TRUE.equals(r[4]) || r[5] == null) {
+            return Transition.NONE;
+        }
+        Long projectId = toLong(r[1]);
+        projectNames.put(projectId, (String) r[2]);
+        return target.computeIfAbsent(projectId, k -> new DurationChangeDetector())
+                .add(toLong(r[0]), ((Number) r[5]).doubleValue(), toDateTime(r[3]));
+    }
+
+    private BuildDurationRegressionResponse toResponse(Long projectId, Status s) {
+        double baseline = Math.round(s.baselineSeconds());
+        double current = Math.round(s.currentSeconds());
+        return new BuildDurationRegressionResponse(
+                projectId,
+                projectNames.get(projectId),
+                s.regressing(),
+                s.samples(),
+                baseline,
+                current,
+                baseline > 0 ? (current - baseline) / baseline : 0d,
+                Math.round(s.cusum() * 100) / 100d,
+                s.since(),
+                s.sinceBuildRunId(),
+                s.lastSampleAt());
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private static LocalDateTime toDateTime(Object value) {
+        if (value instanceof Timestamp ts) {
+            return ts.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
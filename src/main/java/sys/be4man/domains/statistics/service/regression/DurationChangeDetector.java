@@ -0,0 +1,140 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.regression;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 소요시간 한 계열(프로젝트 또는 프로젝트 x 스테이지)의 EWMA + 단측 CUSUM 상태.
+ * - 소요시간은 log(1+초) 로 바꿔 다룬다. 느려짐을 절대 초가 아니라 비율로 본다.
+ * - 기준선(평균/분산)은 느린 EWMA 로 따라가고, 경보 중에는 고정한다. 서서히 느려지면 기준선이 뒤처지는 만큼 CUSUM 에 쌓인다.
+ * - 표준화 잔차를 ±Z_CAP 로 자르므로 한두 번의 튀는 빌드로는 경보가 나지 않고, 지속적인 증가만 H 를 넘는다.
+ * - 경보 후 현재 수준(빠른 EWMA)이 기준선 근처로 돌아오면 회복, REBASE_AFTER 건 이상 지속되면 새 수준을 기준선으로 받아들이고 해제한다.
+ * - 빌드 저장 이벤트는 비동기로 와서 id 순서가 뒤바뀔 수 있다. 늦게 온 빌드도 도착 순으로 반영하고, 최근 id 로 중복만 거른다.
+ * 갱신은 건당 O(1) 이며 스레드 안전하지 않다 (BuildDurationRegressionDetector 가 동기화).
+ */
+final class DurationChangeDetector {
+
+    static final int WARMUP = 10;
+    static final double LAMBDA = 0.05;      // 기준선 EWMA 가중치 (약 20 빌드)
+    static final double LEVEL_LAMBDA = 0.3; // 현재 수준 EWMA 가중치
+    static final double K = 0.5;            // CUSUM 허용 편차 (표준편차 단위)
+    static final double H = 5.0;            // CUSUM 경보 임계값
+    static final double Z_CAP = 4.0;
+    static final double BASELINE_CAP = 2.0;
+    static final int REBASE_AFTER = 20;
+    // 중복 판단에 기억하는 최근 빌드 id 수. 재적재 중 쌓인 이벤트 재생과 비동기 순서 역전을 덮을 만큼이면 된다
+    static final int RECENT_IDS = 256;
+    // 분산이 0 에 가까운 계열(항상 같은 시간)에서 1~2초 차이로 경보가 나지 않도록 하는 하한 (log 단위 ≒ 5%)
+    private static final double MIN_STD = 0.05;
+
+    enum Transition { NONE, RAISED, CLEARED }
+
+    /** 조회용 현재 상태 */
+    record Status(long samples, double baselineSeconds, double currentSeconds, double cusum,
+                  boolean regressing, LocalDateTime since, Long sinceBuildRunId,
+                  LocalDateTime lastSampleAt) {}
+
+    private long samples;
+    private double mean;
+    private double variance;
+    private double level;
+    private double cusum;
+
+    private boolean regressing;
+    private int alarmSamples;
+    private LocalDateTime since;
+    private Long sinceBuildRunId;
+    private LocalDateTime lastSampleAt;
+    // 중복 반영 방지 (재적재 중 들어온 이벤트 재생 등). 삽입 순으로 오래된 id 부터 잊는다
+    private final Set<Long> recentIds = new LinkedHashSet<>();
+
+    Transition add(long buildRunId, double durationSeconds, LocalDateTime at) {
+        if (!remember(buildRunId)) {
+            return Transition.NONE;
+        }
+        if (lastSampleAt == null || (at != null && at.isAfter(lastSampleAt))) {
+            lastSampleAt = at;
+        }
+        double y = Math.log1p(Math.max(0d, durationSeconds));
+        samples++;
+
+        if (samples <= WARMUP) {
+            // 초기 기준선은 단순 누적 평균/분산 (Welford)
+            double delta = y - mean;
+            mean += delta / samples;
+            variance += (delta * (y - mean) - variance) / samples;
+            level = mean;
+            return Transition.NONE;
+        }
+
+        level += LEVEL_LAMBDA * (y - level);
+        if (regressing) {
+            alarmSamples++;
+            if ((level - mean) / std() < K) {
+                // 원래 수준으로 회복
+                cusum = 0d;
+                clear();
+                return Transition.CLEARED;
+            }
+            if (alarmSamples >= REBASE_AFTER) {
+                // 새 수준이 유지되므로 기준선으로 받아들임
+                mean = level;
+                cusum = 0d;
+                clear();
+                return Transition.CLEARED;
+            }
+            return Transition.NONE;
+        }
+
+        double z = Math.min(Z_CAP, Math.max(-Z_CAP, (y - mean) / std()));
+        cusum = Math.max(0d, cusum + z - K);
+        if (cusum > H) {
+            regressing = true;
+            alarmSamples = 0;
+            since = at;
+            sinceBuildRunId = buildRunId;
+            return Transition.RAISED;
+        }
+
+        // 튀는 값이 기준선을 끌고 가지 않도록 잔차를 잘라서 반영
+        double delta = Math.min(BASELINE_CAP, Math.max(-BASELINE_CAP, (y - mean) / std())) * std();
+        mean += LAMBDA * delta;
+        variance = (1 - LAMBDA) * (variance + LAMBDA * delta * delta);
+        return Transition.NONE;
+    }
+
+    Status status() {
+        return new Status(samples, Math.expm1(mean), Math.expm1(level), cusum, regressing, since,
+                sinceBuildRunId, lastSampleAt);
+    }
+
+    boolean isRegressing() {
+        return regressing;
+    }
+
+    private boolean remember(long buildRunId) {
+        if (!recentIds.add(buildRunId)) {
+            return false;
+        }
+        if (recentIds.size() > RECENT_IDS) {
+            Iterator<Long> eldest = recentIds.iterator();
+            eldest.next();
+            eldest.remove();
+        }
+        return true;
+    }
+
+    private double std() {
+        return Math.max(MIN_STD, Math.sqrt(variance));
+    }
+
+    private void clear() {
+        regressing = false;
+        alarmSamples = 0;
+        since = null;
+        sinceBuildRunId = null;
+    }
+}
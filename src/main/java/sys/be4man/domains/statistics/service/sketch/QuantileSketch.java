@@ -0,0 +1,204 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.sketch;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 병합 가능한 분위수 스케치 (DDSketch 방식).
+ * - 양수 값 x 를 로그 버킷 ceil(log_gamma(x)) 에 세어, 분위수를 상대 오차 relativeAccuracy 이내로 추정한다.
+ * - 버킷 수는 값의 범위(최대/최소 비율)에만 비례하므로 표본 수와 관계없이 메모리가 일정하다.
+ * - 같은 정확도의 스케치끼리는 버킷 카운트를 더하는 것만으로 병합된다 (프로젝트별 → 전체).
+ * - 0 이하 값은 별도 카운트로 관리하고 0 으로 취급한다.
+ * - toBytes()/fromBytes() 로 (버킷 번호 차분 + 카운트) varint 인코딩해 DB 에 저장할 수 있다.
+ */
+public class QuantileSketch {
+
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+    private double max;
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("relativeAccuracy must be in (0, 1)");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(double value) {
+        if (value <= 0) {
+            zeroCount++;
+        } else {
+            int index = (int) Math.ceil(Math.log(value) / logGamma);
+            buckets.merge(index, 1L, Long::sum);
+        }
+        max = count == 0 ? value : Math.max(max, value);
+        count++;
+    }
+
+    /**
+     * other 의 카운트를 이 스케치에 더한다. 정확도가 다르면 병합할 수 없다.
+     */
+    public void merge(QuantileSketch other) {
+        if (Double.compare(relativeAccuracy, other.relativeAccuracy) != 0) {
+            throw new IllegalArgumentException("서로 다른 정확도의 스케치는 병합할 수 없습니다.");
+        }
+        for (Map.Entry<Integer, Long> e : other.buckets.entrySet()) {
+            buckets.merge(e.getKey(), e.getValue(), Long::sum);
+        }
+        zeroCount += other.zeroCount;
+        if (other.count > 0) {
+            max = count == 0 ? other.max : Math.max(max, other.max);
+        }
+        count += other.count;
+    }
+
+    /**
+     * q 분위수 추정치 (0 <= q <= 1). 표본이 없으면 0.
+     */
+    public double quantile(double q) {
+        if (count == 0) {
+            return 0;
+        }
+        double clamped = Math.max(0, Math.min(1, q));
+        long rank = (long) Math.floor(clamped * (count - 1));
+
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (Map.Entry<Integer, Long> e : buckets.entrySet()) {
+            seen += e.getValue();
+            if (rank < seen) {
+                // 버킷 (gamma^(i-1), gamma^i] 의 대표값 (실제 최댓값을 넘지 않게)
+                return Math.min(max, 2 * Math.pow(gamma, e.getKey()) / (gamma + 1));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * [boundaries[i], boundaries[i+1]) 구간별 개수. 마지막 구간은 boundaries 끝 값 이상 전부를 포함한다.
+     * 버킷 대표값 기준으로 나누므로 경계 근처 값은 상대 오차만큼 옆 구간으로 갈 수 있다.
+     */
+    public long[] histogram(double[] boundaries) {
+        long[] counts = new long[boundaries.length];
+        if (count == 0) {
+            return counts;
+        }
+        counts[binOf(0, boundaries)] += zeroCount;
+        for (Map.Entry<Integer, Long> e : buckets.entrySet()) {
+            double value = 2 * Math.pow(gamma, e.getKey()) / (gamma + 1);
+            counts[binOf(value, boundaries)] += e.getValue();
+        }
+        return counts;
+    }
+
+    private static int binOf(double value, double[] boundaries) {
+        int bin = 0;
+        for (int i = 1; i < boundaries.length && value >= boundaries[i]; i++) {
+            bin = i;
+        }
+        return bin;
+    }
+
+    /** 지금까지 넣은 값 중 최댓값 (정확값). 표본이 없으면 0 */
+    public double max() {
+        return count == 0 ? 0 : max;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + buckets.size() * 3);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeDouble(relativeAccuracy);
+            out.writeDouble(max);
+            writeVarLong(out, zeroCount);
+            writeVarLong(out, buckets.size());
+            int previous = 0;
+            for (Map.Entry<Integer, Long> e : buckets.entrySet()) {
+                int delta = e.getKey() - previous;
+                writeVarLong(out, ((delta << 1) ^ (delta >> 31)) & 0xFFFFFFFFL); // zigzag
+                writeVarLong(out, e.getValue());
+                previous = e.getKey();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static QuantileSketch fromBytes(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 스케치 형식입니다: " + version);
+            }
+            QuantileSketch sketch = new QuantileSketch(in.readDouble());
+            sketch.max = in.readDouble();
+            sketch.zeroCount = readVarLong(in);
+            sketch.count = sketch.zeroCount;
+            long size = readVarLong(in);
+            int index = 0;
+            for (long i = 0; i < size; i++) {
+                int zigzag = (int) readVarLong(in);
+                index += (zigzag >>> 1) ^ -(zigzag & 1);
+                long bucketCount = readVarLong(in);
+                sketch.buckets.put(index, bucketCount);
+                sketch.count += bucketCount;
+            }
+            return sketch;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("varint 가 너무 깁니다.");
+    }
+}
@@ -9,7 +9,9 @@ import org.springframework.web.bind.annotation.*;
 import sys.be4man.domains.taskmanagement.dto.TaskDetailResponseDto;
 import sys.be4man.domains.taskmanagement.dto.TaskManagementResponseDto;
 import sys.be4man.domains.taskmanagement.dto.TaskManagementSearchDto;
+import sys.be4man.domains.taskmanagement.service.TaskDetailReadModel;
 import sys.be4man.domains.taskmanagement.service.TaskManagementService;
+import sys.be4man.global.dto.response.CursorPageResponse;
 
 /**
  * 작업 관리 페이지 API Controller
@@ -26,6 +28,7 @@ import sys.be4man.domains.taskmanagement.service.TaskManagementService;
 public class TaskManagementController {
 
     private final TaskManagementService taskManagementService;
+    private final TaskDetailReadModel taskDetailReadModel;
 
     /**
      * 작업 관리 목록 조회 (검색 및 필터링)
@@ -79,6 +82,54 @@ public class TaskManagementController {
         return ResponseEntity.ok(taskList);
     }
 
+    /**
+     * 작업 관리 목록 cursor 조회 (검색 및 필터링)
+     *
+     * GET /api/tasks/feed
+     *
+     * 검색/필터/정렬 파라미터는 GET /api/tasks 와 같다.
+     * offset 대신 이전 응답의 nextCursor 를 cursor 로 전달하므로 페이지가 깊어져도 조회 비용이 같다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 8, 최대 100)
+     * @param withTotal 전체 건수 포함 여부 (기본값: false, true 면 count 쿼리 추가)
+     * @return 작업 목록과 다음 cursor
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponse<TaskManagementResponseDto>> getTaskFeed(
+            @RequestParam(required = false) String searchQuery,
+            @RequestParam(required = false, defaultValue = "전체") String stage,
+            @RequestParam(required = false, defaultValue = "전체") String status,
+            @RequestParam(required = false, defaultValue = "전체") String result,
+            @RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(pattern = "yyyy-MM-dd") java.time.LocalDate startDate,
+            @RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(pattern = "yyyy-MM-dd") java.time.LocalDate endDate,
+            @RequestParam(required = false, defaultValue = "최신순") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "8") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        log.info("작업 관리 cursor 조회 요청 - searchQuery: {}, stage: {}, status: {}, result: {}, " +
+                "startDate: {}, endDate: {}, sortBy: {}, size: {}, withTotal: {}",
+                searchQuery, stage, status, result, startDate, endDate, sortBy, size, withTotal);
+
+        TaskManagementSearchDto searchDto = TaskManagementSearchDto.builder()
+                .searchQuery(searchQuery)
+                .stage(stage)
+                .status(status)
+                .result(result)
+                .startDate(startDate)
+                .endDate(endDate)
+                .sortBy(sortBy)
+                .build();
+
+        CursorPageResponse<TaskManagementResponseDto> taskFeed =
+                taskManagementService.getTaskFeed(searchDto, cursor, size, withTotal);
+
+        log.info("작업 관리 cursor 조회 완료 - {}건, hasNext: {}", taskFeed.items().size(), taskFeed.hasNext());
+
+        return ResponseEntity.ok(taskFeed);
+    }
+
     /**
      * 특정 작업 상세 조회 (기본)
      *
@@ -107,6 +158,7 @@ public class TaskManagementController {
      * 작업 전체 상세 조회 (타임라인, 승인 정보, Jenkins 로그 포함)
      *
      * GET /api/tasks/{taskId}/full
+     * - 결재/배포/빌드 변경 시 미리 만들어 둔 상세 문서(TaskDetailReadModel)를 조회
      *
      * @param taskId 작업 ID
      * @return 작업 전체 상세 정보 (타임라인, 승인자 목록, Jenkins 로그, 계획서/결과보고 내용)
@@ -118,7 +170,7 @@ public class TaskManagementController {
         log.info("작업 전체 상세 조회 요청 - taskId: {}", taskId);
 
         try {
-            TaskDetailResponseDto taskDetail = taskManagementService.getTaskDetailFull(taskId);
+            TaskDetailResponseDto taskDetail = taskDetailReadModel.get(taskId);
             log.info("작업 전체 상세 조회 완료 - taskId: {}, timeline steps: {}, " +
                     "plan approvers: {}, report approvers: {}",
                     taskId,
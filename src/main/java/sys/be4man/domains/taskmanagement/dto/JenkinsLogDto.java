@@ -13,6 +13,7 @@ import lombok.*;
 @Builder
 public class JenkinsLogDto {
 
+    private Long buildRunId;                // 빌드 실행 ID (로그 본문 조회용)
     private String jenkinsJobName;          // Jenkins Job 이름
     private Long buildNumber;               // 빌드 번호
     private String buildStatus;             // 빌드 상태 (SUCCESS/FAILURE/IN_PROGRESS)
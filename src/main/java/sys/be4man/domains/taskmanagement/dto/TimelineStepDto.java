@@ -1,10 +1,14 @@
 // 작성자 : 허겸
 package sys.be4man.domains.taskmanagement.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 @Builder
 public class TimelineStepDto {
     private Integer stepNumber;
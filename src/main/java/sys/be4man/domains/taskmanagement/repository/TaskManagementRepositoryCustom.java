@@ -5,8 +5,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import sys.be4man.domains.deployment.model.entity.Deployment;
 import sys.be4man.domains.taskmanagement.dto.TaskManagementSearchDto;
+import sys.be4man.global.util.KeysetCursor;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -25,22 +25,30 @@ public interface TaskManagementRepositoryCustom {
     Page<Deployment> findTasksBySearchConditions(TaskManagementSearchDto searchDto, Pageable pageable);
 
     /**
-     * 특정 프로세스 범위 내의 모든 배포 찾기 (QueryDSL)
+     * 검색 및 필터 조건에 따른 작업 목록 keyset 조회
+     * - 정렬: createdAt, id (최신순이면 DESC, 오래된순이면 ASC)
+     * - count 없이 cursor 위치부터 limit 건만 읽는다
      *
-     * @param projectId 프로젝트 ID
-     * @param prId Pull Request ID
-     * @param startTime 프로세스 시작 시간
-     * @param startId 프로세스 시작 ID
-     * @param endTime 프로세스 종료 시간 (nullable)
-     * @param endId 프로세스 종료 ID (nullable)
+     * @param searchDto 검색/필터 조건
+     * @param cursor 이전 페이지 마지막 행의 (createdAt, id). null 이면 첫 페이지
+     * @param limit 조회 건수 (다음 페이지 판단용 1건 포함)
+     * @return 작업 목록
+     */
+    List<Deployment> findTasksBySearchConditions(TaskManagementSearchDto searchDto, KeysetCursor cursor, int limit);
+
+    /**
+     * 검색 및 필터 조건에 따른 작업 전체 건수
+     *
+     * @param searchDto 검색/필터 조건
+     * @return 전체 건수
+     */
+    long countTasksBySearchConditions(TaskManagementSearchDto searchDto);
+
+    /**
+     * 배포 프로세스에 속한 모든 배포 조회 (process_id 인덱스, 생성 순)
+     *
+     * @param processId 프로세스 ID (프로세스 시작 배포 ID)
      * @return 프로세스에 속한 모든 배포 리스트
      */
-    List<Deployment> findProcessDeploymentsQueryDsl(
-            Long projectId,
-            Long prId,
-            LocalDateTime startTime,
-            Long startId,
-            LocalDateTime endTime,
-            Long endId
-    );
+    List<Deployment> findProcessDeployments(Long processId);
 }
@@ -15,6 +15,7 @@ import sys.be4man.domains.deployment.model.entity.Deployment;
 import sys.be4man.domains.deployment.model.type.DeploymentStatus;
 import sys.be4man.domains.deployment.model.type.DeploymentStage;
 import sys.be4man.domains.taskmanagement.dto.TaskManagementSearchDto;
+import sys.be4man.global.util.KeysetCursor;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -37,6 +38,77 @@ public class TaskManagementRepositoryImpl implements TaskManagementRepositoryCus
             TaskManagementSearchDto searchDto,
             Pageable pageable
     ) {
+        BooleanBuilder builder = buildSearchCondition(searchDto);
+
+        OrderSpecifier<?> orderSpecifier = getOrderSpecifier(searchDto.getSortBy());
+
+        Long totalCount = queryFactory
+                .select(deployment.count())
+                .from(deployment)
+                .where(builder)
+                .fetchOne();
+
+        long total = (totalCount != null) ? totalCount : 0L;
+
+        List<Deployment> content = queryFactory
+                .selectFrom(deployment)
+                .leftJoin(deployment.project, project).fetchJoin()
+                .leftJoin(deployment.issuer, account).fetchJoin()
+                .leftJoin(deployment.pullRequest, pullRequest).fetchJoin()
+                .where(builder)
+                .orderBy(orderSpecifier)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public List<Deployment> findTasksBySearchConditions(
+            TaskManagementSearchDto searchDto,
+            KeysetCursor cursor,
+            int limit
+    ) {
+        BooleanBuilder builder = buildSearchCondition(searchDto);
+        boolean ascending = "오래된순".equals(searchDto.getSortBy());
+
+        // cursor 이후 행만: 정렬 방향에 맞춰 (createdAt, id) 비교
+        if (cursor != null) {
+            builder.and(ascending
+                    ? deployment.createdAt.gt(cursor.at())
+                            .or(deployment.createdAt.eq(cursor.at()).and(deployment.id.gt(cursor.id())))
+                    : deployment.createdAt.lt(cursor.at())
+                            .or(deployment.createdAt.eq(cursor.at()).and(deployment.id.lt(cursor.id()))));
+        }
+
+        return queryFactory
+                .selectFrom(deployment)
+                .leftJoin(deployment.project, project).fetchJoin()
+                .leftJoin(deployment.issuer, account).fetchJoin()
+                .leftJoin(deployment.pullRequest, pullRequest).fetchJoin()
+                .where(builder)
+                .orderBy(ascending
+                        ? new OrderSpecifier<?>[]{deployment.createdAt.asc(), deployment.id.asc()}
+                        : new OrderSpecifier<?>[]{deployment.createdAt.desc(), deployment.id.desc()})
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countTasksBySearchConditions(TaskManagementSearchDto searchDto) {
+        Long totalCount = queryFactory
+                .select(deployment.count())
+                .from(deployment)
+                .where(buildSearchCondition(searchDto))
+                .fetchOne();
+        return totalCount != null ? totalCount : 0L;
+    }
+
+    /**
+     * 검색/필터 조건 생성 (offset 목록, keyset 목록, 건수 조회 공통)
+     */
+    private BooleanBuilder buildSearchCondition(TaskManagementSearchDto searchDto) {
         BooleanBuilder builder = new BooleanBuilder();
 
         // 1. 삭제되지 않은 데이터만 조회
@@ -94,28 +166,7 @@ public class TaskManagementRepositoryImpl implements TaskManagementRepositoryCus
             builder.and(deployment.updatedAt.between(startDateTime, endDateTime));
         }
 
-        OrderSpecifier<?> orderSpecifier = getOrderSpecifier(searchDto.getSortBy());
-
-        Long totalCount = queryFactory
-                .select(deployment.count())
-                .from(deployment)
-                .where(builder)
-                .fetchOne();
-
-        long total = (totalCount != null) ? totalCount : 0L;
-
-        List<Deployment> content = queryFactory
-                .selectFrom(deployment)
-                .leftJoin(deployment.project, project).fetchJoin()
-                .leftJoin(deployment.issuer, account).fetchJoin()
-                .leftJoin(deployment.pullRequest, pullRequest).fetchJoin()
-                .where(builder)
-                .orderBy(orderSpecifier)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        return new PageImpl<>(content, pageable, total);
+        return builder;
     }
 
     /**
@@ -240,39 +291,15 @@ public class TaskManagementRepositoryImpl implements TaskManagementRepositoryCus
     }
 
     @Override
-    public List<Deployment> findProcessDeploymentsQueryDsl(
-            Long projectId,
-            Long prId,
-            LocalDateTime startTime,
-            Long startId,
-            LocalDateTime endTime,
-            Long endId
-    ) {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        builder.and(deployment.project.id.eq(projectId))
-                .and(deployment.pullRequest.id.eq(prId))
-                .and(deployment.createdAt.gt(startTime)
-                        .or(deployment.createdAt.eq(startTime).and(deployment.id.goe(startId))))
-                .and(deployment.isDeleted.isFalse());
-
-        // endTime과 endId가 null이 아닐 때만 조건 추가
-        if (endTime != null && endId != null) {
-            builder.and(deployment.createdAt.lt(endTime)
-                    .or(deployment.createdAt.eq(endTime).and(deployment.id.lt(endId))));
-        }
-
-        // 일반 프로세스에서는 RETRY/ROLLBACK 제외 (독립 프로세스이므로)
-        builder.and(deployment.stage.ne(DeploymentStage.RETRY))
-                .and(deployment.stage.ne(DeploymentStage.ROLLBACK));
-
+    public List<Deployment> findProcessDeployments(Long processId) {
         return queryFactory
                 .selectFrom(deployment)
                 .leftJoin(deployment.project, project).fetchJoin()
                 .leftJoin(deployment.issuer, account).fetchJoin()
                 .leftJoin(deployment.pullRequest, pullRequest).fetchJoin()
-                .where(builder)
+                .where(deployment.processId.eq(processId),
+                        deployment.isDeleted.isFalse())
                 .orderBy(deployment.createdAt.asc(), deployment.id.asc())
                 .fetch();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,247 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.analysis.repository.BuildRunRepository;
+import sys.be4man.domains.approval.event.ApprovalChangedEvent;
+import sys.be4man.domains.deployment.event.DeploymentCanceledEvent;
+import sys.be4man.domains.deployment.event.DeploymentProcessSplitEvent;
+import sys.be4man.domains.deployment.event.DeploymentRejectedEvent;
+import sys.be4man.domains.deployment.event.DeploymentResultChangedEvent;
+import sys.be4man.domains.deployment.event.DeploymentStatusChangedEvent;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.taskmanagement.dto.JenkinsLogDto;
+import sys.be4man.domains.taskmanagement.dto.TaskDetailResponseDto;
+import sys.be4man.domains.taskmanagement.repository.TaskManagementRepository;
+
+/**
+ * 작업 상세(/api/tasks/{taskId}/full) 읽기 모델. 완성된 상세 문서를 Redis 에 두고 조회는 Redis 만 읽는다.
+ * - 값은 "세대번호|JSON" 으로 task:detail:{deploymentId} 에 저장하고, 세대 카운터는 task:detail:gen:{deploymentId}.
+ * - 상세 화면은 같은 프로세스의 계획서/배포/결과보고를 함께 보여주므로, 결재/배포/빌드 변경이 커밋되면
+ *   해당 배포가 속한 프로세스(재배포/복구로 분리됐으면 부모 프로세스 포함)의 배포 세대를 올리고,
+ *   그중 저장된 문서가 있는(최근 조회된) 배포는 전용 풀(taskDetailRefreshExecutor)에서 바로 다시 만든다.
+ *   조회된 적 없는 배포는 만들지 않고, 풀이 밀려 버려진 재생성은 다음 조회가 만든다.
+ * - 문서는 연 배포(taskId, 제목, 재배포/복구 자체 결재)에 따라 달라서 프로세스 안에서도 배포별로 둔다.
+ * - 계산 시작 시점에 읽은 세대로 저장하므로, 그 사이 변경이 커밋되면 저장된 값은 다음 조회에서 버려진다.
+ * - Jenkins 로그 본문은 크고 프로세스의 배포마다 중복되므로 문서에 넣지 않는다. 빌드 로그는 저장 후 바뀌지 않으므로
+ *   task:detail:log:{buildRunId} 에 한 번만 두고 조회 때 붙인다. (없을 때만 DB 에서 읽어 채움)
+ *   문서 재생성도 로그 본문(지연 로딩)은 읽지 않는다.
+ * - 세대 카운터도 만료시키되 문서보다 오래 살게 하여(문서 저장 시 연장), 만료 후 다시 센 세대가
+ *   남아 있는 옛 문서의 세대와 우연히 같아지는 일이 없게 한다.
+ * - Redis 장애 시에는 저장 없이 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskDetailReadModel {
+
+    private static final String DOC_PREFIX = "task:detail:";
+    private static final String GEN_PREFIX = "task:detail:gen:";
+    private static final String LOG_PREFIX = "task:detail:log:";
+
+    private final TaskManagementService taskManagementService;
+    private final TaskManagementRepository taskManagementRepository;
+    private final BuildRunRepository buildRunRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Qualifier("taskDetailRefreshExecutor")
+    private final Executor taskDetailRefreshExecutor;
+
+    @Value("${task.detail.read-model.enabled:true}")
+    private boolean enabled;
+
+    // 이벤트로 잡히지 않는 변경(직접 DB 수정 등)에 대한 안전망
+    @Value("${task.detail.read-model.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    /**
+     * 저장된 상세 문서를 돌려준다. 없거나 세대가 지났으면 계산해 현재 세대로 저장한다.
+     */
+    public TaskDetailResponseDto get(Long deploymentId) {
+        if (!enabled) {
+            return taskManagementService.getTaskDetailFull(deploymentId);
+        }
+
+        String gen;
+        try {
+            List<String> values = stringRedisTemplate.opsForValue()
+                    .multiGet(List.of(GEN_PREFIX + deploymentId, DOC_PREFIX + deploymentId));
+            gen = values != null && values.get(0) != null ? values.get(0) : "0";
+            String cached = values != null ? values.get(1) : null;
+            if (cached != null && cached.startsWith(gen + "|")) {
+                return attachLog(objectMapper.readValue(cached.substring(gen.length() + 1),
+                        TaskDetailResponseDto.class));
+            }
+        } catch (Exception e) {
+            log.debug("[TaskDetailReadModel] 조회 실패, 바로 계산합니다: {}", e.getMessage());
+            return taskManagementService.getTaskDetailFull(deploymentId);
+        }
+
+        TaskDetailResponseDto detail = taskManagementService.getTaskDetailFull(deploymentId, false);
+        store(deploymentId, gen, detail);
+        return attachLog(detail);
+    }
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApprovalChanged(ApprovalChangedEvent event) {
+        invalidate(event.deploymentId());
+    }
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeploymentStatusChanged(DeploymentStatusChangedEvent event) {
+        invalidate(event.deploymentId());
+    }
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeploymentResultChanged(DeploymentResultChangedEvent event) {
+        invalidate(event.deploymentId());
+    }
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeploymentCanceled(DeploymentCanceledEvent event) {
+        invalidate(event.deploymentId());
+    }
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeploymentRejected(DeploymentRejectedEvent event) {
+        invalidate(event.deploymentId());
+    }
+
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBuildRunPersisted(BuildRunPersistedEvent event) {
+        invalidate(event.deploymentId());
+    }
+
+    // 분리되어 나간 배포들은 이전 프로세스 조회로 찾을 수 없으므로 새 프로세스 기준으로 무효화
+    @Async("webhookTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeploymentProcessSplit(DeploymentProcessSplitEvent event) {
+        invalidate(event.splitProcessId());
+    }
+
+    /**
+     * 배포가 속한 프로세스의 문서를 무효화(세대 증가)하고, 저장된 문서가 있던 배포는 새 세대로 다시 만든다.
+     */
+    void invalidate(Long deploymentId) {
+        if (!enabled || deploymentId == null) {
+            return;
+        }
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> affectedDeploymentIds(deploymentId));
+            if (ids == null) {
+                return;
+            }
+            for (Long id : ids) {
+                Long gen = stringRedisTemplate.opsForValue().increment(GEN_PREFIX + id);
+                stringRedisTemplate.expire(GEN_PREFIX + id, genTtl());
+                if (gen != null && Boolean.TRUE.equals(stringRedisTemplate.hasKey(DOC_PREFIX + id))) {
+                    taskDetailRefreshExecutor.execute(() -> rebuild(id, String.valueOf(gen)));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[TaskDetailReadModel] deploymentId={} 무효화 실패: {}", deploymentId, e.getMessage());
+        }
+    }
+
+    private List<Long> affectedDeploymentIds(Long deploymentId) {
+        Deployment deployment = taskManagementRepository.findById(deploymentId).orElse(null);
+        if (deployment == null) {
+            return List.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        ids.add(deploymentId);
+        if (deployment.getProcessId() != null) {
+            ids.addAll(taskManagementRepository.findIdsByProcessId(deployment.getProcessId()));
+        }
+        // 재배포/복구로 분리된 배포면 이전 프로세스 화면(가장 진행된 단계 등)도 바뀐다
+        if (deployment.getParentDeploymentId() != null) {
+            taskManagementRepository.findById(deployment.getParentDeploymentId())
+                    .map(Deployment::getProcessId)
+                    .filter(processId -> !processId.equals(deployment.getProcessId()))
+                    .ifPresent(processId ->
+                            ids.addAll(taskManagementRepository.findIdsByProcessId(processId)));
+        }
+        return new ArrayList<>(ids);
+    }
+
+    void rebuild(Long deploymentId, String gen) {
+        try {
+            store(deploymentId, gen, taskManagementService.getTaskDetailFull(deploymentId, false));
+        } catch (Exception e) {
+            log.debug("[TaskDetailReadModel] 재생성 실패 deploymentId={}: {}", deploymentId,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * 문서에서 뺀 Jenkins 로그 본문을 붙인다. Redis 에 없으면 DB 에서 읽어 채운다.
+     */
+    private TaskDetailResponseDto attachLog(TaskDetailResponseDto detail) {
+        JenkinsLogDto jenkinsLog = detail.getJenkinsLog();
+        if (jenkinsLog == null || jenkinsLog.getBuildRunId() == null) {
+            return detail;
+        }
+        String key = LOG_PREFIX + jenkinsLog.getBuildRunId();
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                jenkinsLog.setLog(cached);
+                return detail;
+            }
+        } catch (Exception e) {
+            log.debug("[TaskDetailReadModel] 로그 조회 실패 key={}: {}", key, e.getMessage());
+        }
+        String buildLog = buildRunRepository.findLogByBuildRunId(jenkinsLog.getBuildRunId())
+                .orElse(null);
+        jenkinsLog.setLog(buildLog);
+        if (buildLog != null) {
+            try {
+                stringRedisTemplate.opsForValue().set(key, buildLog, Duration.ofSeconds(ttlSeconds));
+            } catch (Exception e) {
+                log.debug("[TaskDetailReadModel] 로그 저장 실패 key={}: {}", key, e.getMessage());
+            }
+        }
+        return detail;
+    }
+
+    private void store(Long deploymentId, String gen, TaskDetailResponseDto detail) {
+        try {
+            stringRedisTemplate.opsForValue().set(DOC_PREFIX + deploymentId,
+                    gen + "|" + objectMapper.writeValueAsString(detail),
+                    Duration.ofSeconds(ttlSeconds));
+            stringRedisTemplate.expire(GEN_PREFIX + deploymentId, genTtl());
+        } catch (Exception e) {
+            log.debug("[TaskDetailReadModel] 저장 실패 deploymentId={}: {}", deploymentId, e.getMessage());
+        }
+    }
+
+    // 세대 카운터는 문서 TTL 의 두 배 동안 유지
+    private Duration genTtl() {
+        return Duration.ofSeconds(ttlSeconds * 2);
+    }
+}
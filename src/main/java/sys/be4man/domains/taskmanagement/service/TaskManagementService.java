@@ -20,11 +20,16 @@ import sys.be4man.domains.deployment.model.type.DeploymentStage;
 import sys.be4man.domains.deployment.model.type.DeploymentStatus;
 import sys.be4man.domains.taskmanagement.dto.*;
 import sys.be4man.domains.taskmanagement.repository.TaskManagementRepository;
+import sys.be4man.global.dto.response.CursorPageResponse;
+import sys.be4man.global.util.KeysetCursor;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -40,8 +45,14 @@ public class TaskManagementService {
     private final TaskDetailInfoService taskDetailInfoService;
     private final TaskDetailApprovalService taskDetailApprovalService;
 
+    static final int MAX_FEED_PAGE_SIZE = 100;
+    private static final Set<ApprovalType> LIST_APPROVAL_TYPES = EnumSet.of(
+            ApprovalType.PLAN, ApprovalType.RETRY, ApprovalType.ROLLBACK, ApprovalType.REPORT);
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm");
 
+    /** 목록 Approval 묶음 키 */
+    private record ApprovalKey(Long deploymentId, ApprovalType type) {}
+
     public Page<TaskManagementResponseDto> getTaskList(TaskManagementSearchDto searchDto, int page, int size) {
         log.debug("작업 관리 목록 조회 - searchDto: {}, page: {}, size: {}", searchDto, page, size);
 
@@ -55,36 +66,69 @@ public class TaskManagementService {
         log.debug("조회된 Deployment 수: {}", deployments.getTotalElements());
 
         // Deployment를 DTO로 변환
-        List<TaskManagementResponseDto> dtoList = deployments.getContent().stream()
+        List<TaskManagementResponseDto> dtoList = toTaskResponses(deployments.getContent());
+
+        // PageImpl로 Page 객체 생성
+        return new PageImpl<>(dtoList, pageable, deployments.getTotalElements());
+    }
+
+    /**
+     * 작업 관리 목록 keyset 조회 (검색 조건/정렬은 getTaskList 와 같음)
+     * - 페이지 깊이와 무관하게 cursor 위치부터 size 건만 읽고, 전체 건수는 withTotal 일 때만 센다
+     */
+    public CursorPageResponse<TaskManagementResponseDto> getTaskFeed(TaskManagementSearchDto searchDto,
+            String cursor, int size, boolean withTotal) {
+        log.debug("작업 관리 keyset 조회 - searchDto: {}, size: {}, withTotal: {}", searchDto, size, withTotal);
+
+        if (searchDto == null) {
+            searchDto = TaskManagementSearchDto.builder().sortBy("최신순").build();
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+
+        List<Deployment> rows = taskManagementRepository.findTasksBySearchConditions(
+                searchDto, KeysetCursor.decode(cursor), pageSize + 1);
+        Long total = withTotal ? taskManagementRepository.countTasksBySearchConditions(searchDto) : null;
+
+        return CursorPageResponse.of(rows, pageSize,
+                d -> new KeysetCursor(d.getCreatedAt(), d.getId()),
+                this::toTaskResponses, total);
+    }
+
+    /**
+     * 목록용 DTO 변환 (단계별 계획서/결과보고 Approval 포함)
+     * - 페이지 전체의 Approval 과 결재 라인을 한 번에 조회해 (deploymentId, type) 으로 묶는다
+     */
+    private List<TaskManagementResponseDto> toTaskResponses(List<Deployment> deployments) {
+        if (deployments.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> deploymentIds = deployments.stream().map(Deployment::getId).toList();
+        Map<ApprovalKey, List<Approval>> approvals = approvalRepository
+                .findWithLinesByDeploymentIdsAndTypes(deploymentIds, LIST_APPROVAL_TYPES).stream()
+                .collect(Collectors.groupingBy(
+                        a -> new ApprovalKey(a.getDeployment().getId(), a.getType())));
+
+        return deployments.stream()
                 .map(deployment -> {
-                    List<Approval> planApprovals;
-
-                    // RETRY/ROLLBACK은 자체 Approval 조회
-                    if (deployment.getStage() == DeploymentStage.RETRY) {
-                        planApprovals = approvalRepository.findByDeploymentIdAndTypeAndIsDeletedFalse(
-                                deployment.getId(), ApprovalType.RETRY);
-                    } else if (deployment.getStage() == DeploymentStage.ROLLBACK) {
-                        planApprovals = approvalRepository.findByDeploymentIdAndTypeAndIsDeletedFalse(
-                                deployment.getId(), ApprovalType.ROLLBACK);
-                    } else {
-                        // 일반 PLAN Approval 조회
-                        planApprovals = approvalRepository.findByDeploymentIdAndTypeAndIsDeletedFalse(
-                                deployment.getId(), ApprovalType.PLAN);
-                    }
-
-                    // REPORT 단계면 REPORT Approval도 조회
-                    List<Approval> reportApprovals = null;
-                    if (deployment.getStage() == DeploymentStage.REPORT) {
-                        reportApprovals = approvalRepository.findByDeploymentIdAndTypeAndIsDeletedFalse(
-                                deployment.getId(), ApprovalType.REPORT);
-                    }
+                    // RETRY/ROLLBACK은 자체 Approval, 그 외는 PLAN Approval
+                    ApprovalType planType = switch (deployment.getStage()) {
+                        case RETRY -> ApprovalType.RETRY;
+                        case ROLLBACK -> ApprovalType.ROLLBACK;
+                        default -> ApprovalType.PLAN;
+                    };
+                    List<Approval> planApprovals = approvals.getOrDefault(
+                            new ApprovalKey(deployment.getId(), planType), List.of());
+
+                    // REPORT 단계면 REPORT Approval도 사용
+                    List<Approval> reportApprovals = deployment.getStage() == DeploymentStage.REPORT
+                            ? approvals.getOrDefault(
+                                    new ApprovalKey(deployment.getId(), ApprovalType.REPORT), List.of())
+                            : null;
 
                     return new TaskManagementResponseDto(deployment, planApprovals, reportApprovals);
                 })
                 .collect(Collectors.toList());
-
-        // PageImpl로 Page 객체 생성
-        return new PageImpl<>(dtoList, pageable, deployments.getTotalElements());
     }
 
     public TaskManagementResponseDto getTaskDetail(Long taskId) {
@@ -105,6 +149,13 @@ public class TaskManagementService {
     }
 
     public TaskDetailResponseDto getTaskDetailFull(Long deploymentId) {
+        return getTaskDetailFull(deploymentId, true);
+    }
+
+    /**
+     * 작업 전체 상세 조회. includeLog 가 false 면 Jenkins 로그 본문(지연 로딩)을 읽지 않는다 (작업 상세 읽기 모델이 따로 캐시)
+     */
+    public TaskDetailResponseDto getTaskDetailFull(Long deploymentId, boolean includeLog) {
         log.debug("작업 전체 상세 조회 - deploymentId: {}", deploymentId);
 
         Deployment deployment = taskManagementRepository.findById(deploymentId)
@@ -117,291 +168,62 @@ public class TaskManagementService {
         log.debug("Deployment 조회 완료 - deploymentId: {}, stage: {}, status: {}",
                 deployment.getId(), deployment.getStage(), deployment.getStatus());
 
-        Deployment planDeployment = deployment;
-        Deployment deploymentTask = null;
-        Deployment reportDeployment = null;
+        Deployment planDeployment;
+        Deployment deploymentTask;
+        Deployment reportDeployment;
 
         Long pullRequestId = deployment.getPullRequest() != null ? deployment.getPullRequest().getId() : null;
 
-        // ✅ 같은 프로세스의 deployment 조회 (PLAN 기준으로 그룹화)
-        DeploymentStage maxStage = deployment.getStage();  // 가장 진행된 단계
-        List<Deployment> relatedDeployments;
-
-        // ✅ RETRY/ROLLBACK은 독립적인 프로세스 (자기 자신만 사용)
-        if (deployment.getStage() == DeploymentStage.RETRY || deployment.getStage() == DeploymentStage.ROLLBACK) {
-            log.debug("RETRY/ROLLBACK 독립 프로세스 - deploymentId: {}, stage: {}",
-                    deployment.getId(), deployment.getStage());
-
+        // ✅ 같은 프로세스의 deployment 조회 (process_id 인덱스 1회, 생성 순)
+        List<Deployment> relatedDeployments = deployment.getProcessId() != null
+                ? taskManagementRepository.findProcessDeployments(deployment.getProcessId())
+                : List.of();
+        if (relatedDeployments.isEmpty()) {
+            // 아직 프로세스 보정 전이면 현재 배포만 표시
+            log.debug("프로세스 미지정 배포 - deploymentId: {}", deployment.getId());
             relatedDeployments = List.of(deployment);
-            planDeployment = null;  // RETRY/ROLLBACK은 별도의 PLAN이 없음
-            deploymentTask = deployment;  // 자기 자신이 배포 작업
-            reportDeployment = null;
-
-        } else if (deployment.getStage() == DeploymentStage.REPORT && pullRequestId != null) {
-            // ✅ REPORT는 바로 직전에 생성된 RETRY/ROLLBACK을 찾기
-            Long projectId = deployment.getProject().getId();
-
-            // REPORT 바로 직전의 RETRY/ROLLBACK 찾기
-            List<Deployment> retryRollbackList = taskManagementRepository.findAll().stream()
-                    .filter(d -> !d.getIsDeleted())
-                    .filter(d -> d.getProject() != null && d.getProject().getId().equals(projectId))
-                    .filter(d -> d.getPullRequest() != null && d.getPullRequest().getId().equals(pullRequestId))
-                    .filter(d -> d.getStage() == DeploymentStage.RETRY || d.getStage() == DeploymentStage.ROLLBACK)
-                    .filter(d -> d.getCreatedAt().isBefore(deployment.getCreatedAt()) ||
-                                (d.getCreatedAt().equals(deployment.getCreatedAt()) && d.getId() < deployment.getId()))
-                    .sorted((d1, d2) -> {
-                        int timeCompare = d2.getCreatedAt().compareTo(d1.getCreatedAt());
-                        if (timeCompare != 0) return timeCompare;
-                        return d2.getId().compareTo(d1.getId());
-                    })
-                    .limit(1)
-                    .collect(Collectors.toList());
-
-            if (!retryRollbackList.isEmpty()) {
-                // RETRY/ROLLBACK 프로세스의 REPORT
-                Deployment retryRollback = retryRollbackList.get(0);
-                log.debug("REPORT는 RETRY/ROLLBACK 프로세스에 속함 - reportId: {}, retryId: {}, retryCreatedAt: {}",
-                        deployment.getId(), retryRollback.getId(), retryRollback.getCreatedAt());
-
-                relatedDeployments = List.of(retryRollback, deployment);
-                planDeployment = null;
-                deploymentTask = retryRollback;
-                reportDeployment = deployment;
-            } else {
-                // 일반 PLAN 프로세스의 REPORT - PLAN 찾기로 진행
-                log.debug("REPORT는 일반 PLAN 프로세스에 속함 - reportId: {}", deployment.getId());
-
-                // ✅ Step 1: 현재 배포가 속한 PLAN 찾기
-                List<Deployment> relatedPlanList = taskManagementRepository.findRelatedPlanList(
-                    projectId,
-                    pullRequestId,
-                    deployment.getCreatedAt(),
-                    deployment.getId()
-            );
-
-            if (relatedPlanList.isEmpty()) {
-                log.warn("⚠️ PLAN이 없는 배포 - deploymentId: {}, stage: {}, createdAt: {}",
-                        deployment.getId(), deployment.getStage(), deployment.getCreatedAt());
-
-                // PLAN이 없으면 현재 배포만 표시
-                relatedDeployments = List.of(deployment);
-                planDeployment = deployment.getStage() == DeploymentStage.PLAN ? deployment : null;
-                deploymentTask = deployment.getStage() == DeploymentStage.DEPLOYMENT ||
-                        deployment.getStage() == DeploymentStage.RETRY ||
-                        deployment.getStage() == DeploymentStage.ROLLBACK ? deployment : null;
-                reportDeployment = deployment.getStage() == DeploymentStage.REPORT ? deployment : null;
-
-            } else {
-                Deployment relatedPlan = relatedPlanList.get(0);
-
-                log.debug("✅ 현재 배포가 속한 PLAN 찾음 - deploymentId: {}, planId: {}, planCreatedAt: {}",
-                        deployment.getId(), relatedPlan.getId(), relatedPlan.getCreatedAt());
-
-                // ✅ Step 2: 다음 PLAN 찾기 (다음 프로세스의 시작점)
-                List<Deployment> nextPlanList = taskManagementRepository.findNextPlanList(
-                        projectId,
-                        pullRequestId,
-                        relatedPlan.getCreatedAt(),
-                        relatedPlan.getId()
-                );
-
-                LocalDateTime endTime = nextPlanList.isEmpty() ? null : nextPlanList.get(0).getCreatedAt();
-                Long endId = nextPlanList.isEmpty() ? null : nextPlanList.get(0).getId();
-
-                log.debug("다음 PLAN 조회 - nextPlanId: {}, nextPlanCreatedAt: {}",
-                        endId,
-                        endTime);
-
-                // ✅ Step 3: 프로세스 범위 내 모든 배포 조회 (QueryDSL 사용)
-                relatedDeployments = taskManagementRepository.findProcessDeploymentsQueryDsl(
-                        projectId,
-                        pullRequestId,
-                        relatedPlan.getCreatedAt(),
-                        relatedPlan.getId(),
-                        endTime,
-                        endId
-                );
-
-                log.debug("✅ 프로세스 범위 조회 완료 - PLAN: {}, 다음 PLAN: {}, 배포 개수: {}",
-                        relatedPlan.getId(),
-                        endId,
-                        relatedDeployments.size());
-
-                // 가장 진행된 단계 찾기
-                for (Deployment d : relatedDeployments) {
-                    if (getStageOrder(d.getStage()) > getStageOrder(maxStage)) {
-                        maxStage = d.getStage();
-                    }
-                }
-
-                log.debug("가장 진행된 단계: {}", maxStage);
-
-                // 계획서 찾기 (프로세스 내에는 PLAN이 하나만 있음)
-                planDeployment = relatedDeployments.stream()
-                        .filter(d -> d.getStage() == DeploymentStage.PLAN)
-                        .findFirst()
-                        .orElse(deployment);
-
-                // 배포 작업 찾기 (시간순 정렬되어 있으므로 첫 번째)
-                deploymentTask = relatedDeployments.stream()
-                        .filter(d -> d.getStage() == DeploymentStage.DEPLOYMENT ||
-                                d.getStage() == DeploymentStage.RETRY ||
-                                d.getStage() == DeploymentStage.ROLLBACK)
-                        .findFirst()
-                        .orElse(null);
-
-                // 결과보고 찾기
-                reportDeployment = relatedDeployments.stream()
-                        .filter(d -> d.getStage() == DeploymentStage.REPORT)
-                        .findFirst()
-                        .orElse(null);
-
-                log.debug("✅ 프로세스 기반 조회 완료 - planId: {}, deploymentId: {}, reportId: {}",
-                        planDeployment.getId(),
-                        deploymentTask != null ? deploymentTask.getId() : "없음",
-                        reportDeployment != null ? reportDeployment.getId() : "없음");
-                }
-            }
-
-        } else if (pullRequestId != null) {
-            Long projectId = deployment.getProject().getId();
-
-            // ✅ Step 1: 현재 배포가 속한 PLAN 찾기 (일반 DEPLOYMENT, PLAN)
-            List<Deployment> relatedPlanList = taskManagementRepository.findRelatedPlanList(
-                    projectId,
-                    pullRequestId,
-                    deployment.getCreatedAt(),
-                    deployment.getId()
-            );
-
-            if (relatedPlanList.isEmpty()) {
-                log.warn("⚠️ PLAN이 없는 배포 - deploymentId: {}, stage: {}, createdAt: {}",
-                        deployment.getId(), deployment.getStage(), deployment.getCreatedAt());
-
-                relatedDeployments = List.of(deployment);
-                planDeployment = deployment.getStage() == DeploymentStage.PLAN ? deployment : null;
-                deploymentTask = deployment.getStage() == DeploymentStage.DEPLOYMENT ? deployment : null;
-                reportDeployment = null;
-
-            } else {
-                Deployment relatedPlan = relatedPlanList.get(0);
-
-                log.debug("✅ 현재 배포가 속한 PLAN 찾음 - deploymentId: {}, planId: {}, planCreatedAt: {}",
-                        deployment.getId(), relatedPlan.getId(), relatedPlan.getCreatedAt());
-
-                // ✅ Step 2: 다음 PLAN 찾기
-                List<Deployment> nextPlanList = taskManagementRepository.findNextPlanList(
-                        projectId,
-                        pullRequestId,
-                        relatedPlan.getCreatedAt(),
-                        relatedPlan.getId()
-                );
-
-                LocalDateTime endTime = nextPlanList.isEmpty() ? null : nextPlanList.get(0).getCreatedAt();
-                Long endId = nextPlanList.isEmpty() ? null : nextPlanList.get(0).getId();
-
-                log.debug("다음 PLAN 조회 - nextPlanId: {}, nextPlanCreatedAt: {}",
-                        endId,
-                        endTime);
-
-                // ✅ Step 3: RETRY/ROLLBACK이 범위 내에 있는지 먼저 확인 (프로세스 분리 지점)
-                LocalDateTime finalEndTime = endTime;
-                Long finalEndId = endId;
-                List<Deployment> retryRollbackInRange = taskManagementRepository.findAll().stream()
-                        .filter(d -> !d.getIsDeleted())
-                        .filter(d -> d.getProject() != null && d.getProject().getId().equals(projectId))
-                        .filter(d -> d.getPullRequest() != null && d.getPullRequest().getId().equals(pullRequestId))
-                        .filter(d -> d.getStage() == DeploymentStage.RETRY || d.getStage() == DeploymentStage.ROLLBACK)
-                        .filter(d -> {
-                            // PLAN 이후 생성된 것만
-                            boolean afterPlan = d.getCreatedAt().isAfter(relatedPlan.getCreatedAt()) ||
-                                    (d.getCreatedAt().equals(relatedPlan.getCreatedAt()) && d.getId() > relatedPlan.getId());
-                            if (!afterPlan) return false;
-
-                            // 다음 PLAN 이전 생성된 것만 (없으면 모두 포함)
-                            if (finalEndTime != null) {
-                                return d.getCreatedAt().isBefore(finalEndTime) ||
-                                        (d.getCreatedAt().equals(finalEndTime) && d.getId() < finalEndId);
-                            }
-                            return true;
-                        })
-                        .sorted((d1, d2) -> {
-                            int timeCompare = d1.getCreatedAt().compareTo(d2.getCreatedAt());
-                            if (timeCompare != 0) return timeCompare;
-                            return d1.getId().compareTo(d2.getId());
-                        })
-                        .limit(1)
-                        .collect(Collectors.toList());
-
-                // RETRY/ROLLBACK이 있으면 그것을 프로세스 종료 지점으로 사용
-                if (!retryRollbackInRange.isEmpty()) {
-                    Deployment firstRetry = retryRollbackInRange.get(0);
-                    log.debug("⚠️ 범위 내 RETRY/ROLLBACK 발견 - id: {}, 프로세스를 여기서 종료합니다", firstRetry.getId());
-                    endTime = firstRetry.getCreatedAt();
-                    endId = firstRetry.getId();
-                }
-
-                // ✅ Step 4: 프로세스 범위 내 모든 배포 조회
-                relatedDeployments = taskManagementRepository.findProcessDeploymentsQueryDsl(
-                        projectId,
-                        pullRequestId,
-                        relatedPlan.getCreatedAt(),
-                        relatedPlan.getId(),
-                        endTime,
-                        endId
-                );
-
-                log.debug("✅ 프로세스 범위 조회 완료 - PLAN: {}, 종료점: {}, 배포 개수: {}",
-                        relatedPlan.getId(),
-                        endId,
-                        relatedDeployments.size());
-
-                // ✅ 조회된 배포들 상세 로깅
-                for (Deployment d : relatedDeployments) {
-                    log.debug("  - 프로세스 내 배포: id={}, stage={}, createdAt={}",
-                            d.getId(), d.getStage(), d.getCreatedAt());
-                }
-
-                // 가장 진행된 단계 찾기
-                for (Deployment d : relatedDeployments) {
-                    if (getStageOrder(d.getStage()) > getStageOrder(maxStage)) {
-                        maxStage = d.getStage();
-                    }
-                }
-
-                // ✅ 프로세스 내 각 단계별 Deployment 찾기
-                planDeployment = relatedDeployments.stream()
-                        .filter(d -> d.getStage() == DeploymentStage.PLAN)
-                        .findFirst()
-                        .orElse(null);  // ✅ PLAN이 없으면 null (orElse(deployment) 제거)
-
-                deploymentTask = relatedDeployments.stream()
-                        .filter(d -> d.getStage() == DeploymentStage.DEPLOYMENT)
-                        .findFirst()
-                        .orElse(null);
+        }
 
-                reportDeployment = relatedDeployments.stream()
-                        .filter(d -> d.getStage() == DeploymentStage.REPORT)
-                        .findFirst()
-                        .orElse(null);
-
-                // ✅ PLAN을 못 찾은 경우 로그 출력
-                if (planDeployment == null) {
-                    log.warn("⚠️ 프로세스 내에서 PLAN을 찾지 못함 - deploymentId: {}, relatedDeployments: {}",
-                            deployment.getId(), relatedDeployments.size());
-                    for (Deployment d : relatedDeployments) {
-                        log.warn("  - Deployment: id={}, stage={}, status={}, createdAt={}",
-                                d.getId(), d.getStage(), d.getStatus(), d.getCreatedAt());
-                    }
-                }
+        // 가장 진행된 단계 찾기
+        DeploymentStage maxStage = deployment.getStage();
+        for (Deployment d : relatedDeployments) {
+            if (getStageOrder(d.getStage()) > getStageOrder(maxStage)) {
+                maxStage = d.getStage();
             }
+        }
 
+        Deployment head = relatedDeployments.get(0);
+        if (head.getStage() == DeploymentStage.RETRY || head.getStage() == DeploymentStage.ROLLBACK) {
+            // ✅ RETRY/ROLLBACK 프로세스: 자기 자신이 계획서이자 배포 작업
+            planDeployment = null;
+            deploymentTask = head;
+            reportDeployment = relatedDeployments.stream()
+                    .filter(d -> d.getStage() == DeploymentStage.REPORT)
+                    .findFirst()
+                    .orElse(null);
         } else {
-            // PR이 없으면 현재 배포만 표시
-            log.debug("PR이 없는 배포 - deploymentId: {}", deployment.getId());
-            relatedDeployments = List.of(deployment);
+            planDeployment = relatedDeployments.stream()
+                    .filter(d -> d.getStage() == DeploymentStage.PLAN)
+                    .findFirst()
+                    .orElse(null);
+
+            deploymentTask = relatedDeployments.stream()
+                    .filter(d -> d.getStage() == DeploymentStage.DEPLOYMENT)
+                    .findFirst()
+                    .orElse(null);
+
+            reportDeployment = relatedDeployments.stream()
+                    .filter(d -> d.getStage() == DeploymentStage.REPORT)
+                    .findFirst()
+                    .orElse(null);
         }
 
+        log.debug("✅ 프로세스 조회 완료 - processId: {}, 배포 개수: {}, planId: {}, deploymentId: {}, reportId: {}",
+                deployment.getProcessId(), relatedDeployments.size(),
+                planDeployment != null ? planDeployment.getId() : "없음",
+                deploymentTask != null ? deploymentTask.getId() : "없음",
+                reportDeployment != null ? reportDeployment.getId() : "없음");
+
         // ✅ Approval 조회
         List<Approval> planApprovals;
 
@@ -432,56 +254,19 @@ public class TaskManagementService {
             log.debug("PLAN 계획서 조회 - planDeploymentId: {}, approvals: {}",
                     planDeployment.getId(), planApprovals.size());
         } else {
-            // ✅ planDeployment가 null인 경우 - 다양한 방법으로 Approval 찾기 시도
-            log.warn("⚠️ planDeployment가 null - deploymentId: {}, stage: {}, PR: {}, Project: {}",
-                    deployment.getId(), deployment.getStage(),
-                    pullRequestId, deployment.getProject() != null ? deployment.getProject().getId() : null);
-
-            // 1. 현재 deployment로 직접 조회 시도
-            planApprovals = approvalRepository.findByDeploymentIdAndTypeAndIsDeletedFalse(
-                    deployment.getId(), ApprovalType.PLAN);
-            log.warn("⚠️ [시도1] 현재 deployment로 조회한 planApprovals: {}", planApprovals.size());
-
-            // 2. 같은 PR의 모든 PLAN Approval 조회 (가장 최근 것 사용)
-            if (planApprovals.isEmpty() && pullRequestId != null) {
-                log.warn("⚠️ [시도2] 같은 PR의 모든 Approval 조회 시도 - prId: {}", pullRequestId);
-
-                List<Approval> allApprovals = approvalRepository.findAll().stream()
-                        .filter(a -> !a.getIsDeleted())
-                        .filter(a -> a.getType() == ApprovalType.PLAN)
-                        .filter(a -> a.getDeployment() != null)
-                        .filter(a -> a.getDeployment().getPullRequest() != null)
-                        .filter(a -> a.getDeployment().getPullRequest().getId().equals(pullRequestId))
-                        .filter(a -> a.getDeployment().getProject() != null)
-                        .filter(a -> a.getDeployment().getProject().getId().equals(deployment.getProject().getId()))
-                        // 현재 deployment보다 이전에 생성된 Approval만
-                        .filter(a -> a.getCreatedAt().isBefore(deployment.getCreatedAt()) ||
-                                    (a.getCreatedAt().equals(deployment.getCreatedAt()) && a.getId() < deployment.getId()))
-                        .sorted((a1, a2) -> {
-                            // 최신 순 정렬
-                            int timeCompare = a2.getCreatedAt().compareTo(a1.getCreatedAt());
-                            if (timeCompare != 0) return timeCompare;
-                            return a2.getId().compareTo(a1.getId());
-                        })
-                        .limit(1)
-                        .collect(Collectors.toList());
-
-                if (!allApprovals.isEmpty()) {
-                    planApprovals = allApprovals;
-                    planDeployment = allApprovals.get(0).getDeployment();
-                    log.warn("⚠️ [시도2 성공] PR 기반 Approval 발견 - approvalId: {}, deploymentId: {}, approvalCreatedAt: {}",
-                            allApprovals.get(0).getId(),
-                            planDeployment.getId(),
-                            allApprovals.get(0).getCreatedAt());
-                } else {
-                    log.warn("⚠️ [시도2 실패] PR 기반 Approval을 찾을 수 없음");
-                }
-            }
-
-            // 3. 여전히 못 찾았으면 현재 deployment를 planDeployment로 사용
-            if (!planApprovals.isEmpty() && planDeployment == null) {
-                planDeployment = deployment;
-                log.warn("⚠️ planDeployment를 현재 deployment로 설정 - deploymentId: {}", deployment.getId());
+            // ✅ 계획서 배포의 단계가 바뀐 경우(PLAN → DEPLOYMENT/REPORT) - 프로세스 내 PLAN Approval 조회
+            List<Long> processDeploymentIds = relatedDeployments.stream().map(Deployment::getId).toList();
+            planApprovals = approvalRepository.findByDeploymentIdInAndTypeAndIsDeletedFalseOrderByCreatedAtAscIdAsc(
+                    processDeploymentIds, ApprovalType.PLAN);
+            log.debug("프로세스 내 PLAN 계획서 조회 - deploymentId: {}, PR: {}, approvals: {}",
+                    deployment.getId(), pullRequestId, planApprovals.size());
+
+            if (!planApprovals.isEmpty()) {
+                Long planDeploymentId = planApprovals.get(0).getDeployment().getId();
+                planDeployment = relatedDeployments.stream()
+                        .filter(d -> d.getId().equals(planDeploymentId))
+                        .findFirst()
+                        .orElse(deployment);
             }
         }
 
@@ -508,7 +293,8 @@ public class TaskManagementService {
         List<TimelineStepDto> timeline = taskDetailTimelineService.buildTimeline(
                 timelineDeployment, planApprovals, reportApprovals, buildRunOpt.orElse(null));
 
-        JenkinsLogDto jenkinsLog = buildRunOpt.map(this::buildJenkinsLog).orElse(null);
+        JenkinsLogDto jenkinsLog = buildRunOpt.map(buildRun -> buildJenkinsLog(buildRun, includeLog))
+                .orElse(null);
 
         // RETRY/ROLLBACK은 자기 자신이 계획서, RETRY/ROLLBACK 프로세스의 REPORT는 deploymentTask 사용
         Deployment planContentDeployment;
@@ -670,10 +456,11 @@ public class TaskManagementService {
         }
     }
 
-    private JenkinsLogDto buildJenkinsLog(BuildRun buildRun) {
+    private JenkinsLogDto buildJenkinsLog(BuildRun buildRun, boolean includeLog) {
         String buildStatus = buildRun.getEndedAt() == null ? "IN_PROGRESS" : "SUCCESS";
 
         return JenkinsLogDto.builder()
+                .buildRunId(buildRun.getId())
                 .jenkinsJobName(buildRun.getJenkinsJobName())
                 .buildNumber(buildRun.getBuildNumber())
                 .buildStatus(buildStatus)
@@ -681,7 +468,7 @@ public class TaskManagementService {
                 .endedAt(formatDateTime(buildRun.getEndedAt()))
                 .duration(buildRun.getDuration())
                 .durationFormatted(formatDuration(buildRun.getDuration()))
-                .log(buildRun.getLog())
+                .log(includeLog ? buildRun.getLog() : null)
                 .build();
     }
 
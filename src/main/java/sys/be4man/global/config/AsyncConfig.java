@@ -2,6 +2,7 @@
 package sys.be4man.global.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -25,4 +26,117 @@ public class AsyncConfig implements AsyncConfigurer {
         ex.initialize();
         return ex;
     }
-}
\ No newline at end of file
+
+    /**
+     * LLM 분석 스트리밍(SSE) 전용 풀. 느린 LLM 응답이 웹훅 처리 풀을 점유하지 않도록 분리
+     */
+    @Bean(name = "analysisStreamExecutor")
+    public Executor analysisStreamExecutor() {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("analysis-stream-");
+        ex.setCorePoolSize(2);
+        ex.setMaxPoolSize(8);
+        ex.setQueueCapacity(50);
+        ex.setKeepAliveSeconds(60);
+        ex.initialize();
+        return ex;
+    }
+
+    /**
+     * 로컬 실패 분류기 학습 전용 풀. 전체 분석 이력을 읽는 학습이 웹훅 처리 풀과 경쟁하지 않도록 분리
+     * (학습은 단일 실행 가드가 있으므로 스레드 하나로 충분)
+     */
+    @Bean(name = "classifierTrainingExecutor")
+    public Executor classifierTrainingExecutor() {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("classifier-train-");
+        ex.setCorePoolSize(1);
+        ex.setMaxPoolSize(1);
+        ex.setQueueCapacity(4);
+        ex.setKeepAliveSeconds(60);
+        ex.initialize();
+        return ex;
+    }
+
+    /**
+     * 통계 개요(/api/statistics/overview) 구간별 쿼리 병렬 실행 풀.
+     * 큐가 차면 해당 구간만 실패로 응답하도록 크기를 제한 (DB 커넥션 풀 고갈 방지)
+     * 요청 하나가 6개 구간을 넣으므로 동시 요청이 많으면 큐에서 기다리며, 구간 제한 시간은 실행 시작부터 잰다 (ParallelSections)
+     */
+    @Bean(name = "statisticsQueryExecutor")
+    public Executor statisticsQueryExecutor() {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("stats-query-");
+        ex.setCorePoolSize(6);
+        ex.setMaxPoolSize(6);
+        ex.setQueueCapacity(60);
+        ex.setKeepAliveSeconds(60);
+        ex.initialize();
+        return ex;
+    }
+
+    /**
+     * 대시보드 요약(/api/dashboard/summary) 목록별 쿼리 병렬 실행 풀.
+     * 요청 하나가 최대 4개 커넥션을 쓰므로 동시 요약 요청 수를 제한
+     */
+    @Bean(name = "dashboardQueryExecutor")
+    public Executor dashboardQueryExecutor() {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("dashboard-query-");
+        ex.setCorePoolSize(8);
+        ex.setMaxPoolSize(8);
+        ex.setQueueCapacity(80);
+        ex.setKeepAliveSeconds(60);
+        ex.initialize();
+        return ex;
+    }
+
+    /**
+     * 대용량 내보내기(/api/export/*) StreamingResponseBody 실행 풀.
+     * 내보내기 한 건이 DB 커넥션(커서)을 오래 점유하므로 동시 실행 수를 제한
+     */
+    @Bean(name = "exportTaskExecutor")
+    public ThreadPoolTaskExecutor exportTaskExecutor() {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("export-");
+        ex.setCorePoolSize(2);
+        ex.setMaxPoolSize(4);
+        ex.setQueueCapacity(20);
+        ex.setKeepAliveSeconds(60);
+        ex.initialize();
+        return ex;
+    }
+
+    /**
+     * 통계 리포트 비동기 작업(/api/reports) 실행 풀.
+     * 긴 기간 집계가 몰려도 DB 커넥션을 두 개까지만 쓰고, 대기열이 차면 접수를 거절한다
+     */
+    @Bean(name = "reportTaskExecutor")
+    public ThreadPoolTaskExecutor reportTaskExecutor() {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("report-");
+        ex.setCorePoolSize(2);
+        ex.setMaxPoolSize(2);
+        ex.setQueueCapacity(20);
+        ex.setKeepAliveSeconds(60);
+        ex.initialize();
+        return ex;
+    }
+
+    /**
+     * 작업 상세 읽기 모델 문서 재생성 풀. 웹훅 처리 풀과 경쟁하지 않도록 분리하고,
+     * 밀리면 재생성을 버린다 (세대는 이미 올라가 있어 다음 조회가 다시 만든다)
+     */
+    @Bean(name = "taskDetailRefreshExecutor")
+    public ThreadPoolTaskExecutor taskDetailRefreshExecutor() {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("task-detail-");
+        ex.setCorePoolSize(1);
+        ex.setMaxPoolSize(2);
+        ex.setQueueCapacity(100);
+        ex.setKeepAliveSeconds(60);
+        ex.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        ex.initialize();
+        return ex;
+    }
+}
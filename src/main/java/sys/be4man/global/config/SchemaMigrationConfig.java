@@ -0,0 +1,62 @@
+// 작성자 : 조윤상
+package sys.be4man.global.config;
+
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import sys.be4man.global.config.migration.InvalidIndexCleanupCallback;
+import sys.be4man.global.config.migration.V5__StageRunAnalysisSource;
+
+/**
+ * 보조 인덱스 마이그레이션 설정.
+ * - 테이블은 ddl-auto: update 가 만들기 때문에, Flyway 는 EntityManagerFactory 초기화(스키마 갱신) 뒤에 실행한다.
+ * - 스크립트는 DB 종류별로 db/migration/{postgresql|h2} 에 둔다. (H2 는 부분 인덱스 미지원)
+ * - 애플리케이션 상수를 써야 하는 데이터 보정은 Java 마이그레이션(global.config.migration)으로 두고 여기서 등록한다.
+ * - 이력 테이블이 없는 기존 스키마는 버전 0 으로 베이스라인을 잡고 V1 부터 적용한다.
+ * - PostgreSQL 은 인덱스를 concurrently 로 만들기 때문에, 실패해 INVALID 로 남은 인덱스를 적용 전에 지운다.
+ * - ddl-auto 가 갱신하지 못하는 enum check 제약 정리처럼 매번 맞춰야 하는 것은 afterMigrate 콜백 SQL 로 둔다.
+ * - 컬럼 삭제 같은 수축 단계는 롤링 배포가 끝난 다음 릴리스에서 적용하도록 target 으로 적용 버전을 묶어 둔다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "schema.migration.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaMigrationConfig {
+
+    @Bean(initMethod = "migrate")
+    @DependsOn("entityManagerFactory")
+    public Flyway schemaMigration(
+            DataSource dataSource,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema,
+            @Value("${schema.migration.target:latest}") String target
+    ) {
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .locations(location(url))
+                .javaMigrations(javaMigrations())
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .target(target);
+        if (!schema.isBlank()) {
+            configuration.schemas(schema);
+        }
+        if (DatabaseDriver.fromJdbcUrl(url) == DatabaseDriver.POSTGRESQL) {
+            configuration.callbacks(new InvalidIndexCleanupCallback());
+        }
+        return configuration.load();
+    }
+
+    static JavaMigration[] javaMigrations() {
+        return new JavaMigration[]{new V5__StageRunAnalysisSource()};
+    }
+
+    static String location(String jdbcUrl) {
+        return "classpath:db/migration/" + DatabaseDriver.fromJdbcUrl(jdbcUrl).getId();
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import sys.be4man.domains.account.model.type.Role;
 import sys.be4man.domains.auth.jwt.JwtAuthenticationFilter;
 import sys.be4man.domains.auth.oauth.CustomOAuth2UserService;
 import sys.be4man.domains.auth.oauth.OAuth2SuccessHandler;
@@ -62,6 +63,20 @@ public class SecurityConfig {
             "/public/**"
     };
 
+    // 전체 데이터를 다시 읽는 재학습/재집계 API: HEAD 만 호출 가능
+    public static final String[] HEAD_ONLY_POST = {
+            "/api/analysis/classifier/retrain",
+            "/api/statistics/rollup/rebuild",
+            "/api/statistics/facts/rebuild",
+            "/api/statistics/dora/rebuild",
+            "/api/statistics/build-regressions/rebuild"
+    };
+
+    // 호출한 계정으로 요청자를 구분하는 API: 로그인 필요
+    public static final String[] AUTHENTICATED = {
+            "/api/reports/**"
+    };
+
     /**
      * Security Filter Chain 설정 JWT 인증 필터를 추가하고, 경로별 접근 권한을 설정합니다.
      */
@@ -109,6 +124,9 @@ public class SecurityConfig {
                                                // 공개 경로: 인증 없이 접근 가능
                                                // TODO: 구현 후 WHITE_LIST 적용
                                                .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                                               .requestMatchers(HttpMethod.POST, HEAD_ONLY_POST)
+                                               .hasRole(Role.HEAD.name())
+                                               .requestMatchers(AUTHENTICATED).authenticated()
                                                .anyRequest().permitAll()
 
                                        // 나머지 모든 요청은 인증 필요
@@ -0,0 +1,32 @@
+// 작성자 : 조윤상
+package sys.be4man.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC 비동기 응답(StreamingResponseBody) 설정.
+ * SseEmitter 는 각자 타임아웃을 지정하므로 여기 기본값은 내보내기 응답에만 적용된다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+    @Qualifier("exportTaskExecutor")
+    private final ThreadPoolTaskExecutor exportTaskExecutor;
+
+    // 수백만 건 내보내기도 끊기지 않도록 서블릿 기본값(30초)보다 길게
+    @Value("${export.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportTaskExecutor);
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+}
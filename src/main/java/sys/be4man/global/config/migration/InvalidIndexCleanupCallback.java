@@ -0,0 +1,78 @@
+// 작성자 : 조윤상
+package sys.be4man.global.config.migration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+
+/**
+ * PostgreSQL 전용: 마이그레이션을 적용하기 전에 INVALID 로 남은 보조 인덱스(idx_*)를 지운다.
+ * - create index concurrently 가 중간에 실패하면 인덱스가 INVALID(pg_index.indisvalid = false)로 남고,
+ *   다시 적용해도 if not exists 때문에 건너뛰어 쓰이지 않는 인덱스가 그대로 남는다.
+ * - 트랜잭션 없이 실행되는 스크립트(concurrently) 직전에만 동작한다. drop index concurrently 는 트랜잭션 안에서 쓸 수 없다.
+ * - 각 마이그레이션 직전(BEFORE_EACH_MIGRATE)은 Flyway 잠금을 잡은 뒤라, 다른 인스턴스가 만들고 있는 인덱스를 지우지 않는다.
+ */
+@Slf4j
+public class InvalidIndexCleanupCallback implements Callback {
+
+    static final String FIND_INVALID_SQL = """
+            select c.relname
+              from pg_index i
+              join pg_class c on c.oid = i.indexrelid
+              join pg_namespace n on n.oid = c.relnamespace
+             where not i.indisvalid
+               and n.nspname = current_schema()
+               and c.relname like 'idx!_%' escape '!'""";
+
+    @Override
+    public boolean supports(Event event, Context context) {
+        return event == Event.BEFORE_EACH_MIGRATE;
+    }
+
+    @Override
+    public boolean canHandleInTransaction(Event event, Context context) {
+        return false;
+    }
+
+    @Override
+    public void handle(Event event, Context context) {
+        Connection connection = context.getConnection();
+        try {
+            // 트랜잭션 안에서 실행되는 마이그레이션(Java 데이터 보정 등) 직전이면 건너뛴다
+            if (!connection.getAutoCommit()) {
+                return;
+            }
+            for (String index : findInvalidIndexes(connection)) {
+                try (Statement st = connection.createStatement()) {
+                    st.execute("drop index concurrently if exists \"" + index + "\"");
+                }
+                log.warn("[SchemaMigration] INVALID 인덱스 삭제 후 다시 생성합니다. index={}", index);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("INVALID 인덱스 정리 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String getCallbackName() {
+        return "invalid-index-cleanup";
+    }
+
+    private static List<String> findInvalidIndexes(Connection connection) throws SQLException {
+        List<String> indexes = new ArrayList<>();
+        try (Statement st = connection.createStatement();
+                ResultSet rs = st.executeQuery(FIND_INVALID_SQL)) {
+            while (rs.next()) {
+                indexes.add(rs.getString(1));
+            }
+        }
+        return indexes;
+    }
+}
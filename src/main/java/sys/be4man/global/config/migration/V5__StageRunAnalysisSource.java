@@ -0,0 +1,61 @@
+// 작성자 : 조윤상
+package sys.be4man.global.config.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.analysis.service.classifier.FailureClassifier;
+import sys.be4man.domains.analysis.service.classifier.FailureRuleTable;
+
+/**
+ * 기존 분석 결과의 출처(analysis_source)를 채운다. 컬럼은 ddl-auto: update 가 만든다.
+ * - 로컬 분류기 결과는 유형 코드(problem_type)와, 그 유형에 대해 분류기가 쓰는 요약 문구가 모두 맞을 때만 RULE/MODEL 로 본다.
+ * - 요약 문구는 SQL 에 복사하지 않고 FailureRuleTable / FailureClassifier 에서 가져오므로 문구를 바꿔도 조건이 함께 바뀐다.
+ * - 나머지는 LLM 결과로 본다.
+ * DB 종류와 무관한 SQL 만 쓰므로 PostgreSQL/H2 공통이다.
+ */
+public class V5__StageRunAnalysisSource extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        // 규칙: 규칙 유형 코드 + 규칙 요약으로 시작 (뒤에 근거 로그가 붙음)
+        try (PreparedStatement rule = connection.prepareStatement("""
+                update stage_run set analysis_source = 'RULE'
+                where analysis_source is null and problem_type = ?
+                  and problem_summary like ? escape '!'""")) {
+            for (FailureRuleTable.Rule r : FailureRuleTable.rules()) {
+                rule.setString(1, r.type().name());
+                rule.setString(2, escapeLike(r.summary()) + "%");
+                rule.addBatch();
+            }
+            rule.executeBatch();
+        }
+
+        // 모델: 유형 코드마다 고정 요약
+        try (PreparedStatement model = connection.prepareStatement("""
+                update stage_run set analysis_source = 'MODEL'
+                where analysis_source is null and problem_type = ? and problem_summary = ?""")) {
+            for (ProblemType type : ProblemType.values()) {
+                model.setString(1, type.name());
+                model.setString(2, FailureClassifier.modelSummary(type));
+                model.addBatch();
+            }
+            model.executeBatch();
+        }
+
+        try (Statement llm = connection.createStatement()) {
+            llm.executeUpdate("""
+                    update stage_run set analysis_source = 'LLM'
+                    where problem_type is not null and analysis_source is null""");
+        }
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
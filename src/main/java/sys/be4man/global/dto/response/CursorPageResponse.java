@@ -0,0 +1,37 @@
+// 작성자 : 조윤상
+package sys.be4man.global.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+import sys.be4man.global.util.KeysetCursor;
+
+/**
+ * keyset(cursor) 페이지 응답
+ *
+ * @param items      목록
+ * @param nextCursor 다음 페이지 조회 시 cursor 로 전달할 값 (다음 페이지가 없으면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ * @param total      전체 건수. withTotal=true 로 요청한 경우에만 채운다 (그 외 null)
+ */
+public record CursorPageResponse<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext,
+        Long total
+) {
+
+    /**
+     * pageSize + 1 건을 읽은 결과로 응답을 만든다. 초과분 한 건은 다음 페이지 존재 여부 판단에만 쓴다.
+     *
+     * @param rows     pageSize + 1 건까지 조회한 행
+     * @param cursorOf 행의 정렬 위치
+     * @param mapper   행 → 응답 항목 변환
+     */
+    public static <R, T> CursorPageResponse<T> of(List<R> rows, int pageSize,
+            Function<R, KeysetCursor> cursorOf, Function<List<R>, List<T>> mapper, Long total) {
+        boolean hasNext = rows.size() > pageSize;
+        List<R> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(mapper.apply(page), nextCursor, hasNext, total);
+    }
+}
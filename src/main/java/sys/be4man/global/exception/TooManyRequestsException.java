@@ -0,0 +1,15 @@
+// 작성자 : 조윤상
+package sys.be4man.global.exception;
+
+import org.springframework.http.HttpStatus;
+import sys.be4man.global.exception.type.ExceptionType;
+
+/**
+ * 429 TOO MANY REQUESTS 예외
+ */
+public class TooManyRequestsException extends BaseException {
+
+    public TooManyRequestsException(final ExceptionType exceptionType) {
+        super(exceptionType, HttpStatus.TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,46 @@
+// 작성자 : 조윤상
+package sys.be4man.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import sys.be4man.global.exception.BadRequestException;
+
+/**
+ * keyset 페이지네이션 위치 (정렬 시각, id).
+ * - 클라이언트에는 base64url 문자열로만 내보내고, 받은 값은 그대로 decode 해서 다음 페이지 조건에 쓴다.
+ * - 같은 시각의 행은 id 로 순서를 정하므로 (at, id) 쌍은 목록 안에서 유일하다.
+ * - offset 과 달리 몇 번째 페이지든 인덱스에서 위치를 찾아 pageSize 만큼만 읽는다.
+ */
+public record KeysetCursor(LocalDateTime at, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = at + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode() 결과. null/빈 값이면 첫 페이지(null)
+     * @throws BadRequestException 형식이 맞지 않는 cursor
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException();
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException();
+        }
+    }
+}
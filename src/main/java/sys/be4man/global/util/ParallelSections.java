@@ -0,0 +1,87 @@
+// 작성자 : 조윤상
+package sys.be4man.global.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 화면 하나를 이루는 여러 조회(구간)를 전용 풀에서 동시에 실행한다. (통계 개요, 대시보드 요약)
+ * - 구간마다 읽기 전용 트랜잭션으로 실행하고, 실패/시간 초과/풀 포화 시 null 로 완료하며 errors 에 사유를 남긴다.
+ * - 실행 제한 시간은 풀 스레드에서 실행을 시작한 시점부터 잰다. 큐 대기가 실행 시간을 깎아먹지 않게 하기 위함이다.
+ * - 큐 대기도 같은 시간까지만 기다리고, 넘기면 실행하지 않고 queue-timeout 으로 끝낸다.
+ *   따라서 구간 하나의 응답 시간은 최대 (대기 + 실행) = 2 x timeoutMs 이다.
+ */
+@Slf4j
+public final class ParallelSections {
+
+    private final String logTag;
+    private final Executor executor;
+    private final TransactionTemplate readOnlyTx;
+    private final long timeoutMs;
+
+    public ParallelSections(String logTag, Executor executor, TransactionTemplate readOnlyTx,
+            long timeoutMs) {
+        this.logTag = logTag;
+        this.executor = executor;
+        this.readOnlyTx = readOnlyTx;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 한 구간을 비동기로 실행한다. 반환된 future 는 예외로 끝나지 않는다 (실패 시 null).
+     */
+    public <T> CompletableFuture<T> submit(String name, Map<String, String> errors,
+            Supplier<T> query) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        // 대기 시간 초과와 실행 시작 중 먼저 일어난 쪽만 처리
+        AtomicBoolean claimed = new AtomicBoolean();
+
+        try {
+            executor.execute(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return;
+                }
+                future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+                try {
+                    future.complete(readOnlyTx.execute(status -> query.get()));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("{} section={} 실행 거부 (풀 포화)", logTag, name);
+            errors.put(name, "rejected");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture.delayedExecutor(timeoutMs, TimeUnit.MILLISECONDS).execute(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                future.completeExceptionally(new QueueTimeoutException());
+            }
+        });
+
+        return future.exceptionally(ex -> {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+                    ? ex.getCause() : ex;
+            String reason = cause instanceof QueueTimeoutException ? "queue-timeout"
+                    : cause instanceof TimeoutException ? "timeout"
+                    : cause.getClass().getSimpleName();
+            log.warn("{} section={} 실패: {}", logTag, name, reason);
+            errors.put(name, reason);
+            return null;
+        });
+    }
+
+    /** 풀 스레드를 기다리다 제한 시간을 넘김 */
+    private static final class QueueTimeoutException extends TimeoutException {
+    }
+}
@@ -0,0 +1,27 @@
+-- 작성자 : 조윤상
+-- postgresql/V1__hot_path_indexes.sql 과 같은 인덱스. H2 는 부분 인덱스를 지원하지 않아 조건 없이 만든다.
+
+create index if not exists idx_build_run_deployment_id_started_at
+    on build_run (deployment_id, started_at);
+create index if not exists idx_build_run_started_at
+    on build_run (started_at);
+
+create index if not exists idx_stage_run_build_run_id_is_success_problem_type
+    on stage_run (build_run_id, is_success, problem_type);
+
+create index if not exists idx_deployment_project_id_pull_request_id_created_at
+    on deployment (project_id, pull_request_id, created_at, id);
+create index if not exists idx_deployment_issuer_id_status
+    on deployment (issuer_id, status);
+
+create index if not exists idx_approval_line_account_id_is_approved
+    on approval_line (account_id, is_approved);
+create index if not exists idx_approval_line_approval_id
+    on approval_line (approval_id);
+create index if not exists idx_approval_deployment_id
+    on approval (deployment_id);
+
+create index if not exists idx_project_ban_ban_id
+    on project_ban (ban_id);
+create index if not exists idx_project_ban_project_id
+    on project_ban (project_id);
@@ -0,0 +1,6 @@
+-- 작성자 : 조윤상
+-- postgresql/V2__split_run_logs.sql 과 같은 목적. H2 는 테스트/로컬 전용이라 기존 로그 보존이 필요 없어
+-- 본문 이관 없이 원본 컬럼의 NOT NULL 만 푼다. 원본 컬럼 삭제는 V6.
+
+alter table build_run alter column if exists log set null;
+alter table stage_run alter column if exists log set null;
@@ -0,0 +1,8 @@
+-- 작성자 : 조윤상
+-- postgresql/V3__keyset_pagination_indexes.sql 과 같은 인덱스. H2 는 부분 인덱스를 지원하지 않아 조건 없이 만든다.
+
+create index if not exists idx_deployment_created_at_id
+    on deployment (created_at, id);
+
+create index if not exists idx_approval_deployment_id_type
+    on approval (deployment_id, type);
@@ -0,0 +1,5 @@
+-- 작성자 : 조윤상
+-- postgresql/V4__deployment_process_index.sql 과 같은 인덱스. H2 는 부분 인덱스를 지원하지 않아 조건 없이 만든다.
+
+create index if not exists idx_deployment_process_id
+    on deployment (process_id, created_at, id);
@@ -0,0 +1,5 @@
+-- 작성자 : 조윤상
+-- postgresql/V6__drop_run_log_columns.sql 과 같은 목적. H2 는 최종 이관 없이 원본 컬럼만 지운다.
+
+alter table build_run drop column if exists log;
+alter table stage_run drop column if exists log;
@@ -0,0 +1,40 @@
+-- flyway:executeInTransaction=false
+-- 작성자 : 조윤상
+-- 테이블/컬럼은 ddl-auto: update 가 만들고, 조회 경로에 맞춘 보조 인덱스만 여기서 관리한다.
+-- 소프트 삭제 컬럼을 항상 거르는 쿼리는 is_deleted = false 부분 인덱스로 만든다.
+-- 운영 테이블 쓰기를 막지 않도록 concurrently 로 만들며, 트랜잭션 안에서는 쓸 수 없어 스크립트를 트랜잭션 없이 실행한다.
+-- (중간에 실패해 INVALID 로 남은 인덱스는 다시 적용할 때 InvalidIndexCleanupCallback 이 먼저 지운다)
+
+-- 빌드 이력: 배포별 시작 시각 순 조회(최종 빌드 갱신, 실패→성공 윈도 쿼리), 기간별 통계
+create index concurrently if not exists idx_build_run_deployment_id_started_at
+    on build_run (deployment_id, started_at) where is_deleted = false;
+create index concurrently if not exists idx_build_run_started_at
+    on build_run (started_at) where is_deleted = false;
+
+-- 스테이지: 빌드 조인 후 실패 유형 집계 (StatisticsRepositoryCustomImpl)
+create index concurrently if not exists idx_stage_run_build_run_id_is_success_problem_type
+    on stage_run (build_run_id, is_success, problem_type);
+-- 실패 스테이지 키셋 조회 (유사도 인덱스 재구축)
+create index concurrently if not exists idx_stage_run_failed_id
+    on stage_run (id) where is_success = false and is_deleted = false;
+
+-- 배포: 프로세스(계획서~결과보고) 구간 조회는 등호 두 개 + created_at 범위 + id 순서
+create index concurrently if not exists idx_deployment_project_id_pull_request_id_created_at
+    on deployment (project_id, pull_request_id, created_at, id) where is_deleted = false;
+-- 반려 목록 (기안자 + 상태)
+create index concurrently if not exists idx_deployment_issuer_id_status
+    on deployment (issuer_id, status) where is_deleted = false;
+
+-- 결재: 결재자별 대기/승인 목록, 결재→배포 조인
+create index concurrently if not exists idx_approval_line_account_id_is_approved
+    on approval_line (account_id, is_approved);
+create index concurrently if not exists idx_approval_line_approval_id
+    on approval_line (approval_id);
+create index concurrently if not exists idx_approval_deployment_id
+    on approval (deployment_id) where is_deleted = false;
+
+-- 작업 금지: 금지 ID/프로젝트 ID 로 연결 조회
+create index concurrently if not exists idx_project_ban_ban_id
+    on project_ban (ban_id) where is_deleted = false;
+create index concurrently if not exists idx_project_ban_project_id
+    on project_ban (project_id) where is_deleted = false;
@@ -0,0 +1,68 @@
+-- flyway:executeInTransaction=false
+-- 작성자 : 조윤상
+-- build_run.log / stage_run.log 본문을 build_run_log / stage_run_log 로 옮긴다. (확장 단계)
+-- 로그 테이블과 log_id 컬럼은 ddl-auto: update 가 만들고, 여기서는 기존 행의 본문만 옮긴다.
+-- - 롤링 배포 중에는 이전 버전 인스턴스가 원본 log 컬럼에 계속 쓰므로 원본 컬럼은 지우지 않고 NOT NULL 만 푼다.
+--   원본 컬럼 삭제와 그 사이 쓰인 행의 최종 이관은 V6 (다음 릴리스) 에서 한다.
+-- - 한 트랜잭션으로 전체를 옮기면 테이블 잠금이 길어지므로 1000 행씩 옮기고 배치마다 커밋한다.
+-- - 로그 행 id 는 identity 로 새로 받는다. (이관 중에 새 인스턴스가 만드는 로그 행과 id 가 겹치지 않게)
+-- 처음부터 새 매핑으로 만든 스키마에는 원본 log 컬럼이 없으므로 아무것도 하지 않는다.
+
+do $$
+declare
+    run record;
+    log_row_id bigint;
+    copied integer;
+begin
+    if exists (select 1 from information_schema.columns
+               where table_schema = current_schema()
+                 and table_name = 'build_run' and column_name = 'log') then
+        alter table build_run alter column log drop not null;
+        commit;
+
+        loop
+            copied := 0;
+            for run in
+                select id, log, created_at, updated_at, is_deleted
+                from build_run
+                where log_id is null and log is not null
+                order by id
+                limit 1000
+            loop
+                insert into build_run_log (log, created_at, updated_at, is_deleted)
+                values (run.log, run.created_at, run.updated_at, run.is_deleted)
+                returning id into log_row_id;
+                update build_run set log_id = log_row_id where id = run.id;
+                copied := copied + 1;
+            end loop;
+            commit;
+            exit when copied = 0;
+        end loop;
+    end if;
+
+    if exists (select 1 from information_schema.columns
+               where table_schema = current_schema()
+                 and table_name = 'stage_run' and column_name = 'log') then
+        alter table stage_run alter column log drop not null;
+        commit;
+
+        loop
+            copied := 0;
+            for run in
+                select id, log, created_at, updated_at, is_deleted
+                from stage_run
+                where log_id is null and log is not null
+                order by id
+                limit 1000
+            loop
+                insert into stage_run_log (log, created_at, updated_at, is_deleted)
+                values (run.log, run.created_at, run.updated_at, run.is_deleted)
+                returning id into log_row_id;
+                update stage_run set log_id = log_row_id where id = run.id;
+                copied := copied + 1;
+            end loop;
+            commit;
+            exit when copied = 0;
+        end loop;
+    end if;
+end $$;
@@ -0,0 +1,12 @@
+-- flyway:executeInTransaction=false
+-- 작성자 : 조윤상
+-- keyset(cursor) 목록 조회용 인덱스. (created_at, id) 순서로 cursor 위치를 찾고 limit 건만 읽는다.
+-- 쓰기를 막지 않도록 concurrently 로 만든다. (V1 참고)
+
+-- 작업 관리 목록 (/api/tasks/feed), 복구현황 목록 (/api/dashboard/recovery/feed)
+create index concurrently if not exists idx_deployment_created_at_id
+    on deployment (created_at, id) where is_deleted = false;
+
+-- 복구현황: 배포별 ROLLBACK 결재 존재 여부 (exists)
+create index concurrently if not exists idx_approval_deployment_id_type
+    on approval (deployment_id, type) where is_deleted = false;
@@ -0,0 +1,8 @@
+-- flyway:executeInTransaction=false
+-- 작성자 : 조윤상
+-- 작업 상세: 배포 프로세스(process_id)에 속한 배포를 생성 순으로 한 번에 읽는다.
+-- process_id / parent_deployment_id 컬럼은 ddl-auto: update 가 만들고, 기존 행은 DeploymentProcessAssigner 가 기동 시 보정한다.
+-- 쓰기를 막지 않도록 concurrently 로 만든다. (V1 참고)
+
+create index concurrently if not exists idx_deployment_process_id
+    on deployment (process_id, created_at, id) where is_deleted = false;
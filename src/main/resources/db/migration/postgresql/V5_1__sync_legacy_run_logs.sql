@@ -0,0 +1,96 @@
+-- flyway:executeInTransaction=false
+-- 작성자 : 조윤상
+-- V2 ~ V6 사이 호환 단계: 이전 버전 인스턴스가 원본 log 컬럼에만 쓴 본문을 로그 테이블로 바로 옮긴다.
+-- 새 매핑은 로그를 build_run_log / stage_run_log 에서만 읽으므로(getLog, 로그 조회 쿼리, 분석/유사도 색인),
+-- 그대로 두면 V2 이후 이전 버전이 쓴 행(log_id 가 null)은 V6 전까지 로그가 빈 것으로 보인다.
+-- - 원본 log 를 쓰는 insert/update 에 트리거를 걸어, log_id 가 없으면 로그 행을 만들어 연결하고 있으면 본문을 갱신한다.
+--   새 매핑은 원본 log 컬럼을 쓰지 않으므로 트리거는 이전 버전 인스턴스의 쓰기에만 동작한다.
+-- - V2 이후 이 마이그레이션 전까지 쓰인 행은 같은 트리거를 태워 1000 행씩 옮긴다.
+-- - 트리거와 함수는 V6 에서 원본 컬럼과 함께 지운다.
+-- 처음부터 새 매핑으로 만든 스키마에는 원본 log 컬럼이 없으므로 아무것도 하지 않는다.
+
+create or replace function sync_build_run_legacy_log() returns trigger
+language plpgsql as $$
+begin
+    if new.log is null then
+        return new;
+    end if;
+    if new.log_id is null then
+        insert into build_run_log (log, created_at, updated_at, is_deleted)
+        values (new.log, coalesce(new.created_at, now()), coalesce(new.updated_at, now()),
+                coalesce(new.is_deleted, false))
+        returning id into new.log_id;
+    elsif tg_op = 'UPDATE' and new.log is distinct from old.log then
+        update build_run_log
+        set log = new.log, updated_at = coalesce(new.updated_at, now())
+        where id = new.log_id;
+    end if;
+    return new;
+end $$;
+
+create or replace function sync_stage_run_legacy_log() returns trigger
+language plpgsql as $$
+begin
+    if new.log is null then
+        return new;
+    end if;
+    if new.log_id is null then
+        insert into stage_run_log (log, created_at, updated_at, is_deleted)
+        values (new.log, coalesce(new.created_at, now()), coalesce(new.updated_at, now()),
+                coalesce(new.is_deleted, false))
+        returning id into new.log_id;
+    elsif tg_op = 'UPDATE' and new.log is distinct from old.log then
+        update stage_run_log
+        set log = new.log, updated_at = coalesce(new.updated_at, now())
+        where id = new.log_id;
+    end if;
+    return new;
+end $$;
+
+do $$
+declare
+    copied integer;
+begin
+    if exists (select 1 from information_schema.columns
+               where table_schema = current_schema()
+                 and table_name = 'build_run' and column_name = 'log') then
+        drop trigger if exists trg_build_run_legacy_log on build_run;
+        create trigger trg_build_run_legacy_log
+            before insert or update of log on build_run
+            for each row execute function sync_build_run_legacy_log();
+        commit;
+
+        -- 트리거가 log_id 를 채우므로 같은 행은 다시 잡히지 않는다
+        loop
+            update build_run set log = log
+            where id in (select id from build_run
+                         where log_id is null and log is not null
+                         order by id
+                         limit 1000);
+            get diagnostics copied = row_count;
+            commit;
+            exit when copied = 0;
+        end loop;
+    end if;
+
+    if exists (select 1 from information_schema.columns
+               where table_schema = current_schema()
+                 and table_name = 'stage_run' and column_name = 'log') then
+        drop trigger if exists trg_stage_run_legacy_log on stage_run;
+        create trigger trg_stage_run_legacy_log
+            before insert or update of log on stage_run
+            for each row execute function sync_stage_run_legacy_log();
+        commit;
+
+        loop
+            update stage_run set log = log
+            where id in (select id from stage_run
+                         where log_id is null and log is not null
+                         order by id
+                         limit 1000);
+            get diagnostics copied = row_count;
+            commit;
+            exit when copied = 0;
+        end loop;
+    end if;
+end $$;
@@ -0,0 +1,84 @@
+-- flyway:executeInTransaction=false
+-- 작성자 : 조윤상
+-- V2 의 수축 단계: 모든 인스턴스가 로그 분리 매핑으로 바뀐 뒤에 원본 log 컬럼을 지운다.
+-- (schema.migration.target 을 6 이상으로 올린 릴리스에서 적용)
+-- 1) V2 이후 이전 버전 인스턴스가 쓴 행을 마저 옮긴다.
+--    - log_id 가 없는 행은 로그 행을 새로 만들고
+--    - 이관 뒤 원본 log 가 다시 갱신된 행(updated_at 이 더 최근)은 로그 행 본문을 덮어쓴다.
+-- 2) V5_1 의 동기화 트리거를 지우고 원본 컬럼을 지운다. (컬럼 삭제는 카탈로그만 바꾸므로 잠금이 짧다)
+
+do $$
+declare
+    run record;
+    log_row_id bigint;
+    copied integer;
+begin
+    if exists (select 1 from information_schema.columns
+               where table_schema = current_schema()
+                 and table_name = 'build_run' and column_name = 'log') then
+        loop
+            copied := 0;
+            for run in
+                select id, log, created_at, updated_at, is_deleted
+                from build_run
+                where log_id is null and log is not null
+                order by id
+                limit 1000
+            loop
+                insert into build_run_log (log, created_at, updated_at, is_deleted)
+                values (run.log, run.created_at, run.updated_at, run.is_deleted)
+                returning id into log_row_id;
+                update build_run set log_id = log_row_id where id = run.id;
+                copied := copied + 1;
+            end loop;
+            commit;
+            exit when copied = 0;
+        end loop;
+
+        update build_run_log l
+        set log = b.log, updated_at = b.updated_at
+        from build_run b
+        where b.log_id = l.id and b.log is not null and b.updated_at > l.updated_at;
+        commit;
+
+        drop trigger if exists trg_build_run_legacy_log on build_run;
+        alter table build_run drop column log;
+        commit;
+    end if;
+
+    if exists (select 1 from information_schema.columns
+               where table_schema = current_schema()
+                 and table_name = 'stage_run' and column_name = 'log') then
+        loop
+            copied := 0;
+            for run in
+                select id, log, created_at, updated_at, is_deleted
+                from stage_run
+                where log_id is null and log is not null
+                order by id
+                limit 1000
+            loop
+                insert into stage_run_log (log, created_at, updated_at, is_deleted)
+                values (run.log, run.created_at, run.updated_at, run.is_deleted)
+                returning id into log_row_id;
+                update stage_run set log_id = log_row_id where id = run.id;
+                copied := copied + 1;
+            end loop;
+            commit;
+            exit when copied = 0;
+        end loop;
+
+        update stage_run_log l
+        set log = s.log, updated_at = s.updated_at
+        from stage_run s
+        where s.log_id = l.id and s.log is not null and s.updated_at > l.updated_at;
+        commit;
+
+        drop trigger if exists trg_stage_run_legacy_log on stage_run;
+        alter table stage_run drop column log;
+        commit;
+    end if;
+end $$;
+
+drop function if exists sync_build_run_legacy_log();
+drop function if exists sync_stage_run_legacy_log();
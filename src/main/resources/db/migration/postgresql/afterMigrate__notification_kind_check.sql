@@ -0,0 +1,13 @@
+-- 작성자 : 조윤상
+-- 매 기동 시 실행되는 Flyway 콜백 (버전 마이그레이션/target 과 무관).
+-- Hibernate 는 enum 문자열 컬럼을 만들 때 당시 값으로 check 제약을 붙이고, ddl-auto: update 는 이 제약을 갱신하지 않는다.
+-- 알림 종류(NotificationKind)가 늘어나도 기존 테이블에 기록할 수 있도록 제약을 지운다. (값 검증은 애플리케이션 enum 이 한다)
+
+do $$
+begin
+    if exists (select 1 from pg_constraint
+               where conname = 'notification_kind_check'
+                 and conrelid = to_regclass('notification')) then
+        alter table notification drop constraint notification_kind_check;
+    end if;
+end $$;
@@ -0,0 +1,104 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import sys.be4man.domains.analysis.dto.response.JenkinsWebhooksResponseDto;
+import sys.be4man.domains.analysis.repository.BuildSessionRegistry;
+import sys.be4man.domains.deployment.event.DeploymentResultChangedEvent;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.deployment.repository.DeploymentRepository;
+import sys.be4man.domains.project.model.entity.Project;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JenkinsWebhookServiceImpl - 배포 결과 이벤트의 결과 시각 테스트")
+class JenkinsWebhookServiceImplTest {
+
+    private static final LocalDateTime ENDED_AT = LocalDateTime.of(2025, 3, 2, 10, 30);
+
+    @Mock
+    private DeploymentRepository deploymentRepository;
+
+    @Mock
+    private BuildSessionRegistry buildSessionRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private JenkinsWebhookServiceImpl service;
+
+    private Deployment deployment;
+
+    @BeforeEach
+    void setUp() {
+        Project project = mock(Project.class);
+        when(project.getId()).thenReturn(1L);
+        deployment = mock(Deployment.class);
+        when(deployment.getProject()).thenReturn(project);
+        when(deploymentRepository.findByIdAndIsDeletedFalse(10L)).thenReturn(Optional.of(deployment));
+    }
+
+    @Test
+    @DisplayName("이전 빌드가 최종 빌드로 남아 있어도 결과 시각은 이번 빌드 종료 시각")
+    void setDeployResult_PreviousFinalBuild_UsesCurrentBuildEnd() {
+        // given: 직전 빌드(실패)가 1시간 전에 끝나 최종 빌드로 기록돼 있음
+        when(deployment.getIsDeployed()).thenReturn(false);
+        when(deployment.getFinalEndedAt()).thenReturn(ENDED_AT.minusHours(1));
+
+        // when
+        service.setDeployResult(webhook(), true, ENDED_AT);
+
+        // then
+        assertThat(resultEvent().resultAt()).isEqualTo(ENDED_AT);
+    }
+
+    @Test
+    @DisplayName("첫 빌드면 결과 시각은 이번 빌드 종료 시각")
+    void setDeployResult_FirstBuild_UsesCurrentBuildEnd() {
+        service.setDeployResult(webhook(), true, ENDED_AT);
+
+        assertThat(resultEvent().resultAt()).isEqualTo(ENDED_AT);
+    }
+
+    @Test
+    @DisplayName("더 늦게 끝난 빌드가 이미 최종이면 재계산과 같이 그 종료 시각을 쓴다 (늦게 도착한 웹훅)")
+    void setDeployResult_LaterFinalBuild_KeepsFinalEnd() {
+        when(deployment.getIsDeployed()).thenReturn(false);
+        when(deployment.getFinalEndedAt()).thenReturn(ENDED_AT.plusMinutes(5));
+
+        service.setDeployResult(webhook(), true, ENDED_AT);
+
+        assertThat(resultEvent().resultAt()).isEqualTo(ENDED_AT.plusMinutes(5));
+    }
+
+    private DeploymentResultChangedEvent resultEvent() {
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        return events.getAllValues().stream()
+                .filter(DeploymentResultChangedEvent.class::isInstance)
+                .map(DeploymentResultChangedEvent.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static JenkinsWebhooksResponseDto webhook() {
+        return new JenkinsWebhooksResponseDto(10L, "be4man-deploy", "7", "SUCCESS",
+                "1 min 55 sec", null, null);
+    }
+}
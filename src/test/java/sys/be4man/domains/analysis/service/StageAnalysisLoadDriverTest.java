@@ -0,0 +1,156 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import sys.be4man.domains.analysis.model.entity.StageRun;
+import sys.be4man.domains.analysis.repository.StageRunRepository;
+import sys.be4man.domains.analysis.service.classifier.FailureClassifier;
+import sys.be4man.domains.analysis.service.llm.GeminiClient;
+import sys.be4man.domains.analysis.service.llm.LlmTransport;
+import sys.be4man.domains.analysis.service.llm.ReplayLlmTransport;
+
+/**
+ * 재생 전송(llm-replay)으로 합성 실패 빌드 수천 건을 StageAnalysisService 에 흘려보내는 부하 드라이버.
+ * 네트워크 없이 배치/폴백/파싱 경로 전체를 타며, 처리량·빌드당 지연 백분위·LLM 호출 수를 로그로 남긴다.
+ * 녹화본 디렉터리(-Dllm.load.record-dir)를 주면 녹화된 원문을, 없으면 합성 응답을 사용한다.
+ * 수치는 환경마다 달라 단정하지 않고, 모든 스테이지가 분석됐는지만 검증한다. -Dbenchmark=true 일 때만 실행한다.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("StageAnalysisService 재생 부하 드라이버")
+class StageAnalysisLoadDriverTest {
+
+    private static final int BUILDS = Integer.getInteger("llm.load.builds", 2_000);
+    private static final int WORKERS = Integer.getInteger("llm.load.workers", 8);
+    private static final int MAX_FAILED_STAGES = 6;
+    private static final int LOG_CHARS = 8 * 1024;
+
+    @Test
+    @DisplayName("합성 실패 빌드를 병렬로 분석하고 처리량/지연을 기록한다")
+    void drive() throws Exception {
+        // given
+        ReplayLlmTransport replay = new ReplayLlmTransport(new MockEnvironment());
+        ReflectionTestUtils.setField(replay, "recordDir",
+                System.getProperty("llm.load.record-dir", "./build/no-llm-recordings"));
+        ReflectionTestUtils.setField(replay, "latencyDistribution", "lognormal");
+        ReflectionTestUtils.setField(replay, "meanLatencyMs", Long.getLong("llm.load.mean-ms", 20L));
+        ReflectionTestUtils.setField(replay, "maxLatencyMs", 200L);
+        ReflectionTestUtils.setField(replay, "sigma", 0.5);
+        ReflectionTestUtils.setField(replay, "malformedRate",
+                Double.parseDouble(System.getProperty("llm.load.malformed-rate", "0.05")));
+        ReflectionTestUtils.setField(replay, "seed", 42L);
+        ReflectionTestUtils.invokeMethod(replay, "load");
+        CountingTransport transport = new CountingTransport(replay);
+
+        StageAnalysisService service = new StageAnalysisService(mock(StageRunRepository.class),
+                new GeminiClient(transport), mock(FailureClassifier.class),
+                mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "batchEnabled", true);
+        ReflectionTestUtils.setField(service, "batchSize", 5);
+        service.init();
+
+        List<List<StageRun>> builds = syntheticBuilds();
+        long[] latencies = new long[BUILDS];
+        ExecutorService pool = Executors.newFixedThreadPool(WORKERS);
+
+        // when
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < BUILDS; i++) {
+                int build = i;
+                futures.add(pool.submit(() -> {
+                    long t = System.nanoTime();
+                    service.analyzeFailedStages(builds.get(build));
+                    latencies[build] = System.nanoTime() - t;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        long stages = builds.stream().mapToLong(List::size).sum();
+        Arrays.sort(latencies);
+        log.info("[LoadDriver] builds={}, stages={}, workers={}, elapsed={}ms, throughput={} builds/s",
+                BUILDS, stages, WORKERS, elapsedMs, String.format("%.1f", BUILDS * 1000.0 / Math.max(1, elapsedMs)));
+        log.info("[LoadDriver] build latency p50={}ms, p95={}ms, p99={}ms, max={}ms",
+                percentileMs(latencies, 0.50), percentileMs(latencies, 0.95),
+                percentileMs(latencies, 0.99), latencies[latencies.length - 1] / 1_000_000);
+        log.info("[LoadDriver] llm calls={} ({} per stage)", transport.calls.get(),
+                String.format("%.2f", transport.calls.get() / (double) stages));
+
+        assertThat(builds).allSatisfy(build ->
+                assertThat(build).allSatisfy(stage -> assertThat(stage.getProblemSummary()).isNotBlank()));
+    }
+
+    private static List<List<StageRun>> syntheticBuilds() {
+        Random random = new Random(7);
+        String log = "[ERROR] Failed to execute goal\n".repeat(LOG_CHARS / 31);
+        List<List<StageRun>> builds = new ArrayList<>();
+        long id = 1;
+        for (int b = 0; b < BUILDS; b++) {
+            int failed = 1 + random.nextInt(MAX_FAILED_STAGES);
+            List<StageRun> stages = new ArrayList<>();
+            for (long order = 1; order <= failed; order++) {
+                StageRun stage = StageRun.builder()
+                        .stageName("stage-" + order)
+                        .isSuccess(false)
+                        .orderIndex(order)
+                        .log(log)
+                        .build();
+                ReflectionTestUtils.setField(stage, "id", id++);
+                stages.add(stage);
+            }
+            builds.add(stages);
+        }
+        return builds;
+    }
+
+    private static long percentileMs(long[] sortedNanos, double p) {
+        int index = (int) Math.ceil(p * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000;
+    }
+
+    private record CountingTransport(LlmTransport delegate, AtomicLong calls) implements LlmTransport {
+
+        CountingTransport(LlmTransport delegate) {
+            this(delegate, new AtomicLong());
+        }
+
+        @Override
+        public String generate(String prompt) {
+            calls.incrementAndGet();
+            return delegate.generate(prompt);
+        }
+
+        @Override
+        public String generateStream(String prompt, Consumer<String> onChunk) {
+            calls.incrementAndGet();
+            return delegate.generateStream(prompt, onChunk);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import sys.be4man.domains.analysis.model.entity.StageRun;
+import sys.be4man.domains.analysis.model.type.AnalysisSource;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.analysis.repository.StageRunRepository;
+import sys.be4man.domains.analysis.service.classifier.FailureClassifier;
+import sys.be4man.domains.analysis.service.llm.LlmClient;
+import sys.be4man.domains.analysis.service.llm.LlmClient.AnalysisResult;
+import sys.be4man.domains.analysis.service.llm.LlmClient.StageAnalysisResult;
+import sys.be4man.domains.analysis.service.llm.GeminiClient;
+import sys.be4man.domains.analysis.service.llm.ReplayLlmTransport;
+
+@DisplayName("StageAnalysisService - 배치 분석/폴백 테스트")
+class StageAnalysisServiceBatchTest {
+
+    private static final AnalysisResult SINGLE = new AnalysisResult(
+            "단건 요약", "단건 해결책", "Automation test failed");
+
+    // 로컬 분류기는 모든 스테이지를 확신하지 못한 것으로 둔다 (Optional.empty 기본 응답)
+    private final FailureClassifier failureClassifier = mock(FailureClassifier.class);
+
+    @Test
+    @DisplayName("배치 응답이 모든 스테이지를 담으면 한 번만 호출하고 단건 호출은 하지 않는다")
+    void batch_AllStagesAnswered_SingleCall() {
+        // given
+        LlmClient llm = mock(LlmClient.class);
+        List<StageRun> stages = stages(3, 100);
+        when(llm.summarizeAndSuggestBatch(anyString())).thenReturn(List.of(
+                batchResult(1L), batchResult(2L), batchResult(3L)));
+
+        // when
+        service(llm, 5).analyzeFailedStages(stages);
+
+        // then
+        verify(llm, times(1)).summarizeAndSuggestBatch(anyString());
+        verify(llm, never()).summarizeAndSuggest(anyString());
+        assertThat(stages).allSatisfy(stage -> {
+            assertThat(stage.getProblemSummary()).isEqualTo("배치 요약 " + stage.getOrderIndex());
+            assertThat(stage.getProblemType()).isEqualTo(ProblemType.BUILD_AND_PACKAGING_FAILURES);
+            assertThat(stage.getAnalysisSource()).isEqualTo(AnalysisSource.LLM);
+        });
+    }
+
+    @Test
+    @DisplayName("배치 응답에서 빠진 스테이지와 모르는 orderIndex 는 빠진 스테이지만 단건으로 다시 분석한다")
+    void batch_PartialResponse_FallsBackPerMissingStage() {
+        // given: 2번 누락, 9번은 요청하지 않은 orderIndex, null 원소 포함
+        LlmClient llm = mock(LlmClient.class);
+        List<StageRun> stages = stages(3, 100);
+        List<StageAnalysisResult> partial = new ArrayList<>();
+        partial.add(batchResult(1L));
+        partial.add(null);
+        partial.add(batchResult(9L));
+        partial.add(batchResult(3L));
+        when(llm.summarizeAndSuggestBatch(anyString())).thenReturn(partial);
+        when(llm.summarizeAndSuggest(anyString())).thenReturn(SINGLE);
+
+        // when
+        service(llm, 5).analyzeFailedStages(stages);
+
+        // then
+        ArgumentCaptor<String> prompt = ArgumentCaptor.forClass(String.class);
+        verify(llm, times(1)).summarizeAndSuggest(prompt.capture());
+        assertThat(prompt.getValue()).contains("Stage Name: stage-2");
+        assertThat(stages).extracting(StageRun::getProblemSummary)
+                .containsExactly("배치 요약 1", "단건 요약", "배치 요약 3");
+    }
+
+    @Test
+    @DisplayName("배치 응답이 깨지면(재생 전송의 잘린 JSON 주입) 모든 스테이지를 단건으로 분석한다")
+    void batch_MalformedResponse_FallsBackToEachStage() {
+        // given
+        ReplayLlmTransport replay = new ReplayLlmTransport(new MockEnvironment());
+        ReflectionTestUtils.setField(replay, "recordDir", "./build/no-llm-recordings");
+        ReflectionTestUtils.setField(replay, "latencyDistribution", "fixed");
+        ReflectionTestUtils.setField(replay, "malformedRate", 1.0);
+        ReflectionTestUtils.invokeMethod(replay, "load");
+        List<StageRun> stages = stages(3, 100);
+
+        // when
+        service(new GeminiClient(replay), 5).analyzeFailedStages(stages);
+
+        // then: 합성 단건 응답이 스테이지마다 반영됨
+        assertThat(stages).allSatisfy(stage -> {
+            assertThat(stage.getProblemSummary()).isEqualTo("재생용 합성 요약입니다.");
+            assertThat(stage.getProblemType()).isEqualTo(ProblemType.OTHERS);
+        });
+    }
+
+    @Test
+    @DisplayName("설정된 배치 크기가 커도 프롬프트 하나가 상한을 넘지 않도록 나눠 보낸다")
+    void batch_OversizedBatchSize_PromptsStayWithinBudget() {
+        // given: 20 스테이지, 스테이지마다 상한의 1/5 크기 로그
+        LlmClient llm = mock(LlmClient.class);
+        List<StageRun> stages = stages(20, StageAnalysisService.MAX_PROMPT_BYTES / 5);
+        when(llm.summarizeAndSuggestBatch(anyString())).thenReturn(List.of());
+        when(llm.summarizeAndSuggest(anyString())).thenReturn(SINGLE);
+
+        // when
+        service(llm, 20).analyzeFailedStages(stages);
+
+        // then: 12 + 8 로 나뉘고, 각 프롬프트의 로그 합은 상한 이내 (템플릿/헤더 여유분만 더함)
+        ArgumentCaptor<String> prompts = ArgumentCaptor.forClass(String.class);
+        verify(llm, times(2)).summarizeAndSuggestBatch(prompts.capture());
+        assertThat(prompts.getAllValues()).allSatisfy(prompt ->
+                assertThat(prompt.length()).isLessThan(StageAnalysisService.MAX_PROMPT_BYTES + 3_000));
+        assertThat(prompts.getAllValues().get(0))
+                .contains("orderIndex=" + StageAnalysisService.MAX_BATCH_SIZE + ")")
+                .doesNotContain("orderIndex=" + (StageAnalysisService.MAX_BATCH_SIZE + 1) + ")");
+    }
+
+    private StageAnalysisService service(LlmClient llm, int batchSize) {
+        StageAnalysisService service = new StageAnalysisService(mock(StageRunRepository.class), llm,
+                failureClassifier, mock(ApplicationEventPublisher.class),
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "batchEnabled", true);
+        ReflectionTestUtils.setField(service, "batchSize", batchSize);
+        service.init();
+        return service;
+    }
+
+    private static List<StageRun> stages(int count, int logChars) {
+        List<StageRun> stages = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            StageRun stage = StageRun.builder()
+                    .stageName("stage-" + i)
+                    .isSuccess(false)
+                    .orderIndex(i)
+                    .log("x".repeat(logChars))
+                    .build();
+            ReflectionTestUtils.setField(stage, "id", 100L + i);
+            stages.add(stage);
+        }
+        return stages;
+    }
+
+    private static StageAnalysisResult batchResult(Long orderIndex) {
+        return new StageAnalysisResult(orderIndex, "배치 요약 " + orderIndex, "배치 해결책",
+                "Build and Packaging Failures");
+    }
+}
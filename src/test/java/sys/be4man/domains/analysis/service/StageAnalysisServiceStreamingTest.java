@@ -0,0 +1,190 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import sys.be4man.domains.analysis.event.StageRunAnalyzedEvent;
+import sys.be4man.domains.analysis.model.entity.BuildRun;
+import sys.be4man.domains.analysis.model.entity.StageRun;
+import sys.be4man.domains.analysis.model.type.AnalysisSource;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.analysis.repository.StageRunRepository;
+import sys.be4man.domains.analysis.service.classifier.FailureClassifier;
+import sys.be4man.domains.analysis.service.llm.GeminiClient;
+import sys.be4man.domains.analysis.service.llm.LlmClient;
+import sys.be4man.domains.analysis.service.llm.LlmClient.AnalysisResult;
+import sys.be4man.domains.analysis.service.llm.LlmClient.StageAnalysisResult;
+import sys.be4man.domains.analysis.service.llm.LlmTransport;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.project.model.entity.Project;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StageAnalysisService - 스트리밍 분석 테스트")
+class StageAnalysisServiceStreamingTest {
+
+    private static final AnalysisResult RESULT = new AnalysisResult(
+            "의존성 다운로드 실패", "저장소 설정을 확인하세요.", "Build and Packaging Failures");
+
+    @Mock
+    private StageRunRepository stageRunRepository;
+
+    @Mock
+    private FailureClassifier failureClassifier;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StageAnalysisService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StageAnalysisService(stageRunRepository, new StubLlmClient(),
+                failureClassifier, eventPublisher, transactionManager);
+        service.init();
+    }
+
+    @Test
+    @DisplayName("생성 중인 조각을 그대로 전달하고, 끝나면 결과를 저장하고 분석 이벤트를 발행한다")
+    void analyzeStreaming_ForwardsChunksAndPersists() {
+        // given
+        StageRun stage = failedStage(null);
+        when(stageRunRepository.findById(7L)).thenReturn(Optional.of(stage));
+        List<String> chunks = new ArrayList<>();
+
+        // when
+        AnalysisResult result = service.analyzeStreaming(7L, chunks::add);
+
+        // then
+        assertThat(chunks).containsExactly("의존성 ", "다운로드 ", "실패");
+        assertThat(result).isEqualTo(RESULT);
+        assertThat(stage.getProblemSummary()).isEqualTo("의존성 다운로드 실패");
+        assertThat(stage.getProblemType()).isEqualTo(ProblemType.BUILD_AND_PACKAGING_FAILURES);
+        assertThat(stage.getAnalysisSource()).isEqualTo(AnalysisSource.LLM);
+
+        ArgumentCaptor<StageRunAnalyzedEvent> event = ArgumentCaptor.forClass(StageRunAnalyzedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().stageRunId()).isEqualTo(7L);
+        assertThat(event.getValue().problemType()).isEqualTo(ProblemType.BUILD_AND_PACKAGING_FAILURES);
+    }
+
+    @Test
+    @DisplayName("스트리밍 중 다른 분석 결과가 먼저 저장됐으면 덮어쓰지 않는다")
+    void analyzeStreaming_ReanalyzedMeanwhile_SkipsWrite() {
+        // given: 읽을 때와 저장할 때 updatedAt 이 다름
+        StageRun loaded = failedStage(LocalDateTime.of(2025, 1, 10, 9, 0));
+        StageRun reloaded = failedStage(LocalDateTime.of(2025, 1, 10, 9, 1));
+        reloaded.updateAnalysis("먼저 저장된 분석", "먼저 저장된 해결책", ProblemType.OTHERS,
+                AnalysisSource.LLM);
+        when(stageRunRepository.findById(7L)).thenReturn(Optional.of(loaded), Optional.of(reloaded));
+        List<String> chunks = new ArrayList<>();
+
+        // when
+        AnalysisResult result = service.analyzeStreaming(7L, chunks::add);
+
+        // then: 클라이언트에는 결과를 주지만 저장/이벤트는 생략
+        assertThat(chunks).hasSize(3);
+        assertThat(result).isEqualTo(RESULT);
+        assertThat(reloaded.getProblemSummary()).isEqualTo("먼저 저장된 분석");
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답이 JSON 으로 파싱되지 않으면 예외를 던지고 기존 분석 결과를 그대로 둔다")
+    void analyzeStreaming_MalformedResponse_KeepsExistingAnalysis() {
+        // given: 이미 분석된 스테이지를 refresh 로 다시 분석하는데 응답이 중간에서 끊김
+        StageRun stage = failedStage(null);
+        stage.updateAnalysis("기존 분석", "기존 해결책", ProblemType.OTHERS, AnalysisSource.LLM);
+        when(stageRunRepository.findById(7L)).thenReturn(Optional.of(stage));
+        LlmTransport truncated = new LlmTransport() {
+            @Override
+            public String generate(String prompt) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String generateStream(String prompt, Consumer<String> onChunk) {
+                onChunk.accept("{\"summary\": \"의존성 ");
+                return "{\"summary\": \"의존성 ";
+            }
+        };
+        service = new StageAnalysisService(stageRunRepository, new GeminiClient(truncated),
+                failureClassifier, eventPublisher, transactionManager);
+        service.init();
+        List<String> chunks = new ArrayList<>();
+
+        // when & then
+        assertThatThrownBy(() -> service.analyzeStreaming(7L, chunks::add))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(chunks).containsExactly("의존성 ");
+        assertThat(stage.getProblemSummary()).isEqualTo("기존 분석");
+        verify(stageRunRepository, times(1)).findById(7L);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private static StageRun failedStage(LocalDateTime updatedAt) {
+        Project project = Project.builder().name("결제 서비스").build();
+        ReflectionTestUtils.setField(project, "id", 1L);
+        Deployment deployment = Deployment.builder().project(project).title("배포 요청").build();
+        BuildRun buildRun = BuildRun.builder()
+                .deployment(deployment)
+                .jenkinsJobName("payment")
+                .buildNumber(3L)
+                .startedAt(LocalDateTime.of(2025, 1, 10, 8, 50))
+                .build();
+        ReflectionTestUtils.setField(buildRun, "id", 3L);
+        StageRun stage = StageRun.builder()
+                .buildRun(buildRun)
+                .stageName("build")
+                .isSuccess(false)
+                .orderIndex(1L)
+                .log("Could not resolve dependencies")
+                .build();
+        ReflectionTestUtils.setField(stage, "id", 7L);
+        ReflectionTestUtils.setField(stage, "updatedAt", updatedAt);
+        return stage;
+    }
+
+    /** 조각 3개를 흘려보낸 뒤 고정 결과를 돌려주는 LLM */
+    private static class StubLlmClient implements LlmClient {
+
+        @Override
+        public AnalysisResult summarizeAndSuggest(String prompt) {
+            return RESULT;
+        }
+
+        @Override
+        public List<StageAnalysisResult> summarizeAndSuggestBatch(String prompt) {
+            return List.of();
+        }
+
+        @Override
+        public AnalysisResult summarizeAndSuggestStream(String prompt, Consumer<String> onChunk) {
+            List.of("의존성 ", "다운로드 ", "실패").forEach(onChunk);
+            return RESULT;
+        }
+    }
+}
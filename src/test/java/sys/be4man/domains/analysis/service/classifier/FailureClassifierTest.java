@@ -0,0 +1,282 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.classifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import sys.be4man.domains.analysis.dto.response.FailureClassifierStatsResponseDto;
+import sys.be4man.domains.analysis.model.type.AnalysisSource;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.analysis.repository.StageRunRepository;
+import sys.be4man.domains.analysis.repository.projection.StageFailureSample;
+import sys.be4man.domains.analysis.service.classifier.FailureClassifier.Classification;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FailureClassifier - 로컬 실패 분류 테스트")
+class FailureClassifierTest {
+
+    @Mock
+    private StageRunRepository stageRunRepository;
+
+    @InjectMocks
+    private FailureClassifier failureClassifier;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(failureClassifier, "enabled", true);
+        ReflectionTestUtils.setField(failureClassifier, "confidenceThreshold", 0.9);
+        ReflectionTestUtils.setField(failureClassifier, "minTrainingSamples", 2);
+        ReflectionTestUtils.setField(failureClassifier, "trainingLimit", 100);
+        ReflectionTestUtils.setField(failureClassifier, "targetPrecision", 0.95);
+        ReflectionTestUtils.setField(failureClassifier, "minCalibrationSamples", 20);
+    }
+
+    @Test
+    @DisplayName("컴파일 오류 로그는 규칙으로 빌드 실패 분류")
+    void classify_CompilationError_RuleHit() {
+        // given
+        String log = """
+                > Task :compileJava
+                /src/Main.java:12: error: cannot find symbol
+                FAILURE: Build failed with an exception.
+                """;
+
+        // when
+        Optional<Classification> result = failureClassifier.classify(log);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().type()).isEqualTo(ProblemType.BUILD_AND_PACKAGING_FAILURES);
+        assertThat(result.get().source()).isEqualTo("rule:compilation-error");
+        assertThat(result.get().summary()).contains("cannot find symbol");
+    }
+
+    @Test
+    @DisplayName("테스트 실패 로그는 BUILD FAILED 가 함께 있어도 테스트 실패로 분류")
+    void classify_TestFailed_RuleHit() {
+        // given
+        String log = """
+                > Task :test FAILED
+                42 tests completed, 3 failed
+                BUILD FAILED in 1m 3s
+                """;
+
+        // when
+        Optional<Classification> result = failureClassifier.classify(log);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().type()).isEqualTo(ProblemType.AUTOMATION_TEST_FAILED);
+    }
+
+    @Test
+    @DisplayName("실패 건수가 0 인 테스트 요약은 테스트 실패로 분류하지 않음")
+    void classify_ZeroFailures_NotTestFailed() {
+        // given
+        String gradle = """
+                > Task :test
+                0 tests failed
+                """;
+        String maven = """
+                [INFO] Tests run: 5, Failures: 0, Errors: 0, Skipped: 0
+                [ERROR] Failed to execute goal on project payment
+                """;
+
+        // when & then
+        assertThat(failureClassifier.classify(gradle)).isEmpty();
+        assertThat(failureClassifier.classify(maven)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Maven 테스트 요약에 실패가 있으면 테스트 실패, 나머지 BUILD FAILURE 는 빌드 실패로 분류")
+    void classify_MavenSummary() {
+        // given
+        String testFailed = """
+                [ERROR] Tests run: 12, Failures: 2, Errors: 0, Skipped: 0
+                [INFO] BUILD FAILURE
+                """;
+        String buildFailed = """
+                [INFO] BUILD FAILURE
+                [ERROR] Failed to execute goal org.apache.maven.plugins:maven-jar-plugin
+                """;
+
+        // when
+        Optional<Classification> test = failureClassifier.classify(testFailed);
+        Optional<Classification> build = failureClassifier.classify(buildFailed);
+
+        // then
+        assertThat(test).get().extracting(Classification::type)
+                .isEqualTo(ProblemType.AUTOMATION_TEST_FAILED);
+        assertThat(build).get().extracting(Classification::type)
+                .isEqualTo(ProblemType.BUILD_AND_PACKAGING_FAILURES);
+        assertThat(build.get().source()).isEqualTo("rule:maven-build-failure");
+        assertThat(build.get().origin()).isEqualTo(AnalysisSource.RULE);
+    }
+
+    @Test
+    @DisplayName("앱 배포 스크립트의 command not found / access denied 는 Jenkins 환경 오류로 확정하지 않음")
+    void classify_DeployScriptErrors_NotJenkinsEnvironment() {
+        // given
+        String commandNotFound = """
+                + ./scripts/deploy.sh
+                ./scripts/deploy.sh: line 14: kubectl: command not found
+                """;
+        String accessDenied = """
+                + aws s3 cp build.zip s3://payment-release/
+                upload failed: An error occurred (AccessDenied) when calling the PutObject operation: Access Denied
+                """;
+
+        // when & then
+        assertThat(failureClassifier.classify(commandNotFound)).isEmpty();
+        assertThat(failureClassifier.classify(accessDenied)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파이프라인 DSL/에이전트 오류는 Jenkins 환경 오류로 분류")
+    void classify_PipelineDslError_JenkinsEnvironment() {
+        // when
+        Optional<Classification> result = failureClassifier.classify(
+                "java.lang.NoSuchMethodError: No such DSL method 'sshagent' found among steps");
+
+        // then
+        assertThat(result).get().extracting(Classification::type)
+                .isEqualTo(ProblemType.JENKINS_ENVIRONMENT_AND_CONFIGURATION_ERRORS);
+    }
+
+    @Test
+    @DisplayName("규칙에 걸리지 않고 학습 데이터도 없으면 LLM 으로 넘김")
+    void classify_Unknown_FallsBackToLlm() {
+        // when
+        Optional<Classification> result = failureClassifier.classify("helm upgrade timed out");
+        FailureClassifierStatsResponseDto stats = failureClassifier.getStats();
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(stats.total()).isEqualTo(1);
+        assertThat(stats.llmFallbacks()).isEqualTo(1);
+        assertThat(stats.hitRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("학습된 모델의 신뢰도가 높으면 모델 결과로 분류")
+    void classify_TrainedModel_ModelHit() {
+        // given: 샘플이 적어 보정하지 않으므로 설정 임계값 사용 (정규화된 신뢰도 약 0.76)
+        ReflectionTestUtils.setField(failureClassifier, "confidenceThreshold", 0.7);
+        when(stageRunRepository.findAnalyzedFailureSamples(anyInt())).thenReturn(List.of(
+                new StageFailureSample("helm upgrade release timeout waiting for condition",
+                        ProblemType.DEPLOYMENT_AND_EXECUTION_ERRORS),
+                new StageFailureSample("helm rollout timeout waiting for condition pods",
+                        ProblemType.DEPLOYMENT_AND_EXECUTION_ERRORS),
+                new StageFailureSample("helm release upgrade waiting timeout condition",
+                        ProblemType.DEPLOYMENT_AND_EXECUTION_ERRORS),
+                new StageFailureSample("npm audit vulnerabilities lockfile mismatch",
+                        ProblemType.BUILD_AND_PACKAGING_FAILURES),
+                new StageFailureSample("yarn lockfile outdated packaging mismatch",
+                        ProblemType.BUILD_AND_PACKAGING_FAILURES),
+                new StageFailureSample("webpack bundle packaging lockfile mismatch",
+                        ProblemType.BUILD_AND_PACKAGING_FAILURES)
+        ));
+        failureClassifier.retrain();
+
+        // when
+        Optional<Classification> result =
+                failureClassifier.classify("helm upgrade timeout waiting for condition");
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().type()).isEqualTo(ProblemType.DEPLOYMENT_AND_EXECUTION_ERRORS);
+        assertThat(result.get().source()).isEqualTo("model");
+        assertThat(result.get().origin()).isEqualTo(AnalysisSource.MODEL);
+        assertThat(failureClassifier.getStats().modelHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("신뢰도는 로그 길이에 따라 1 로 포화되지 않는다 (토큰당 평균 로그 가능도로 정규화)")
+    void predict_LongLog_NotSaturated() {
+        // given
+        NaiveBayesFailureModel model = new NaiveBayesFailureModel();
+        model.learn("helm upgrade release timeout waiting for condition",
+                ProblemType.DEPLOYMENT_AND_EXECUTION_ERRORS);
+        model.learn("helm rollout timeout waiting for condition pods",
+                ProblemType.DEPLOYMENT_AND_EXECUTION_ERRORS);
+        model.learn("npm audit vulnerabilities lockfile mismatch",
+                ProblemType.BUILD_AND_PACKAGING_FAILURES);
+        model.learn("yarn lockfile outdated packaging mismatch",
+                ProblemType.BUILD_AND_PACKAGING_FAILURES);
+        String line = "helm upgrade timeout waiting for condition\n";
+
+        // when
+        NaiveBayesFailureModel.Prediction once = model.predict(line);
+        NaiveBayesFailureModel.Prediction repeated = model.predict(line.repeat(50));
+
+        // then
+        assertThat(once.type()).isEqualTo(ProblemType.DEPLOYMENT_AND_EXECUTION_ERRORS);
+        assertThat(once.confidence()).isBetween(0.5, 0.99);
+        assertThat(repeated.confidence()).isCloseTo(once.confidence(), within(1e-9));
+        assertThat(model.predict("completely unseen tokens")).isNull();
+    }
+
+    @Test
+    @DisplayName("검증셋에서 정밀도를 만족하는 임계값으로 보정하면 설정값보다 낮아도 모델 결과를 채택한다")
+    void retrain_SeparableSamples_CalibratesThreshold() {
+        // given: 설정값(0.99)으로는 거절될 신뢰도(약 0.98)지만 검증셋에서는 모두 맞춤
+        ReflectionTestUtils.setField(failureClassifier, "confidenceThreshold", 0.99);
+        List<StageFailureSample> samples = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            char suffix = (char) ('a' + i % 7);
+            samples.add(i % 2 == 0
+                    ? new StageFailureSample("helm upgrade timeout waiting for condition pod_" + suffix,
+                            ProblemType.DEPLOYMENT_AND_EXECUTION_ERRORS)
+                    : new StageFailureSample("npm lockfile mismatch packaging bundle mod_" + suffix,
+                            ProblemType.BUILD_AND_PACKAGING_FAILURES));
+        }
+        when(stageRunRepository.findAnalyzedFailureSamples(anyInt())).thenReturn(samples);
+
+        // when
+        Double threshold = failureClassifier.calibrate(samples);
+        failureClassifier.retrain();
+        Optional<Classification> result =
+                failureClassifier.classify("helm upgrade timeout waiting for condition");
+
+        // then
+        assertThat(threshold).isBetween(0.5, 0.99);
+        assertThat(result).get().extracting(Classification::type)
+                .isEqualTo(ProblemType.DEPLOYMENT_AND_EXECUTION_ERRORS);
+    }
+
+    @Test
+    @DisplayName("검증셋에서 어떤 임계값도 정밀도를 못 맞추면 모델 분류를 쓰지 않는다")
+    void retrain_NoisySamples_DisablesModel() {
+        // given: 로그로 유형을 구분할 수 없는 데이터 (60:40). 설정값(0.5)이라면 채택됐을 신뢰도
+        ReflectionTestUtils.setField(failureClassifier, "confidenceThreshold", 0.5);
+        List<StageFailureSample> samples = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            samples.add(new StageFailureSample(
+                    "deploy step failed with exit code step_" + (char) ('a' + i % 3),
+                    i % 5 < 3 ? ProblemType.DEPLOYMENT_AND_EXECUTION_ERRORS
+                            : ProblemType.BUILD_AND_PACKAGING_FAILURES));
+        }
+        when(stageRunRepository.findAnalyzedFailureSamples(anyInt())).thenReturn(samples);
+
+        // when
+        Double threshold = failureClassifier.calibrate(samples);
+        failureClassifier.retrain();
+
+        // then
+        assertThat(threshold).isEqualTo(FailureClassifier.MODEL_DISABLED);
+        assertThat(failureClassifier.classify("deploy step failed with exit code step_a")).isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.llm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sys.be4man.domains.analysis.service.llm.LlmClient.AnalysisResult;
+
+@DisplayName("GeminiClient - 응답 파싱/스트리밍 조각 테스트")
+class GeminiClientTest {
+
+    @Test
+    @DisplayName("스트리밍 조각은 원문 JSON 이 아니라 summary 값의 디코딩된 텍스트만 전달한다")
+    void stream_ForwardsDecodedSummaryOnly() {
+        // given: 키, 이스케이프, 유니코드 이스케이프가 조각 경계에 걸쳐 있음
+        GeminiClient client = new GeminiClient(streaming(
+                "```json\n{\"sum", "mary\": \"의존성 \\", "\"다운로드\\\" 실패\\n\\u00", "41 원인\",",
+                " \"solution\": \"저장소 확인\", \"type\": \"Others\"}\n```"));
+        List<String> chunks = new ArrayList<>();
+
+        // when
+        AnalysisResult result = client.summarizeAndSuggestStream("prompt", chunks::add);
+
+        // then
+        assertThat(String.join("", chunks)).isEqualTo("의존성 \"다운로드\" 실패\nA 원인");
+        assertThat(chunks).noneMatch(chunk -> chunk.contains("solution"));
+        assertThat(result).isEqualTo(new AnalysisResult("의존성 \"다운로드\" 실패\nA 원인", "저장소 확인", "Others"));
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답이 JSON 이 아니면 대체 결과 대신 예외를 던진다")
+    void stream_Malformed_Throws() {
+        GeminiClient client = new GeminiClient(streaming("{\"summary\": \"끊긴 응답"));
+
+        assertThatThrownBy(() -> client.summarizeAndSuggestStream("prompt", chunk -> {}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("JSON 파싱 실패");
+    }
+
+    @Test
+    @DisplayName("단건 응답도 파싱에 실패하면 예외를 던진다")
+    void single_Malformed_Throws() {
+        GeminiClient client = new GeminiClient(streaming("죄송합니다. 분석할 수 없습니다."));
+
+        assertThatThrownBy(() -> client.summarizeAndSuggest("prompt"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /** generate 는 조각을 이은 전체 원문을, generateStream 은 조각을 차례로 전달하는 전송 */
+    private static LlmTransport streaming(String... chunks) {
+        return new LlmTransport() {
+            @Override
+            public String generate(String prompt) {
+                return String.join("", chunks);
+            }
+
+            @Override
+            public String generateStream(String prompt, Consumer<String> onChunk) {
+                for (String chunk : chunks) {
+                    onChunk.accept(chunk);
+                }
+                return String.join("", chunks);
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.llm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import sys.be4man.domains.analysis.service.llm.LlmClient.AnalysisResult;
+
+@DisplayName("RecordingLlmTransport - 원문 녹화/재생 왕복 테스트")
+class RecordingLlmTransportTest {
+
+    private static final String PROMPT = "Stage Name: build\nlog...";
+    private static final String RAW = "```json\n{\"summary\":\"녹화 요약\",\"solution\":\"녹화 해결책\",\"type\":\"Others\"}\n```";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("녹화본에는 파싱 전 원문이 남고, 재생하면 같은 원문이 GeminiClient 파싱을 거친다")
+    void record_ThenReplay_SameRawResponseParsed() throws Exception {
+        // given
+        GeminiTransport gemini = mock(GeminiTransport.class);
+        when(gemini.generate(PROMPT)).thenReturn(RAW);
+        RecordingLlmTransport recording = new RecordingLlmTransport(gemini, dir.toString());
+
+        // when
+        AnalysisResult recorded = new GeminiClient(recording).summarizeAndSuggest(PROMPT);
+
+        // then: 파일 하나에 원문 그대로 저장
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.toList();
+        }
+        assertThat(files).hasSize(1);
+        LlmRecording saved = new ObjectMapper().readValue(files.get(0).toFile(), LlmRecording.class);
+        assertThat(saved.kind()).isEqualTo(LlmRecording.KIND_SINGLE);
+        assertThat(saved.response()).isEqualTo(RAW);
+
+        // when: 같은 디렉터리로 재생
+        ReplayLlmTransport replay = new ReplayLlmTransport(new MockEnvironment());
+        ReflectionTestUtils.setField(replay, "recordDir", dir.toString());
+        ReflectionTestUtils.setField(replay, "latencyDistribution", "fixed");
+        ReflectionTestUtils.invokeMethod(replay, "load");
+        AnalysisResult replayed = new GeminiClient(replay).summarizeAndSuggest(PROMPT);
+
+        // then
+        assertThat(replayed).isEqualTo(recorded);
+        assertThat(replayed.summary()).isEqualTo("녹화 요약");
+    }
+
+    @Test
+    @DisplayName("배치 프롬프트는 batch 종류로 녹화한다")
+    void record_BatchPrompt_RecordedAsBatch() throws Exception {
+        // given
+        String prompt = "==== Stage (orderIndex=1) : build ====\nlog";
+        GeminiTransport gemini = mock(GeminiTransport.class);
+        when(gemini.generate(prompt)).thenReturn("[]");
+
+        // when
+        new RecordingLlmTransport(gemini, dir.toString()).generate(prompt);
+
+        // then
+        String key = RecordingLlmTransport.keyOf(LlmRecording.KIND_BATCH, prompt);
+        assertThat(dir.resolve(LlmRecording.KIND_BATCH + "-" + key + ".json")).exists();
+    }
+}
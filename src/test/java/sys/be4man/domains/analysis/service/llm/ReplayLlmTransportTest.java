@@ -0,0 +1,119 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.llm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import sys.be4man.domains.analysis.service.llm.LlmClient.StageAnalysisResult;
+
+@DisplayName("ReplayLlmTransport - 재생/주입 테스트")
+class ReplayLlmTransportTest {
+
+    private static final String RECORDED_PROMPT =
+            "==== Stage (orderIndex=1) : build ====\nlog\n\n==== Stage (orderIndex=2) : test ====\nlog";
+    private static final String RECORDED_RESPONSE =
+            "[{\"orderIndex\":1,\"summary\":\"빌드 실패\",\"solution\":\"의존성 확인\",\"type\":\"Build and Packaging Failures\"},"
+                    + "{\"orderIndex\":2,\"summary\":\"테스트 실패\",\"solution\":\"테스트 확인\",\"type\":\"Automation test failed\"}]";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("같은 배치 프롬프트는 녹화 원문을 그대로 돌려준다")
+    void generate_ExactBatchPrompt_ReturnsRecordedResponse() throws Exception {
+        // given
+        record(RECORDED_PROMPT, RECORDED_RESPONSE);
+        ReplayLlmTransport replay = replay(0.0);
+
+        // when & then
+        assertThat(replay.generate(RECORDED_PROMPT)).isEqualTo(RECORDED_RESPONSE);
+    }
+
+    @Test
+    @DisplayName("녹화되지 않은 배치 프롬프트는 녹화본을 요청된 orderIndex 로 다시 매핑한다")
+    void generate_UnknownBatchPrompt_RemapsOrderIndexes() throws Exception {
+        // given
+        record(RECORDED_PROMPT, RECORDED_RESPONSE);
+        GeminiClient client = new GeminiClient(replay(0.0));
+        String prompt = "==== Stage (orderIndex=7) : a ====\n\n==== Stage (orderIndex=8) : b ====\n\n"
+                + "==== Stage (orderIndex=9) : c ====\n";
+
+        // when
+        List<StageAnalysisResult> results = client.summarizeAndSuggestBatch(prompt);
+
+        // then
+        assertThat(results).extracting(StageAnalysisResult::orderIndex).containsExactly(7L, 8L, 9L);
+        assertThat(results).extracting(StageAnalysisResult::summary)
+                .containsExactly("빌드 실패", "테스트 실패", "빌드 실패");
+    }
+
+    @Test
+    @DisplayName("깨진 응답 주입은 잘린 JSON 을 돌려줘 GeminiClient 배치 파싱이 실패한다")
+    void generate_MalformedInjected_ParserThrows() throws Exception {
+        // given
+        record(RECORDED_PROMPT, RECORDED_RESPONSE);
+        GeminiClient client = new GeminiClient(replay(1.0));
+
+        // when & then
+        assertThatThrownBy(() -> client.summarizeAndSuggestBatch(RECORDED_PROMPT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("JSON 파싱 실패");
+    }
+
+    @Test
+    @DisplayName("스트리밍 재생은 원문을 조각내 흘려보내고, 조각을 이으면 원문과 같다")
+    void generateStream_ChunksReassembleToResponse() {
+        // given: 녹화본 없이 합성 응답
+        ReplayLlmTransport replay = replay(0.0);
+        List<String> chunks = new ArrayList<>();
+
+        // when
+        String response = replay.generateStream("단건 프롬프트", chunks::add);
+
+        // then
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(String.join("", chunks)).isEqualTo(response);
+        assertThat(new GeminiClient(replay).summarizeAndSuggestStream("단건 프롬프트", chunk -> {}).summary())
+                .isEqualTo(ReplayLlmTransport.SYNTHETIC_SUMMARY);
+    }
+
+    @Test
+    @DisplayName("llm-record 와 함께 켜면 기동 시 명확한 예외를 던진다")
+    void load_WithRecordProfile_Throws() {
+        // given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("llm-record", "llm-replay");
+        ReplayLlmTransport replay = new ReplayLlmTransport(environment);
+        ReflectionTestUtils.setField(replay, "recordDir", dir.toString());
+
+        // when & then
+        assertThatThrownBy(() -> ReflectionTestUtils.invokeMethod(replay, "load"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("함께 사용할 수 없습니다");
+    }
+
+    private ReplayLlmTransport replay(double malformedRate) {
+        ReplayLlmTransport replay = new ReplayLlmTransport(new MockEnvironment());
+        ReflectionTestUtils.setField(replay, "recordDir", dir.toString());
+        ReflectionTestUtils.setField(replay, "latencyDistribution", "fixed");
+        ReflectionTestUtils.setField(replay, "malformedRate", malformedRate);
+        ReflectionTestUtils.invokeMethod(replay, "load");
+        return replay;
+    }
+
+    private void record(String prompt, String response) throws Exception {
+        String kind = LlmRecording.kindOf(prompt);
+        String key = RecordingLlmTransport.keyOf(kind, prompt);
+        new ObjectMapper().writeValue(dir.resolve(kind + "-" + key + ".json").toFile(),
+                new LlmRecording(kind, key, prompt, response, 10));
+    }
+}
@@ -0,0 +1,176 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import sys.be4man.domains.analysis.event.StageRunAnalyzedEvent;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.analysis.repository.StageRunRepository;
+import sys.be4man.domains.analysis.repository.projection.FailedStageRow;
+import sys.be4man.domains.analysis.service.similarity.FailureSimilarityIndex.Entry;
+import sys.be4man.domains.analysis.service.similarity.FailureSimilarityIndex.Match;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FailureSimilarityIndex - 유사 실패 검색/제거 테스트")
+class FailureSimilarityIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 10, 9, 0);
+
+    @Mock
+    private StageRunRepository stageRunRepository;
+
+    private FailureSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FailureSimilarityIndex(stageRunRepository);
+        ReflectionTestUtils.setField(index, "maxEntries", 100);
+        ReflectionTestUtils.setField(index, "minSimilarity", 0.3);
+    }
+
+    @Test
+    @DisplayName("유사도 내림차순으로 limit 건만 돌려준다")
+    void findSimilar_TopKInDescendingSimilarity() {
+        // 질의와 토큰 100개 중 95개(J≈0.90), 80개(J≈0.66), 50개(J≈0.32) 공유, 하나는 전혀 다름
+        index.add(row(1L, 101L, shared(50), BASE.minusDays(4)));
+        index.add(row(2L, 102L, shared(95), BASE.minusDays(3)));
+        index.add(row(3L, 103L, words("omega", 0, 100), BASE.minusDays(2)));
+        index.add(row(4L, 104L, shared(80), BASE.minusDays(1)));
+
+        Entry query = FailureSimilarityIndex.toQuery(row(9L, 109L, shared(100), BASE));
+        List<Match> top = index.findSimilar(query, 2);
+
+        assertThat(top).extracting(match -> match.entry().stageRunId()).containsExactly(2L, 4L);
+        assertThat(top.get(0).similarity()).isGreaterThan(top.get(1).similarity());
+    }
+
+    @Test
+    @DisplayName("같은 빌드의 다른 스테이지와 기준보다 나중에 난 실패는 제외한다")
+    void findSimilar_ExcludesSameBuildAndLaterFailures() {
+        String log = shared(100);
+        index.add(row(1L, 109L, log, BASE.minusHours(1)));  // 같은 빌드
+        index.add(row(2L, 102L, log, BASE.plusDays(1)));    // 나중 실패
+        index.add(row(3L, 103L, log, BASE.minusDays(1)));
+
+        Entry query = FailureSimilarityIndex.toQuery(row(9L, 109L, log, BASE));
+
+        assertThat(index.findSimilar(query, 10)).extracting(match -> match.entry().stageRunId())
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("항목 수가 상한을 넘으면 가장 오래 색인된 항목부터 제거하고 검색에서도 빠진다")
+    void add_OverCapacity_EvictsEldest() {
+        ReflectionTestUtils.setField(index, "maxEntries", 2);
+        String log = shared(100);
+        index.add(row(1L, 101L, log, BASE.minusDays(3)));
+        index.add(row(2L, 102L, log, BASE.minusDays(2)));
+        index.add(row(3L, 103L, log, BASE.minusDays(1)));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.get(1L)).isNull();
+        Entry query = FailureSimilarityIndex.toQuery(row(9L, 109L, log, BASE));
+        assertThat(index.findSimilar(query, 10)).extracting(match -> match.entry().stageRunId())
+                .containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("같은 스테이지를 다시 색인하면 이전 항목을 대체한다")
+    void add_SameStage_Replaces() {
+        index.add(row(1L, 101L, shared(100), BASE.minusDays(1)));
+        index.add(row(1L, 101L, words("omega", 0, 100), BASE.minusDays(1)));
+
+        assertThat(index.size()).isEqualTo(1);
+        Entry query = FailureSimilarityIndex.toQuery(row(9L, 109L, shared(100), BASE));
+        assertThat(index.findSimilar(query, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구축 중에도 기존 인덱스로 검색되고, 그 사이 증분 색인된 항목은 새 인덱스에 남는다")
+    void rebuild_SwapsAtomically_KeepsIncrementalAdds() {
+        String log = shared(100);
+        index.add(row(1L, 101L, log, BASE.minusDays(3)));
+        Entry query = FailureSimilarityIndex.toQuery(row(9L, 109L, log, BASE));
+        List<List<Long>> seenDuringRebuild = new ArrayList<>();
+
+        // 첫 페이지를 읽는 동안 검색 + 증분 색인이 끼어든다
+        when(stageRunRepository.findFailedStageRowsAfter(null, 500)).thenAnswer(inv -> {
+            seenDuringRebuild.add(index.findSimilar(query, 10).stream()
+                    .map(match -> match.entry().stageRunId()).toList());
+            index.add(row(3L, 103L, log, BASE.minusDays(1)));
+            return List.of(row(2L, 102L, log, BASE.minusDays(2)));
+        });
+        when(stageRunRepository.findFailedStageRowsAfter(2L, 500)).thenReturn(List.of());
+
+        index.rebuild();
+
+        assertThat(seenDuringRebuild).containsExactly(List.of(1L));
+        assertThat(index.findSimilar(query, 10)).extracting(match -> match.entry().stageRunId())
+                .containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("재구축이 실패하면 기존 인덱스를 그대로 둔다")
+    void rebuild_Failure_KeepsPreviousIndex() {
+        index.add(row(1L, 101L, shared(100), BASE.minusDays(1)));
+        when(stageRunRepository.findFailedStageRowsAfter(null, 500))
+                .thenThrow(new IllegalStateException("db down"));
+
+        index.rebuild();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.get(1L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("재분석 이벤트가 오면 시그니처는 두고 요약/해결책/유형만 갱신한다")
+    void onStageRunAnalyzed_UpdatesSummary() {
+        String log = shared(100);
+        index.add(row(1L, 101L, log, BASE.minusDays(1)));
+        int[] signature = index.get(1L).signature();
+        FailedStageRow reanalyzed = new FailedStageRow(1L, 101L, 10L, 1L, "결제 서비스", "build", log,
+                "새 요약", "새 해결책", ProblemType.AUTOMATION_TEST_FAILED, BASE.minusDays(1));
+        when(stageRunRepository.findFailedStageRowsByBuildRunId(101L)).thenReturn(List.of(reanalyzed));
+
+        index.onStageRunAnalyzed(new StageRunAnalyzedEvent(1L, 101L, 1L, BASE.minusDays(1),
+                ProblemType.BUILD_AND_PACKAGING_FAILURES, ProblemType.AUTOMATION_TEST_FAILED));
+
+        Entry updated = index.get(1L);
+        assertThat(updated.problemSummary()).isEqualTo("새 요약");
+        assertThat(updated.problemSolution()).isEqualTo("새 해결책");
+        assertThat(updated.problemType()).isEqualTo(ProblemType.AUTOMATION_TEST_FAILED);
+        assertThat(updated.signature()).isSameAs(signature);
+    }
+
+    private static FailedStageRow row(Long stageRunId, Long buildRunId, String log,
+            LocalDateTime failedAt) {
+        return new FailedStageRow(stageRunId, buildRunId, 10L, 1L, "결제 서비스", "build", log,
+                "요약", "해결책", ProblemType.BUILD_AND_PACKAGING_FAILURES, failedAt);
+    }
+
+    /** 질의 로그와 앞 n 개 토큰을 공유하는 100 토큰 로그 */
+    private static String shared(int n) {
+        return n >= 100 ? words("alpha", 0, 100)
+                : words("alpha", 0, n) + " " + words("omega", n, 100);
+    }
+
+    private static String words(String prefix, int from, int to) {
+        StringJoiner line = new StringJoiner(" ");
+        for (int i = from; i < to; i++) {
+            line.add(prefix + "_" + (char) ('g' + i / 20) + (char) ('g' + i % 20));
+        }
+        return line.toString();
+    }
+}
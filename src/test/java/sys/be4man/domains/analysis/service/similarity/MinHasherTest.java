@@ -0,0 +1,87 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.analysis.service.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.StringJoiner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MinHasher - 시그니처/유사도 추정 테스트")
+class MinHasherTest {
+
+    // 시그니처 128개 기준 추정 표준편차는 최대 0.045 정도이므로 약 3 시그마
+    private static final double TOLERANCE = 0.15;
+
+    @Test
+    @DisplayName("같은 로그는 유사도 1, 겹치는 토큰이 없는 로그는 0 에 가깝다")
+    void similarity_IdenticalAndDisjoint() {
+        int[] a = MinHasher.signature(words("alpha", 0, 100));
+        int[] same = MinHasher.signature(words("alpha", 0, 100));
+        int[] disjoint = MinHasher.signature(words("omega", 0, 100));
+
+        assertThat(MinHasher.similarity(a, same)).isEqualTo(1.0);
+        assertThat(MinHasher.similarity(a, disjoint)).isLessThan(0.1);
+    }
+
+    @Test
+    @DisplayName("추정치는 실제 Jaccard 유사도(4-gram 집합 기준)와 오차 범위 안에서 같다")
+    void similarity_EstimatesJaccard() {
+        // 토큰 100개 중 앞 50개 공유 → 4-gram 97개씩, 공유 47개 → J = 47 / 147
+        String a = words("alpha", 0, 100);
+        String b = words("alpha", 0, 50) + " " + words("omega", 50, 100);
+        assertThat(MinHasher.similarity(MinHasher.signature(a), MinHasher.signature(b)))
+                .isCloseTo(47.0 / 147, within(TOLERANCE));
+
+        // 앞 80개 공유 → 공유 77개 → J = 77 / 117
+        String c = words("alpha", 0, 80) + " " + words("omega", 80, 100);
+        assertThat(MinHasher.similarity(MinHasher.signature(a), MinHasher.signature(c)))
+                .isCloseTo(77.0 / 117, within(TOLERANCE));
+    }
+
+    @Test
+    @DisplayName("시각/빌드 번호/커밋 해시 같은 가변 값만 다른 로그는 같은 시그니처를 갖는다")
+    void signature_NormalizesVariableValues() {
+        String first = """
+                2025-01-10 09:00:01 [INFO] building payment #12
+                2025-01-10 09:00:05 ERROR Could not resolve dependencies for commit 3f9a1c2d7
+                at /var/lib/jenkins/workspace/payment/pom.xml line 42
+                """;
+        String second = """
+                2025-02-03 18:42:17 [INFO] building payment #97
+                2025-02-03 18:42:20 ERROR Could not resolve dependencies for commit a81be0f44
+                at /home/ci/workspace/payment/pom.xml line 7
+                """;
+
+        assertThat(MinHasher.signature(first)).isEqualTo(MinHasher.signature(second));
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 로그는 시그니처를 만들지 않는다")
+    void signature_NoTokens_Null() {
+        assertThat(MinHasher.signature(null)).isNull();
+        assertThat(MinHasher.signature("   ")).isNull();
+        assertThat(MinHasher.signature("-- :: + = x y")).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 시그니처는 모든 밴드 키가 같다")
+    void bandKeys_SameSignatureSameKeys() {
+        int[] a = MinHasher.signature(words("alpha", 0, 40));
+        int[] b = MinHasher.signature(words("alpha", 0, 40));
+
+        assertThat(MinHasher.bandKeys(a)).hasSize(MinHasher.BANDS).isEqualTo(MinHasher.bandKeys(b));
+    }
+
+    /**
+     * prefix 와 번호로 만든 서로 다른 영문 토큰을 한 줄로 잇는다. (숫자는 치환되므로 알파벳으로 인코딩)
+     */
+    static String words(String prefix, int from, int to) {
+        StringJoiner line = new StringJoiner(" ");
+        for (int i = from; i < to; i++) {
+            line.add(prefix + "_" + (char) ('g' + i / 20) + (char) ('g' + i % 20));
+        }
+        return line.toString();
+    }
+}
@@ -8,7 +8,6 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +24,7 @@ import sys.be4man.domains.approval.model.type.ApprovalStatus;
 import sys.be4man.domains.approval.model.type.ApprovalType;
 import sys.be4man.domains.approval.repository.ApprovalLineRepository;
 import sys.be4man.domains.approval.repository.ApprovalRepository;
+import sys.be4man.domains.approval.repository.projection.RejectionReasonRow;
 import sys.be4man.domains.dashboard.dto.response.NotificationResponse;
 import sys.be4man.domains.deployment.model.entity.Deployment;
 import sys.be4man.domains.deployment.model.type.DeploymentStage;
@@ -171,10 +171,8 @@ class DashboardServiceGetNotificationsTest {
                 .thenReturn(rejectedDeployments);
         when(approvalLineRepository.findRejectedApprovalsByApproverId(accountId))
                 .thenReturn(List.of());
-        when(approvalRepository.findByDeploymentId(102L))
-                .thenReturn(List.of(rejectedApproval));
-        when(approvalRepository.findByIdWithLines(2L))
-                .thenReturn(Optional.of(rejectedApproval));
+        when(approvalLineRepository.findRejectionReasonsByDeploymentIds(List.of(102L)))
+                .thenReturn(List.of(new RejectionReasonRow(102L, 2L, "반려 사유: 테스트")));
 
         // when
         List<NotificationResponse> result = dashboardService.getNotifications(accountId);
@@ -232,10 +230,8 @@ class DashboardServiceGetNotificationsTest {
                 .thenReturn(List.of());
         when(approvalLineRepository.findRejectedApprovalsByApproverId(accountId))
                 .thenReturn(rejectedDeployments);
-        when(approvalRepository.findByDeploymentId(103L))
-                .thenReturn(List.of(approvalForApprover));
-        when(approvalRepository.findByIdWithLines(3L))
-                .thenReturn(Optional.of(approvalForApprover));
+        when(approvalLineRepository.findRejectionReasonsByDeploymentIds(List.of(103L)))
+                .thenReturn(List.of(new RejectionReasonRow(103L, 3L, "승인자가 반려한 사유")));
 
         // when
         List<NotificationResponse> result = dashboardService.getNotifications(accountId);
@@ -271,10 +267,8 @@ class DashboardServiceGetNotificationsTest {
                 .thenReturn(List.of(rejectedDeploymentByIssuer));
         when(approvalLineRepository.findRejectedApprovalsByApproverId(accountId))
                 .thenReturn(List.of(rejectedDeploymentByApprover));
-        when(approvalRepository.findByDeploymentId(any()))
-                .thenReturn(List.of(rejectedApproval));
-        when(approvalRepository.findByIdWithLines(any()))
-                .thenReturn(Optional.of(rejectedApproval));
+        when(approvalLineRepository.findRejectionReasonsByDeploymentIds(any()))
+                .thenReturn(List.of(new RejectionReasonRow(102L, 2L, "반려 사유")));
 
         // when
         List<NotificationResponse> result = dashboardService.getNotifications(accountId);
@@ -4,6 +4,8 @@ package sys.be4man.domains.dashboard.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
@@ -20,8 +22,8 @@ import sys.be4man.domains.account.model.entity.Account;
 import sys.be4man.domains.account.model.type.JobDepartment;
 import sys.be4man.domains.account.model.type.JobPosition;
 import sys.be4man.domains.account.model.type.Role;
-import sys.be4man.domains.analysis.model.entity.BuildRun;
 import sys.be4man.domains.analysis.repository.BuildRunRepository;
+import sys.be4man.domains.analysis.repository.projection.BuildRunSpanRow;
 import sys.be4man.domains.approval.repository.ApprovalRepository;
 import sys.be4man.domains.dashboard.dto.response.PaginationResponse;
 import sys.be4man.domains.dashboard.dto.response.RecoveryResponse;
@@ -30,6 +32,8 @@ import sys.be4man.domains.deployment.model.type.DeploymentStage;
 import sys.be4man.domains.deployment.model.type.DeploymentStatus;
 import sys.be4man.domains.project.model.entity.Project;
 import sys.be4man.domains.pullrequest.model.entity.PullRequest;
+import sys.be4man.global.dto.response.CursorPageResponse;
+import sys.be4man.global.util.KeysetCursor;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("DashboardService - 복구현황 목록 조회 테스트")
@@ -50,8 +54,7 @@ class DashboardServiceGetRecoveryTest {
     private Deployment completedDeployment;
     private Deployment inProgressDeployment;
     private Deployment pendingDeployment;
-    private BuildRun firstBuildRun;
-    private BuildRun lastBuildRun;
+    private BuildRunSpanRow completedSpan;
 
     @BeforeEach
     void setUp() {
@@ -124,28 +127,13 @@ class DashboardServiceGetRecoveryTest {
         ReflectionTestUtils.setField(pendingDeployment, "createdAt", LocalDateTime.of(2025, 10, 27, 9, 0));
         ReflectionTestUtils.setField(pendingDeployment, "updatedAt", LocalDateTime.of(2025, 10, 27, 9, 30));
 
-        // BuildRun 설정 (COMPLETED용)
-        firstBuildRun = BuildRun.builder()
-                .deployment(completedDeployment)
-                .jenkinsJobName("test-job")
-                .buildNumber(1L)
-                .log("Build log")
-                .duration(1000L) // 1초 (밀리초)
-                .startedAt(LocalDateTime.of(2025, 10, 29, 15, 22))
-                .endedAt(LocalDateTime.of(2025, 10, 29, 15, 30))
-                .build();
-        ReflectionTestUtils.setField(firstBuildRun, "id", 1L);
-
-        lastBuildRun = BuildRun.builder()
-                .deployment(completedDeployment)
-                .jenkinsJobName("test-job")
-                .buildNumber(2L)
-                .log("Build log")
-                .duration(120000L) // 120초 (밀리초) = 2분
-                .startedAt(LocalDateTime.of(2025, 10, 29, 15, 50))
-                .endedAt(LocalDateTime.of(2025, 10, 29, 16, 4))
-                .build();
-        ReflectionTestUtils.setField(lastBuildRun, "id", 2L);
+        // 빌드 구간 집계 (COMPLETED용): 첫 빌드 15:22 시작 ~ 마지막 빌드 16:04 종료, 마지막 빌드 120000ms
+        completedSpan = new BuildRunSpanRow(
+                201L,
+                LocalDateTime.of(2025, 10, 29, 15, 22),
+                LocalDateTime.of(2025, 10, 29, 16, 4),
+                120000L
+        );
     }
 
     @Test
@@ -155,11 +143,10 @@ class DashboardServiceGetRecoveryTest {
         int page = 1;
         int pageSize = 5;
         List<Deployment> deployments = List.of(completedDeployment);
-        List<BuildRun> buildRuns = List.of(firstBuildRun, lastBuildRun);
 
         when(approvalRepository.countRollbackDeployments()).thenReturn(1L);
         when(approvalRepository.findRollbackDeployments(0, pageSize)).thenReturn(deployments);
-        when(buildRunRepository.findByDeploymentIdIn(List.of(201L))).thenReturn(buildRuns);
+        when(buildRunRepository.findSpansByDeploymentIdIn(List.of(201L))).thenReturn(List.of(completedSpan));
 
         // when
         PaginationResponse<RecoveryResponse> result = dashboardService.getRecovery(page, pageSize);
@@ -196,7 +183,7 @@ class DashboardServiceGetRecoveryTest {
 
         when(approvalRepository.countRollbackDeployments()).thenReturn(1L);
         when(approvalRepository.findRollbackDeployments(0, pageSize)).thenReturn(deployments);
-        when(buildRunRepository.findByDeploymentIdIn(List.of(202L))).thenReturn(List.of());
+        when(buildRunRepository.findSpansByDeploymentIdIn(List.of(202L))).thenReturn(List.of());
 
         // when
         PaginationResponse<RecoveryResponse> result = dashboardService.getRecovery(page, pageSize);
@@ -221,7 +208,7 @@ class DashboardServiceGetRecoveryTest {
 
         when(approvalRepository.countRollbackDeployments()).thenReturn(1L);
         when(approvalRepository.findRollbackDeployments(0, pageSize)).thenReturn(deployments);
-        when(buildRunRepository.findByDeploymentIdIn(List.of(203L))).thenReturn(List.of());
+        when(buildRunRepository.findSpansByDeploymentIdIn(List.of(203L))).thenReturn(List.of());
 
         // when
         PaginationResponse<RecoveryResponse> result = dashboardService.getRecovery(page, pageSize);
@@ -247,11 +234,10 @@ class DashboardServiceGetRecoveryTest {
                 inProgressDeployment, // 중간 (createdAt: 2025-10-28)
                 pendingDeployment // 오래됨 (createdAt: 2025-10-27)
         );
-        List<BuildRun> buildRuns = List.of(firstBuildRun, lastBuildRun);
 
         when(approvalRepository.countRollbackDeployments()).thenReturn(3L);
         when(approvalRepository.findRollbackDeployments(0, pageSize)).thenReturn(deployments);
-        when(buildRunRepository.findByDeploymentIdIn(any())).thenReturn(buildRuns);
+        when(buildRunRepository.findSpansByDeploymentIdIn(any())).thenReturn(List.of(completedSpan));
 
         // when
         PaginationResponse<RecoveryResponse> result = dashboardService.getRecovery(page, pageSize);
@@ -277,7 +263,7 @@ class DashboardServiceGetRecoveryTest {
 
         when(approvalRepository.countRollbackDeployments()).thenReturn(3L);
         when(approvalRepository.findRollbackDeployments(2, pageSize)).thenReturn(deployments);
-        when(buildRunRepository.findByDeploymentIdIn(List.of(203L))).thenReturn(List.of());
+        when(buildRunRepository.findSpansByDeploymentIdIn(List.of(203L))).thenReturn(List.of());
 
         // when
         PaginationResponse<RecoveryResponse> result = dashboardService.getRecovery(page, pageSize);
@@ -319,7 +305,7 @@ class DashboardServiceGetRecoveryTest {
 
         when(approvalRepository.countRollbackDeployments()).thenReturn(1L);
         when(approvalRepository.findRollbackDeployments(0, pageSize)).thenReturn(deployments);
-        when(buildRunRepository.findByDeploymentIdIn(List.of(201L))).thenReturn(List.of());
+        when(buildRunRepository.findSpansByDeploymentIdIn(List.of(201L))).thenReturn(List.of());
 
         // when
         PaginationResponse<RecoveryResponse> result = dashboardService.getRecovery(page, pageSize);
@@ -333,5 +319,45 @@ class DashboardServiceGetRecoveryTest {
         assertThat(recovery.recoveredAt()).isNull(); // BuildRun이 없으면 recoveredAt도 null
         assertThat(recovery.updatedAt()).isEqualTo(completedDeployment.getUpdatedAt());
     }
-}
 
+    @Test
+    @DisplayName("복구현황 cursor 조회 - size + 1 건이면 다음 cursor 를 돌려주고 건수는 세지 않는다")
+    void getRecoveryFeed_FirstPage_HasNext() {
+        // given
+        when(approvalRepository.findRollbackDeployments((KeysetCursor) null, 3))
+                .thenReturn(List.of(completedDeployment, inProgressDeployment, pendingDeployment));
+        when(buildRunRepository.findSpansByDeploymentIdIn(List.of(201L, 202L)))
+                .thenReturn(List.of(completedSpan));
+
+        // when
+        CursorPageResponse<RecoveryResponse> result = dashboardService.getRecoveryFeed(null, 2, false);
+
+        // then
+        assertThat(result.items()).extracting(RecoveryResponse::id).containsExactly(201L, 202L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(result.nextCursor()))
+                .isEqualTo(new KeysetCursor(inProgressDeployment.getCreatedAt(), 202L));
+        assertThat(result.total()).isNull();
+        verify(approvalRepository, never()).countRollbackDeployments();
+    }
+
+    @Test
+    @DisplayName("복구현황 cursor 조회 - cursor 위치부터 조회하고 withTotal 이면 건수 포함")
+    void getRecoveryFeed_LastPage_WithTotal() {
+        // given
+        KeysetCursor cursor = new KeysetCursor(inProgressDeployment.getCreatedAt(), 202L);
+        when(approvalRepository.findRollbackDeployments(cursor, 3)).thenReturn(List.of(pendingDeployment));
+        when(approvalRepository.countRollbackDeployments()).thenReturn(3L);
+        when(buildRunRepository.findSpansByDeploymentIdIn(List.of(203L))).thenReturn(List.of());
+
+        // when
+        CursorPageResponse<RecoveryResponse> result =
+                dashboardService.getRecoveryFeed(cursor.encode(), 2, true);
+
+        // then
+        assertThat(result.items()).extracting(RecoveryResponse::id).containsExactly(203L);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.total()).isEqualTo(3L);
+    }
+}
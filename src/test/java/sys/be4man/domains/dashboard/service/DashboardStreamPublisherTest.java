@@ -0,0 +1,113 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.approval.event.ApprovalChangedEvent;
+import sys.be4man.domains.approval.model.type.ApprovalStatus;
+import sys.be4man.domains.approval.repository.ApprovalLineRepository;
+import sys.be4man.domains.approval.repository.ApprovalRepository;
+import sys.be4man.domains.dashboard.dto.response.DashboardDeltaResponse;
+import sys.be4man.domains.dashboard.dto.response.DashboardDeltaResponse.Type;
+import sys.be4man.domains.dashboard.service.DashboardStreamPublisher.ApprovalSnapshot;
+import sys.be4man.domains.notification.event.NotificationsRecordedEvent;
+import sys.be4man.domains.notification.model.type.NotificationKind;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardStreamPublisher 실시간 변경분 전송 테스트")
+class DashboardStreamPublisherTest {
+
+    @Mock
+    private DashboardStreamRelay relay;
+
+    @Mock
+    private ApprovalRepository approvalRepository;
+
+    @Mock
+    private ApprovalLineRepository approvalLineRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private DashboardStreamPublisher publisher;
+
+    @Test
+    @DisplayName("결재 대기 상태면 다음 승인자에게 APPROVAL_PENDING, 나머지 참여자에게 APPROVAL_DECIDED 를 발행한다")
+    void pushApproval_Pending_SplitsNextApprover() {
+        publisher.pushApproval(new ApprovalSnapshot(10L, 20L, "배포 요청", ApprovalStatus.PENDING,
+                "payment", 3L, Set.of(1L, 2L, 3L, 4L)));
+
+        ArgumentCaptor<Collection<Long>> recipients = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<DashboardDeltaResponse> deltas =
+                ArgumentCaptor.forClass(DashboardDeltaResponse.class);
+        verify(relay, times(2)).publish(recipients.capture(), deltas.capture());
+
+        assertThat(recipients.getAllValues().get(0)).containsExactly(3L);
+        assertThat(deltas.getAllValues().get(0).type()).isEqualTo(Type.APPROVAL_PENDING);
+        // 다른 인스턴스에 붙은 연결이 있을 수 있으므로 이 인스턴스 연결 여부로 거르지 않는다
+        assertThat(recipients.getAllValues().get(1)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(deltas.getAllValues().get(1).type()).isEqualTo(Type.APPROVAL_DECIDED);
+        assertThat(deltas.getAllValues().get(1).status()).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("결재가 끝난 상태면 다음 승인자 없이 참여자 전원에게 APPROVAL_DECIDED 를 발행한다")
+    void pushApproval_Rejected_AllParticipants() {
+        publisher.pushApproval(new ApprovalSnapshot(10L, 20L, "배포 요청", ApprovalStatus.REJECTED,
+                "payment", null, Set.of(1L, 2L)));
+
+        ArgumentCaptor<DashboardDeltaResponse> delta =
+                ArgumentCaptor.forClass(DashboardDeltaResponse.class);
+        verify(relay).publish(eq(Set.of(1L, 2L)), delta.capture());
+        assertThat(delta.getValue().type()).isEqualTo(Type.APPROVAL_DECIDED);
+        assertThat(delta.getValue().status()).isEqualTo("REJECTED");
+    }
+
+    @Test
+    @DisplayName("클러스터 전체에 연결이 없으면 결재를 조회하지 않는다")
+    void onApprovalChanged_NoConnections_SkipsLookup() {
+        when(relay.hasConnections()).thenReturn(false);
+
+        publisher.onApprovalChanged(new ApprovalChangedEvent(10L, 20L));
+
+        verifyNoInteractions(transactionTemplate, approvalRepository);
+        verify(relay, never()).publish(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("취소 알림 기록은 알림 수신자에게 DEPLOYMENT_CANCELED 로 발행된다")
+    void onNotificationsRecorded_Canceled() {
+        when(relay.hasConnections()).thenReturn(true);
+
+        publisher.onNotificationsRecorded(new NotificationsRecordedEvent(20L,
+                NotificationKind.CANCELED, "작업 금지 기간에 해당되어 자동 취소되었습니다.", "payment",
+                "배포 요청", List.of(1L, 2L)));
+
+        ArgumentCaptor<DashboardDeltaResponse> delta =
+                ArgumentCaptor.forClass(DashboardDeltaResponse.class);
+        verify(relay).publish(eq(List.of(1L, 2L)), delta.capture());
+        assertThat(delta.getValue().type()).isEqualTo(Type.DEPLOYMENT_CANCELED);
+        assertThat(delta.getValue().deploymentId()).isEqualTo(20L);
+        assertThat(delta.getValue().reason()).contains("작업 금지");
+    }
+}
@@ -0,0 +1,105 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import sys.be4man.domains.dashboard.dto.response.DashboardDeltaResponse;
+import sys.be4man.domains.dashboard.dto.response.DashboardDeltaResponse.Type;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardStreamRelay 인스턴스 간 변경분 전달 테스트")
+class DashboardStreamRelayTest {
+
+    private static final DashboardDeltaResponse DELTA = new DashboardDeltaResponse(
+            Type.BUILD_FINISHED, null, 20L, null, "SUCCESS", null, null,
+            LocalDateTime.of(2025, 10, 1, 9, 0));
+
+    @Mock
+    private DashboardStreamRegistry registry;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private DashboardStreamRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new DashboardStreamRelay(registry, stringRedisTemplate, objectMapper,
+                mock(RedisMessageListenerContainer.class));
+    }
+
+    @Test
+    @DisplayName("발행한 변경분을 받은 인스턴스는 자기 연결에 그대로 보낸다")
+    void publish_ThenOnMessage_SendsToLocalEmitters() {
+        // given: 발행된 메시지를 가로채 다른 인스턴스가 받은 것처럼 넘긴다
+        relay.publish(List.of(1L, 2L), DELTA);
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq("dashboard:stream"), body.capture());
+        when(registry.hasConnections()).thenReturn(true);
+
+        // when
+        relay.onMessage(new DefaultMessage("dashboard:stream".getBytes(),
+                body.getValue().getBytes()), null);
+
+        // then
+        ArgumentCaptor<DashboardDeltaResponse> delta =
+                ArgumentCaptor.forClass(DashboardDeltaResponse.class);
+        verify(registry).send(eq(List.of(1L, 2L)), eq("delta"), delta.capture());
+        assertThat(delta.getValue()).isEqualTo(DELTA);
+    }
+
+    @Test
+    @DisplayName("Redis 발행에 실패하면 이 인스턴스 연결에만 바로 보낸다")
+    void publish_RedisDown_FallsBackToLocal() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(stringRedisTemplate).convertAndSend(anyString(), anyString());
+
+        relay.publish(List.of(1L), DELTA);
+
+        verify(registry).send(List.of(1L), "delta", DELTA);
+    }
+
+    @Test
+    @DisplayName("이 인스턴스에 연결이 없어도 다른 인스턴스에 연결이 있으면 연결 있음으로 본다")
+    void hasConnections_OtherInstanceActive() {
+        when(registry.hasConnections()).thenReturn(false);
+        when(stringRedisTemplate.hasKey("dashboard:stream:active")).thenReturn(true);
+
+        assertThat(relay.hasConnections()).isTrue();
+    }
+
+    @Test
+    @DisplayName("연결이 없는 인스턴스는 받은 변경분을 읽지 않는다")
+    void onMessage_NoLocalConnections_Ignored() {
+        when(registry.hasConnections()).thenReturn(false);
+
+        relay.onMessage(new DefaultMessage("dashboard:stream".getBytes(), "{}".getBytes()), null);
+
+        verify(registry, never()).send(anyCollection(), anyString(), any());
+    }
+}
@@ -0,0 +1,175 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.approval.repository.ApprovalLineRepository;
+import sys.be4man.domains.approval.repository.ApprovalRepository;
+import sys.be4man.domains.dashboard.dto.response.DashboardSummaryResponse;
+import sys.be4man.domains.dashboard.dto.response.PaginationResponse;
+import sys.be4man.domains.deployment.event.DeploymentCanceledEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardSummaryCache 계정별 세대 기반 캐시 테스트")
+class DashboardSummaryCacheTest {
+
+    private static final List<String> KEYS = List.of("dashboard:gen", "dashboard:gen:1",
+            "dashboard:summary:1", "dashboard:gen:recovery", "dashboard:summary:recovery");
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ApprovalRepository approvalRepository;
+
+    @Mock
+    private ApprovalLineRepository approvalLineRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DashboardSummaryCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new DashboardSummaryCache(stringRedisTemplate, objectMapper, approvalRepository,
+                approvalLineRepository, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        cache.init();
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("계정 목록과 복구현황의 세대가 모두 현재 세대와 같으면 계산 없이 캐시 값을 합쳐 돌려준다")
+    void get_SameGeneration_Hit() throws Exception {
+        String json = objectMapper.writeValueAsString(summary(Map.of()));
+        when(valueOperations.multiGet(KEYS))
+                .thenReturn(Arrays.asList("2", "3", "2.3|" + json, "7", "2.7|" + json));
+
+        DashboardSummaryResponse result = cache.get(1L, this::load);
+
+        assertThat(loads.get()).isZero();
+        assertThat(result.pendingApprovals()).isEmpty();
+        assertThat(result.recovery().pagination().pageSize()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("계정 세대만 올라갔으면 다시 계산해 계정 목록만 현재 세대로 저장한다")
+    void get_StaleAccountGeneration_ReloadsAccountOnly() throws Exception {
+        String json = objectMapper.writeValueAsString(summary(Map.of()));
+        when(valueOperations.multiGet(KEYS))
+                .thenReturn(Arrays.asList(null, "4", "0.3|" + json, "7", "0.7|" + json));
+
+        cache.get(1L, this::load);
+
+        assertThat(loads.get()).isEqualTo(1);
+        verify(valueOperations).set(eq("dashboard:summary:1"), startsWith("0.4|"),
+                eq(Duration.ofSeconds(300)));
+        verify(valueOperations, never()).set(eq("dashboard:summary:recovery"), anyString(),
+                any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("세대 카운터와 값이 모두 없으면 두 부분을 세대 0 으로 저장한다")
+    void get_Empty_StoresGenerationZero() {
+        when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList(null, null, null, null, null));
+
+        cache.get(1L, this::load);
+
+        assertThat(loads.get()).isEqualTo(1);
+        verify(valueOperations).set(eq("dashboard:summary:1"), startsWith("0.0|"), any(Duration.class));
+        verify(valueOperations).set(eq("dashboard:summary:recovery"), startsWith("0.0|"),
+                any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("복구현황만 실패한 응답은 계정 목록만 저장한다")
+    void get_RecoveryFailure_StoresAccountOnly() {
+        when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList("1", null, null, null, null));
+
+        DashboardSummaryResponse result = cache.get(1L,
+                () -> summary(Map.of("recovery", "timeout")));
+
+        assertThat(result.errors()).containsKey("recovery");
+        verify(valueOperations).set(eq("dashboard:summary:1"), startsWith("1.0|"), any(Duration.class));
+        verify(valueOperations, never()).set(eq("dashboard:summary:recovery"), anyString(),
+                any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("계정 목록이 실패한 응답은 계정 목록을 저장하지 않는다")
+    void get_AccountSectionFailure_NotStored() {
+        when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList("1", null, null, null, null));
+
+        cache.get(1L, () -> summary(Map.of("pendingApprovals", "timeout")));
+
+        verify(valueOperations, never()).set(eq("dashboard:summary:1"), anyString(),
+                any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("빌드 결과는 그 배포 참여자와 복구현황 세대만 올리고 전체 세대는 그대로 둔다")
+    void onBuildRunPersisted_BumpsParticipantsAndRecoveryOnly() {
+        when(approvalLineRepository.findParticipantAccountIdsByDeploymentId(10L))
+                .thenReturn(new LinkedHashSet<>(List.of(1L, 2L)));
+
+        cache.onBuildRunPersisted(new BuildRunPersistedEvent(5L, 10L, 3L, true, 60L, null, null));
+
+        verify(valueOperations).increment("dashboard:gen:recovery");
+        verify(valueOperations).increment("dashboard:gen:1");
+        verify(valueOperations).increment("dashboard:gen:2");
+        verify(valueOperations, never()).increment("dashboard:gen");
+    }
+
+    @Test
+    @DisplayName("참여자 조회에 실패하면 전체 세대를 올린다")
+    void onDeploymentCanceled_LookupFailure_InvalidatesAll() {
+        when(approvalLineRepository.findParticipantAccountIdsByDeploymentId(10L))
+                .thenThrow(new IllegalStateException("db down"));
+
+        cache.onDeploymentCanceled(new DeploymentCanceledEvent(10L, "작업 금지 기간"));
+
+        verify(valueOperations).increment("dashboard:gen");
+        verify(valueOperations, never()).increment("dashboard:gen:recovery");
+    }
+
+    private DashboardSummaryResponse load() {
+        loads.incrementAndGet();
+        return summary(Map.of());
+    }
+
+    private static DashboardSummaryResponse summary(Map<String, String> errors) {
+        return new DashboardSummaryResponse(List.of(), List.of(), List.of(),
+                new PaginationResponse<>(List.of(), new PaginationResponse.PaginationInfo(0, 1, 5, 0)),
+                errors);
+    }
+}
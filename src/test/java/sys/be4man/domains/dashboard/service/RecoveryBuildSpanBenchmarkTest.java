@@ -0,0 +1,211 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import sys.be4man.domains.account.model.entity.Account;
+import sys.be4man.domains.account.model.type.JobDepartment;
+import sys.be4man.domains.account.model.type.JobPosition;
+import sys.be4man.domains.account.model.type.Role;
+import sys.be4man.domains.analysis.model.entity.BuildRun;
+import sys.be4man.domains.analysis.repository.BuildRunRepository;
+import sys.be4man.domains.analysis.repository.projection.BuildRunSpanRow;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.deployment.model.type.DeploymentStage;
+import sys.be4man.domains.deployment.model.type.DeploymentStatus;
+import sys.be4man.domains.project.model.entity.Project;
+import sys.be4man.domains.pullrequest.model.entity.PullRequest;
+import sys.be4man.global.config.JpaConfig;
+
+/**
+ * 복구현황 페이지의 빌드 구간 조회 벤치마크 (H2, 실제 리포지토리).
+ * - legacy: 로그 분리 전 경로. 로그가 build_run 에 같이 있던 때처럼 로그 본문까지 한 쿼리로 읽고 애플리케이션에서 min/max 계산
+ *   (분리 후 logEntry 는 지연 로딩이라 fetch join 으로 예전 행 크기를 재현한다)
+ * - entity: BuildRunRepository.findByDeploymentIdIn 으로 엔티티만 읽고 (로그 미로딩) 애플리케이션에서 min/max 계산
+ * - span  : BuildRunRepository.findSpansByDeploymentIdIn 집계 쿼리
+ * 매 회 영속성 컨텍스트를 비우고 실행하며, 지연시간 중앙값과 스레드 할당 바이트를 로그로 남긴다.
+ * 수치는 환경마다 달라 단정하지 않고, 두 경로의 결과가 같은지만 검증한다. -Dbenchmark=true 일 때만 실행한다.
+ */
+@Slf4j
+@DataJpaTest
+@Import(JpaConfig.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("복구현황 빌드 구간 조회 벤치마크")
+class RecoveryBuildSpanBenchmarkTest {
+
+    private static final int DEPLOYMENTS = 5;           // 복구현황 한 페이지
+    private static final int BUILDS_PER_DEPLOYMENT = 6;
+    private static final int LOG_BYTES = 256 * 1024;
+    private static final int WARMUP = 5;
+    private static final int RUNS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BuildRunRepository buildRunRepository;
+
+    private final List<Long> deploymentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Account issuer = entityManager.persist(Account.builder()
+                .githubId(1L)
+                .name("홍길동")
+                .email("hong@example.com")
+                .role(Role.DEVELOPER)
+                .position(JobPosition.STAFF)
+                .department(JobDepartment.IT)
+                .githubAccessToken("test-token")
+                .build());
+        Project project = entityManager.persist(Project.builder()
+                .manager(issuer)
+                .name("결제 서비스")
+                .isRunning(true)
+                .jenkinsIp("127.0.0.1")
+                .build());
+        PullRequest pullRequest = entityManager.persist(PullRequest.builder()
+                .prNumber(1)
+                .repositoryUrl("https://github.com/be4man/payment")
+                .build());
+
+        char[] chars = new char[LOG_BYTES];
+        Arrays.fill(chars, 'x');
+        String log = new String(chars);
+        LocalDateTime base = LocalDateTime.of(2025, 10, 1, 9, 0);
+
+        for (int d = 1; d <= DEPLOYMENTS; d++) {
+            Deployment deployment = entityManager.persist(Deployment.builder()
+                    .project(project)
+                    .issuer(issuer)
+                    .pullRequest(pullRequest)
+                    .title("복구 " + d)
+                    .content("복구 작업")
+                    .stage(DeploymentStage.ROLLBACK)
+                    .status(DeploymentStatus.COMPLETED)
+                    .build());
+            deploymentIds.add(deployment.getId());
+            for (int b = 0; b < BUILDS_PER_DEPLOYMENT; b++) {
+                LocalDateTime started = base.plusDays(d).plusMinutes(b * 10L);
+                entityManager.persist(BuildRun.builder()
+                        .deployment(deployment)
+                        .jenkinsJobName("payment")
+                        .buildNumber((long) b)
+                        .log(log)
+                        .duration(420_000L + b)
+                        .startedAt(started)
+                        .endedAt(started.plusMinutes(7))
+                        .isBuild(true)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.getEntityManager().createNativeQuery("""
+                update deployment d
+                set final_build_run_id = (select max(b.id) from build_run b where b.deployment_id = d.id)
+                """).executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("로그 분리 전 조회, 엔티티 조회, 집계 조회의 구간 결과가 같고, 세 경로의 비용을 기록한다")
+    void recoverySpans_LegacyVsEntityVsSpanQuery() {
+        // 로그 분리 전 경로: 배포별 BuildRun 을 로그 본문까지 읽고 애플리케이션에서 계산
+        Supplier<Map<Long, BuildRunSpanRow>> legacyPath = () -> spans(entityManager.getEntityManager()
+                .createQuery("select b from BuildRun b join fetch b.logEntry "
+                        + "where b.deployment.id in :deploymentIds", BuildRun.class)
+                .setParameter("deploymentIds", deploymentIds)
+                .getResultList());
+
+        // 로그 분리 후 엔티티 경로: 로그는 지연 로딩이라 읽지 않는다
+        Supplier<Map<Long, BuildRunSpanRow>> entityPath = () -> spans(
+                buildRunRepository.findByDeploymentIdIn(deploymentIds));
+
+        // 현재 경로: 배포별 집계만 조회
+        Supplier<Map<Long, BuildRunSpanRow>> spanPath = () -> buildRunRepository
+                .findSpansByDeploymentIdIn(deploymentIds).stream()
+                .collect(Collectors.toMap(BuildRunSpanRow::deploymentId, Function.identity()));
+
+        Result legacy = measure(legacyPath);
+        Result entity = measure(entityPath);
+        Result span = measure(spanPath);
+
+        log.info("[RecoveryBenchmark] {} deployments x {} builds, log {} KB",
+                DEPLOYMENTS, BUILDS_PER_DEPLOYMENT, LOG_BYTES / 1024);
+        log.info("[RecoveryBenchmark] legacy (log fetch)       : median={} ms, allocated={} KB",
+                String.format("%.2f", legacy.medianMs()), legacy.allocatedBytes() / 1024);
+        log.info("[RecoveryBenchmark] findByDeploymentIdIn     : median={} ms, allocated={} KB",
+                String.format("%.2f", entity.medianMs()), entity.allocatedBytes() / 1024);
+        log.info("[RecoveryBenchmark] findSpansByDeploymentIdIn: median={} ms, allocated={} KB",
+                String.format("%.2f", span.medianMs()), span.allocatedBytes() / 1024);
+
+        assertThat(span.rows()).hasSize(DEPLOYMENTS);
+        assertThat(span.rows()).isEqualTo(entity.rows()).isEqualTo(legacy.rows());
+        // 예전 경로는 페이지의 로그 본문(배포 x 빌드 x 로그 크기)을 실제로 읽어야 한다
+        assertThat(legacy.allocatedBytes())
+                .isGreaterThan((long) DEPLOYMENTS * BUILDS_PER_DEPLOYMENT * LOG_BYTES);
+    }
+
+    /**
+     * 배포별 첫 시작/마지막 종료/최종 소요시간을 애플리케이션에서 계산
+     */
+    private static Map<Long, BuildRunSpanRow> spans(List<BuildRun> buildRuns) {
+        return buildRuns.stream()
+                .collect(Collectors.groupingBy(run -> run.getDeployment().getId()))
+                .entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> {
+                    List<BuildRun> runs = e.getValue();
+                    BuildRun last = runs.stream().max(Comparator.comparing(BuildRun::getId)).orElseThrow();
+                    return new BuildRunSpanRow(e.getKey(),
+                            runs.stream().map(BuildRun::getStartedAt).min(Comparator.naturalOrder()).orElseThrow(),
+                            runs.stream().map(BuildRun::getEndedAt).max(Comparator.naturalOrder()).orElseThrow(),
+                            last.getDuration());
+                }));
+    }
+
+    private record Result(Map<Long, BuildRunSpanRow> rows, double medianMs, long allocatedBytes) {}
+
+    /**
+     * 워밍업 후 RUNS 회 실행. 지연시간은 중앙값, 할당량은 1회 평균 (현재 스레드 기준)
+     */
+    private Result measure(Supplier<Map<Long, BuildRunSpanRow>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            entityManager.clear();
+            query.get();
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long[] elapsed = new long[RUNS];
+        Map<Long, BuildRunSpanRow> rows = Map.of();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < RUNS; i++) {
+            entityManager.clear();
+            long started = System.nanoTime();
+            rows = query.get();
+            elapsed[i] = System.nanoTime() - started;
+        }
+        long allocated = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / RUNS;
+        Arrays.sort(elapsed);
+        return new Result(rows, elapsed[RUNS / 2] / 1_000_000d, allocated);
+    }
+}
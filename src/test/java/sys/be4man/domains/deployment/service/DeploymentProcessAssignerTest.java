@@ -0,0 +1,197 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.deployment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.approval.repository.ApprovalRepository;
+import sys.be4man.domains.deployment.event.DeploymentProcessSplitEvent;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.deployment.model.type.DeploymentStage;
+import sys.be4man.domains.deployment.model.type.DeploymentStatus;
+import sys.be4man.domains.deployment.repository.DeploymentRepository;
+import sys.be4man.domains.deployment.service.DeploymentProcessAssigner.Assignment;
+import sys.be4man.domains.deployment.service.DeploymentProcessAssigner.ProcessRow;
+import sys.be4man.domains.project.model.entity.Project;
+import sys.be4man.domains.pullrequest.model.entity.PullRequest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeploymentProcessAssigner 배포 프로세스 지정 테스트")
+class DeploymentProcessAssignerTest {
+
+    @Mock
+    private DeploymentRepository deploymentRepository;
+
+    @Mock
+    private ApprovalRepository approvalRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DeploymentProcessAssigner assigner;
+
+    @Test
+    @DisplayName("계획서는 새 프로세스를 시작하고, 뒤따르는 배포/결과보고는 같은 프로세스에 붙는다")
+    void plan_PlanStartsProcess() {
+        List<Assignment> result = DeploymentProcessAssigner.plan(List.of(
+                new ProcessRow(1L, DeploymentStage.PLAN, null),
+                new ProcessRow(2L, DeploymentStage.DEPLOYMENT, null),
+                new ProcessRow(3L, DeploymentStage.REPORT, null),
+                new ProcessRow(4L, DeploymentStage.PLAN, null)
+        ), Set.of());
+
+        assertThat(result).containsExactly(
+                new Assignment(1L, 1L, null),
+                new Assignment(2L, 1L, 1L),
+                new Assignment(3L, 1L, 2L),
+                new Assignment(4L, 4L, null));
+    }
+
+    @Test
+    @DisplayName("재배포/복구는 독립 프로세스가 되고, 단계가 바뀐 계획서는 결재 타입으로 시작점을 판별한다")
+    void plan_RetryAndFlippedPlan() {
+        List<Assignment> result = DeploymentProcessAssigner.plan(List.of(
+                new ProcessRow(1L, DeploymentStage.REPORT, null),
+                new ProcessRow(2L, DeploymentStage.RETRY, null),
+                new ProcessRow(3L, DeploymentStage.REPORT, null)
+        ), Set.of(1L, 2L));
+
+        assertThat(result).containsExactly(
+                new Assignment(1L, 1L, null),
+                new Assignment(2L, 2L, 1L),
+                new Assignment(3L, 2L, 2L));
+    }
+
+    @Test
+    @DisplayName("이미 지정된 행은 건너뛰고 뒤따르는 행의 기준으로만 쓴다")
+    void plan_SkipsAssignedRows() {
+        List<Assignment> result = DeploymentProcessAssigner.plan(List.of(
+                new ProcessRow(1L, DeploymentStage.PLAN, 1L),
+                new ProcessRow(2L, DeploymentStage.DEPLOYMENT, null)
+        ), Set.of());
+
+        assertThat(result).containsExactly(new Assignment(2L, 1L, 1L));
+    }
+
+    @Test
+    @DisplayName("새 배포 작업은 바로 앞선 배포의 프로세스에 붙는다")
+    void assign_DeploymentJoinsPreviousProcess() {
+        Deployment previous = deployment(10L, DeploymentStage.PLAN);
+        previous.assignProcess(10L, null);
+        Deployment created = deployment(11L, DeploymentStage.DEPLOYMENT);
+        when(deploymentRepository
+                .findFirstByProject_IdAndPullRequest_IdAndIdNotAndIsDeletedFalseOrderByCreatedAtDescIdDesc(
+                        1L, 1L, 11L))
+                .thenReturn(Optional.of(previous));
+
+        assigner.assign(created);
+
+        assertThat(created.getProcessId()).isEqualTo(10L);
+        assertThat(created.getParentDeploymentId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("새 계획서는 앞선 배포와 관계없이 자기 자신이 프로세스 시작점이다")
+    void assign_PlanStartsProcess() {
+        Deployment previous = deployment(10L, DeploymentStage.REPORT);
+        previous.assignProcess(10L, null);
+        Deployment created = deployment(11L, DeploymentStage.PLAN);
+        when(deploymentRepository
+                .findFirstByProject_IdAndPullRequest_IdAndIdNotAndIsDeletedFalseOrderByCreatedAtDescIdDesc(
+                        1L, 1L, 11L))
+                .thenReturn(Optional.of(previous));
+
+        assigner.assign(created);
+
+        assertThat(created.getProcessId()).isEqualTo(11L);
+        assertThat(created.getParentDeploymentId()).isNull();
+    }
+
+    @Test
+    @DisplayName("앞선 배포가 아직 보정 전이면 그 프로젝트/PR 을 먼저 보정하고 같은 프로세스에 붙는다")
+    void assign_PreviousUnassigned_BackfillsGroupFirst() {
+        Deployment previous = deployment(10L, DeploymentStage.PLAN);
+        Deployment created = deployment(11L, DeploymentStage.DEPLOYMENT);
+        when(deploymentRepository
+                .findFirstByProject_IdAndPullRequest_IdAndIdNotAndIsDeletedFalseOrderByCreatedAtDescIdDesc(
+                        1L, 1L, 11L))
+                .thenReturn(Optional.of(previous));
+        when(deploymentRepository.findByProject_IdAndPullRequest_IdAndIsDeletedFalseOrderByCreatedAtAscIdAsc(
+                1L, 1L))
+                .thenReturn(List.of(previous, created));
+
+        assigner.assign(created);
+
+        assertThat(previous.getProcessId()).isEqualTo(10L);
+        assertThat(created.getProcessId()).isEqualTo(10L);
+        assertThat(created.getParentDeploymentId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("프로세스 시작 배포가 재배포로 바뀌면 뒤따르던 배포는 첫 배포를 시작점으로 하는 프로세스로 옮긴다")
+    void onStageChanged_HeadToRetry_MovesFollowers() {
+        Deployment head = deployment(10L, DeploymentStage.RETRY);
+        head.assignProcess(10L, null);
+        Deployment deployed = deployment(11L, DeploymentStage.DEPLOYMENT);
+        deployed.assignProcess(10L, 10L);
+        Deployment report = deployment(12L, DeploymentStage.REPORT);
+        report.assignProcess(10L, 11L);
+        when(deploymentRepository.findByProcessIdAndIdNotAndIsDeletedFalseOrderByCreatedAtAscIdAsc(10L, 10L))
+                .thenReturn(List.of(deployed, report));
+
+        assigner.onStageChanged(head);
+
+        assertThat(head.getProcessId()).isEqualTo(10L);
+        assertThat(deployed.getProcessId()).isEqualTo(11L);
+        assertThat(deployed.getParentDeploymentId()).isEqualTo(10L);
+        assertThat(report.getProcessId()).isEqualTo(11L);
+        verify(eventPublisher).publishEvent(new DeploymentProcessSplitEvent(10L, 11L));
+    }
+
+    @Test
+    @DisplayName("뒤따르던 배포가 재배포로 바뀌면 자기만 분리하고 다른 배포는 건드리지 않는다")
+    void onStageChanged_FollowerToRetry_SplitsSelfOnly() {
+        Deployment follower = deployment(11L, DeploymentStage.RETRY);
+        follower.assignProcess(10L, 10L);
+
+        assigner.onStageChanged(follower);
+
+        assertThat(follower.getProcessId()).isEqualTo(11L);
+        assertThat(follower.getParentDeploymentId()).isEqualTo(10L);
+        verifyNoInteractions(deploymentRepository, eventPublisher);
+    }
+
+    private static Deployment deployment(Long id, DeploymentStage stage) {
+        Project project = Project.builder().name("payment").build();
+        ReflectionTestUtils.setField(project, "id", 1L);
+        PullRequest pullRequest = PullRequest.builder().prNumber(1).build();
+        ReflectionTestUtils.setField(pullRequest, "id", 1L);
+        Deployment deployment = Deployment.builder()
+                .project(project)
+                .pullRequest(pullRequest)
+                .title("배포 요청")
+                .stage(stage)
+                .status(DeploymentStatus.PENDING)
+                .build();
+        ReflectionTestUtils.setField(deployment, "id", id);
+        return deployment;
+    }
+}
@@ -0,0 +1,64 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.export.service.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sys.be4man.domains.export.model.type.ExportFormat;
+
+@DisplayName("ExportRowWriter - CSV/NDJSON 출력 테스트")
+class ExportRowWriterTest {
+
+    private static final List<String> COLUMNS = List.of("id", "title", "isDeployed", "createdAt");
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 9, 30);
+
+    @Test
+    @DisplayName("CSV 는 BOM + 헤더로 시작하고 쉼표/따옴표/수식 시작 문자를 이스케이프")
+    void csv_EscapesSpecialValues() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (ExportRowWriter writer =
+                ExportRowWriter.open(ExportFormat.CSV, out, COLUMNS, new ObjectMapper())) {
+            writer.writeRow(new Object[]{1L, "배포, \"긴급\"", true, Timestamp.valueOf(CREATED_AT)});
+            writer.writeRow(new Object[]{2L, "=cmd()", null, null});
+            writer.writeRow(new Object[]{3L, "\t=cmd()", null, null});
+            writer.writeRow(new Object[]{4L, "\r=cmd()", null, null});
+        }
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "\uFEFFid,title,isDeployed,createdAt\r\n"
+                        + "1,\"배포, \"\"긴급\"\"\",true,2025-03-01T09:30\r\n"
+                        + "2,'=cmd(),,\r\n"
+                        + "3,'\t=cmd(),,\r\n"
+                        + "4,\"'\r=cmd()\",,\r\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 한 줄에 객체 하나, 숫자/불리언은 JSON 타입 유지")
+    void ndjson_WritesOneObjectPerLine() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (ExportRowWriter writer =
+                ExportRowWriter.open(ExportFormat.NDJSON, out, COLUMNS, new ObjectMapper())) {
+            writer.writeRow(new Object[]{1L, "배포", true, CREATED_AT});
+            writer.writeRow(new Object[]{2L, null, false, null});
+        }
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"title\":\"배포\",\"isDeployed\":true,\"createdAt\":\"2025-03-01T09:30\"}\n"
+                        + "{\"id\":2,\"title\":null,\"isDeployed\":false,\"createdAt\":null}\n");
+    }
+}
@@ -0,0 +1,112 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import sys.be4man.domains.account.model.entity.Account;
+import sys.be4man.domains.approval.repository.ApprovalLineRepository;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.deployment.repository.DeploymentRepository;
+import sys.be4man.domains.notification.event.NotificationsRecordedEvent;
+import sys.be4man.domains.notification.model.entity.Notification;
+import sys.be4man.domains.notification.model.type.NotificationKind;
+import sys.be4man.domains.notification.repository.NotificationRepository;
+import sys.be4man.domains.project.model.entity.Project;
+import sys.be4man.domains.statistics.event.BuildDurationRegressionChangedEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationRecorder - 빌드 소요시간 회귀 알림 기록 테스트")
+class NotificationRecorderTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private DeploymentRepository deploymentRepository;
+
+    @Mock
+    private ApprovalLineRepository approvalLineRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private NotificationRecorder recorder;
+
+    @Test
+    @DisplayName("회귀 감지 시 프로젝트 담당자와 빌드 배포 요청자에게 알림을 기록하고 실시간 전송 이벤트를 발행한다")
+    @SuppressWarnings("unchecked")
+    void onBuildDurationRegressionChanged_RecordsForManagerAndIssuer() {
+        // given
+        Deployment deployment = deployment(10L, 1L, 2L);
+        when(deploymentRepository.findById(10L)).thenReturn(Optional.of(deployment));
+
+        // when
+        recorder.onBuildDurationRegressionChanged(
+                new BuildDurationRegressionChangedEvent(5L, 10L, 30L, true, 600L, 1200L));
+
+        // then
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(Notification::getAccountId, Notification::getKind)
+                .containsExactly(
+                        tuple(1L, NotificationKind.BUILD_REGRESSION),
+                        tuple(2L, NotificationKind.BUILD_REGRESSION));
+        assertThat(saved.getValue().get(0).getReason()).contains("600초", "1200초");
+
+        ArgumentCaptor<NotificationsRecordedEvent> event =
+                ArgumentCaptor.forClass(NotificationsRecordedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().kind()).isEqualTo(NotificationKind.BUILD_REGRESSION);
+        assertThat(event.getValue().accountIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("담당자가 직접 요청한 배포면 한 번만 기록하고, 해제는 회복 알림으로 기록한다")
+    @SuppressWarnings("unchecked")
+    void onBuildDurationRegressionChanged_Cleared_DeduplicatesRecipients() {
+        Deployment deployment = deployment(10L, 1L, 1L);
+        when(deploymentRepository.findById(10L)).thenReturn(Optional.of(deployment));
+
+        recorder.onBuildDurationRegressionChanged(
+                new BuildDurationRegressionChangedEvent(5L, 10L, 44L, false, 603L, 640L));
+
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(Notification::getAccountId, Notification::getKind)
+                .containsExactly(tuple(1L,
+                        NotificationKind.BUILD_REGRESSION_CLEARED));
+    }
+
+    private static Deployment deployment(Long id, Long managerId, Long issuerId) {
+        Account manager = mock(Account.class);
+        when(manager.getId()).thenReturn(managerId);
+        Account issuer = mock(Account.class);
+        when(issuer.getId()).thenReturn(issuerId);
+        Project project = mock(Project.class);
+        when(project.getManager()).thenReturn(manager);
+        when(project.getName()).thenReturn("payment");
+        Deployment deployment = mock(Deployment.class);
+        when(deployment.getId()).thenReturn(id);
+        when(deployment.getProject()).thenReturn(project);
+        when(deployment.getIssuer()).thenReturn(issuer);
+        when(deployment.getTitle()).thenReturn("결제 서비스 배포");
+        return deployment;
+    }
+}
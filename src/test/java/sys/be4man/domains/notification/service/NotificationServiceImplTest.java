@@ -0,0 +1,106 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import sys.be4man.domains.notification.dto.response.NotificationItemResponse;
+import sys.be4man.domains.notification.model.entity.Notification;
+import sys.be4man.domains.notification.model.type.NotificationKind;
+import sys.be4man.domains.notification.repository.NotificationRepository;
+import sys.be4man.global.dto.response.CursorPageResponse;
+import sys.be4man.global.util.KeysetCursor;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationService 알림 피드 조회 테스트")
+class NotificationServiceImplTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @InjectMocks
+    private NotificationServiceImpl notificationService;
+
+    @Test
+    @DisplayName("첫 페이지: size + 1 건이 조회되면 다음 페이지가 있고 cursor 는 마지막 항목 위치, 건수는 세지 않는다")
+    void getFeed_FirstPage_HasNext() {
+        when(notificationRepository.findByAccountIdAndIsDeletedFalseOrderByIdDesc(1L, Limit.of(3)))
+                .thenReturn(notifications(10, 9, 8));
+
+        CursorPageResponse<NotificationItemResponse> result =
+                notificationService.getFeed(1L, null, 2, false);
+
+        assertThat(result.items()).extracting(NotificationItemResponse::id)
+                .containsExactly(10L, 9L);
+        assertThat(result.items().get(0).kind()).isEqualTo("반려");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(result.nextCursor()).id()).isEqualTo(9L);
+        assertThat(result.total()).isNull();
+        verify(notificationRepository, never()).countByAccountIdAndIsDeletedFalse(1L);
+    }
+
+    @Test
+    @DisplayName("cursor 이후 마지막 페이지: 다음 페이지 없음, withTotal 이면 전체 건수 포함")
+    void getFeed_LastPage() {
+        when(notificationRepository.findByAccountIdAndIdLessThanAndIsDeletedFalseOrderByIdDesc(
+                1L, 9L, Limit.of(3)))
+                .thenReturn(notifications(8));
+        when(notificationRepository.countByAccountIdAndIsDeletedFalse(1L)).thenReturn(3L);
+        String cursor = new KeysetCursor(LocalDateTime.of(2025, 1, 1, 9, 0), 9L).encode();
+
+        CursorPageResponse<NotificationItemResponse> result =
+                notificationService.getFeed(1L, cursor, 2, true);
+
+        assertThat(result.items()).extracting(NotificationItemResponse::id)
+                .containsExactly(8L);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.total()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("size 는 최대값으로 제한")
+    void getFeed_SizeCapped() {
+        when(notificationRepository.findByAccountIdAndIsDeletedFalseOrderByIdDesc(1L,
+                Limit.of(NotificationServiceImpl.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of());
+
+        CursorPageResponse<NotificationItemResponse> result =
+                notificationService.getFeed(1L, null, 10_000, false);
+
+        assertThat(result.items()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    private static List<Notification> notifications(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> {
+                    Notification n = Notification.builder()
+                            .accountId(1L)
+                            .deploymentId(100L + id)
+                            .kind(NotificationKind.REJECTED)
+                            .reason("반려 사유")
+                            .serviceName("서비스")
+                            .deploymentTitle("배포 " + id)
+                            .build();
+                    ReflectionTestUtils.setField(n, "id", id);
+                    ReflectionTestUtils.setField(n, "createdAt",
+                            LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(id));
+                    return n;
+                })
+                .toList();
+    }
+}
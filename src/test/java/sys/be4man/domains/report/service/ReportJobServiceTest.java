@@ -0,0 +1,194 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.report.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import sys.be4man.domains.report.dto.request.ReportJobRequest;
+import sys.be4man.domains.report.dto.response.ReportJobResponse;
+import sys.be4man.domains.report.model.type.ReportJobStatus;
+import sys.be4man.domains.report.model.type.ReportType;
+import sys.be4man.domains.statistics.dto.response.BanTypeStatsResponse;
+import sys.be4man.domains.statistics.service.StatisticsService;
+import sys.be4man.domains.statistics.service.cache.StatisticsResponseCache;
+import sys.be4man.global.exception.BadRequestException;
+import sys.be4man.global.exception.ConflictException;
+
+@DisplayName("ReportJobService - 비동기 리포트 작업 테스트")
+class ReportJobServiceTest {
+
+    private static final Long ALICE = 1L;
+    private static final Long BOB = 2L;
+
+    private static final ReportJobRequest BAN_TYPE =
+            new ReportJobRequest(ReportType.BAN_TYPE, 42L, null, null, null, null);
+
+    private final StatisticsService statisticsService = mock(StatisticsService.class);
+    private final StatisticsResponseCache cache = mock(StatisticsResponseCache.class);
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    private ReportJobService service;
+
+    @BeforeEach
+    void setUp() {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(5);
+        executor.initialize();
+
+        service = new ReportJobService(statisticsService, cache, new ObjectMapper(),
+                mock(PlatformTransactionManager.class), executor);
+        ReflectionTestUtils.setField(service, "timeoutSeconds", 60);
+        ReflectionTestUtils.setField(service, "jobTtlMinutes", 60L);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 명세의 완료 결과가 캐시에 있으면 실행 없이 바로 완료")
+    void submit_CacheHit() {
+        // given
+        when(cache.peekJson(eq("report"), eq(42L), anyString())).thenReturn("{\"total\":3}");
+
+        // when
+        ReportJobResponse job = service.submit(ALICE, BAN_TYPE);
+
+        // then
+        assertThat(job.status()).isEqualTo(ReportJobStatus.COMPLETED);
+        assertThat(job.cached()).isTrue();
+        assertThat(service.result(job.jobId())).isEqualTo("{\"total\":3}");
+        verify(statisticsService, never()).getBanTypeStats(any());
+    }
+
+    @Test
+    @DisplayName("실행 중인 같은 명세는 하나의 작업으로 합치고, 완료 결과는 캐시에 저장")
+    void submit_SameSpecInFlight_Deduplicated() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(statisticsService.getBanTypeStats(42L)).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new BanTypeStatsResponse(42L, List.of(), 0L);
+        });
+
+        // when
+        ReportJobResponse first = service.submit(ALICE, BAN_TYPE);
+        ReportJobResponse second = service.submit(BOB,
+                new ReportJobRequest(ReportType.BAN_TYPE, 42L, null, null, "month", 120L));
+        release.countDown();
+
+        // then
+        assertThat(second.jobId()).isEqualTo(first.jobId());
+        verify(cache, timeout(2_000)).putJson(eq("report"), eq(42L), anyString(), anyString());
+        assertThat(service.get(first.jobId()).status()).isEqualTo(ReportJobStatus.COMPLETED);
+        assertThat(service.result(first.jobId())).contains("\"projectId\":42");
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업을 취소하면 실행하지 않고, 결과 다운로드는 거절")
+    void cancel_Queued() throws Exception {
+        // given: 앞 작업이 풀(1개)을 점유
+        CountDownLatch release = new CountDownLatch(1);
+        when(statisticsService.getBanTypeStats(isNull())).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new BanTypeStatsResponse(null, List.of(), 0L);
+        });
+        service.submit(BOB,
+                new ReportJobRequest(ReportType.BAN_TYPE, null, null, null, null, null));
+        ReportJobResponse queued = service.submit(ALICE, BAN_TYPE);
+
+        // when
+        ReportJobResponse canceled = service.cancel(ALICE, queued.jobId());
+        release.countDown();
+
+        // then
+        assertThat(canceled.status()).isEqualTo(ReportJobStatus.CANCELED);
+        assertThatThrownBy(() -> service.result(queued.jobId()))
+                .isInstanceOf(ConflictException.class);
+        executor.getThreadPoolExecutor().shutdown();
+        executor.getThreadPoolExecutor().awaitTermination(2, TimeUnit.SECONDS);
+        verify(statisticsService, never()).getBanTypeStats(42L);
+    }
+
+    @Test
+    @DisplayName("합쳐진 작업은 한 요청자가 취소해도 계속 실행되고, 마지막 요청자가 취소할 때 멈춘다")
+    void cancel_MergedJob_OnlyLastRequesterCancels() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(statisticsService.getBanTypeStats(42L)).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new BanTypeStatsResponse(42L, List.of(), 0L);
+        });
+        ReportJobResponse first = service.submit(ALICE, BAN_TYPE);
+        service.submit(BOB, BAN_TYPE);
+
+        // when: 첫 취소는 그 요청자만 뺀다
+        ReportJobResponse afterFirst = service.cancel(ALICE, first.jobId());
+
+        // then
+        assertThat(afterFirst.status()).isNotEqualTo(ReportJobStatus.CANCELED);
+
+        // when: 마지막 요청자의 취소
+        ReportJobResponse afterSecond = service.cancel(BOB, first.jobId());
+        release.countDown();
+
+        // then: 취소 후 같은 명세는 새 작업으로 접수
+        assertThat(afterSecond.status()).isEqualTo(ReportJobStatus.CANCELED);
+        assertThat(service.submit(ALICE, BAN_TYPE).jobId()).isNotEqualTo(first.jobId());
+    }
+
+    @Test
+    @DisplayName("한 요청자가 여러 번 취소해도 다른 요청자가 기다리는 합쳐진 작업은 끝까지 실행된다")
+    void cancel_SameRequesterTwice_JobKeepsRunning() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(statisticsService.getBanTypeStats(42L)).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new BanTypeStatsResponse(42L, List.of(), 0L);
+        });
+        ReportJobResponse first = service.submit(ALICE, BAN_TYPE);
+        service.submit(BOB, BAN_TYPE);
+
+        // when
+        service.cancel(ALICE, first.jobId());
+        ReportJobResponse again = service.cancel(ALICE, first.jobId());
+        release.countDown();
+
+        // then
+        assertThat(again.status()).isNotEqualTo(ReportJobStatus.CANCELED);
+        verify(cache, timeout(2_000)).putJson(eq("report"), eq(42L), anyString(), anyString());
+        assertThat(service.get(first.jobId()).status()).isEqualTo(ReportJobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 접수 거절")
+    void submit_InvalidPeriod() {
+        assertThatThrownBy(() -> service.submit(ALICE, new ReportJobRequest(ReportType.SERIES, null,
+                LocalDate.of(2025, 6, 1), LocalDate.of(2025, 1, 1), null, null)))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import sys.be4man.domains.account.model.entity.Account;
 import sys.be4man.domains.account.model.type.JobDepartment;
@@ -41,6 +42,9 @@ class ScheduleServiceCancelBanTest {
     @Mock
     private AccountChecker accountChecker;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ScheduleServiceImpl scheduleService;
 
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import sys.be4man.domains.account.model.entity.Account;
 import sys.be4man.domains.account.model.type.JobDepartment;
@@ -64,6 +65,9 @@ class ScheduleServiceCreateBanTest {
     @Mock
     private DeploymentRepository deploymentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ScheduleServiceImpl scheduleService;
 
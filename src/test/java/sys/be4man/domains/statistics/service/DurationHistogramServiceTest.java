@@ -0,0 +1,181 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.statistics.model.entity.ProjectMonthlyDuration;
+import sys.be4man.domains.statistics.repository.ProjectMonthlyDurationRepository;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository.BuildDurationRow;
+import sys.be4man.domains.statistics.service.sketch.QuantileSketch;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DurationHistogramService - 소요시간 분포 증분/재구축 테스트")
+class DurationHistogramServiceTest {
+
+    private static final LocalDate JAN = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FEB = LocalDate.of(2025, 2, 1);
+
+    @Mock
+    private ProjectMonthlyDurationRepository monthlyDurationRepository;
+
+    @Mock
+    private StatisticsRollupRepository rollupRepository;
+
+    @Mock
+    private StatisticsRebuildLock rebuildLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private DurationHistogramService service;
+
+    @BeforeEach
+    void setUp() {
+        service.init();
+    }
+
+    @Test
+    @DisplayName("빌드 저장 커밋 후 새 트랜잭션에서 공유 잠금을 잡고 해당 월 행을 보장한 뒤 잠가서 소요시간을 더한다")
+    void onBuildRunPersisted_LocksSharedThenMerges() {
+        // given: 1월 행에 이미 120초 한 건
+        QuantileSketch existing = new QuantileSketch();
+        existing.add(120);
+        ProjectMonthlyDuration row = ProjectMonthlyDuration.builder()
+                .projectId(1L).monthStart(JAN).sketch(existing).build();
+        when(rollupRepository.isActiveBuildRun(30L)).thenReturn(true);
+        when(monthlyDurationRepository.findForUpdate(1L, JAN)).thenReturn(Optional.of(row));
+
+        // when
+        service.onBuildRunPersisted(event(1L, LocalDateTime.of(2025, 1, 20, 9, 0), 600L));
+
+        // then
+        InOrder order = inOrder(rollupRepository, transactionManager, rebuildLock,
+                monthlyDurationRepository);
+        order.verify(rollupRepository).isActiveBuildRun(30L);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(rebuildLock).lockShared();
+        order.verify(monthlyDurationRepository).insertIfAbsent(eq(1L), eq(JAN), any());
+        order.verify(monthlyDurationRepository).findForUpdate(1L, JAN);
+        order.verify(transactionManager).commit(any());
+        assertThat(row.getSampleCount()).isEqualTo(2L);
+        assertThat(row.getMaxSeconds()).isBetween(594L, 606L);
+    }
+
+    @Test
+    @DisplayName("소요시간이 없는 빌드는 잠금 없이 건너뛴다")
+    void onBuildRunPersisted_NoDuration_Skips() {
+        service.onBuildRunPersisted(event(1L, LocalDateTime.of(2025, 1, 20, 9, 0), null));
+
+        verify(rebuildLock, never()).lockShared();
+        verify(monthlyDurationRepository, never()).insertIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("소프트 삭제된 빌드는 재구축과 같이 반영하지 않는다")
+    void onBuildRunPersisted_DeletedBuild_Skips() {
+        when(rollupRepository.isActiveBuildRun(30L)).thenReturn(false);
+
+        service.onBuildRunPersisted(event(1L, LocalDateTime.of(2025, 1, 20, 9, 0), 600L));
+
+        verify(rebuildLock, never()).lockShared();
+        verify(monthlyDurationRepository, never()).insertIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("증분 반영이 실패해도 이미 커밋된 원본 쪽으로 예외를 던지지 않고 롤백한다")
+    void onBuildRunPersisted_Failure_DoesNotPropagate() {
+        when(rollupRepository.isActiveBuildRun(30L)).thenReturn(true);
+        when(monthlyDurationRepository.insertIfAbsent(eq(1L), eq(JAN), any()))
+                .thenThrow(new IllegalStateException("DB 오류"));
+
+        service.onBuildRunPersisted(event(1L, LocalDateTime.of(2025, 1, 20, 9, 0), 600L));
+
+        verify(transactionManager).rollback(any());
+        verify(monthlyDurationRepository, never()).findForUpdate(any(), any());
+    }
+
+    @Test
+    @DisplayName("재구축은 프로젝트마다 새 트랜잭션에서 배타 잠금을 잡고 지운 뒤 (월) 스케치로 다시 저장한다")
+    @SuppressWarnings("unchecked")
+    void rebuild_ReplacesRowsPerProject() {
+        // given: 빌드가 있는 프로젝트 1, 2 / 기존 행만 남은 프로젝트 3 (빌드 모두 삭제)
+        when(rollupRepository.findBuildDurationProjectIds()).thenReturn(List.of(2L, 1L));
+        when(monthlyDurationRepository.findDistinctProjectIds()).thenReturn(List.of(2L, 3L));
+        doAnswer(inv -> {
+            Consumer<BuildDurationRow> consumer = inv.getArgument(1);
+            consumer.accept(new BuildDurationRow(1L, LocalDateTime.of(2025, 1, 3, 9, 0), 60L));
+            consumer.accept(new BuildDurationRow(1L, LocalDateTime.of(2025, 1, 28, 9, 0), 300L));
+            consumer.accept(new BuildDurationRow(1L, LocalDateTime.of(2025, 2, 1, 0, 0), 90L));
+            return null;
+        }).when(rollupRepository).streamBuildDurations(eq(1L), any());
+        doAnswer(inv -> {
+            Consumer<BuildDurationRow> consumer = inv.getArgument(1);
+            consumer.accept(new BuildDurationRow(2L, LocalDateTime.of(2025, 1, 15, 9, 0), 30L));
+            return null;
+        }).when(rollupRepository).streamBuildDurations(eq(2L), any());
+
+        // when
+        service.rebuild();
+
+        // then: 프로젝트 순서대로 (잠금 → 삭제 → 원본 읽기 → 저장 → 커밋)
+        ArgumentCaptor<List<ProjectMonthlyDuration>> saved = ArgumentCaptor.forClass(List.class);
+        InOrder order = inOrder(transactionManager, rebuildLock, monthlyDurationRepository,
+                rollupRepository);
+        for (long projectId = 1L; projectId <= 3L; projectId++) {
+            order.verify(transactionManager).getTransaction(any());
+            order.verify(rebuildLock).lockExclusive();
+            order.verify(monthlyDurationRepository).deleteAllByProjectIdInBatch(projectId);
+            order.verify(rollupRepository).streamBuildDurations(eq(projectId), any());
+            order.verify(monthlyDurationRepository).saveAll(saved.capture());
+            order.verify(transactionManager).commit(any());
+        }
+        verify(rebuildLock, times(3)).lockExclusive();
+
+        assertThat(saved.getAllValues().get(0))
+                .extracting(ProjectMonthlyDuration::getProjectId,
+                        ProjectMonthlyDuration::getMonthStart,
+                        ProjectMonthlyDuration::getSampleCount)
+                .containsExactly(
+                        tuple(1L, JAN, 2L),
+                        tuple(1L, FEB, 1L));
+        assertThat(saved.getAllValues().get(1))
+                .extracting(ProjectMonthlyDuration::getProjectId,
+                        ProjectMonthlyDuration::getMonthStart,
+                        ProjectMonthlyDuration::getSampleCount)
+                .containsExactly(tuple(2L, JAN, 1L));
+        assertThat(saved.getAllValues().get(2)).isEmpty();
+    }
+
+    private static BuildRunPersistedEvent event(Long projectId, LocalDateTime startedAt,
+            Long duration) {
+        return new BuildRunPersistedEvent(30L, 10L, projectId, true, duration, startedAt,
+                startedAt.plusMinutes(10));
+    }
+}
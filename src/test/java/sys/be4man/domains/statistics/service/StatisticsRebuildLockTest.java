@@ -0,0 +1,113 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.persistence.EntityManager;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsRebuildLock - 증분/재구축 직렬화 테스트 (JVM 잠금)")
+class StatisticsRebuildLockTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    private StatisticsRebuildLock lock;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        lock = new StatisticsRebuildLock(entityManager);
+        ReflectionTestUtils.setField(lock, "url", "jdbc:h2:mem:testdb");
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("증분 트랜잭션이 공유 잠금을 쥐고 있으면 재구축은 그 트랜잭션이 끝날 때까지 기다린다")
+    void lockExclusive_WaitsForSharedHolderToComplete() throws Exception {
+        CountDownLatch sharedHeld = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> incremental = executor.submit(() -> inTransaction(() -> {
+            lock.lockShared();
+            sharedHeld.countDown();
+            await(release);
+        }));
+        assertThat(sharedHeld.await(5, TimeUnit.SECONDS)).isTrue();
+
+        ExecutorService rebuilder = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> rebuild = rebuilder.submit(() -> inTransaction(lock::lockExclusive));
+            assertThatThrownBy(() -> rebuild.get(200, TimeUnit.MILLISECONDS))
+                    .isInstanceOf(TimeoutException.class);
+
+            // 증분 트랜잭션이 끝나면 재구축이 잠금을 얻는다
+            release.countDown();
+            incremental.get(5, TimeUnit.SECONDS);
+            rebuild.get(5, TimeUnit.SECONDS);
+        } finally {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 여러 리스너가 공유 잠금을 다시 잡아도 된다")
+    void lockShared_ReentrantWithinTransaction() throws Exception {
+        executor.submit(() -> inTransaction(() -> {
+            lock.lockShared();
+            lock.lockShared();
+        })).get(5, TimeUnit.SECONDS);
+
+        // 모두 풀렸으면 배타 잠금을 바로 얻는다
+        executor.submit(() -> inTransaction(lock::lockExclusive)).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 잠금을 잡지 않는다")
+    void lockShared_OutsideTransaction_Throws() {
+        assertThatThrownBy(lock::lockShared).isInstanceOf(IllegalStateException.class);
+    }
+
+    /** 트랜잭션 동기화를 열고 작업 후 커밋 완료 콜백까지 흉내 낸다 */
+    private static void inTransaction(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+        } finally {
+            for (TransactionSynchronization sync :
+                    TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
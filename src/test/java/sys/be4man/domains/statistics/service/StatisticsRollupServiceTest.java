@@ -0,0 +1,237 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.analysis.event.StageRunAnalyzedEvent;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.deployment.event.DeploymentResultChangedEvent;
+import sys.be4man.domains.statistics.model.entity.ProjectDailyProblemStat;
+import sys.be4man.domains.statistics.model.entity.ProjectDailyStat;
+import sys.be4man.domains.statistics.repository.ProjectDailyProblemStatRepository;
+import sys.be4man.domains.statistics.repository.ProjectDailyStatRepository;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository.DailyBuildRow;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository.DailyDeploymentRow;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository.DailyProblemRow;
+import sys.be4man.domains.statistics.repository.StatisticsRollupRepository.ProblemTypeCountRow;
+import sys.be4man.domains.statistics.service.cache.StatisticsResponseCache;
+
+/**
+ * 같은 원본 데이터에 대해 이벤트 증분 결과와 재구축 결과가 같은지 확인한다.
+ * 원본: 프로젝트 1
+ * - 배포 10 (3/1 생성): 결과 null → 실패 → 성공, 빌드 30 (3/2, 300초, 빌드 실패 스테이지 → 재분석 후 기타)
+ * - 배포 11 (3/1 생성, 소프트 삭제): 결과 null → 성공, 빌드 31 (3/2, 120초, 테스트 실패 스테이지)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsRollupService - 증분/재구축 일치 테스트")
+class StatisticsRollupServiceTest {
+
+    private static final LocalDate CREATED = LocalDate.of(2025, 3, 1);
+    private static final LocalDateTime STARTED = LocalDateTime.of(2025, 3, 2, 10, 0);
+
+    @Mock
+    private ProjectDailyStatRepository dailyStatRepository;
+
+    @Mock
+    private ProjectDailyProblemStatRepository problemStatRepository;
+
+    @Mock
+    private StatisticsRollupRepository rollupRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private StatisticsResponseCache statisticsResponseCache;
+
+    @Mock
+    private DurationHistogramService durationHistogramService;
+
+    @Mock
+    private StatisticsRebuildLock rebuildLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private StatisticsRollupService service;
+
+    // 증분 upsert 결과: "project|date" → [성공, 실패, 빌드 수, 소요시간 합], "project|date|type" → 건수
+    private final Map<String, List<Long>> incrementalDaily = new HashMap<>();
+    private final Map<String, Long> incrementalProblems = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        service.init();
+        lenient().when(dailyStatRepository.upsertIncrement(anyLong(), any(), anyLong(), anyLong(),
+                anyLong(), anyLong())).thenAnswer(inv -> {
+                    String key = inv.getArgument(0) + "|" + inv.getArgument(1);
+                    List<Long> acc = incrementalDaily.getOrDefault(key, List.of(0L, 0L, 0L, 0L));
+                    incrementalDaily.put(key, List.of(
+                            acc.get(0) + inv.<Long>getArgument(2),
+                            acc.get(1) + inv.<Long>getArgument(3),
+                            acc.get(2) + inv.<Long>getArgument(4),
+                            acc.get(3) + inv.<Long>getArgument(5)));
+                    return 1;
+                });
+        lenient().when(problemStatRepository.upsertIncrement(anyLong(), any(), anyString(),
+                anyLong())).thenAnswer(inv -> {
+                    incrementalProblems.merge(inv.getArgument(0) + "|" + inv.getArgument(1) + "|"
+                            + inv.getArgument(2), inv.<Long>getArgument(3), Long::sum);
+                    return 1;
+                });
+    }
+
+    @Test
+    @DisplayName("이벤트 증분으로 쌓은 롤업과 원본 재구축 결과가 같다 (소프트 삭제 배포 제외)")
+    @SuppressWarnings("unchecked")
+    void incrementalEqualsRebuild() {
+        // given: 증분 경로
+        when(rollupRepository.isActiveDeployment(10L)).thenReturn(true);
+        when(rollupRepository.isActiveDeployment(11L)).thenReturn(false);
+        when(rollupRepository.isActiveBuildRun(30L)).thenReturn(true);
+        when(rollupRepository.isActiveBuildRun(31L)).thenReturn(false);
+        when(rollupRepository.isActiveStageRun(50L)).thenReturn(true);
+        when(rollupRepository.countProblemTypesByBuildRunId(30L)).thenReturn(
+                List.of(new ProblemTypeCountRow(ProblemType.BUILD_AND_PACKAGING_FAILURES, 1L)));
+
+        service.onDeploymentResultChanged(resultChanged(10L, null, false));
+        service.onBuildRunPersisted(buildPersisted(30L, 10L, 300L));
+        service.onStageRunAnalyzed(new StageRunAnalyzedEvent(50L, 30L, 1L, STARTED,
+                ProblemType.BUILD_AND_PACKAGING_FAILURES, ProblemType.OTHERS));
+        service.onDeploymentResultChanged(resultChanged(10L, false, true));
+        service.onDeploymentResultChanged(resultChanged(11L, null, true));
+        service.onBuildRunPersisted(buildPersisted(31L, 11L, 120L));
+
+        // given: 재구축 경로 (리포지토리 집계는 소프트 삭제된 배포 11 과 그 빌드를 제외)
+        doAnswer(inv -> {
+            ((Consumer<TransactionStatus>) inv.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(rollupRepository.aggregateDailyDeploymentResults()).thenReturn(
+                List.of(new DailyDeploymentRow(1L, CREATED, 1L, 0L)));
+        when(rollupRepository.aggregateDailyBuilds()).thenReturn(
+                List.of(new DailyBuildRow(1L, STARTED.toLocalDate(), 1L, 300L)));
+        when(rollupRepository.aggregateDailyProblems()).thenReturn(
+                List.of(new DailyProblemRow(1L, STARTED.toLocalDate(), ProblemType.OTHERS, 1L)));
+
+        // when
+        service.rebuild();
+
+        // then
+        ArgumentCaptor<List<ProjectDailyStat>> daily = ArgumentCaptor.forClass(List.class);
+        verify(dailyStatRepository).saveAll(daily.capture());
+        Map<String, List<Long>> rebuiltDaily = new HashMap<>();
+        for (ProjectDailyStat stat : daily.getValue()) {
+            rebuiltDaily.put(stat.getProjectId() + "|" + stat.getStatDate(), List.of(
+                    stat.getDeploymentSuccessCount(), stat.getDeploymentFailedCount(),
+                    stat.getBuildCount(), stat.getBuildDurationSum()));
+        }
+
+        ArgumentCaptor<List<ProjectDailyProblemStat>> problems = ArgumentCaptor.forClass(List.class);
+        verify(problemStatRepository).saveAll(problems.capture());
+        Map<String, Long> rebuiltProblems = new HashMap<>();
+        for (ProjectDailyProblemStat stat : problems.getValue()) {
+            rebuiltProblems.put(stat.getProjectId() + "|" + stat.getStatDate() + "|"
+                    + stat.getProblemType().name(), stat.getFailureCount());
+        }
+        // 증분에서 0 이 된 유형 행은 조회 시 having > 0 으로 걸러지므로 비교에서 뺀다
+        incrementalProblems.values().removeIf(count -> count == 0L);
+
+        assertThat(incrementalDaily).isEqualTo(rebuiltDaily);
+        assertThat(incrementalProblems).isEqualTo(rebuiltProblems);
+    }
+
+    @Test
+    @DisplayName("재구축은 배타 잠금을 잡은 뒤 지우고 다시 채우며, 커밋 후 소요시간 분포를 재구축하고 응답 캐시를 비운다")
+    @SuppressWarnings("unchecked")
+    void rebuild_LocksExclusiveBeforeDelete() {
+        doAnswer(inv -> {
+            ((Consumer<TransactionStatus>) inv.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        service.rebuild();
+
+        InOrder order = inOrder(rebuildLock, problemStatRepository, dailyStatRepository,
+                durationHistogramService, statisticsResponseCache);
+        order.verify(rebuildLock).lockExclusive();
+        order.verify(problemStatRepository).deleteAllInBatch();
+        order.verify(dailyStatRepository).deleteAllInBatch();
+        order.verify(durationHistogramService).rebuild();
+        order.verify(statisticsResponseCache).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("증분 반영은 공유 잠금을 잡은 뒤 upsert 한다")
+    void onBuildRunPersisted_LocksSharedBeforeUpsert() {
+        when(rollupRepository.isActiveBuildRun(30L)).thenReturn(true);
+
+        service.onBuildRunPersisted(buildPersisted(30L, 10L, 300L));
+
+        InOrder order = inOrder(rollupRepository, transactionManager, rebuildLock,
+                dailyStatRepository);
+        order.verify(rollupRepository).countProblemTypesByBuildRunId(30L);
+        order.verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        order.verify(rebuildLock).lockShared();
+        order.verify(dailyStatRepository).upsertIncrement(1L, STARTED.toLocalDate(),
+                0L, 0L, 1L, 300L);
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("원본이 커밋된 뒤라 증분 반영이 실패해도 예외를 발행한 쪽으로 넘기지 않는다")
+    void onBuildRunPersisted_UpsertFails_DoesNotPropagate() {
+        when(rollupRepository.isActiveBuildRun(30L)).thenReturn(true);
+        when(dailyStatRepository.upsertIncrement(anyLong(), any(), anyLong(), anyLong(), anyLong(),
+                anyLong())).thenThrow(new IllegalStateException("deadlock"));
+
+        assertThatCode(() -> service.onBuildRunPersisted(buildPersisted(30L, 10L, 300L)))
+                .doesNotThrowAnyException();
+        verify(transactionManager).rollback(any());
+    }
+
+    private static BuildRunPersistedEvent buildPersisted(Long buildRunId, Long deploymentId,
+            Long duration) {
+        return new BuildRunPersistedEvent(buildRunId, deploymentId, 1L, true, duration, STARTED,
+                STARTED.plusSeconds(duration));
+    }
+
+    private static DeploymentResultChangedEvent resultChanged(Long deploymentId,
+            Boolean previous, Boolean current) {
+        return new DeploymentResultChangedEvent(deploymentId, 1L, CREATED.atTime(9, 0),
+                previous, current, null, null, STARTED);
+    }
+}
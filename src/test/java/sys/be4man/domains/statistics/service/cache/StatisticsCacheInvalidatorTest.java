@@ -0,0 +1,76 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.cache;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import sys.be4man.domains.ban.event.BanChangedEvent;
+import sys.be4man.domains.ban.model.entity.ProjectBan;
+import sys.be4man.domains.ban.repository.ProjectBanRepository;
+import sys.be4man.domains.project.model.entity.Project;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsCacheInvalidator - 작업 금지 변경 무효화 범위 테스트")
+class StatisticsCacheInvalidatorTest {
+
+    @Mock
+    private StatisticsResponseCache statisticsResponseCache;
+
+    @Mock
+    private ProjectBanRepository projectBanRepository;
+
+    @InjectMocks
+    private StatisticsCacheInvalidator invalidator;
+
+    @Test
+    @DisplayName("금지 기간이 걸린 프로젝트마다 한 번씩만 무효화한다")
+    void onBanChanged_InvalidatesEachProjectOnce() {
+        when(projectBanRepository.findAllByBan_IdAndIsDeletedFalse(1L)).thenReturn(List.of(
+                projectBan(10L), projectBan(11L), projectBan(10L)));
+
+        invalidator.onBanChanged(new BanChangedEvent(1L));
+
+        verify(statisticsResponseCache, times(1)).invalidateProject(10L);
+        verify(statisticsResponseCache, times(1)).invalidateProject(11L);
+        verifyNoMoreInteractions(statisticsResponseCache);
+    }
+
+    @Test
+    @DisplayName("걸린 프로젝트가 없으면 전체 범위 세대만 올린다")
+    void onBanChanged_NoProjects_InvalidatesAllScope() {
+        when(projectBanRepository.findAllByBan_IdAndIsDeletedFalse(1L)).thenReturn(List.of());
+
+        invalidator.onBanChanged(new BanChangedEvent(1L));
+
+        verify(statisticsResponseCache).invalidateProject(null);
+        verifyNoMoreInteractions(statisticsResponseCache);
+    }
+
+    @Test
+    @DisplayName("대상 프로젝트를 알 수 없으면 에포크를 올려 전체를 무효화한다")
+    void onBanChanged_LookupFails_InvalidatesAll() {
+        when(projectBanRepository.findAllByBan_IdAndIsDeletedFalse(1L))
+                .thenThrow(new IllegalStateException("db down"));
+
+        invalidator.onBanChanged(new BanChangedEvent(1L));
+
+        verify(statisticsResponseCache).invalidateAll();
+        verifyNoMoreInteractions(statisticsResponseCache);
+    }
+
+    private static ProjectBan projectBan(Long projectId) {
+        Project project = Project.builder().name("프로젝트 " + projectId).build();
+        ReflectionTestUtils.setField(project, "id", projectId);
+        return ProjectBan.builder().project(project).build();
+    }
+}
@@ -0,0 +1,146 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsResponseCache - 세대/에포크 키 테스트")
+class StatisticsResponseCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> ops;
+
+    private StatisticsResponseCache cache;
+
+    // Redis 카운터/값 흉내
+    private final Map<String, String> redis = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(ops);
+        lenient().when(ops.multiGet(anyList())).thenAnswer(inv -> {
+            List<String> values = new ArrayList<>();
+            for (Object key : inv.<List<?>>getArgument(0)) {
+                values.add(redis.get((String) key));
+            }
+            return values;
+        });
+        lenient().when(ops.increment(anyString())).thenAnswer(inv -> {
+            long next = Long.parseLong(redis.getOrDefault(inv.<String>getArgument(0), "0")) + 1;
+            redis.put(inv.getArgument(0), String.valueOf(next));
+            return next;
+        });
+        lenient().when(ops.get(anyString())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+
+        cache = new StatisticsResponseCache(stringRedisTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "localMaxSize", 100L);
+        ReflectionTestUtils.setField(cache, "localTtlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "redisTtlSeconds", 3600L);
+        ReflectionTestUtils.setField(cache, "generationTtlMs", 60_000L);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+    }
+
+    @Test
+    @DisplayName("L1 적중 시 세대 번호를 로컬에서 읽어 Redis 를 다시 조회하지 않는다")
+    void get_LocalHit_NoRedisRoundTrip() {
+        String first = get(42L);
+        String second = get(42L);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(loads).hasValue(1);
+        verify(ops, times(1)).multiGet(anyList());
+        verify(ops, times(1)).get(anyString());
+    }
+
+    @Test
+    @DisplayName("프로젝트 무효화는 그 프로젝트와 전체 범위만 새로 계산하게 하고, 다른 프로젝트는 그대로 둔다")
+    void invalidateProject_BumpsProjectAndAllOnly() {
+        get(42L);
+        get(7L);
+        get(null);
+
+        cache.invalidateProject(42L);
+        get(42L);
+        get(7L);
+        get(null);
+
+        // 42, 7, all 첫 계산 3회 + 무효화 후 42, all 재계산 2회
+        assertThat(loads).hasValue(5);
+        assertThat(redis).containsEntry("stats:gen:42", "1").containsEntry("stats:gen:all", "1")
+                .doesNotContainKey("stats:gen:7");
+    }
+
+    @Test
+    @DisplayName("전체 무효화는 에포크를 올려 모든 범위를 새로 계산하게 한다")
+    void invalidateAll_BumpsEpoch() {
+        get(42L);
+        get(null);
+
+        cache.invalidateAll();
+        get(42L);
+        get(null);
+
+        assertThat(loads).hasValue(4);
+        assertThat(redis).containsEntry("stats:gen:epoch", "1");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 올린 세대는 로컬 세대 캐시가 만료된 뒤 반영된다")
+    void get_RemoteBump_SeenAfterGenerationTtl() {
+        ReflectionTestUtils.setField(cache, "generationTtlMs", 0L);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+        get(42L);
+
+        redis.put("stats:gen:42", "9");  // 다른 인스턴스의 무효화
+        get(42L);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Redis 장애면 캐시 없이 바로 계산한다")
+    void get_RedisDown_ComputesDirectly() {
+        when(ops.multiGet(anyList())).thenThrow(new IllegalStateException("redis down"));
+
+        get(42L);
+        get(42L);
+
+        assertThat(loads).hasValue(2);
+        verify(ops, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    private String get(Long projectId) {
+        return cache.get("series", projectId, "-", String.class,
+                () -> "body-" + loads.incrementAndGet()).body();
+    }
+}
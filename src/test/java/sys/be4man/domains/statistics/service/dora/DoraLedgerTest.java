@@ -0,0 +1,76 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.dora;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sys.be4man.domains.statistics.service.dora.DoraLedger.Outcome;
+import sys.be4man.domains.statistics.service.dora.DoraWindows.Snapshot;
+
+@DisplayName("DoraLedger - DORA 지표 증분 계산 테스트")
+class DoraLedgerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 30);
+    private static final LocalDateTime NOW = TODAY.atTime(12, 0);
+
+    private final DoraLedger ledger = new DoraLedger();
+
+    @Test
+    @DisplayName("실패 후 다음 성공까지 복구 시간, PR 병합부터 첫 성공까지 리드 타임을 누적")
+    void apply_FailureThenSuccess() {
+        // given
+        ledger.apply(new Outcome(1L, 10L, 100L, NOW.minusHours(5), false, NOW.minusHours(3)));
+        ledger.apply(new Outcome(2L, 10L, 100L, NOW.minusHours(5), true, NOW.minusHours(1)));
+
+        // when
+        Snapshot week = ledger.snapshot(10L, TODAY)[0];
+
+        // then
+        assertThat(week.days()).isEqualTo(7);
+        assertThat(week.successes()).isEqualTo(1);
+        assertThat(week.failures()).isEqualTo(1);
+        assertThat(week.leadCount()).isEqualTo(1);
+        assertThat(week.leadMinutesSum()).isEqualTo(240);
+        assertThat(week.restoreCount()).isEqualTo(1);
+        assertThat(week.restoreMinutesSum()).isEqualTo(120);
+        assertThat(ledger.openFailureSince(10L)).isNull();
+    }
+
+    @Test
+    @DisplayName("창 길이를 벗어난 결과는 짧은 창에서만 빠짐")
+    void snapshot_ExpiresOldDays() {
+        // given
+        ledger.apply(new Outcome(1L, 10L, null, null, true, NOW.minusDays(10)));
+        ledger.apply(new Outcome(2L, 10L, null, null, true, NOW.minusDays(1)));
+
+        // when
+        Snapshot[] windows = ledger.snapshot(null, TODAY);
+
+        // then
+        assertThat(windows[0].successes()).isEqualTo(1);   // 7일
+        assertThat(windows[1].successes()).isEqualTo(2);   // 30일
+        assertThat(windows[2].successes()).isEqualTo(2);   // 90일
+    }
+
+    @Test
+    @DisplayName("같은 배포의 결과가 뒤집히면 이전 기여분을 되돌리고 장애를 다시 엶")
+    void apply_ResultFlipped() {
+        // given
+        ledger.apply(new Outcome(1L, 10L, null, null, false, NOW.minusHours(3)));
+        ledger.apply(new Outcome(2L, 10L, 200L, NOW.minusHours(4), true, NOW.minusHours(1)));
+
+        // when
+        ledger.apply(new Outcome(2L, 10L, 200L, NOW.minusHours(4), false, NOW.minusHours(1)));
+        Snapshot week = ledger.snapshot(10L, TODAY)[0];
+
+        // then
+        assertThat(week.successes()).isZero();
+        assertThat(week.failures()).isEqualTo(2);
+        assertThat(week.leadCount()).isZero();
+        assertThat(week.restoreCount()).isZero();
+        assertThat(ledger.openFailureSince(10L)).isEqualTo(NOW.minusHours(3));
+    }
+}
@@ -0,0 +1,125 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.facts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.event.StageRunAnalyzedEvent;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.statistics.repository.StatisticsFactRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsFactStore - 인메모리 팩트 집계 테스트")
+class StatisticsFactStoreTest {
+
+    private static final Timestamp JAN = Timestamp.valueOf(LocalDateTime.of(2025, 1, 10, 9, 0));
+    private static final Timestamp FEB = Timestamp.valueOf(LocalDateTime.of(2025, 2, 3, 9, 0));
+
+    @Mock
+    private StatisticsFactRepository factRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private StatisticsFactStore factStore;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(factStore, "enabled", true);
+
+        doAnswer(inv -> {
+            ((Consumer<TransactionStatus>) inv.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        doAnswer(inv -> {
+            Consumer<Object[]> consumer = inv.getArgument(1);
+            consumer.accept(new Object[]{1L, 10L, "alpha", JAN, true, 100L});
+            consumer.accept(new Object[]{2L, 10L, "alpha", JAN, false, 300L});
+            consumer.accept(new Object[]{3L, 20L, "beta", FEB, true, 50L});
+            return null;
+        }).when(factRepository).streamBuildFacts(isNull(), any());
+
+        doAnswer(inv -> {
+            Consumer<Object[]> consumer = inv.getArgument(1);
+            consumer.accept(new Object[]{11L, 10L, "alpha", JAN, "build", null, true});
+            consumer.accept(new Object[]{12L, 10L, "alpha", JAN, "test", "AUTOMATION_TEST_FAILED",
+                    false});
+            consumer.accept(new Object[]{13L, 20L, "beta", FEB, "deploy", "OTHERS", false});
+            return null;
+        }).when(factRepository).streamStageFacts(isNull(), any());
+
+        factStore.rebuild();
+    }
+
+    @Test
+    @DisplayName("빌드 팩트를 프로젝트별로 묶으면 건수/성공 건수/소요시간 합이 집계됨")
+    void query_BuildsByProject() {
+        // when
+        StatisticsFactStore.Result result = factStore.query(FactSource.BUILD,
+                FactCriteria.none(), List.of(FactDimension.PROJECT));
+
+        // then
+        assertThat(result.ready()).isTrue();
+        assertThat(result.scannedRows()).isEqualTo(3);
+        assertThat(result.groups()).extracting(FactGroup::projectId, FactGroup::projectName,
+                        FactGroup::count, FactGroup::successCount, FactGroup::durationSumSeconds)
+                .containsExactly(
+                        tuple(10L, "alpha", 2L, 1L, 400L),
+                        tuple(20L, "beta", 1L, 1L, 50L));
+    }
+
+    @Test
+    @DisplayName("실패 스테이지를 월 x 실패 유형으로 묶고 기간 필터 적용")
+    void query_FailedStagesByMonthAndType() {
+        // when
+        StatisticsFactStore.Result result = factStore.query(FactSource.STAGE,
+                new FactCriteria(null, YearMonth.of(2025, 2), null, null, null, false),
+                List.of(FactDimension.MONTH, FactDimension.PROBLEM_TYPE));
+
+        // then
+        assertThat(result.groups()).hasSize(1);
+        FactGroup group = result.groups().get(0);
+        assertThat(group.month()).isEqualTo(YearMonth.of(2025, 2));
+        assertThat(group.problemType()).isEqualTo(ProblemType.OTHERS);
+        assertThat(group.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재분석 커밋 시 스테이지 실패 유형이 갱신됨, 사전에 없는 스테이지명은 빈 결과")
+    void onStageRunAnalyzed_UpdatesProblemType() {
+        // when
+        factStore.onStageRunAnalyzed(new StageRunAnalyzedEvent(12L, 1L, 10L,
+                JAN.toLocalDateTime(), ProblemType.AUTOMATION_TEST_FAILED, ProblemType.OTHERS));
+        StatisticsFactStore.Result byType = factStore.query(FactSource.STAGE,
+                new FactCriteria(null, null, null, null, ProblemType.OTHERS, null),
+                List.of());
+        StatisticsFactStore.Result unknownStage = factStore.query(FactSource.STAGE,
+                new FactCriteria(null, null, null, "lint", null, null), List.of());
+
+        // then
+        assertThat(byType.groups()).singleElement()
+                .extracting(FactGroup::count).isEqualTo(2L);
+        assertThat(unknownStage.groups()).isEmpty();
+    }
+}
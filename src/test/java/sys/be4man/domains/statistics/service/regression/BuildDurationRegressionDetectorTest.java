@@ -0,0 +1,95 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.regression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.event.BuildRunPersistedEvent;
+import sys.be4man.domains.statistics.event.BuildDurationRegressionChangedEvent;
+import sys.be4man.domains.statistics.repository.StatisticsFactRepository;
+
+@DisplayName("BuildDurationRegressionDetector - 회귀 감지/해제 알림 이벤트 테스트")
+class BuildDurationRegressionDetectorTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 6, 1, 9, 0);
+
+    private final StatisticsFactRepository factRepository = mock(StatisticsFactRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private BuildDurationRegressionDetector detector;
+
+    // buildRunId(1부터) 순서의 소요시간(초)
+    private final List<Long> durations = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        detector = new BuildDurationRegressionDetector(factRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), eventPublisher);
+        // [id, project_id, project_name, started_at, is_build, duration]
+        doAnswer(inv -> {
+            long id = inv.getArgument(0);
+            Consumer<Object[]> consumer = inv.getArgument(1);
+            consumer.accept(new Object[]{id, 1L, "payment", T0.plusHours(id), true,
+                    durations.get((int) id - 1)});
+            return null;
+        }).when(factRepository).streamBuildFacts(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("평소 수준이면 알림 이벤트를 발행하지 않는다")
+    void stableBuilds_NoEvent() {
+        build(30, 600L);
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("소요시간이 크게 늘면 감지 이벤트, 원래 수준으로 돌아오면 해제 이벤트를 발행한다")
+    void regression_RaisedThenCleared() {
+        // given & when: 600초 30건 → 1200초가 이어짐 → 다시 600초
+        build(30, 600L);
+        build(5, 1200L);
+        build(25, 600L);
+
+        // then
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        List<BuildDurationRegressionChangedEvent> changes = events.getAllValues().stream()
+                .filter(BuildDurationRegressionChangedEvent.class::isInstance)
+                .map(BuildDurationRegressionChangedEvent.class::cast)
+                .toList();
+        assertThat(changes).extracting(BuildDurationRegressionChangedEvent::raised)
+                .containsExactly(true, false);
+
+        BuildDurationRegressionChangedEvent raised = changes.get(0);
+        assertThat(raised.projectId()).isEqualTo(1L);
+        assertThat(raised.deploymentId()).isEqualTo(100L + raised.buildRunId());
+        assertThat(raised.buildRunId()).isBetween(31L, 35L);
+        assertThat(raised.baselineSeconds()).isBetween(570L, 630L);
+    }
+
+    private void build(int count, long seconds) {
+        for (int i = 0; i < count; i++) {
+            durations.add(seconds);
+            long id = durations.size();
+            detector.onBuildRunPersisted(new BuildRunPersistedEvent(id, 100L + id, 1L, true,
+                    seconds, T0.plusHours(id), T0.plusHours(id).plusSeconds(seconds)));
+        }
+    }
+}
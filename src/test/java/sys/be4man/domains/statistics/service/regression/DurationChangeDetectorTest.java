@@ -0,0 +1,137 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.regression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sys.be4man.domains.statistics.service.regression.DurationChangeDetector.Transition;
+
+@DisplayName("DurationChangeDetector - EWMA/CUSUM 소요시간 회귀 감지 테스트")
+class DurationChangeDetectorTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 6, 1, 9, 0);
+
+    private final DurationChangeDetector detector = new DurationChangeDetector();
+    private final Random random = new Random(42);
+    private long buildRunId;
+
+    @Test
+    @DisplayName("평소 수준의 흔들림과 한 번 튀는 빌드로는 감지하지 않음")
+    void stableWithOutlier_NoRegression() {
+        // given & when
+        int raised = feed(200, 600, 0.05);
+        raised += add(1800) == Transition.RAISED ? 1 : 0;
+        raised += feed(20, 600, 0.05);
+
+        // then
+        assertThat(raised).isZero();
+        assertThat(detector.status().baselineSeconds()).isBetween(560d, 640d);
+    }
+
+    @Test
+    @DisplayName("소요시간이 30% 늘어난 상태가 이어지면 몇 빌드 안에 감지")
+    void stepIncrease_Raised() {
+        // given
+        feed(50, 600, 0.05);
+
+        // when
+        int raisedAt = -1;
+        for (int i = 0; i < 10 && raisedAt < 0; i++) {
+            if (add(jitter(780, 0.05)) == Transition.RAISED) {
+                raisedAt = i;
+            }
+        }
+
+        // then
+        assertThat(raisedAt).isBetween(0, 5);
+        assertThat(detector.status().regressing()).isTrue();
+        assertThat(detector.status().baselineSeconds()).isBetween(570d, 630d);
+    }
+
+    @Test
+    @DisplayName("빌드마다 조금씩 느려지는 변화도 누적되어 감지")
+    void gradualCreep_Raised() {
+        // given
+        feed(50, 600, 0.03);
+
+        // when
+        boolean raised = false;
+        double seconds = 600;
+        for (int i = 0; i < 100 && !raised; i++) {
+            seconds *= 1.005;
+            raised = add(jitter(seconds, 0.03)) == Transition.RAISED;
+        }
+
+        // then
+        assertThat(raised).isTrue();
+        assertThat(seconds).isLessThan(600 * 1.3);
+    }
+
+    @Test
+    @DisplayName("원래 수준으로 돌아오면 해제, 새 수준이 계속되면 기준선으로 받아들이고 해제")
+    void recoverOrRebase_Cleared() {
+        // given
+        feed(50, 600, 0.02);
+        while (!detector.isRegressing()) {
+            add(jitter(900, 0.02));
+        }
+
+        // when: 회복
+        Transition recovered = Transition.NONE;
+        for (int i = 0; i < 10 && recovered != Transition.CLEARED; i++) {
+            recovered = add(jitter(600, 0.02));
+        }
+
+        // then
+        assertThat(recovered).isEqualTo(Transition.CLEARED);
+
+        // when: 다시 느려진 뒤 그대로 유지
+        while (!detector.isRegressing()) {
+            add(jitter(900, 0.02));
+        }
+        feed(DurationChangeDetector.REBASE_AFTER, 900, 0.02);
+
+        // then
+        assertThat(detector.isRegressing()).isFalse();
+        assertThat(detector.status().baselineSeconds()).isBetween(800d, 1000d);
+        assertThat(feed(30, 900, 0.02)).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 반영한 빌드 id 는 무시하고, 늦게 도착한 이전 빌드는 반영")
+    void duplicateIgnored_LateArrivalApplied() {
+        // given
+        detector.add(10L, 600, T0);
+
+        // when
+        detector.add(10L, 9_000, T0);
+        detector.add(9L, 600, T0.minusHours(1));
+        detector.add(9L, 9_000, T0.minusHours(1));
+
+        // then
+        assertThat(detector.status().samples()).isEqualTo(2);
+        assertThat(detector.status().lastSampleAt()).isEqualTo(T0);
+    }
+
+    private int feed(int count, double seconds, double noise) {
+        int raised = 0;
+        for (int i = 0; i < count; i++) {
+            if (add(jitter(seconds, noise)) == Transition.RAISED) {
+                raised++;
+            }
+        }
+        return raised;
+    }
+
+    private Transition add(double seconds) {
+        buildRunId++;
+        return detector.add(buildRunId, seconds, T0.plusHours(buildRunId));
+    }
+
+    private double jitter(double seconds, double noise) {
+        return seconds * (1 + random.nextGaussian() * noise);
+    }
+}
@@ -0,0 +1,91 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.statistics.service.sketch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("QuantileSketch - 병합 가능한 분위수 스케치 테스트")
+class QuantileSketchTest {
+
+    @Test
+    @DisplayName("1..1000 의 분위수를 상대 오차 1% 이내로 추정")
+    void quantile_WithinRelativeAccuracy() {
+        // given
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 1; i <= 1000; i++) {
+            sketch.add(i);
+        }
+
+        // then
+        assertThat(sketch.count()).isEqualTo(1000);
+        assertThat(sketch.quantile(0.5)).isCloseTo(500, within(500 * 0.01 + 1));
+        assertThat(sketch.quantile(0.9)).isCloseTo(900, within(900 * 0.01 + 1));
+        assertThat(sketch.quantile(0.99)).isCloseTo(990, within(990 * 0.01 + 1));
+    }
+
+    @Test
+    @DisplayName("나눠 넣고 병합한 결과는 한 스케치에 모두 넣은 결과와 같음")
+    void merge_EqualsSingleSketch() {
+        // given
+        Random random = new Random(7);
+        QuantileSketch whole = new QuantileSketch();
+        QuantileSketch a = new QuantileSketch();
+        QuantileSketch b = new QuantileSketch();
+        for (int i = 0; i < 5000; i++) {
+            double v = Math.exp(random.nextGaussian() * 2 + 3);
+            whole.add(v);
+            (i % 3 == 0 ? a : b).add(v);
+        }
+
+        // when
+        a.merge(b);
+
+        // then
+        assertThat(a.count()).isEqualTo(whole.count());
+        for (double q : new double[]{0.5, 0.9, 0.99}) {
+            assertThat(a.quantile(q)).isEqualTo(whole.quantile(q));
+        }
+    }
+
+    @Test
+    @DisplayName("0 값과 빈 스케치 처리")
+    void quantile_ZeroAndEmpty() {
+        // given
+        QuantileSketch empty = new QuantileSketch();
+        QuantileSketch zeros = new QuantileSketch();
+        zeros.add(0);
+        zeros.add(0);
+        zeros.add(10);
+
+        // then
+        assertThat(empty.quantile(0.5)).isZero();
+        assertThat(zeros.quantile(0.5)).isZero();
+        assertThat(zeros.quantile(1.0)).isCloseTo(10, within(0.2));
+    }
+
+    @Test
+    @DisplayName("직렬화 후 복원해도 분위수/최댓값/히스토그램이 같음")
+    void toBytes_RoundTrip() {
+        // given
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(0);
+        for (int i = 1; i <= 300; i++) {
+            sketch.add(i * 13 % 7200);
+        }
+        double[] boundaries = {0, 60, 300, 3600};
+
+        // when
+        QuantileSketch restored = QuantileSketch.fromBytes(sketch.toBytes());
+
+        // then
+        assertThat(restored.count()).isEqualTo(sketch.count());
+        assertThat(restored.max()).isEqualTo(sketch.max());
+        assertThat(restored.quantile(0.95)).isEqualTo(sketch.quantile(0.95));
+        assertThat(restored.histogram(boundaries)).containsExactly(sketch.histogram(boundaries));
+        assertThat(sketch.toBytes().length).isLessThan(1024);
+    }
+}
@@ -0,0 +1,222 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.taskmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import sys.be4man.domains.analysis.repository.BuildRunRepository;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.deployment.model.type.DeploymentStage;
+import sys.be4man.domains.deployment.model.type.DeploymentStatus;
+import sys.be4man.domains.taskmanagement.dto.JenkinsLogDto;
+import sys.be4man.domains.taskmanagement.dto.TaskDetailResponseDto;
+import sys.be4man.domains.taskmanagement.dto.TimelineStepDto;
+import sys.be4man.domains.taskmanagement.repository.TaskManagementRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskDetailReadModel 작업 상세 읽기 모델 테스트")
+class TaskDetailReadModelTest {
+
+    private static final List<String> KEYS = List.of("task:detail:gen:10", "task:detail:10");
+
+    @Mock
+    private TaskManagementService taskManagementService;
+
+    @Mock
+    private TaskManagementRepository taskManagementRepository;
+
+    @Mock
+    private BuildRunRepository buildRunRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TaskDetailReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new TaskDetailReadModel(taskManagementService, taskManagementRepository,
+                buildRunRepository, stringRedisTemplate, objectMapper, transactionTemplate,
+                Runnable::run);
+        ReflectionTestUtils.setField(readModel, "enabled", true);
+        ReflectionTestUtils.setField(readModel, "ttlSeconds", 86400L);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("저장된 문서의 세대가 현재 세대와 같으면 계산 없이 문서를 돌려준다")
+    void get_SameGeneration_Hit() throws Exception {
+        String json = objectMapper.writeValueAsString(detail(10L));
+        when(valueOperations.multiGet(KEYS)).thenReturn(List.of("2", "2|" + json));
+
+        TaskDetailResponseDto result = readModel.get(10L);
+
+        verify(taskManagementService, never()).getTaskDetailFull(any(), anyBoolean());
+        assertThat(result.getTaskId()).isEqualTo(10L);
+        assertThat(result.getTimeline()).extracting(TimelineStepDto::getStepName)
+                .containsExactly("계획서");
+    }
+
+    @Test
+    @DisplayName("문서에는 Jenkins 로그 본문이 없고, 조회할 때 빌드별 로그 키에서 읽어 붙인다 (DB 조회 없음)")
+    void get_Hit_AttachesLogFromRedis() throws Exception {
+        String json = objectMapper.writeValueAsString(detailWithBuild(10L, null));
+        when(valueOperations.multiGet(KEYS)).thenReturn(List.of("2", "2|" + json));
+        when(valueOperations.get("task:detail:log:30")).thenReturn("BUILD SUCCESS");
+
+        TaskDetailResponseDto result = readModel.get(10L);
+
+        verify(taskManagementService, never()).getTaskDetailFull(any(), anyBoolean());
+        verify(buildRunRepository, never()).findLogByBuildRunId(anyLong());
+        assertThat(result.getJenkinsLog().getLog()).isEqualTo("BUILD SUCCESS");
+    }
+
+    @Test
+    @DisplayName("빌드 로그 키가 없으면 DB 에서 한 번 읽어 채운다")
+    void get_LogKeyMiss_LoadsOnceAndStores() throws Exception {
+        String json = objectMapper.writeValueAsString(detailWithBuild(10L, null));
+        when(valueOperations.multiGet(KEYS)).thenReturn(List.of("2", "2|" + json));
+        when(buildRunRepository.findLogByBuildRunId(30L)).thenReturn(Optional.of("BUILD SUCCESS"));
+
+        TaskDetailResponseDto result = readModel.get(10L);
+
+        assertThat(result.getJenkinsLog().getLog()).isEqualTo("BUILD SUCCESS");
+        verify(valueOperations).set("task:detail:log:30", "BUILD SUCCESS", Duration.ofSeconds(86400));
+    }
+
+    @Test
+    @DisplayName("세대가 올라갔으면 로그 본문 없이 다시 계산해 현재 세대로 저장한다")
+    void get_StaleGeneration_Rebuild() throws Exception {
+        String json = objectMapper.writeValueAsString(detail(10L));
+        when(valueOperations.multiGet(KEYS)).thenReturn(List.of("3", "2|" + json));
+        when(taskManagementService.getTaskDetailFull(10L, false))
+                .thenReturn(detailWithBuild(10L, null));
+        when(valueOperations.get("task:detail:log:30")).thenReturn("very long console output");
+
+        TaskDetailResponseDto result = readModel.get(10L);
+
+        verify(taskManagementService).getTaskDetailFull(10L, false);
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq("task:detail:10"), stored.capture(),
+                eq(Duration.ofSeconds(86400)));
+        assertThat(stored.getValue()).startsWith("3|").contains("\"buildRunId\":30")
+                .doesNotContain("very long console output");
+        // 세대 카운터는 문서보다 오래 유지
+        verify(stringRedisTemplate).expire("task:detail:gen:10", Duration.ofSeconds(172800));
+        // 응답에는 로그가 그대로 있다
+        assertThat(result.getJenkinsLog().getLog()).isEqualTo("very long console output");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 저장 없이 바로 계산한다")
+    void get_RedisDown_ComputesDirectly() {
+        when(valueOperations.multiGet(KEYS)).thenThrow(new IllegalStateException("connection refused"));
+        when(taskManagementService.getTaskDetailFull(10L)).thenReturn(detail(10L));
+
+        TaskDetailResponseDto result = readModel.get(10L);
+
+        assertThat(result.getTaskId()).isEqualTo(10L);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("변경이 커밋되면 같은 프로세스의 모든 배포 세대를 올리고, 저장된 문서가 있는 배포만 새 세대로 다시 만든다")
+    @SuppressWarnings("unchecked")
+    void invalidate_BumpsWholeProcessAndRebuildsViewedDocuments() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(
+                        (TransactionStatus) null));
+        Deployment report = deployment(11L, DeploymentStage.REPORT);
+        report.assignProcess(10L, 10L);
+        when(taskManagementRepository.findById(11L)).thenReturn(Optional.of(report));
+        when(taskManagementRepository.findById(10L)).thenReturn(
+                Optional.of(deployment(10L, DeploymentStage.PLAN)));
+        when(taskManagementRepository.findIdsByProcessId(10L)).thenReturn(List.of(10L, 11L));
+        when(valueOperations.increment("task:detail:gen:10")).thenReturn(4L);
+        when(valueOperations.increment("task:detail:gen:11")).thenReturn(2L);
+        // 10 번만 조회된 적이 있다
+        when(stringRedisTemplate.hasKey("task:detail:10")).thenReturn(true);
+        when(stringRedisTemplate.hasKey("task:detail:11")).thenReturn(false);
+        when(taskManagementService.getTaskDetailFull(10L, false)).thenReturn(detail(10L));
+
+        readModel.invalidate(11L);
+
+        verify(stringRedisTemplate, atLeastOnce()).expire("task:detail:gen:10",
+                Duration.ofSeconds(172800));
+        verify(stringRedisTemplate).expire("task:detail:gen:11", Duration.ofSeconds(172800));
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq("task:detail:10"), stored.capture(),
+                eq(Duration.ofSeconds(86400)));
+        assertThat(stored.getValue()).startsWith("4|");
+        verify(taskManagementService, never()).getTaskDetailFull(eq(11L), anyBoolean());
+        verify(valueOperations, never()).set(eq("task:detail:11"), anyString(), any(Duration.class));
+    }
+
+    private static TaskDetailResponseDto detail(Long taskId) {
+        return TaskDetailResponseDto.builder()
+                .taskId(taskId)
+                .serviceName("결제 서비스")
+                .taskTitle("배포 요청")
+                .currentStage("계획서")
+                .currentStatus("승인대기")
+                .maxStage("계획서")
+                .initialTab("plan")
+                .timeline(List.of(TimelineStepDto.builder()
+                        .stepNumber(1).stepName("계획서").status("active").build()))
+                .build();
+    }
+
+    private static TaskDetailResponseDto detailWithBuild(Long taskId, String log) {
+        TaskDetailResponseDto detail = detail(taskId);
+        detail.setJenkinsLog(JenkinsLogDto.builder()
+                .buildRunId(30L)
+                .jenkinsJobName("payment")
+                .buildNumber(3L)
+                .buildStatus("SUCCESS")
+                .log(log)
+                .build());
+        return detail;
+    }
+
+    private static Deployment deployment(Long id, DeploymentStage stage) {
+        Deployment deployment = Deployment.builder()
+                .title("배포 요청")
+                .stage(stage)
+                .status(DeploymentStatus.PENDING)
+                .build();
+        ReflectionTestUtils.setField(deployment, "id", id);
+        return deployment;
+    }
+}
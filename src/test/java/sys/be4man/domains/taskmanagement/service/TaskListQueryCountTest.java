@@ -0,0 +1,157 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.taskmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import sys.be4man.domains.account.model.entity.Account;
+import sys.be4man.domains.account.model.type.JobDepartment;
+import sys.be4man.domains.account.model.type.JobPosition;
+import sys.be4man.domains.account.model.type.Role;
+import sys.be4man.domains.approval.model.entity.Approval;
+import sys.be4man.domains.approval.model.entity.ApprovalLine;
+import sys.be4man.domains.approval.model.type.ApprovalStatus;
+import sys.be4man.domains.approval.model.type.ApprovalType;
+import sys.be4man.domains.approval.repository.ApprovalRepository;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.deployment.model.type.DeploymentStage;
+import sys.be4man.domains.deployment.model.type.DeploymentStatus;
+import sys.be4man.domains.project.model.entity.Project;
+import sys.be4man.domains.pullrequest.model.entity.PullRequest;
+import sys.be4man.domains.taskmanagement.dto.TaskManagementResponseDto;
+import sys.be4man.domains.taskmanagement.repository.TaskManagementRepository;
+import sys.be4man.global.config.JpaConfig;
+import sys.be4man.global.dto.response.CursorPageResponse;
+
+/**
+ * 작업 관리 목록 한 페이지(50건)를 그릴 때 실제로 DB 에 보내는 SQL 수를 Hibernate 통계로 확인한다.
+ * 매 조회 전에 영속성 컨텍스트를 비워, 지연 로딩이 남아 있으면 행 수만큼 문장이 늘어나도록 한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaConfig.class)
+@DisplayName("작업 관리 목록 - 페이지당 SQL 수 테스트")
+class TaskListQueryCountTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskManagementRepository taskManagementRepository;
+
+    @Autowired
+    private ApprovalRepository approvalRepository;
+
+    private TaskManagementService taskManagementService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 목록 변환은 두 리포지토리만 사용한다
+        taskManagementService = new TaskManagementService(taskManagementRepository,
+                approvalRepository, null, null, null, null, null);
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        Account drafter = entityManager.persist(account(1L, "홍길동"));
+        Account approver = entityManager.persist(account(2L, "김승인"));
+        Project project = entityManager.persist(Project.builder()
+                .manager(drafter)
+                .name("결제 서비스")
+                .isRunning(true)
+                .jenkinsIp("127.0.0.1")
+                .build());
+        PullRequest pullRequest = entityManager.persist(PullRequest.builder()
+                .prNumber(1)
+                .repositoryUrl("https://github.com/be4man/payment")
+                .build());
+
+        // 짝수는 결과보고(계획서 + 결과보고 결재), 홀수는 계획서 단계
+        for (int i = 1; i <= PAGE_SIZE + 10; i++) {
+            DeploymentStage stage = i % 2 == 0 ? DeploymentStage.REPORT : DeploymentStage.PLAN;
+            Deployment deployment = entityManager.persist(Deployment.builder()
+                    .project(project)
+                    .issuer(drafter)
+                    .pullRequest(pullRequest)
+                    .title("배포 요청 " + i)
+                    .content("배포 내용")
+                    .stage(stage)
+                    .status(DeploymentStatus.PENDING)
+                    .build());
+            entityManager.persist(approval(deployment, ApprovalType.PLAN, drafter, approver));
+            if (stage == DeploymentStage.REPORT) {
+                entityManager.persist(approval(deployment, ApprovalType.REPORT, drafter, approver));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("50건 offset 페이지는 건수, 목록, 결재(라인 포함) 세 문장으로 끝난다")
+    void getTaskList_50Rows_ThreeStatements() {
+        statistics.clear();
+
+        Page<TaskManagementResponseDto> page = taskManagementService.getTaskList(null, 0, PAGE_SIZE);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allSatisfy(row -> assertThat(row.getStatus()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("50건 keyset 페이지(건수 제외)는 목록, 결재(라인 포함) 두 문장으로 끝난다")
+    void getTaskFeed_50Rows_TwoStatements() {
+        statistics.clear();
+
+        CursorPageResponse<TaskManagementResponseDto> feed =
+                taskManagementService.getTaskFeed(null, null, PAGE_SIZE, false);
+
+        assertThat(feed.items()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+    }
+
+    private static Approval approval(Deployment deployment, ApprovalType type, Account drafter,
+            Account approver) {
+        Approval approval = Approval.builder()
+                .deployment(deployment)
+                .account(drafter)
+                .type(type)
+                .title(deployment.getTitle())
+                .content("결재 내용")
+                .service("결제 서비스")
+                .isApproved(true)
+                .status(ApprovalStatus.APPROVED)
+                .approvedAt(LocalDateTime.of(2025, 1, 11, 9, 0))
+                .build();
+        approval.addApprovalLine(ApprovalLine.builder()
+                .account(approver)
+                .isApproved(true)
+                .approvedAt(LocalDateTime.of(2025, 1, 11, 9, 0))
+                .build());
+        return approval;
+    }
+
+    private static Account account(Long githubId, String name) {
+        return Account.builder()
+                .githubId(githubId)
+                .name(name)
+                .email(name + "@example.com")
+                .role(Role.DEVELOPER)
+                .position(JobPosition.STAFF)
+                .department(JobDepartment.IT)
+                .githubAccessToken("test-token")
+                .build();
+    }
+}
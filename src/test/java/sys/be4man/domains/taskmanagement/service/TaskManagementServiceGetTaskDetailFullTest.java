@@ -0,0 +1,144 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.taskmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import sys.be4man.domains.analysis.repository.BuildRunRepository;
+import sys.be4man.domains.approval.model.type.ApprovalType;
+import sys.be4man.domains.approval.repository.ApprovalRepository;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.deployment.model.type.DeploymentStage;
+import sys.be4man.domains.deployment.model.type.DeploymentStatus;
+import sys.be4man.domains.deployment.repository.DeploymentRepository;
+import sys.be4man.domains.deployment.service.DeploymentProcessAssigner;
+import sys.be4man.domains.taskmanagement.dto.TaskDetailResponseDto;
+import sys.be4man.domains.taskmanagement.repository.TaskManagementRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskManagementService - 작업 상세 프로세스 구성 테스트")
+class TaskManagementServiceGetTaskDetailFullTest {
+
+    @Mock
+    private TaskManagementRepository taskManagementRepository;
+
+    @Mock
+    private ApprovalRepository approvalRepository;
+
+    @Mock
+    private BuildRunRepository buildRunRepository;
+
+    @Mock
+    private TaskDetailTimelineService taskDetailTimelineService;
+
+    @Mock
+    private TaskDetailReportService taskDetailReportService;
+
+    @Mock
+    private TaskDetailInfoService taskDetailInfoService;
+
+    @Mock
+    private TaskDetailApprovalService taskDetailApprovalService;
+
+    @Mock
+    private DeploymentRepository deploymentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TaskManagementService taskManagementService;
+
+    private Deployment head;
+    private Deployment deployed;
+    private Deployment report;
+
+    @BeforeEach
+    void setUp() {
+        // 계획서(10) → 배포(11) → 결과보고(12) 프로세스
+        head = deployment(10L, DeploymentStage.PLAN, DeploymentStatus.APPROVED);
+        head.assignProcess(10L, null);
+        deployed = deployment(11L, DeploymentStage.DEPLOYMENT, DeploymentStatus.COMPLETED);
+        deployed.assignProcess(10L, 10L);
+        report = deployment(12L, DeploymentStage.REPORT, DeploymentStatus.PENDING);
+        report.assignProcess(10L, 11L);
+        List<Deployment> rows = List.of(head, deployed, report);
+
+        lenient().when(taskManagementRepository.findById(anyLong())).thenAnswer(inv -> rows.stream()
+                .filter(d -> d.getId().equals(inv.getArgument(0)))
+                .findFirst());
+        lenient().when(taskManagementRepository.findProcessDeployments(anyLong())).thenAnswer(inv -> rows.stream()
+                .filter(d -> d.getProcessId().equals(inv.getArgument(0)))
+                .toList());
+        lenient().when(deploymentRepository.findByProcessIdAndIdNotAndIsDeletedFalseOrderByCreatedAtAscIdAsc(
+                anyLong(), anyLong())).thenAnswer(inv -> rows.stream()
+                .filter(d -> d.getProcessId().equals(inv.getArgument(0))
+                        && !d.getId().equals(inv.getArgument(1)))
+                .toList());
+
+        // 시작 배포가 재배포로 바뀜 (결재 상신 시 단계 제자리 변경)
+        head.updateStage(DeploymentStage.RETRY);
+        head.updateStatus(DeploymentStatus.PENDING);
+        new DeploymentProcessAssigner(deploymentRepository, approvalRepository, null, eventPublisher)
+                .onStageChanged(head);
+    }
+
+    @Test
+    @DisplayName("재배포로 바뀐 시작 배포의 상세에는 이전 프로세스의 배포/결과보고가 섞이지 않는다")
+    void getTaskDetailFull_RetryHead_ExcludesOldFollowers() {
+        // when
+        TaskDetailResponseDto result = taskManagementService.getTaskDetailFull(10L);
+
+        // then
+        assertThat(result.getCurrentStage()).isEqualTo("재배포");
+        assertThat(result.getMaxStage()).isEqualTo("재배포");
+        assertThat(result.getReportContent()).isNull();
+        assertThat(result.getReportApproval()).isNull();
+        verify(approvalRepository).findByDeploymentIdAndTypeAndIsDeletedFalse(10L, ApprovalType.RETRY);
+        verify(approvalRepository, never()).findByDeploymentIdAndTypeAndIsDeletedFalse(12L, ApprovalType.REPORT);
+        verify(buildRunRepository).findByDeploymentIdAndIsDeletedFalse(10L);
+        verify(taskDetailReportService, never()).buildReportContent(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("분리된 이전 결과보고의 상세는 이전 배포/결과보고만으로 구성된다")
+    void getTaskDetailFull_OldReport_StaysWithItsDeployment() {
+        // when
+        TaskDetailResponseDto result = taskManagementService.getTaskDetailFull(12L);
+
+        // then
+        assertThat(result.getCurrentStage()).isEqualTo("결과보고");
+        assertThat(result.getCurrentStatus()).isEqualTo("승인대기");
+        verify(approvalRepository).findByDeploymentIdAndTypeAndIsDeletedFalse(12L, ApprovalType.REPORT);
+        verify(approvalRepository, never()).findByDeploymentIdAndTypeAndIsDeletedFalse(
+                eq(10L), any(ApprovalType.class));
+        verify(buildRunRepository).findByDeploymentIdAndIsDeletedFalse(11L);
+        verify(taskDetailTimelineService).buildTimeline(eq(report), any(), any(), any());
+    }
+
+    private static Deployment deployment(Long id, DeploymentStage stage, DeploymentStatus status) {
+        Deployment deployment = Deployment.builder()
+                .title("배포 요청 " + id)
+                .stage(stage)
+                .status(status)
+                .isDeployed(true)
+                .build();
+        ReflectionTestUtils.setField(deployment, "id", id);
+        return deployment;
+    }
+}
@@ -0,0 +1,168 @@
+// 작성자 : 조윤상
+package sys.be4man.domains.taskmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import sys.be4man.domains.account.model.entity.Account;
+import sys.be4man.domains.account.model.type.JobDepartment;
+import sys.be4man.domains.account.model.type.JobPosition;
+import sys.be4man.domains.account.model.type.Role;
+import sys.be4man.domains.approval.model.entity.Approval;
+import sys.be4man.domains.approval.model.entity.ApprovalLine;
+import sys.be4man.domains.approval.model.type.ApprovalStatus;
+import sys.be4man.domains.approval.model.type.ApprovalType;
+import sys.be4man.domains.approval.repository.ApprovalRepository;
+import sys.be4man.domains.deployment.model.entity.Deployment;
+import sys.be4man.domains.deployment.model.type.DeploymentStage;
+import sys.be4man.domains.deployment.model.type.DeploymentStatus;
+import sys.be4man.domains.project.model.entity.Project;
+import sys.be4man.domains.taskmanagement.dto.TaskManagementResponseDto;
+import sys.be4man.domains.taskmanagement.dto.TaskManagementSearchDto;
+import sys.be4man.domains.taskmanagement.repository.TaskManagementRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskManagementService - 작업 관리 목록 결재 일괄 조회 테스트")
+class TaskManagementServiceGetTaskListTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Mock
+    private TaskManagementRepository taskManagementRepository;
+
+    @Mock
+    private ApprovalRepository approvalRepository;
+
+    @InjectMocks
+    private TaskManagementService taskManagementService;
+
+    private Account drafter;
+    private Account approver;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        drafter = account(1L, "홍길동");
+        approver = account(2L, "김승인");
+        project = Project.builder().manager(drafter).name("결제 서비스").isRunning(true).build();
+        ReflectionTestUtils.setField(project, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("50건 페이지의 결재와 결재 라인은 한 번의 조회로 가져오고 배포별 조회는 하지 않는다")
+    void getTaskList_LoadsApprovalsInOneQuery() {
+        // given: 짝수는 결과보고, 홀수는 계획서 단계
+        List<Deployment> deployments = IntStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(i -> deployment((long) i,
+                        i % 2 == 0 ? DeploymentStage.REPORT : DeploymentStage.PLAN))
+                .toList();
+        List<Approval> approvals = new ArrayList<>();
+        for (Deployment d : deployments) {
+            approvals.add(approval(d, ApprovalType.PLAN, true));
+            if (d.getStage() == DeploymentStage.REPORT) {
+                approvals.add(approval(d, ApprovalType.REPORT, d.getId() % 4 == 0));
+            }
+        }
+
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        Page<Deployment> page = new PageImpl<>(deployments, pageable, 200);
+        when(taskManagementRepository.findTasksBySearchConditions(any(TaskManagementSearchDto.class),
+                any(Pageable.class))).thenReturn(page);
+        when(approvalRepository.findWithLinesByDeploymentIdsAndTypes(anyCollection(), anyCollection()))
+                .thenReturn(approvals);
+
+        // when
+        Page<TaskManagementResponseDto> result = taskManagementService.getTaskList(null, 0, PAGE_SIZE);
+
+        // then: 페이지 크기와 무관하게 결재 조회 1회
+        verify(approvalRepository, times(1))
+                .findWithLinesByDeploymentIdsAndTypes(anyCollection(), anyCollection());
+        verifyNoMoreInteractions(approvalRepository);
+
+        assertThat(result.getContent()).hasSize(PAGE_SIZE);
+        assertThat(result.getTotalElements()).isEqualTo(200);
+        // (deploymentId, type) 으로 묶인 결과보고 결재가 해당 배포에 붙었는지
+        assertThat(result.getContent().get(3).getId()).isEqualTo(4L);
+        assertThat(result.getContent().get(3).getStatus()).isEqualTo("승인");
+        assertThat(result.getContent().get(1).getId()).isEqualTo(2L);
+        assertThat(result.getContent().get(1).getStatus()).isEqualTo("반려");
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 결재를 조회하지 않는다")
+    void getTaskList_EmptyPage_NoApprovalQuery() {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        when(taskManagementRepository.findTasksBySearchConditions(any(TaskManagementSearchDto.class),
+                any(Pageable.class))).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        Page<TaskManagementResponseDto> result = taskManagementService.getTaskList(null, 0, PAGE_SIZE);
+
+        assertThat(result.getContent()).isEmpty();
+        verifyNoMoreInteractions(approvalRepository);
+    }
+
+    private Deployment deployment(Long id, DeploymentStage stage) {
+        Deployment deployment = Deployment.builder()
+                .project(project)
+                .issuer(drafter)
+                .title("배포 요청 " + id)
+                .stage(stage)
+                .status(DeploymentStatus.PENDING)
+                .build();
+        ReflectionTestUtils.setField(deployment, "id", id);
+        ReflectionTestUtils.setField(deployment, "updatedAt", LocalDateTime.of(2025, 1, 10, 9, 0));
+        return deployment;
+    }
+
+    private Approval approval(Deployment deployment, ApprovalType type, boolean approved) {
+        Approval approval = Approval.builder()
+                .deployment(deployment)
+                .account(drafter)
+                .type(type)
+                .title(deployment.getTitle())
+                .status(approved ? ApprovalStatus.APPROVED : ApprovalStatus.REJECTED)
+                .approvedAt(approved ? LocalDateTime.of(2025, 1, 11, 9, 0) : null)
+                .build();
+        approval.addApprovalLine(ApprovalLine.builder()
+                .account(approver)
+                .isApproved(approved)
+                .approvedAt(LocalDateTime.of(2025, 1, 11, 9, 0))
+                .build());
+        return approval;
+    }
+
+    private static Account account(Long id, String name) {
+        Account account = Account.builder()
+                .githubId(id)
+                .name(name)
+                .email(name + "@example.com")
+                .role(Role.DEVELOPER)
+                .position(JobPosition.STAFF)
+                .department(JobDepartment.IT)
+                .githubAccessToken("test-token")
+                .build();
+        ReflectionTestUtils.setField(account, "id", id);
+        return account;
+    }
+}
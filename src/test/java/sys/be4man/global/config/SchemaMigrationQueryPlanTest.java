@@ -0,0 +1,186 @@
+// 작성자 : 조윤상
+package sys.be4man.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import sys.be4man.domains.analysis.repository.BuildRunRepository;
+import sys.be4man.domains.approval.repository.ApprovalLineRepository;
+import sys.be4man.domains.ban.repository.ProjectBanRepository;
+import sys.be4man.domains.statistics.repository.StatisticsRepositoryCustomImpl;
+import sys.be4man.domains.taskmanagement.repository.TaskManagementRepository;
+
+/**
+ * 조회 경로 리포지토리 메서드가 실제로 만드는 SQL 의 실행 계획이 마이그레이션 인덱스를 타는지 H2 에서 확인한다.
+ * - 테이블은 엔티티 매핑(ddl-auto)으로 만들고, 그 위에 h2 마이그레이션을 적용한다.
+ * - 리포지토리 메서드를 호출하는 동안 Hibernate 가 준비한 SQL 을 StatementInspector 로 모아 그대로 explain 한다.
+ *   (H2 는 explain 에서 바인딩 값이 없어도 계획을 만든다)
+ * - H2 는 외래 키마다 인덱스를 자동으로 만들어, 외래 키 한 컬럼만 조건인 조회는 어느 인덱스를 골라도 같다.
+ *   이런 경우는 전체 스캔이 아닌지만 확인한다. (PostgreSQL 은 외래 키 인덱스를 만들지 않아 마이그레이션 인덱스만 남는다)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "sys.be4man.global.config.SchemaMigrationQueryPlanTest$SqlCapture")
+@Import({JpaConfig.class, StatisticsRepositoryCustomImpl.class})
+@DisplayName("SchemaMigration - 조회 경로 인덱스 실행 계획 테스트")
+class SchemaMigrationQueryPlanTest {
+
+    private static boolean migrated;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StatisticsRepositoryCustomImpl statisticsRepository;
+
+    @Autowired
+    private TaskManagementRepository taskManagementRepository;
+
+    @Autowired
+    private ApprovalLineRepository approvalLineRepository;
+
+    @Autowired
+    private BuildRunRepository buildRunRepository;
+
+    @Autowired
+    private ProjectBanRepository projectBanRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (!migrated) {
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations(SchemaMigrationConfig.location("jdbc:h2:mem:plan"))
+                    .javaMigrations(SchemaMigrationConfig.javaMigrations())
+                    .baselineOnMigrate(true)
+                    .baselineVersion("0")
+                    .load()
+                    .migrate();
+            migrated = true;
+        }
+    }
+
+    @Test
+    @DisplayName("작업 상세 프로세스 조회는 (process_id, created_at, id) 인덱스 사용")
+    void findProcessDeployments_UsesProcessIndex() {
+        String plan = planOf(() -> taskManagementRepository.findProcessDeployments(3L));
+
+        assertThat(plan).containsIgnoringCase("idx_deployment_process_id");
+    }
+
+    @Test
+    @DisplayName("반려 목록은 (issuer_id, status) 인덱스 사용")
+    void findRejectedDeploymentsByIssuerId_UsesIssuerStatusIndex() {
+        String plan = planOf(() -> approvalLineRepository.findRejectedDeploymentsByIssuerId(4L));
+
+        assertThat(plan).containsIgnoringCase("idx_deployment_issuer_id_status");
+    }
+
+    @Test
+    @DisplayName("결재 대기 목록은 approval_line (account_id, is_approved) 인덱스 사용")
+    void findPendingApprovalsByAccountId_UsesApprovalLineAccountIndex() {
+        String plan = planOf(() -> approvalLineRepository.findPendingApprovalsByAccountId(7L));
+
+        assertThat(plan).containsIgnoringCase("idx_approval_line_account_id_is_approved");
+    }
+
+    @Test
+    @DisplayName("실패 유형 집계는 stage_run (build_run_id, is_success, problem_type) 인덱스 사용")
+    void countByProblemTypeForProject_UsesStageRunCompositeIndex() {
+        String plan = planOf(() -> statisticsRepository.countByProblemTypeForProject(1L,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0)));
+
+        assertThat(plan).containsIgnoringCase("idx_stage_run_build_run_id_is_success_problem_type");
+    }
+
+    @Test
+    @DisplayName("배포별 빌드 결과 조회는 build_run 을 전체 스캔하지 않는다")
+    void findAllBuildResultsByDeploymentId_DoesNotScanBuildRun() {
+        String plan = planOf(() -> buildRunRepository.findAllBuildResultsByDeploymentId(5L));
+
+        assertThat(plan).containsIgnoringCase("build_run")
+                .doesNotContainIgnoringCase("build_run.tableScan");
+    }
+
+    @Test
+    @DisplayName("금지 ID 로 프로젝트 연결 조회 시 project_ban 을 전체 스캔하지 않는다")
+    void findAllByBanId_DoesNotScanProjectBan() {
+        String plan = planOf(() -> projectBanRepository.findAllByBan_IdAndIsDeletedFalse(3L));
+
+        assertThat(plan).containsIgnoringCase("project_ban")
+                .doesNotContainIgnoringCase("project_ban.tableScan");
+    }
+
+    /**
+     * query 가 보낸 select 문 각각의 실행 계획을 이어 붙인다.
+     */
+    private String planOf(Runnable query) {
+        SqlCapture.clear();
+        query.run();
+        List<String> statements = SqlCapture.drain();
+        assertThat(statements).as("리포지토리 메서드가 SQL 을 보내지 않음").isNotEmpty();
+
+        return entityManager.getEntityManager().unwrap(Session.class).doReturningWork(
+                connection -> {
+                    StringBuilder plan = new StringBuilder();
+                    for (String sql : statements) {
+                        try (PreparedStatement st = connection.prepareStatement("explain " + sql);
+                                ResultSet rs = st.executeQuery()) {
+                            while (rs.next()) {
+                                plan.append(rs.getString(1)).append('\n');
+                            }
+                        }
+                    }
+                    return plan.toString();
+                });
+    }
+
+    /**
+     * Hibernate 가 준비하는 SQL 을 모은다. 테스트 스레드에서만 쓰므로 동기화만 한다.
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                if (sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                    STATEMENTS.add(sql);
+                }
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+
+        static List<String> drain() {
+            synchronized (STATEMENTS) {
+                List<String> copy = List.copyOf(STATEMENTS);
+                STATEMENTS.clear();
+                return copy;
+            }
+        }
+    }
+}
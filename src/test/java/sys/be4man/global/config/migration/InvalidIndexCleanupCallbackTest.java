@@ -0,0 +1,63 @@
+// 작성자 : 조윤상
+package sys.be4man.global.config.migration;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InvalidIndexCleanupCallback - INVALID 인덱스 정리 테스트")
+class InvalidIndexCleanupCallbackTest {
+
+    private final InvalidIndexCleanupCallback callback = new InvalidIndexCleanupCallback();
+
+    private Connection connection;
+    private Statement statement;
+    private Context context;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        context = mock(Context.class);
+        when(context.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 없는 마이그레이션 직전에는 INVALID 인덱스를 concurrently 로 지운다")
+    void handle_DropsInvalidIndexes() throws SQLException {
+        // given: idx_build_run_started_at 생성이 중간에 실패해 INVALID 로 남음
+        ResultSet rs = mock(ResultSet.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(InvalidIndexCleanupCallback.FIND_INVALID_SQL)).thenReturn(rs);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getString(1)).thenReturn("idx_build_run_started_at");
+
+        // when
+        callback.handle(Event.BEFORE_EACH_MIGRATE, context);
+
+        // then
+        verify(statement).execute("drop index concurrently if exists \"idx_build_run_started_at\"");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 실행되는 마이그레이션 직전에는 아무것도 하지 않는다")
+    void handle_InTransaction_Skips() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        callback.handle(Event.BEFORE_EACH_MIGRATE, context);
+
+        verify(connection, never()).createStatement();
+    }
+}
@@ -0,0 +1,100 @@
+// 작성자 : 조윤상
+package sys.be4man.global.config.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sys.be4man.domains.analysis.model.type.ProblemType;
+import sys.be4man.domains.analysis.service.classifier.FailureClassifier;
+import sys.be4man.domains.analysis.service.classifier.FailureRuleTable;
+
+@DisplayName("V5 마이그레이션 - 분석 출처 백필 테스트")
+class V5__StageRunAnalysisSourceTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:v5;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement st = connection.createStatement()) {
+            st.execute("""
+                    create table stage_run (
+                        id bigint primary key, problem_type varchar(50),
+                        problem_summary varchar(2000), analysis_source varchar(20))""");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("유형 코드와 분류기 요약이 모두 맞을 때만 RULE/MODEL, 나머지 분석 결과는 LLM")
+    void migrate_MatchesTypeCodeAndClassifierSummary() throws Exception {
+        // given
+        FailureRuleTable.Rule rule = FailureRuleTable.rules().get(0);
+        insert(1L, rule.type(), rule.summary() + " (근거 로그: 3 tests failed)", null);
+        // 같은 요약이라도 규칙 유형 코드가 다르면 LLM 이 비슷하게 쓴 문장으로 본다
+        insert(2L, ProblemType.OTHERS, rule.summary(), null);
+        insert(3L, ProblemType.AUTOMATION_TEST_FAILED,
+                FailureClassifier.modelSummary(ProblemType.AUTOMATION_TEST_FAILED), null);
+        insert(4L, ProblemType.OTHERS,
+                FailureClassifier.modelSummary(ProblemType.AUTOMATION_TEST_FAILED), null);
+        insert(5L, ProblemType.OTHERS, "의존성 저장소에 접근하지 못했습니다.", null);
+        insert(6L, null, null, null);
+        insert(7L, ProblemType.OTHERS, "이미 출처가 있는 행", "MODEL");
+
+        // when
+        Context context = mock(Context.class);
+        when(context.getConnection()).thenReturn(connection);
+        new V5__StageRunAnalysisSource().migrate(context);
+
+        // then
+        Map<Long, String> sources = new LinkedHashMap<>();
+        try (Statement st = connection.createStatement();
+                ResultSet rs = st.executeQuery("select id, analysis_source from stage_run order by id")) {
+            while (rs.next()) {
+                sources.put(rs.getLong(1), rs.getString(2));
+            }
+        }
+        assertThat(sources).containsExactly(
+                entry(1L, "RULE"),
+                entry(2L, "LLM"),
+                entry(3L, "MODEL"),
+                entry(4L, "LLM"),
+                entry(5L, "LLM"),
+                entry(6L, null),
+                entry(7L, "MODEL"));
+    }
+
+    private void insert(Long id, ProblemType type, String summary, String source)
+            throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "insert into stage_run values (?, ?, ?, ?)")) {
+            ps.setLong(1, id);
+            ps.setString(2, type != null ? type.name() : null);
+            ps.setString(3, summary);
+            ps.setString(4, source);
+            ps.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+// 작성자 : 조윤상
+package sys.be4man.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sys.be4man.global.exception.BadRequestException;
+
+@DisplayName("KeysetCursor 인코딩 테스트")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("encode 한 값을 decode 하면 같은 위치가 나온다 (나노초 포함)")
+    void encodeDecode_RoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 10, 29, 15, 0, 1, 123_456_000), 201L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("|", "=", "+", "/");
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("빈 cursor 는 첫 페이지(null)")
+    void decode_Blank_Null() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 cursor 는 400")
+    void decode_Invalid_BadRequest() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,120 @@
+// 작성자 : 조윤상
+package sys.be4man.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("ParallelSections - 구간 병렬 실행/부분 실패/시간 초과 테스트")
+class ParallelSectionsTest {
+
+    private static final long TIMEOUT_MS = 300;
+
+    private final TransactionTemplate readOnlyTx =
+            new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private final Map<String, String> errors = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("한 구간이 실패하면 그 구간만 null 이고 나머지는 결과를 돌려준다")
+    void submit_PartialFailure() {
+        ParallelSections sections = sections(2);
+
+        CompletableFuture<String> ok = sections.submit("ok", errors, () -> "결과");
+        CompletableFuture<String> failed = sections.submit("failed", errors, () -> {
+            throw new IllegalStateException("쿼리 실패");
+        });
+        CompletableFuture.allOf(ok, failed).join();
+
+        assertThat(ok.join()).isEqualTo("결과");
+        assertThat(failed.join()).isNull();
+        assertThat(errors).containsExactly(Map.entry("failed", "IllegalStateException"));
+    }
+
+    @Test
+    @DisplayName("실행이 제한 시간을 넘기면 timeout 으로 끝난다")
+    void submit_SlowQuery_TimesOut() {
+        ParallelSections sections = sections(1);
+
+        CompletableFuture<String> slow = sections.submit("slow", errors, () -> sleep(TIMEOUT_MS * 3));
+
+        assertThat(slow.join()).isNull();
+        assertThat(errors).containsEntry("slow", "timeout");
+    }
+
+    @Test
+    @DisplayName("큐 대기 시간은 실행 제한 시간에 포함하지 않는다")
+    void submit_QueueWait_NotCountedAsExecution() {
+        // 스레드 하나에 각각 제한 시간의 2/3 걸리는 구간 둘: 합치면 넘지만 각각은 넘지 않음
+        ParallelSections sections = sections(1);
+
+        CompletableFuture<String> first = sections.submit("first", errors, () -> sleep(TIMEOUT_MS * 2 / 3));
+        CompletableFuture<String> second = sections.submit("second", errors, () -> sleep(TIMEOUT_MS * 2 / 3));
+        CompletableFuture.allOf(first, second).join();
+
+        assertThat(first.join()).isEqualTo("done");
+        assertThat(second.join()).isEqualTo("done");
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @DisplayName("큐에서 제한 시간을 넘게 기다린 구간은 실행하지 않고 queue-timeout 으로 끝낸다")
+    void submit_QueueWaitTooLong_SkipsExecution() {
+        ParallelSections sections = sections(1);
+        boolean[] ran = {false};
+
+        CompletableFuture<String> blocker = sections.submit("blocker", errors, () -> sleep(TIMEOUT_MS * 3));
+        CompletableFuture<String> queued = sections.submit("queued", errors, () -> {
+            ran[0] = true;
+            return "done";
+        });
+
+        assertThat(queued.join()).isNull();
+        assertThat(errors).containsEntry("queued", "queue-timeout");
+        blocker.join();
+        assertThat(ran[0]).isFalse();
+    }
+
+    @Test
+    @DisplayName("풀이 거부하면 rejected 로 바로 끝낸다")
+    void submit_Rejected() {
+        ParallelSections sections = new ParallelSections("[Test]", command -> {
+            throw new RejectedExecutionException();
+        }, readOnlyTx, TIMEOUT_MS);
+
+        assertThat(sections.submit("rejected", errors, () -> "결과").join()).isNull();
+        assertThat(errors).containsEntry("rejected", "rejected");
+    }
+
+    private ParallelSections sections(int threads) {
+        executor = Executors.newFixedThreadPool(threads);
+        return new ParallelSections("[Test]", executor, readOnlyTx, TIMEOUT_MS);
+    }
+
+    private static String sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}